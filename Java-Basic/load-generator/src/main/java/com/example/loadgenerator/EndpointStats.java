@@ -0,0 +1,124 @@
+package com.example.loadgenerator;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 측정 결과
+ *
+ * 두 가지 응답 시간을 기록합니다. (단위: 마이크로초)
+ * - responseTime: 요청을 보냈어야 하는 시각(예정 시각)부터 응답 완료까지
+ * - serviceTime: 실제로 요청을 보낸 시각부터 응답 완료까지
+ *
+ * 서버가 느려져서 요청이 늦게 나가면, serviceTime만 보면 그 대기 시간이 빠집니다.
+ * (coordinated omission: 측정 도구가 서버 속도에 맞춰 요청을 덜 보내서 느린 구간이 통계에서 사라지는 문제)
+ * responseTime은 예정 시각을 기준으로 하므로 사용자가 실제로 겪는 지연을 보여줍니다.
+ * 보내지 못한 요청(누락)도 타임아웃으로 실패한 요청처럼 responseTime과 오류에 넣어, 부하 생성기가 밀린 구간이 빠지지 않게 합니다.
+ */
+public class EndpointStats {
+
+    /**
+     * 기록할 수 있는 최대 응답 시간 (1시간, 마이크로초)
+     */
+    private static final long HIGHEST_TRACKABLE_MICROS = 3_600_000_000L;
+
+    /**
+     * 보내지 못한 요청의 상태 코드 (연결 실패, 타임아웃은 -1)
+     */
+    public static final int SKIPPED_STATUS = -2;
+
+    private final String name;
+    private final double targetRate;
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    public EndpointStats(String name, double targetRate) {
+        this.name = name;
+        this.targetRate = targetRate;
+    }
+
+    /**
+     * 완료된 요청 기록
+     *
+     * @param intendedStartNanos 요청을 보냈어야 하는 시각 (System.nanoTime 기준)
+     * @param actualStartNanos 실제로 요청을 보낸 시각
+     * @param endNanos 응답을 받은 시각
+     * @param status HTTP 상태 코드 (연결 실패, 타임아웃 등은 -1)
+     */
+    public void record(long intendedStartNanos, long actualStartNanos, long endNanos, int status) {
+        responseTime.recordValue(toMicros(endNanos - intendedStartNanos));
+        serviceTime.recordValue(toMicros(endNanos - actualStartNanos));
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (status < 200 || status >= 400) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 동시 요청 수 제한(max-in-flight)에 걸려 보내지 못한 요청 기록
+     * 부하 생성기 자체가 한계에 도달했다는 뜻이므로 보고서에 따로 표시하고,
+     * 응답 시간에는 타임아웃만큼 기다린 것으로, 상태 코드는 SKIPPED_STATUS로 기록합니다. (서비스 시간에는 없음)
+     *
+     * @param timeoutNanos 요청 타임아웃
+     */
+    public void recordSkipped(long timeoutNanos) {
+        responseTime.recordValue(toMicros(timeoutNanos));
+        statusCounts.computeIfAbsent(SKIPPED_STATUS, key -> new LongAdder()).increment();
+        errors.increment();
+        skipped.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    public Histogram getResponseTime() {
+        return responseTime;
+    }
+
+    public Histogram getServiceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * 실제로 보낸 요청 수 (누락 제외)
+     */
+    public long getCount() {
+        return serviceTime.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * 상태 코드별 응답 수 (상태 코드 순)
+     *
+     * @return 상태 코드 → 응답 수
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(nanos / 1000, 0), HIGHEST_TRACKABLE_MICROS);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.loadgenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 설정
+ *
+ * 설정은 다음 순서로 읽으며, 뒤에 오는 값이 앞의 값을 덮어씁니다.
+ * 1. 기본 설정 파일 (클래스패스의 load.properties)
+ * 2. --config=파일경로 로 지정한 설정 파일
+ * 3. --키=값 형식의 명령행 인수 (예: --rate.lookup=500 --duration-seconds=60)
+ */
+public class LoadConfig {
+
+    private final Properties properties = new Properties();
+
+    private LoadConfig() {
+    }
+
+    /**
+     * 설정 읽기
+     *
+     * @param args 명령행 인수
+     * @return 설정
+     * @throws IOException 설정 파일을 읽을 수 없는 경우
+     * @throws IllegalArgumentException 명령행 인수 형식이 잘못된 경우
+     */
+    public static LoadConfig load(String[] args) throws IOException {
+        LoadConfig config = new LoadConfig();
+        try (InputStream defaults = LoadConfig.class.getResourceAsStream("/load.properties")) {
+            if (defaults != null) {
+                config.properties.load(new InputStreamReader(defaults, StandardCharsets.UTF_8));
+            }
+        }
+
+        List<String[]> overrides = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("인수는 --키=값 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            String key = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            if (key.equals("config")) {
+                try (Reader reader = Files.newBufferedReader(Path.of(value), StandardCharsets.UTF_8)) {
+                    config.properties.load(reader);
+                }
+            } else {
+                overrides.add(new String[] {key, value});
+            }
+        }
+        for (String[] override : overrides) {
+            config.properties.setProperty(override[0], override[1]);
+        }
+        return config;
+    }
+
+    public String getBaseUrl() {
+        return trimSlash(get("base-url"));
+    }
+
+    /**
+     * 측정할 서버 주소 목록
+     * compare.base-urls가 있으면 그 주소들을 차례로 측정하고 (같은 시나리오로 두 서버 비교), 없으면 base-url 하나만 측정
+     *
+     * @return 서버 주소 목록 (끝의 / 제거)
+     */
+    public List<String> getBaseUrls() {
+        List<String> baseUrls = new ArrayList<>();
+        for (String baseUrl : properties.getProperty("compare.base-urls", "").split(",")) {
+            if (!baseUrl.isBlank()) {
+                baseUrls.add(trimSlash(baseUrl.trim()));
+            }
+        }
+        if (baseUrls.isEmpty()) {
+            baseUrls.add(getBaseUrl());
+        }
+        return baseUrls;
+    }
+
+    public int getWarmupSeconds() {
+        return getInt("warmup-seconds");
+    }
+
+    public int getDurationSeconds() {
+        return getInt("duration-seconds");
+    }
+
+    public Path getOutputDir() {
+        return Path.of(get("output-dir"));
+    }
+
+    public int getMaxInFlight() {
+        return getInt("max-in-flight");
+    }
+
+    public int getRequestTimeoutMillis() {
+        return getInt("request-timeout-ms");
+    }
+
+    public long getLookupMaxId() {
+        return Long.parseLong(get("lookup.max-id"));
+    }
+
+    public List<String> getSearchTerms() {
+        List<String> terms = new ArrayList<>();
+        for (String term : get("search.terms").split(",")) {
+            if (!term.isBlank()) {
+                terms.add(term.trim());
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("search.terms에 검색어가 하나 이상 필요합니다.");
+        }
+        return terms;
+    }
+
+    /**
+     * 엔드포인트의 초당 요청 수 (0이면 해당 엔드포인트는 호출하지 않음)
+     *
+     * @param endpoint 엔드포인트 이름 (lookup, search, create, statistics)
+     * @return 초당 요청 수
+     */
+    public double getRate(String endpoint) {
+        double rate = Double.parseDouble(properties.getProperty("rate." + endpoint, "0"));
+        if (rate < 0) {
+            throw new IllegalArgumentException("rate." + endpoint + "는 0 이상이어야 합니다: " + rate);
+        }
+        return rate;
+    }
+
+    private String get(String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("설정값이 없습니다: " + key);
+        }
+        return value.trim();
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private int getInt(String key) {
+        try {
+            return Integer.parseInt(get(key));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("설정값은 정수여야 합니다: " + key + "=" + get(key), e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.loadgenerator;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 생성기 메인 클래스
+ * 
+ * springboot-learning 사용자 API에 엔드포인트별로 정해진 초당 요청 수만큼 요청을 보내고,
+ * 응답 시간 분포를 HTML/JSON 보고서로 저장합니다. 외부 부하 테스트 도구 없이 같은 조건으로 반복 측정할 수 있습니다.
+ * 
+ * 실행 방법:
+ * 1. springboot-learning 애플리케이션 실행 (기본 http://localhost:8080)
+ * 2. mvn package
+ * 3. java -jar target/load-generator.jar --rate.lookup=200 --duration-seconds=60
+ * 
+ * compare.base-urls로 여러 서버를 지정하면 같은 시나리오로 차례로 측정해서 비교 보고서를 만듭니다.
+ * (예: --config=head-to-head/1k.properties 로 서블릿 8080 / 리액티브 8081 비교)
+ * 
+ * 주요 학습 내용:
+ * 1. 개방형(open model) 부하 생성과 coordinated omission 보정
+ * 2. HdrHistogram을 사용한 응답 시간 백분위수 측정
+ * 3. 자바 표준 HttpClient 사용법
+ */
+public class LoadGeneratorApplication {
+    
+    /**
+     * 애플리케이션 시작점
+     * 
+     * @param args --키=값 형식의 설정 (load.properties의 값을 덮어씀)
+     * @throws Exception 설정 오류 또는 보고서 작성 실패 시
+     */
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.load(args);
+        List<String> baseUrls = config.getBaseUrls();
+        boolean comparing = baseUrls.size() > 1;
+        ReportWriter writer = new ReportWriter();
+        Map<String, Map<String, EndpointStats>> resultsByTarget = new LinkedHashMap<>();
+        
+        for (String baseUrl : baseUrls) {
+            List<Scenario> scenarios = UserApiScenarios.create(config, baseUrl);
+            if (scenarios.isEmpty()) {
+                System.err.println("❌ 초당 요청 수(rate.*)가 0보다 큰 엔드포인트가 없습니다.");
+                System.exit(1);
+            }
+            
+            System.out.println("==========================================");
+            System.out.println("🚀 부하 테스트를 시작합니다: " + baseUrl);
+            for (Scenario scenario : scenarios) {
+                System.out.println("   - " + scenario.getName() + ": " + scenario.getRatePerSecond() + " req/s");
+            }
+            System.out.println("   워밍업 " + config.getWarmupSeconds() + "초, 측정 " + config.getDurationSeconds()
+                    + "초, 최대 동시 요청 " + config.getMaxInFlight());
+            
+            OpenModelScheduler scheduler = new OpenModelScheduler(config.getMaxInFlight(),
+                    Duration.ofMillis(config.getRequestTimeoutMillis()));
+            Map<String, EndpointStats> results = scheduler.run(scenarios,
+                    config.getWarmupSeconds(), config.getDurationSeconds());
+            resultsByTarget.put(baseUrl, results);
+            
+            System.out.println("📊 결과 (응답 시간은 예정 시각 기준):");
+            for (EndpointStats stats : results.values()) {
+                System.out.println("   " + writer.consoleLine(stats, config.getDurationSeconds()));
+            }
+            // 비교할 때는 서버마다 하위 디렉터리에 따로 저장
+            Path outputDir = comparing
+                    ? config.getOutputDir().resolve(ReportWriter.targetLabel(baseUrl))
+                    : config.getOutputDir();
+            writer.write(outputDir, results, config.getDurationSeconds());
+            System.out.println("📄 보고서: " + outputDir.toAbsolutePath().resolve("index.html"));
+        }
+        
+        if (comparing) {
+            writer.writeComparison(config.getOutputDir(), resultsByTarget, config.getDurationSeconds());
+            System.out.println("==========================================");
+            System.out.println("⚖️ 비교 보고서: " + config.getOutputDir().toAbsolutePath().resolve("comparison.html"));
+        }
+        System.out.println("==========================================");
+    }
+}
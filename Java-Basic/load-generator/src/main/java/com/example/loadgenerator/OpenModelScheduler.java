@@ -0,0 +1,160 @@
+package com.example.loadgenerator;
+
+import java.lang.reflect.Method;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open model) 부하 스케줄러
+ *
+ * 닫힌 모델(closed model)은 "응답을 받으면 다음 요청"을 보내므로, 서버가 느려지면 요청도 덜 보내게 됩니다.
+ * 개방형 모델은 실제 사용자처럼 서버 상태와 관계없이 정해진 간격으로 요청을 보냅니다.
+ *
+ * 동작 방식:
+ * 1. 시나리오마다 스케줄러 스레드가 "시작 시각 + k × (1 / rate)" 예정 시각에 맞춰 요청을 실행기에 넘깁니다.
+ * 2. 요청은 실행기의 스레드에서 보내고 응답을 기다립니다. (응답이 늦어도 다음 요청은 예정대로 나감)
+ * 3. 응답 시간은 예정 시각부터 측정합니다. (coordinated omission 보정)
+ * 4. 워밍업 기간의 예정 시각을 가진 요청은 기록하지 않습니다.
+ * 5. 응답을 기다리는 요청이 max-in-flight에 이르면 그 예정 시각의 요청은 보내지 않고 누락으로 기록합니다.
+ *    누락된 요청은 요청 타임아웃만큼 기다리다 실패한 요청으로 보고 응답 시간과 오류에 포함합니다.
+ *    (빼고 기록하면 부하 생성기가 밀린 가장 느린 구간이 백분위수에서 사라짐)
+ *
+ * 실행기는 가상 스레드(Java 21 이상)를 사용할 수 있으면 가상 스레드를, 아니면 일반 스레드 풀을 사용합니다.
+ */
+public class OpenModelScheduler {
+
+    private final HttpClient client;
+    private final int maxInFlight;
+    private final long requestTimeoutNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OpenModelScheduler(int maxInFlight, Duration requestTimeout) {
+        this.maxInFlight = maxInFlight;
+        this.requestTimeoutNanos = requestTimeout.toNanos();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .build();
+    }
+
+    /**
+     * 부하 테스트 실행
+     *
+     * @param scenarios 시나리오 목록
+     * @param warmupSeconds 워밍업 시간 (기록하지 않음)
+     * @param durationSeconds 측정 시간
+     * @return 시나리오 이름 → 측정 결과 (입력 순서)
+     * @throws InterruptedException 실행 중 인터럽트된 경우
+     */
+    public Map<String, EndpointStats> run(List<Scenario> scenarios, int warmupSeconds, int durationSeconds)
+            throws InterruptedException {
+        Map<String, EndpointStats> results = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            results.put(scenario.getName(), new EndpointStats(scenario.getName(), scenario.getRatePerSecond()));
+        }
+
+        ExecutorService executor = newRequestExecutor();
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long endNanos = measureFromNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<Thread> schedulers = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            EndpointStats stats = results.get(scenario.getName());
+            Thread thread = new Thread(
+                    () -> schedule(scenario, stats, executor, startNanos, measureFromNanos, endNanos),
+                    "load-scheduler-" + scenario.getName());
+            thread.start();
+            schedulers.add(thread);
+        }
+        for (Thread thread : schedulers) {
+            thread.join();
+        }
+
+        // 아직 응답을 기다리는 요청이 끝날 때까지 대기
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * 예정 시각마다 요청을 실행기에 넘김
+     * 예정 시각이 지났으면 기다리지 않고 곧바로 넘기고, 동시 요청 수 제한에 걸리면 보내지 않고 누락으로 기록
+     */
+    private void schedule(Scenario scenario, EndpointStats stats, ExecutorService executor,
+                          long startNanos, long measureFromNanos, long endNanos) {
+        double intervalNanos = 1_000_000_000.0 / scenario.getRatePerSecond();
+        for (long sequence = 0; ; sequence++) {
+            long intendedNanos = startNanos + (long) (sequence * intervalNanos);
+            if (intendedNanos >= endNanos) {
+                return;
+            }
+            long waitNanos;
+            while ((waitNanos = intendedNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            boolean measured = intendedNanos >= measureFromNanos;
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                if (measured) {
+                    stats.recordSkipped(requestTimeoutNanos);
+                }
+                continue;
+            }
+
+            HttpRequest request = scenario.newRequest(sequence);
+            executor.execute(() -> send(request, stats, intendedNanos, measured));
+        }
+    }
+
+    private void send(HttpRequest request, EndpointStats stats, long intendedNanos, boolean measured) {
+        long actualStartNanos = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = -1;
+        } catch (Exception e) {
+            // 연결 실패, 타임아웃 등
+            status = -1;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        if (measured) {
+            stats.record(intendedNanos, actualStartNanos, System.nanoTime(), status);
+        }
+    }
+
+    /**
+     * 요청 실행기 생성
+     * Java 21 이상이면 요청마다 가상 스레드를 사용하고, 그 이하 버전에서는 필요할 때 늘어나는 스레드 풀을 사용
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "load-request-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.example.loadgenerator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 보고서 작성
+ *
+ * 출력 디렉터리에 다음 파일을 만듭니다.
+ * - index.html, summary.json: 전체 엔드포인트 요약
+ * - {엔드포인트}.html, {엔드포인트}.json: 엔드포인트별 요약과 백분위수 분포
+ * - {엔드포인트}.hgrm: HdrHistogram 표준 백분위수 출력 (HdrHistogram Plotter 등에서 사용, 단위 ms)
+ *
+ * 여러 서버를 비교할 때는 서버마다 {호스트-포트} 하위 디렉터리에 위 파일을 만들고,
+ * 출력 디렉터리에 comparison.html, comparison.json (엔드포인트별로 서버를 나란히 놓은 요약)을 만듭니다.
+ *
+ * 모든 시간은 밀리초(ms)로 표시합니다.
+ */
+public class ReportWriter {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] SUMMARY_PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * 보고서 작성
+     *
+     * @param outputDir 출력 디렉터리 (없으면 생성)
+     * @param results 엔드포인트별 측정 결과
+     * @param durationSeconds 측정 시간 (실제 처리량 계산용)
+     * @throws IOException 파일을 쓸 수 없는 경우
+     */
+    public void write(Path outputDir, Map<String, EndpointStats> results, int durationSeconds) throws IOException {
+        Files.createDirectories(outputDir);
+
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        for (EndpointStats stats : results.values()) {
+            Map<String, Object> summary = summarize(stats, durationSeconds);
+            summaries.add(summary);
+
+            Map<String, Object> detail = new LinkedHashMap<>(summary);
+            detail.put("responseTimeDistribution", distribution(stats.getResponseTime()));
+            detail.put("serviceTimeDistribution", distribution(stats.getServiceTime()));
+            objectMapper.writeValue(outputDir.resolve(stats.getName() + ".json").toFile(), detail);
+
+            Files.writeString(outputDir.resolve(stats.getName() + ".html"), endpointHtml(stats, summary),
+                    StandardCharsets.UTF_8);
+
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(outputDir.resolve(stats.getName() + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                stats.getResponseTime().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationSeconds", durationSeconds);
+        report.put("endpoints", summaries);
+        objectMapper.writeValue(outputDir.resolve("summary.json").toFile(), report);
+        Files.writeString(outputDir.resolve("index.html"), indexHtml(summaries, durationSeconds), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 비교 보고서 작성 (엔드포인트마다 서버별 결과를 나란히)
+     *
+     * @param outputDir 출력 디렉터리 (없으면 생성)
+     * @param resultsByTarget 서버 주소 → 엔드포인트별 측정 결과 (측정 순서)
+     * @param durationSeconds 측정 시간
+     * @throws IOException 파일을 쓸 수 없는 경우
+     */
+    public void writeComparison(Path outputDir, Map<String, Map<String, EndpointStats>> resultsByTarget,
+                                int durationSeconds) throws IOException {
+        Files.createDirectories(outputDir);
+
+        // 엔드포인트 → 서버 주소 → 요약
+        Map<String, Map<String, Map<String, Object>>> byEndpoint = new LinkedHashMap<>();
+        List<Map<String, Object>> targets = new ArrayList<>();
+        for (Map.Entry<String, Map<String, EndpointStats>> target : resultsByTarget.entrySet()) {
+            List<Map<String, Object>> summaries = new ArrayList<>();
+            for (EndpointStats stats : target.getValue().values()) {
+                Map<String, Object> summary = summarize(stats, durationSeconds);
+                summaries.add(summary);
+                byEndpoint.computeIfAbsent(stats.getName(), key -> new LinkedHashMap<>()).put(target.getKey(), summary);
+            }
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("baseUrl", target.getKey());
+            entry.put("report", targetLabel(target.getKey()) + "/index.html");
+            entry.put("endpoints", summaries);
+            targets.add(entry);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationSeconds", durationSeconds);
+        report.put("targets", targets);
+        objectMapper.writeValue(outputDir.resolve("comparison.json").toFile(), report);
+        Files.writeString(outputDir.resolve("comparison.html"), comparisonHtml(byEndpoint, durationSeconds),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 비교 보고서에서 서버별 하위 디렉터리 이름 (예: http://localhost:8081 → localhost-8081)
+     *
+     * @param baseUrl 서버 주소
+     * @return 디렉터리 이름
+     */
+    public static String targetLabel(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("서버 주소 형식이 잘못되었습니다: " + baseUrl);
+        }
+        return uri.getPort() < 0 ? uri.getHost() : uri.getHost() + "-" + uri.getPort();
+    }
+
+    /**
+     * 콘솔 출력용 한 줄 요약
+     *
+     * @param stats 측정 결과
+     * @param durationSeconds 측정 시간
+     * @return 요약 문자열
+     */
+    public String consoleLine(EndpointStats stats, int durationSeconds) {
+        Histogram histogram = stats.getResponseTime();
+        return String.format(Locale.ROOT,
+                "%-12s 목표 %8.1f/s  실제 %8.1f/s  오류 %6d  누락 %6d  p50 %8.2fms  p99 %8.2fms  p99.9 %8.2fms  최대 %8.2fms",
+                stats.getName(), stats.getTargetRate(), (double) stats.getCount() / durationSeconds,
+                stats.getErrors(), stats.getSkipped(),
+                millis(histogram.getValueAtPercentile(50.0)), millis(histogram.getValueAtPercentile(99.0)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+    }
+
+    private Map<String, Object> summarize(EndpointStats stats, int durationSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("endpoint", stats.getName());
+        summary.put("targetRate", stats.getTargetRate());
+        summary.put("achievedRate", round((double) stats.getCount() / durationSeconds));
+        summary.put("count", stats.getCount());
+        summary.put("errors", stats.getErrors());
+        summary.put("skipped", stats.getSkipped());
+        summary.put("statusCounts", stats.getStatusCounts());
+        summary.put("responseTimeMs", percentileSummary(stats.getResponseTime()));
+        summary.put("serviceTimeMs", percentileSummary(stats.getServiceTime()));
+        return summary;
+    }
+
+    private Map<String, Object> percentileSummary(Histogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        if (histogram.getTotalCount() == 0) {
+            return summary;
+        }
+        summary.put("min", millis(histogram.getMinValue()));
+        summary.put("mean", round(histogram.getMean() / MICROS_PER_MILLI));
+        for (double percentile : SUMMARY_PERCENTILES) {
+            summary.put("p" + formatPercentile(percentile), millis(histogram.getValueAtPercentile(percentile)));
+        }
+        summary.put("max", millis(histogram.getMaxValue()));
+        return summary;
+    }
+
+    /**
+     * 백분위수 분포 (절반 구간마다 5단계씩, 99%, 99.9%... 로 갈수록 촘촘해짐)
+     */
+    private List<Map<String, Object>> distribution(Histogram histogram) {
+        List<Map<String, Object>> points = new ArrayList<>();
+        if (histogram.getTotalCount() == 0) {
+            return points;
+        }
+        for (HistogramIterationValue value : histogram.percentiles(5)) {
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("percentile", value.getPercentileLevelIteratedTo());
+            point.put("valueMs", millis(value.getValueIteratedTo()));
+            point.put("count", value.getTotalCountToThisValue());
+            points.add(point);
+        }
+        return points;
+    }
+
+    private String endpointHtml(EndpointStats stats, Map<String, Object> summary) {
+        StringBuilder html = new StringBuilder();
+        htmlHeader(html, "부하 테스트 - " + stats.getName());
+        html.append("<p><a href=\"index.html\">← 전체 요약</a></p>\n");
+        html.append("<h1>").append(escape(stats.getName())).append("</h1>\n");
+        html.append("<p>목표 ").append(summary.get("targetRate")).append(" req/s, 실제 ")
+                .append(summary.get("achievedRate")).append(" req/s, 요청 ").append(summary.get("count"))
+                .append("건, 오류 ").append(summary.get("errors")).append("건, 누락 ").append(summary.get("skipped"))
+                .append("건, 상태 코드 ").append(escape(String.valueOf(summary.get("statusCounts")))).append("</p>\n");
+
+        html.append("<h2>응답 시간 (ms)</h2>\n<table>\n<tr><th></th><th>최소</th><th>평균</th>");
+        for (double percentile : SUMMARY_PERCENTILES) {
+            html.append("<th>p").append(formatPercentile(percentile)).append("</th>");
+        }
+        html.append("<th>최대</th></tr>\n");
+        percentileRow(html, "응답 시간 (예정 시각 기준)", stats.getResponseTime());
+        percentileRow(html, "서비스 시간 (실제 전송 기준)", stats.getServiceTime());
+        html.append("</table>\n");
+        html.append("<p class=\"note\">응답 시간은 요청을 보냈어야 하는 시각부터 측정하므로 "
+                + "부하 생성기가 밀려서 늦게 보낸 시간까지 포함합니다 (coordinated omission 보정). "
+                + "누락된 요청은 요청 타임아웃만큼 기다리다 실패한 것으로 응답 시간과 오류에 포함합니다.</p>\n");
+
+        html.append("<h2>백분위수 분포</h2>\n");
+        html.append(chart(stats.getResponseTime(), stats.getServiceTime()));
+        html.append("<table>\n<tr><th>백분위수</th><th>응답 시간 (ms)</th><th>누적 건수</th></tr>\n");
+        for (Map<String, Object> point : distribution(stats.getResponseTime())) {
+            html.append("<tr><td>").append(String.format(Locale.ROOT, "%.4f%%", (Double) point.get("percentile")))
+                    .append("</td><td>").append(point.get("valueMs"))
+                    .append("</td><td>").append(point.get("count")).append("</td></tr>\n");
+        }
+        html.append("</table>\n</body>\n</html>\n");
+        return html.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private String indexHtml(List<Map<String, Object>> summaries, int durationSeconds) {
+        StringBuilder html = new StringBuilder();
+        htmlHeader(html, "부하 테스트 요약");
+        html.append("<h1>부하 테스트 요약</h1>\n<p>측정 시간 ").append(durationSeconds).append("초</p>\n");
+        html.append("<table>\n<tr><th>엔드포인트</th><th>목표 req/s</th><th>실제 req/s</th><th>요청</th>"
+                + "<th>오류</th><th>누락</th><th>p50</th><th>p99</th><th>p99.9</th><th>최대</th></tr>\n");
+        for (Map<String, Object> summary : summaries) {
+            Map<String, Object> response = (Map<String, Object>) summary.get("responseTimeMs");
+            String name = escape((String) summary.get("endpoint"));
+            html.append("<tr><td><a href=\"").append(name).append(".html\">").append(name).append("</a></td><td>")
+                    .append(summary.get("targetRate")).append("</td><td>").append(summary.get("achievedRate"))
+                    .append("</td><td>").append(summary.get("count")).append("</td><td>").append(summary.get("errors"))
+                    .append("</td><td>").append(summary.get("skipped")).append("</td><td>")
+                    .append(response.getOrDefault("p50", "-")).append("</td><td>")
+                    .append(response.getOrDefault("p99", "-")).append("</td><td>")
+                    .append(response.getOrDefault("p99.9", "-")).append("</td><td>")
+                    .append(response.getOrDefault("max", "-")).append("</td></tr>\n");
+        }
+        html.append("</table>\n<p class=\"note\">시간 단위: ms (예정 시각 기준 응답 시간, 누락은 타임아웃으로 포함)</p>\n"
+                + "</body>\n</html>\n");
+        return html.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private String comparisonHtml(Map<String, Map<String, Map<String, Object>>> byEndpoint, int durationSeconds) {
+        StringBuilder html = new StringBuilder();
+        htmlHeader(html, "부하 테스트 비교");
+        html.append("<h1>부하 테스트 비교</h1>\n<p>서버마다 같은 시나리오로 차례로 측정, 측정 시간 ")
+                .append(durationSeconds).append("초</p>\n");
+        html.append("<table>\n<tr><th>엔드포인트</th><th>서버</th><th>목표 req/s</th><th>실제 req/s</th><th>요청</th>"
+                + "<th>오류</th><th>누락</th><th>p50</th><th>p99</th><th>p99.9</th><th>최대</th></tr>\n");
+        for (Map.Entry<String, Map<String, Map<String, Object>>> endpoint : byEndpoint.entrySet()) {
+            for (Map.Entry<String, Map<String, Object>> target : endpoint.getValue().entrySet()) {
+                Map<String, Object> summary = target.getValue();
+                Map<String, Object> response = (Map<String, Object>) summary.get("responseTimeMs");
+                String label = targetLabel(target.getKey());
+                html.append("<tr><td>").append(escape(endpoint.getKey())).append("</td><td><a href=\"")
+                        .append(escape(label)).append("/").append(escape(endpoint.getKey())).append(".html\">")
+                        .append(escape(target.getKey())).append("</a></td><td>")
+                        .append(summary.get("targetRate")).append("</td><td>").append(summary.get("achievedRate"))
+                        .append("</td><td>").append(summary.get("count")).append("</td><td>").append(summary.get("errors"))
+                        .append("</td><td>").append(summary.get("skipped")).append("</td><td>")
+                        .append(response.getOrDefault("p50", "-")).append("</td><td>")
+                        .append(response.getOrDefault("p99", "-")).append("</td><td>")
+                        .append(response.getOrDefault("p99.9", "-")).append("</td><td>")
+                        .append(response.getOrDefault("max", "-")).append("</td></tr>\n");
+            }
+        }
+        html.append("</table>\n<p class=\"note\">시간 단위: ms (예정 시각 기준 응답 시간, 누락은 타임아웃으로 포함)</p>\n"
+                + "</body>\n</html>\n");
+        return html.toString();
+    }
+
+    private void percentileRow(StringBuilder html, String label, Histogram histogram) {
+        html.append("<tr><th>").append(label).append("</th>");
+        if (histogram.getTotalCount() == 0) {
+            html.append("<td colspan=\"").append(SUMMARY_PERCENTILES.length + 3).append("\">기록 없음</td></tr>\n");
+            return;
+        }
+        html.append("<td>").append(millis(histogram.getMinValue())).append("</td>");
+        html.append("<td>").append(round(histogram.getMean() / MICROS_PER_MILLI)).append("</td>");
+        for (double percentile : SUMMARY_PERCENTILES) {
+            html.append("<td>").append(millis(histogram.getValueAtPercentile(percentile))).append("</td>");
+        }
+        html.append("<td>").append(millis(histogram.getMaxValue())).append("</td></tr>\n");
+    }
+
+    /**
+     * 백분위수 분포 그래프 (SVG)
+     * 가로축은 1 / (1 - 백분위수)의 로그 눈금이라 90%, 99%, 99.9%가 같은 간격으로 보임
+     */
+    private String chart(Histogram responseTime, Histogram serviceTime) {
+        int width = 800;
+        int height = 300;
+        int margin = 50;
+        double maxX = 5.0;  // 99.999%
+        double maxY = Math.max(1.0, millis(responseTime.getMaxValue()));
+
+        StringBuilder svg = new StringBuilder();
+        svg.append("<svg width=\"").append(width).append("\" height=\"").append(height)
+                .append("\" xmlns=\"http://www.w3.org/2000/svg\" style=\"background:#fafafa\">\n");
+        String[] labels = {"0%", "90%", "99%", "99.9%", "99.99%", "99.999%"};
+        for (int i = 0; i <= 5; i++) {
+            double x = margin + (width - 2 * margin) * i / maxX;
+            svg.append(String.format(Locale.ROOT,
+                    "<line x1=\"%.1f\" y1=\"%d\" x2=\"%.1f\" y2=\"%d\" stroke=\"#ddd\"/>"
+                            + "<text x=\"%.1f\" y=\"%d\" font-size=\"11\" text-anchor=\"middle\">%s</text>\n",
+                    x, margin / 2, x, height - margin, x, height - margin + 15, labels[i]));
+        }
+        svg.append(String.format(Locale.ROOT,
+                "<text x=\"5\" y=\"%d\" font-size=\"11\">%.1f ms</text><text x=\"5\" y=\"%d\" font-size=\"11\">0</text>\n",
+                margin / 2 + 4, maxY, height - margin));
+        svg.append(polyline(responseTime, "#d9534f", width, height, margin, maxX, maxY));
+        svg.append(polyline(serviceTime, "#5bc0de", width, height, margin, maxX, maxY));
+        svg.append("<text x=\"").append(width - 260).append("\" y=\"").append(height - 8)
+                .append("\" font-size=\"11\"><tspan fill=\"#d9534f\">■ 응답 시간</tspan>"
+                        + " <tspan fill=\"#5bc0de\">■ 서비스 시간</tspan></text>\n");
+        svg.append("</svg>\n");
+        return svg.toString();
+    }
+
+    private String polyline(Histogram histogram, String color, int width, int height, int margin,
+                            double maxX, double maxY) {
+        if (histogram.getTotalCount() == 0) {
+            return "";
+        }
+        StringBuilder points = new StringBuilder();
+        for (HistogramIterationValue value : histogram.percentiles(5)) {
+            double percentile = value.getPercentileLevelIteratedTo() / 100.0;
+            double logX = percentile >= 1.0 ? maxX : Math.min(maxX, Math.log10(1.0 / (1.0 - percentile)));
+            double x = margin + (width - 2 * margin) * logX / maxX;
+            double y = (height - margin) - (height - 1.5 * margin) * millis(value.getValueIteratedTo()) / maxY;
+            points.append(String.format(Locale.ROOT, "%.1f,%.1f ", x, y));
+        }
+        return "<polyline fill=\"none\" stroke=\"" + color + "\" stroke-width=\"2\" points=\"" + points + "\"/>\n";
+    }
+
+    private static void htmlHeader(StringBuilder html, String title) {
+        html.append("<!DOCTYPE html>\n<html lang=\"ko\">\n<head>\n<meta charset=\"UTF-8\">\n<title>")
+                .append(escape(title)).append("</title>\n<style>\n")
+                .append("body { font-family: sans-serif; margin: 2em; }\n")
+                .append("table { border-collapse: collapse; margin-bottom: 1em; }\n")
+                .append("th, td { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }\n")
+                .append("th:first-child, td:first-child { text-align: left; }\n")
+                .append(".note { color: #666; font-size: 0.9em; }\n")
+                .append("</style>\n</head>\n<body>\n");
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? Integer.toString((int) percentile)
+                : Double.toString(percentile);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / MICROS_PER_MILLI);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
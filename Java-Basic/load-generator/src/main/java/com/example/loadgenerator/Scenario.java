@@ -0,0 +1,46 @@
+package com.example.loadgenerator;
+
+import java.net.http.HttpRequest;
+import java.util.function.LongFunction;
+
+/**
+ * 부하 시나리오 (엔드포인트 하나)
+ *
+ * 정해진 초당 요청 수(rate)로 같은 종류의 요청을 보냅니다.
+ * 요청 내용은 요청 순번을 받아 만들기 때문에 매번 다른 ID나 이메일을 사용할 수 있습니다.
+ */
+public class Scenario {
+
+    private final String name;
+    private final double ratePerSecond;
+    private final LongFunction<HttpRequest> requestFactory;
+
+    /**
+     * @param name 엔드포인트 이름 (보고서 파일 이름으로도 사용)
+     * @param ratePerSecond 초당 요청 수
+     * @param requestFactory 요청 순번 → HTTP 요청
+     */
+    public Scenario(String name, double ratePerSecond, LongFunction<HttpRequest> requestFactory) {
+        this.name = name;
+        this.ratePerSecond = ratePerSecond;
+        this.requestFactory = requestFactory;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    /**
+     * 요청 만들기
+     *
+     * @param sequence 요청 순번 (0부터 시작)
+     * @return HTTP 요청
+     */
+    public HttpRequest newRequest(long sequence) {
+        return requestFactory.apply(sequence);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.loadgenerator;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * 사용자 API(UserController) 부하 시나리오 모음
+ *
+ * - lookup: GET /api/users/{id} (1 ~ lookup.max-id 순환)
+ * - search: GET /api/users/search?name= (search.terms 순환)
+ * - create: POST /api/users (실행마다 다른 이메일 사용)
+ * - statistics: GET /api/users/statistics
+ *
+ * 초당 요청 수가 0인 시나리오는 만들지 않습니다.
+ * 서블릿 버전(springboot-learning)과 리액티브 버전(springboot-reactive)이 같은 URL을 제공하므로 두 서버 모두에 사용할 수 있습니다.
+ */
+public final class UserApiScenarios {
+
+    private UserApiScenarios() {
+    }
+
+    /**
+     * 설정에 따라 시나리오 목록 생성
+     *
+     * @param config 부하 테스트 설정
+     * @param baseUrl 요청을 보낼 서버 주소
+     * @return 시나리오 목록
+     */
+    public static List<Scenario> create(LoadConfig config, String baseUrl) {
+        Duration timeout = Duration.ofMillis(config.getRequestTimeoutMillis());
+        long maxId = config.getLookupMaxId();
+        List<String> searchPaths = new ArrayList<>();
+        for (String term : config.getSearchTerms()) {
+            searchPaths.add("/api/users/search?name=" + URLEncoder.encode(term, StandardCharsets.UTF_8));
+        }
+        // 같은 서버에 여러 번 실행해도 이메일이 겹치지 않도록 실행마다 다른 값 사용
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        List<Scenario> scenarios = new ArrayList<>();
+        add(scenarios, config, "lookup", sequence ->
+                get(baseUrl + "/api/users/" + (sequence % maxId + 1), timeout));
+        add(scenarios, config, "search", sequence ->
+                get(baseUrl + searchPaths.get((int) (sequence % searchPaths.size())), timeout));
+        add(scenarios, config, "create", sequence -> {
+            String body = "{\"name\":\"부하" + sequence + "\","
+                    + "\"email\":\"load-" + runId + "-" + sequence + "@loadtest.example.com\","
+                    + "\"age\":" + (20 + sequence % 50) + "}";
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/users"))
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                    .build();
+        });
+        HttpRequest statistics = get(baseUrl + "/api/users/statistics", timeout);
+        add(scenarios, config, "statistics", sequence -> statistics);
+        return scenarios;
+    }
+
+    private static void add(List<Scenario> scenarios, LoadConfig config, String name,
+                            LongFunction<HttpRequest> factory) {
+        double rate = config.getRate(name);
+        if (rate > 0) {
+            scenarios.add(new Scenario(name, rate, factory));
+        }
+    }
+
+    private static HttpRequest get(String url, Duration timeout) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(timeout).GET().build();
+    }
+}
@@ -2,6 +2,8 @@ package com.example.springbootlearning.config;
 
 import com.example.springbootlearning.entity.User;
 import com.example.springbootlearning.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -18,11 +20,16 @@ import java.util.List;
  * 1. CommandLineRunner 인터페이스 사용법
  * 2. 애플리케이션 시작 시 초기 데이터 설정
  * 3. 서비스 계층을 통한 데이터 조작
- * 4. 예외 처리와 로깅
+ * 4. 예외 처리와 로깅 (SLF4J Logger)
  */
 @Component  // 스프링 컴포넌트로 등록
 public class DatabaseInitializer implements CommandLineRunner {
     
+    /**
+     * 로거 (System.out 대신 사용하면 로그 설정의 비동기 출력, 레벨, 형식이 적용됨)
+     */
+    private static final Logger log = LoggerFactory.getLogger(DatabaseInitializer.class);
+    
     /**
      * 사용자 서비스 의존성 주입
      */
@@ -37,41 +44,40 @@ public class DatabaseInitializer implements CommandLineRunner {
      */
     @Override
     public void run(String... args) throws Exception {
-        System.out.println("==========================================");
-        System.out.println("🗄️  데이터베이스 초기화를 시작합니다...");
+        log.info("==========================================");
+        log.info("🗄️  데이터베이스 초기화를 시작합니다...");
         
         try {
             // 기존 데이터가 있는지 확인
             long existingUserCount = userService.getTotalUserCount();
             
             if (existingUserCount > 0) {
-                System.out.println("📊 기존 사용자 데이터가 " + existingUserCount + "개 있습니다.");
-                System.out.println("🔄 샘플 데이터 생성을 건너뜁니다.");
+                log.info("📊 기존 사용자 데이터가 {}개 있습니다.", existingUserCount);
+                log.info("🔄 샘플 데이터 생성을 건너뜁니다.");
                 return;
             }
             
             // 샘플 사용자 데이터 생성
             createSampleUsers();
             
-            System.out.println("✅ 샘플 데이터 생성이 완료되었습니다!");
-            System.out.println("📱 다음 URL로 API를 테스트해보세요:");
-            System.out.println("   - 전체 사용자 조회: http://localhost:8080/api/users");
-            System.out.println("   - 사용자 통계: http://localhost:8080/api/users/statistics");
-            System.out.println("   - 성인 사용자: http://localhost:8080/api/users/adults");
+            log.info("✅ 샘플 데이터 생성이 완료되었습니다!");
+            log.info("📱 다음 URL로 API를 테스트해보세요:");
+            log.info("   - 전체 사용자 조회: http://localhost:8080/api/users");
+            log.info("   - 사용자 통계: http://localhost:8080/api/users/statistics");
+            log.info("   - 성인 사용자: http://localhost:8080/api/users/adults");
             
         } catch (Exception e) {
-            System.err.println("❌ 데이터베이스 초기화 중 오류가 발생했습니다: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ 데이터베이스 초기화 중 오류가 발생했습니다: {}", e.getMessage(), e);
         }
         
-        System.out.println("==========================================");
+        log.info("==========================================");
     }
     
     /**
      * 샘플 사용자 데이터를 생성하는 메서드
      */
     private void createSampleUsers() {
-        System.out.println("👥 샘플 사용자 데이터를 생성합니다...");
+        log.info("👥 샘플 사용자 데이터를 생성합니다...");
         
         // 다양한 연령대와 정보를 가진 샘플 사용자들 생성
         User[] sampleUsers = {
@@ -120,17 +126,15 @@ public class DatabaseInitializer implements CommandLineRunner {
         for (int i = 0; i < sampleUsers.length; i++) {
             try {
                 User createdUser = userService.createUser(sampleUsers[i]);
-                System.out.println("✅ 사용자 생성 완료: " + createdUser.getName() + 
-                                 " (" + createdUser.getEmail() + ")");
+                log.info("✅ 사용자 생성 완료: {} ({})", createdUser.getName(), createdUser.getEmail());
             } catch (Exception e) {
-                System.err.println("❌ 사용자 생성 실패: " + sampleUsers[i].getName() + 
-                                 " - " + e.getMessage());
+                log.error("❌ 사용자 생성 실패: {} - {}", sampleUsers[i].getName(), e.getMessage());
             }
         }
         
         // 생성된 사용자 수 확인
         long totalUsers = userService.getTotalUserCount();
-        System.out.println("📊 총 " + totalUsers + "명의 사용자가 생성되었습니다.");
+        log.info("📊 총 {}명의 사용자가 생성되었습니다.", totalUsers);
         
         // 통계 정보 출력
         printUserStatistics();
@@ -140,33 +144,33 @@ public class DatabaseInitializer implements CommandLineRunner {
      * 사용자 통계 정보를 출력하는 메서드
      */
     private void printUserStatistics() {
-        System.out.println("\n📈 사용자 통계 정보:");
+        log.info("📈 사용자 통계 정보:");
         
         try {
             // 나이대별 통계
             List<Object[]> ageStatistics = userService.getUserStatistics();
-            System.out.println("   나이대별 사용자 수:");
+            log.info("   나이대별 사용자 수:");
             for (Object[] stat : ageStatistics) {
-                System.out.println("   - " + stat[0] + ": " + stat[1] + "명");
+                log.info("   - {}: {}명", stat[0], stat[1]);
             }
             
             // 이메일 도메인별 통계
             List<Object[]> domainStatistics = userService.getUserCountByEmailDomain();
-            System.out.println("   이메일 도메인별 사용자 수:");
+            log.info("   이메일 도메인별 사용자 수:");
             for (Object[] stat : domainStatistics) {
-                System.out.println("   - " + stat[0] + ": " + stat[1] + "명");
+                log.info("   - {}: {}명", stat[0], stat[1]);
             }
             
             // 성인 사용자 수
             List<User> adultUsers = userService.getAdultUsers();
-            System.out.println("   성인 사용자 (18세 이상): " + adultUsers.size() + "명");
+            log.info("   성인 사용자 (18세 이상): {}명", adultUsers.size());
             
             // 전화번호가 있는 사용자 수
             List<User> usersWithPhone = userService.getUsersWithPhoneNumber();
-            System.out.println("   전화번호가 있는 사용자: " + usersWithPhone.size() + "명");
+            log.info("   전화번호가 있는 사용자: {}명", usersWithPhone.size());
             
         } catch (Exception e) {
-            System.err.println("❌ 통계 정보 조회 중 오류 발생: " + e.getMessage());
+            log.error("❌ 통계 정보 조회 중 오류 발생: {}", e.getMessage());
         }
     }
 }
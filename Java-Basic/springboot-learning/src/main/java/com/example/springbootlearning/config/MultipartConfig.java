@@ -0,0 +1,39 @@
+package com.example.springbootlearning.config;
+
+import com.example.springbootlearning.controller.UserImportController;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * multipart 업로드 설정
+ *
+ * 스프링부트가 기본으로 등록하는 multipart 처리기를 대신합니다.
+ * 다른 API는 기존과 같이 spring.servlet.multipart.* 설정(최대 10MB)으로 처리하고,
+ * 사용자 가져오기 API(POST /api/users/import)만 자동 처리에서 빼서 컨트롤러가 본문을 스트림으로 직접 읽게 합니다.
+ * (자동 처리되면 업로드가 모두 끝난 뒤에야 컨트롤러가 호출되고, 10MB 제한도 받음)
+ */
+@Configuration
+public class MultipartConfig {
+
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    @Bean
+    public MultipartResolver multipartResolver(MultipartProperties properties) {
+        StandardServletMultipartResolver resolver = new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                if (UserImportController.PATH.equals(PATH_HELPER.getPathWithinApplication(request))) {
+                    return false;
+                }
+                return super.isMultipart(request);
+            }
+        };
+        resolver.setResolveLazily(properties.isResolveLazily());
+        return resolver;
+    }
+}
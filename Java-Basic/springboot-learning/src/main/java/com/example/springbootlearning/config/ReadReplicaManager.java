@@ -0,0 +1,556 @@
+package com.example.springbootlearning.config;
+
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 복제본(read replica) 관리자
+ *
+ * 쓰기는 primary 데이터베이스에서만 하고, 읽기 전용 트랜잭션(@Transactional(readOnly = true))은
+ * 복제본 중 하나로 보내서 읽기 부하를 여러 데이터베이스에 나눕니다.
+ * (ReadWriteRoutingConfig에서 생성되며, app.datasource.routing.enabled=true 일 때만 사용)
+ *
+ * 복제 방식:
+ * 1. 사용자 쓰기가 커밋되면(UserChangeEvent) 커밋 순서대로 LSN(log sequence number)을 붙여 복제본별 큐에 넣습니다.
+ * 2. 복제본마다 적용 스레드가 큐를 꺼내 primary의 현재 행을 복제본에 덮어씁니다. (MERGE / DELETE)
+ *    현재 행을 그대로 복사하므로 같은 변경을 여러 번 적용해도 결과가 같습니다.
+ * 3. 적용이 끝나면 복제본의 appliedLsn이 올라갑니다.
+ *
+ * 읽기 라우팅 규칙:
+ * - 복제 지연(가장 오래된 미적용 커밋 이후 지난 시간)이 max-lag-ms를 넘은 복제본은 건너뜀
+ * - 방금 쓰기를 한 클라이언트는 쿠키(rw-lsn)에 그 쓰기의 LSN이 저장되며,
+ *   그 LSN까지 적용한 복제본에서만 읽음 (자신이 쓴 데이터는 바로 보이도록, read-your-writes)
+ * - readCurrent()로 감싼 읽기는 그 시점의 primary LSN까지 적용한 복제본에서만 읽음 (응답 캐시 채우기용)
+ * - 조건을 만족하는 복제본이 없으면 primary에서 읽음
+ */
+public class ReadReplicaManager {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaManager.class);
+
+    /**
+     * primary 데이터소스의 라우팅 키
+     */
+    public static final String PRIMARY = "primary";
+
+    /**
+     * 마지막 쓰기 LSN을 담는 쿠키 이름 (값: 기동 시각.LSN)
+     */
+    public static final String COOKIE_NAME = "rw-lsn";
+
+    /**
+     * 이번 요청에서 커밋된 마지막 쓰기 LSN (요청 속성)
+     */
+    public static final String WRITE_LSN_ATTRIBUTE = ReadReplicaManager.class.getName() + ".writeLsn";
+
+    private static final String REQUIRED_LSN_ATTRIBUTE = ReadReplicaManager.class.getName() + ".requiredLsn";
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * readCurrent()로 감싼 읽기가 요구하는 최소 LSN (없으면 null)
+     */
+    private static final ThreadLocal<Long> CURRENT_LSN = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final JdbcTemplate primaryJdbc;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final long replicationDelayMillis;
+
+    /**
+     * 쿠키의 LSN이 이번 실행에서 발급된 것인지 구분하기 위한 값 (재시작하면 LSN이 0부터 다시 시작됨)
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // LSN 발급과 큐 삽입은 this로 동기화 (큐에 LSN 순서대로 들어가도록)
+    private long primaryLsn;
+
+    /**
+     * 아직 모든 복제본에 적용되지 않은 커밋의 LSN → 커밋 시각 (복제 지연 계산용)
+     */
+    private final ConcurrentSkipListMap<Long, Long> commitTimes = new ConcurrentSkipListMap<>();
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder lagFallbacks = new LongAdder();
+    private final LongAdder readYourWritesFallbacks = new LongAdder();
+    private volatile boolean running = true;
+
+    /**
+     * @param primary primary 데이터소스 (쓰기와 복제 원본)
+     * @param replicaDataSources 복제본 데이터소스 목록
+     * @param maxLagMillis 읽기에 사용할 수 있는 최대 복제 지연
+     * @param replicationDelayMillis 복제를 일부러 늦추는 시간 (지연 상황 재현용, 평소에는 0)
+     */
+    public ReadReplicaManager(HikariDataSource primary, List<HikariDataSource> replicaDataSources,
+                              long maxLagMillis, long replicationDelayMillis) {
+        this.primary = primary;
+        this.primaryJdbc = new JdbcTemplate(primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            replicas.add(new Replica("replica-" + i, replicaDataSources.get(i)));
+        }
+        this.maxLagMillis = maxLagMillis;
+        this.replicationDelayMillis = replicationDelayMillis;
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * 라우팅 키 → 데이터소스 (primary 포함)
+     *
+     * @return 라우팅 대상 데이터소스 목록
+     */
+    public Map<Object, Object> getTargetDataSources() {
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : replicas) {
+            targets.put(replica.key, replica.dataSource);
+        }
+        return targets;
+    }
+
+    /**
+     * 이번 커넥션을 가져올 데이터소스 결정
+     *
+     * LazyConnectionDataSourceProxy 덕분에 트랜잭션이 시작되어 readOnly 여부가 정해진 뒤,
+     * 첫 SQL을 실행할 때 호출됩니다.
+     *
+     * @return 라우팅 키 (PRIMARY 또는 복제본 키)
+     */
+    public String determineLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        long requiredLsn = requiredLsn();
+        Long currentLsn = CURRENT_LSN.get();
+        if (currentLsn != null) {
+            requiredLsn = Math.max(requiredLsn, currentLsn);
+        }
+        boolean behindOwnWrite = false;
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            long appliedLsn = replica.appliedLsn;
+            if (appliedLsn < 0) {
+                continue;  // 초기 동기화 전
+            }
+            if (appliedLsn < requiredLsn) {
+                behindOwnWrite = true;
+                continue;
+            }
+            if (lagMillis(appliedLsn) > maxLagMillis) {
+                continue;
+            }
+            replica.reads.increment();
+            return replica.key;
+        }
+
+        primaryReads.increment();
+        if (behindOwnWrite) {
+            readYourWritesFallbacks.increment();
+        } else if (!replicas.isEmpty()) {
+            lagFallbacks.increment();
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * 복제본 초기 동기화 및 적용 스레드 시작
+     *
+     * JPA가 primary에 테이블을 만든 뒤(컨텍스트 초기화 완료 후), 샘플 데이터를 넣기 전에 실행됩니다.
+     * primary 전체를 SCRIPT로 내보내 각 복제본에 실행하고, 그 시점의 LSN부터 큐의 변경을 적용합니다.
+     * (SCRIPT 도중에 커밋된 변경도 큐에 남아 있으므로 다시 적용됨)
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void startReplication() {
+        long snapshotLsn;
+        synchronized (this) {
+            snapshotLsn = primaryLsn;
+        }
+        List<String> script = primaryJdbc.queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class);
+        for (Replica replica : replicas) {
+            copyScript(replica, script, snapshotLsn);
+            Thread applier = new Thread(() -> runApplier(replica), "replication-" + replica.key);
+            applier.setDaemon(true);
+            applier.start();
+            replica.applier = applier;
+        }
+        log.info("읽기 복제본 {}개 초기 동기화 완료 (SQL {}개, LSN {})", replicas.size(), script.size(), snapshotLsn);
+    }
+
+    /**
+     * 대량 적재 이벤트 처리
+     * 대량 적재는 행별 변경 이벤트가 없어 큐로 복제할 수 없으므로, 복제본을 비우고 초기 동기화를 다시 합니다.
+     * 동기화하는 동안 복제본은 읽기 대상에서 빠집니다. (appliedLsn = -1)
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public void onBulkLoad(UserBulkLoadedEvent event) {
+        long snapshotLsn;
+        synchronized (this) {
+            snapshotLsn = primaryLsn;
+        }
+        List<String> script = primaryJdbc.queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class);
+        for (Replica replica : replicas) {
+            copyScript(replica, script, snapshotLsn);
+        }
+        log.info("대량 적재({}행) 후 읽기 복제본 {}개 재동기화 완료 (LSN {})", event.getRowCount(), replicas.size(), snapshotLsn);
+    }
+
+    /**
+     * primary를 내보낸 SCRIPT로 복제본 전체를 다시 만듦 (적용 스레드와 겹치지 않도록 복제본 잠금 안에서 실행)
+     */
+    private void copyScript(Replica replica, List<String> script, long snapshotLsn) {
+        synchronized (replica.applyLock) {
+            replica.appliedLsn = -1;
+            replica.jdbc.execute("DROP ALL OBJECTS");
+            for (String statement : script) {
+                replica.jdbc.execute(statement);
+            }
+            replica.appliedLsn = snapshotLsn;
+        }
+    }
+
+    /**
+     * 지금까지 커밋된 쓰기를 모두 보고 읽기
+     *
+     * reader 안에서 시작한 읽기 전용 트랜잭션은 호출 시점의 primary LSN까지 적용한 복제본(없으면 primary)에서 읽습니다.
+     * 읽은 결과를 테이블 버전과 함께 캐시하는 쪽에서, 뒤처진 복제본의 결과가 현재 버전으로 저장되지 않게 할 때 사용합니다.
+     *
+     * @param reader 읽기 작업 (reader가 시작하는 트랜잭션에만 적용되므로, 이미 진행 중인 트랜잭션 안에서 부르면 효과가 없음)
+     * @return reader의 결과
+     */
+    public <T> T readCurrent(Supplier<T> reader) {
+        long lsn;
+        synchronized (this) {
+            lsn = primaryLsn;
+        }
+        Long previous = CURRENT_LSN.get();
+        CURRENT_LSN.set(previous == null ? lsn : Math.max(previous, lsn));
+        try {
+            return reader.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_LSN.remove();
+            } else {
+                CURRENT_LSN.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 사용자 변경 이벤트 처리 (트랜잭션 커밋 후 호출됨)
+     * LSN을 발급해서 모든 복제본 큐에 넣고, 요청을 보낸 클라이언트에게 그 LSN을 기억시킵니다.
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onUserChange(UserChangeEvent event) {
+        long lsn;
+        synchronized (this) {
+            lsn = ++primaryLsn;
+            long now = System.nanoTime();
+            if (!replicas.isEmpty()) {
+                commitTimes.put(lsn, now);
+            }
+            Change change = new Change(lsn, event.getUserId(), event.getType() == UserChangeEvent.Type.DELETED, now);
+            for (Replica replica : replicas) {
+                replica.queue.add(change);
+            }
+        }
+
+        // 쿠키는 ReadYourWritesCookieAdvice가 응답을 쓰기 직전에 한 번만 추가함
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WRITE_LSN_ATTRIBUTE, lsn, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * 쿠키에 저장할 값
+     *
+     * @param lsn 쓰기 LSN
+     * @return 기동 시각.LSN
+     */
+    public String cookieValue(long lsn) {
+        return epoch + "." + lsn;
+    }
+
+    /**
+     * 이번 요청이 읽어야 하는 최소 LSN (이번 요청 또는 최근 요청에서 한 쓰기)
+     */
+    private long requiredLsn() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return 0;
+        }
+        Object written = attributes.getAttribute(WRITE_LSN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (written != null) {
+            return (Long) written;
+        }
+        Object cached = attributes.getAttribute(REQUIRED_LSN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return (Long) cached;
+        }
+        long required = parseCookie(attributes.getRequest());
+        attributes.setAttribute(REQUIRED_LSN_ATTRIBUTE, required, RequestAttributes.SCOPE_REQUEST);
+        return required;
+    }
+
+    private long parseCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                String value = cookie.getValue();
+                int separator = value.indexOf('.');
+                if (separator > 0 && value.substring(0, separator).equals(epoch)) {
+                    try {
+                        return Long.parseLong(value.substring(separator + 1));
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 복제 지연 (appliedLsn 다음 커밋이 일어난 뒤 지난 시간, 모두 적용했으면 0)
+     */
+    private long lagMillis(long appliedLsn) {
+        Map.Entry<Long, Long> oldestPending = commitTimes.higherEntry(appliedLsn);
+        if (oldestPending == null) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldestPending.getValue());
+    }
+
+    private void runApplier(Replica replica) {
+        List<Change> batch = new ArrayList<>();
+        while (running) {
+            try {
+                Change first = replica.queue.take();
+                waitUntilDue(first);
+                batch.add(first);
+                Change next;
+                while (batch.size() < MAX_BATCH_SIZE && (next = replica.queue.peek()) != null && isDue(next)) {
+                    batch.add(replica.queue.poll());
+                }
+                applyWithRetry(replica, batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void applyWithRetry(Replica replica, List<Change> batch) throws InterruptedException {
+        while (running) {
+            try {
+                synchronized (replica.applyLock) {
+                    apply(replica, batch);
+                }
+                return;
+            } catch (RuntimeException e) {
+                // 적용에 실패하면 같은 변경을 다시 시도 (그동안 지연이 늘어나 읽기는 다른 곳으로 감)
+                log.warn("복제본 {} 변경 적용 실패, 1초 후 다시 시도합니다: {}", replica.key, e.getMessage());
+                Thread.sleep(1000);
+            }
+        }
+    }
+
+    /**
+     * 변경 묶음 적용 (같은 사용자의 여러 변경은 현재 행을 한 번만 복사)
+     */
+    private void apply(Replica replica, List<Change> batch) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        List<Long> deletedUserIds = new ArrayList<>();
+        for (Change change : batch) {
+            userIds.add(change.userId);
+            if (change.deleted) {
+                deletedUserIds.add(change.userId);
+            }
+        }
+        for (Long userId : userIds) {
+            copyRow(replica, "users", "id", userId);
+        }
+        if (!deletedUserIds.isEmpty()) {
+            copyTombstones(replica, deletedUserIds);
+        }
+
+        replica.appliedLsn = batch.get(batch.size() - 1).lsn;
+        long minApplied = Long.MAX_VALUE;
+        for (Replica each : replicas) {
+            minApplied = Math.min(minApplied, each.appliedLsn);
+        }
+        commitTimes.headMap(minApplied, true).clear();
+    }
+
+    /**
+     * primary의 현재 행을 복제본에 복사 (primary에 없으면 복제본에서도 삭제)
+     */
+    private void copyRow(Replica replica, String table, String keyColumn, Object key) {
+        List<Map<String, Object>> rows = primaryJdbc.queryForList(
+                "SELECT * FROM " + table + " WHERE " + keyColumn + " = ?", key);
+        if (rows.isEmpty()) {
+            replica.jdbc.update("DELETE FROM " + table + " WHERE " + keyColumn + " = ?", key);
+        } else {
+            merge(replica, table, keyColumn, rows.get(0));
+        }
+    }
+
+    /**
+     * 삭제 기록(user_tombstones) 복사
+     * 삭제된 사용자의 기록을 복사하고, primary에서 보관 기간이 지나 정리된 기록은 복제본에서도 지움
+     * (기록 ID는 삭제 순서대로 증가하므로 primary에 남은 가장 작은 ID보다 작은 기록을 지움)
+     */
+    private void copyTombstones(Replica replica, List<Long> userIds) {
+        StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+        userIds.forEach(id -> placeholders.add("?"));
+        for (Map<String, Object> row : primaryJdbc.queryForList(
+                "SELECT * FROM user_tombstones WHERE user_id IN " + placeholders, userIds.toArray())) {
+            merge(replica, "user_tombstones", "id", row);
+        }
+        Long oldestId = primaryJdbc.queryForObject("SELECT MIN(id) FROM user_tombstones", Long.class);
+        replica.jdbc.update("DELETE FROM user_tombstones WHERE id < ?", oldestId == null ? Long.MAX_VALUE : oldestId);
+    }
+
+    private static void merge(Replica replica, String table, String keyColumn, Map<String, Object> row) {
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner placeholders = new StringJoiner(", ");
+        for (String column : row.keySet()) {
+            columns.add(column);
+            placeholders.add("?");
+        }
+        replica.jdbc.update("MERGE INTO " + table + " (" + columns + ") KEY (" + keyColumn + ") VALUES (" + placeholders + ")",
+                row.values().toArray());
+    }
+
+    private boolean isDue(Change change) {
+        return System.nanoTime() - change.committedNanos >= TimeUnit.MILLISECONDS.toNanos(replicationDelayMillis);
+    }
+
+    private void waitUntilDue(Change change) throws InterruptedException {
+        long dueNanos = change.committedNanos + TimeUnit.MILLISECONDS.toNanos(replicationDelayMillis);
+        long waitNanos;
+        while ((waitNanos = dueNanos - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 라우팅/복제 상태 (운영 API용)
+     *
+     * @return primary LSN, 복제본별 적용 LSN/지연/읽기 수, primary로 보낸 읽기 수
+     */
+    public Map<String, Object> getStatus() {
+        long currentLsn;
+        synchronized (this) {
+            currentLsn = primaryLsn;
+        }
+        List<Map<String, Object>> replicaStatus = new ArrayList<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("name", replica.key);
+            status.put("appliedLsn", replica.appliedLsn);
+            status.put("lagMs", replica.appliedLsn < 0 ? null : lagMillis(replica.appliedLsn));
+            status.put("pendingChanges", replica.queue.size());
+            status.put("reads", replica.reads.sum());
+            replicaStatus.add(status);
+        }
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("primaryLsn", currentLsn);
+        status.put("maxLagMs", maxLagMillis);
+        status.put("replicationDelayMs", replicationDelayMillis);
+        status.put("replicas", replicaStatus);
+        status.put("primaryReads", primaryReads.sum());
+        status.put("lagFallbacks", lagFallbacks.sum());
+        status.put("readYourWritesFallbacks", readYourWritesFallbacks.sum());
+        return status;
+    }
+
+    /**
+     * 적용 스레드 종료 및 커넥션 풀 닫기
+     */
+    public void close() {
+        running = false;
+        for (Replica replica : replicas) {
+            if (replica.applier != null) {
+                replica.applier.interrupt();
+            }
+            replica.dataSource.close();
+        }
+        primary.close();
+    }
+
+    /**
+     * 복제본 하나의 상태
+     */
+    private static final class Replica {
+        private final String key;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbc;
+        private final LinkedBlockingQueue<Change> queue = new LinkedBlockingQueue<>();
+        private final LongAdder reads = new LongAdder();
+        private final Object applyLock = new Object();  // 변경 적용과 재동기화를 직렬화
+        private volatile long appliedLsn = -1;  // -1: 초기 동기화 전
+        private Thread applier;
+
+        private Replica(String key, HikariDataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+            this.jdbc = new JdbcTemplate(dataSource);
+        }
+    }
+
+    /**
+     * 커밋된 변경 하나 (복제 큐의 원소)
+     */
+    private static final class Change {
+        private final long lsn;
+        private final long userId;
+        private final boolean deleted;
+        private final long committedNanos;
+
+        private Change(long lsn, long userId, boolean deleted, long committedNanos) {
+            this.lsn = lsn;
+            this.userId = userId;
+            this.deleted = deleted;
+            this.committedNanos = committedNanos;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.springbootlearning.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 설정
+ *
+ * app.datasource.routing.enabled=true 이면 스프링부트가 만드는 기본 데이터소스 대신
+ * 아래 구조의 데이터소스를 등록합니다.
+ *
+ *   LazyConnectionDataSourceProxy
+ *     └ AbstractRoutingDataSource (ReadReplicaManager가 라우팅 키 결정)
+ *         ├ primary (spring.datasource.* 설정) - 쓰기, 읽기/쓰기 트랜잭션
+ *         └ replica-0 ... replica-N (H2 인메모리 복제본) - 읽기 전용 트랜잭션
+ *
+ * LazyConnectionDataSourceProxy는 실제 커넥션을 첫 SQL 실행 시점까지 미룹니다.
+ * 그래야 트랜잭션 시작 시 정해지는 readOnly 여부를 보고 데이터소스를 고를 수 있습니다.
+ *
+ * 주요 학습 내용:
+ * 1. @Configuration과 @Bean으로 기본 자동 설정 대체하기
+ * 2. AbstractRoutingDataSource를 사용한 데이터소스 라우팅
+ * 3. @Transactional(readOnly = true)와 읽기 복제본
+ * 4. @ConditionalOnProperty를 사용한 선택적 설정
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    /**
+     * 읽기 복제본 수
+     */
+    @Value("${app.datasource.routing.replica-count:2}")
+    private int replicaCount;
+
+    /**
+     * 복제본별 커넥션 풀 크기
+     */
+    @Value("${app.datasource.routing.replica-pool-size:10}")
+    private int replicaPoolSize;
+
+    /**
+     * 읽기에 사용할 수 있는 최대 복제 지연 (밀리초)
+     */
+    @Value("${app.datasource.routing.max-lag-ms:1000}")
+    private long maxLagMillis;
+
+    /**
+     * 복제를 일부러 늦추는 시간 (밀리초, 지연 상황 재현용)
+     */
+    @Value("${app.datasource.routing.replication-delay-ms:0}")
+    private long replicationDelayMillis;
+
+    /**
+     * primary와 복제본 커넥션 풀, 복제 관리자
+     *
+     * @param properties spring.datasource.* 설정
+     * @return 복제본 관리자
+     */
+    @Bean(destroyMethod = "close")
+    public ReadReplicaManager readReplicaManager(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaCount; i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl("jdbc:h2:mem:replica-" + i + ";DB_CLOSE_DELAY=-1");
+            replica.setUsername("sa");
+            replica.setPassword("");
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replicas.add(replica);
+        }
+        return new ReadReplicaManager(primary, replicas, maxLagMillis, replicationDelayMillis);
+    }
+
+    /**
+     * 애플리케이션 전체(JPA 포함)에서 사용하는 데이터소스
+     *
+     * @param readReplicaManager 복제본 관리자
+     * @return 라우팅 데이터소스
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaManager readReplicaManager) {
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return readReplicaManager.determineLookupKey();
+            }
+        };
+        routing.setTargetDataSources(readReplicaManager.getTargetDataSources());
+        routing.setDefaultTargetDataSource(readReplicaManager.getPrimary());
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.springbootlearning.config;
+
+import com.example.springbootlearning.snapshot.UserSnapshotImporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 시작 시 사용자 스냅샷 가져오기
+ *
+ * 애플리케이션을 --snapshot.import=파일경로 인수로 실행하면, 웹 서버가 요청을 받기 전에 스냅샷을 적재합니다.
+ * 적재 도중의 요청이 반쯤 채워진 테이블을 보거나 같은 ID로 사용자를 만들지 않도록,
+ * ApplicationRunner(웹 서버 시작 후 실행) 대신 웹 서버보다 앞선 단계의 SmartLifecycle로 실행합니다.
+ * 샘플 데이터(DatabaseInitializer)는 사용자가 이미 있으면 건너뛰므로 스냅샷 내용만 남습니다.
+ *
+ * 예: java -jar springboot-learning.jar --snapshot.import=users.usnp
+ *
+ * 주요 학습 내용:
+ * 1. ApplicationArguments로 명령행 옵션 읽기
+ * 2. SmartLifecycle의 phase로 웹 서버 시작과의 순서 정하기
+ */
+@Component
+public class SnapshotImportRunner implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotImportRunner.class);
+
+    static final String IMPORT_OPTION = "snapshot.import";
+
+    /**
+     * 웹 서버 시작 단계(SMART_LIFECYCLE_PHASE - 1024)보다 먼저 실행 (phase가 작을수록 먼저 시작)
+     */
+    private static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+    @Autowired
+    private UserSnapshotImporter userSnapshotImporter;
+
+    @Autowired
+    private ApplicationArguments arguments;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+        List<String> files = arguments.getOptionValues(IMPORT_OPTION);
+        if (files == null) {
+            return;
+        }
+        for (String file : files) {
+            log.info("사용자 스냅샷을 가져옵니다: {}", file);
+            userSnapshotImporter.importFile(Path.of(file));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.springbootlearning.controller;
+
+import com.example.springbootlearning.config.ReadReplicaManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 라우팅 상태 REST API 컨트롤러
+ *
+ * app.datasource.routing.enabled=true 일 때만 등록됩니다.
+ */
+@RestController
+@RequestMapping("/api/datasource")
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingController {
+
+    @Autowired
+    private ReadReplicaManager readReplicaManager;
+
+    /**
+     * 라우팅/복제 상태 조회 API
+     *
+     * URL: GET /api/datasource/routing
+     * 응답: primary LSN, 복제본별 적용 LSN/지연/읽기 수, primary로 보낸 읽기 수와 그 이유별 횟수 (JSON)
+     *
+     * @return 라우팅/복제 상태
+     */
+    @GetMapping("/routing")
+    public ResponseEntity<Map<String, Object>> getRoutingStatus() {
+        return ResponseEntity.ok(readReplicaManager.getStatus());
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.springbootlearning.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키(Idempotency-Key) 저장소
+ *
+ * 클라이언트가 네트워크 오류 등으로 같은 생성 요청을 다시 보내도 사용자가 한 번만 만들어지도록,
+ * Idempotency-Key 헤더 값별로 처음 요청의 응답(상태 코드와 JSON 바이트)을 보관합니다.
+ * 같은 키로 다시 오면 데이터베이스를 거치지 않고 보관한 응답을 그대로 돌려줍니다.
+ *
+ * - 같은 키의 요청이 동시에 들어오면 첫 요청만 처리하고 나머지는 그 결과를 기다립니다. (single-flight)
+ * - 같은 키에 다른 요청 본문이 오면 422로 거부합니다. (키를 잘못 재사용한 클라이언트 오류)
+ * - 처리 중 예외가 나면(5xx) 보관하지 않으므로 같은 키로 다시 시도할 수 있습니다.
+ * - 보관 기간(ttl-seconds)이 지나거나 최대 항목 수를 넘으면 오래된 키부터 제거합니다.
+ *   진행 중인 키는 제거하지 않으며(제거하면 같은 키의 재시도가 한 번 더 처리됨),
+ *   저장소가 진행 중인 요청으로만 가득 차 있으면 새 키는 503으로 거부합니다.
+ *
+ * 주요 학습 내용:
+ * 1. 멱등성 키를 사용한 안전한 재시도
+ * 2. 진행 중인 요청 공유 (CompletableFuture)
+ * 3. 크기와 시간으로 제한되는 인메모리 저장소 (삽입 순서 LinkedHashMap)
+ */
+@Component
+public class IdempotencyStore {
+
+    /**
+     * 재전송된 요청에 대한 응답임을 알리는 헤더
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * 보관한 응답 한 건
+     */
+    private static final class StoredResponse {
+        private final byte[] fingerprint;
+        private final long storedAt;
+        private final int status;
+        private final byte[] body;
+
+        private StoredResponse(byte[] fingerprint, long storedAt, int status, byte[] body) {
+            this.fingerprint = fingerprint;
+            this.storedAt = storedAt;
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    /**
+     * 키 → 진행 중이거나 끝난 요청 (삽입 순서 = 시간 순서이므로 앞에서부터 만료됨, this로 동기화)
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder mismatched = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public IdempotencyStore(@Value("${app.users.idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${app.users.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 키와 요청 본문이 같은 처음 요청의 응답을 돌려주고, 처음이면 handler를 실행해서 응답을 보관
+     *
+     * @param key Idempotency-Key 헤더 값
+     * @param request 요청 본문 (키 재사용 확인용)
+     * @param handler 실제 처리 (응답 본문은 JSON으로 직렬화해서 보관)
+     * @return JSON 바이트 응답 (재전송이면 Idempotent-Replayed: true 헤더 포함, 진행 중인 키가 가득 차면 503)
+     */
+    public ResponseEntity<?> execute(String key, Object request, Supplier<ResponseEntity<?>> handler) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "입력 데이터 검증 실패");
+            error.put("message", "Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+            return ResponseEntity.badRequest().body(error);
+        }
+        byte[] fingerprint = fingerprint(request);
+
+        while (true) {
+            Entry entry;
+            boolean leader = false;
+            synchronized (this) {
+                evictExpired(System.currentTimeMillis());
+                entry = entries.get(key);
+                if (entry == null) {
+                    if (!makeRoom()) {
+                        rejected.increment();
+                        Map<String, String> error = new HashMap<>();
+                        error.put("error", "처리 중인 요청이 너무 많습니다");
+                        error.put("message", "처리 중인 Idempotency-Key가 " + maxEntries + "개입니다. 잠시 후 다시 시도하세요.");
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(error);
+                    }
+                    entry = new Entry(fingerprint);
+                    entries.put(key, entry);
+                    leader = true;
+                }
+            }
+
+            if (!Arrays.equals(entry.fingerprint, fingerprint)) {
+                mismatched.increment();
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "멱등성 키 재사용");
+                error.put("message", "같은 Idempotency-Key로 다른 요청을 보냈습니다. 새 요청에는 새 키를 사용하세요.");
+                return ResponseEntity.unprocessableEntity().body(error);
+            }
+
+            if (leader) {
+                executed.increment();
+                return toResponse(run(key, entry, handler), false);
+            }
+
+            if (!entry.future.isDone()) {
+                waited.increment();
+            }
+            try {
+                StoredResponse stored = entry.future.join();
+                replayed.increment();
+                return toResponse(stored, true);
+            } catch (CompletionException e) {
+                // 처음 요청이 실패해서 키가 지워졌으므로 다시 시도 (이번에는 이 요청이 처리할 수도 있음)
+            }
+        }
+    }
+
+    private StoredResponse run(String key, Entry entry, Supplier<ResponseEntity<?>> handler) {
+        try {
+            ResponseEntity<?> response = handler.get();
+            StoredResponse stored = new StoredResponse(entry.fingerprint, System.currentTimeMillis(),
+                    response.getStatusCode().value(), objectMapper.writeValueAsBytes(response.getBody()));
+            entry.future.complete(stored);
+            return stored;
+        } catch (JsonProcessingException | RuntimeException e) {
+            synchronized (this) {
+                entries.remove(key, entry);
+            }
+            entry.future.completeExceptionally(e);
+            if (e instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("응답 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 키 제거 (this 잠금 안에서 호출 / 진행 중인 요청은 건너뜀)
+     */
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            StoredResponse stored = iterator.next().future.getNow(null);
+            if (stored == null) {
+                continue;
+            }
+            if (now - stored.storedAt < ttlMillis) {
+                break;
+            }
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 새 키를 넣을 자리 확보 (this 잠금 안에서 호출)
+     * 끝난 요청 중 가장 오래된 것부터 제거하고, 진행 중인 요청은 건너뜀
+     *
+     * @return 자리가 있으면 true (모두 진행 중이라 제거할 수 없으면 false)
+     */
+    private boolean makeRoom() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            if (iterator.next().future.isDone()) {
+                iterator.remove();
+            }
+        }
+        return entries.size() < maxEntries;
+    }
+
+    private static ResponseEntity<byte[]> toResponse(StoredResponse stored, boolean replay) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.valueOf(stored.status))
+                .contentType(MediaType.APPLICATION_JSON);
+        if (replay) {
+            response.header(REPLAYED_HEADER, "true");
+        }
+        return response.body(stored.body);
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 본문 해시 계산 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 저장소 통계
+     *
+     * @return 보관 중인 키 수, 처리한 요청 수, 재전송 응답 수, 처음 요청을 기다린 수, 키 재사용 거부 수, 가득 차서 거부한 수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        synchronized (this) {
+            stats.put("entries", entries.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("executed", executed.sum());
+        stats.put("replayed", replayed.sum());
+        stats.put("waited", waited.sum());
+        stats.put("mismatched", mismatched.sum());
+        stats.put("rejected", rejected.sum());
+        return stats;
+    }
+
+    /**
+     * 키 하나의 처리 상태 (처음 요청이 끝나면 future가 완료됨)
+     */
+    private static final class Entry {
+        private final byte[] fingerprint;
+        private final CompletableFuture<StoredResponse> future = new CompletableFuture<>();
+
+        private Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
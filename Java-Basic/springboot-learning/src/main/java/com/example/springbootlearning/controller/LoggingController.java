@@ -0,0 +1,93 @@
+package com.example.springbootlearning.controller;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.example.springbootlearning.logging.DropCountingAsyncAppender;
+import com.example.springbootlearning.logging.SamplingTurboFilter;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로그 설정 REST API 컨트롤러
+ *
+ * 애플리케이션을 재시작하지 않고 로거별 샘플링 비율을 조회/변경합니다.
+ * (예: 부하가 높을 때 SQL 로그를 1%만 남기도록 변경)
+ *
+ * 주요 학습 내용:
+ * 1. 실행 중인 logback 설정 변경
+ * 2. 비동기 로그 큐 상태 모니터링
+ */
+@RestController
+@RequestMapping("/api/logging")
+public class LoggingController {
+
+    /**
+     * 샘플링 설정과 로그 처리 현황 조회 API
+     *
+     * URL: GET /api/logging/sampling
+     * 응답: 로거별 샘플링 비율, 샘플링으로 기록/제외된 로그 수, 비동기 큐 상태 (JSON)
+     *
+     * @return 샘플링 설정과 현황
+     */
+    @GetMapping("/sampling")
+    public ResponseEntity<Map<String, Object>> getSampling() {
+        return ResponseEntity.ok(samplingStatus());
+    }
+
+    /**
+     * 샘플링 비율 변경 API
+     *
+     * URL: PUT /api/logging/sampling
+     * 요청 본문: 로거 이름 → 비율 (JSON, 예: {"org.hibernate.SQL": 0.01})
+     *           비율 1.0은 샘플링 해제, 0.0은 해당 로거의 INFO 이하 로그를 모두 제외
+     * 응답: 변경된 샘플링 설정과 현황 (JSON) 또는 400 Bad Request
+     *
+     * @param rates 변경할 로거별 비율
+     * @return 변경된 샘플링 설정 또는 에러 메시지
+     */
+    @PutMapping("/sampling")
+    public ResponseEntity<?> updateSampling(@RequestBody Map<String, Double> rates) {
+        SamplingTurboFilter filter = SamplingTurboFilter.get();
+
+        // 모든 값을 먼저 검사해서 일부만 적용되는 일이 없도록 함
+        for (Map.Entry<String, Double> entry : rates.entrySet()) {
+            Double rate = entry.getValue();
+            if (entry.getKey().isBlank() || rate == null || !(rate >= 0.0 && rate <= 1.0)) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "샘플링 설정 변경 실패");
+                error.put("message", "샘플링 비율은 0.0 이상 1.0 이하여야 합니다: " + entry.getKey() + "=" + rate);
+                return ResponseEntity.badRequest().body(error);
+            }
+        }
+        rates.forEach(filter::setRate);
+
+        return ResponseEntity.ok(samplingStatus());
+    }
+
+    private Map<String, Object> samplingStatus() {
+        SamplingTurboFilter filter = SamplingTurboFilter.get();
+
+        Map<String, Object> status = new HashMap<>();
+        status.put("rates", filter.getRates());
+        status.put("sampledIn", filter.getSampledIn());
+        status.put("sampledOut", filter.getSampledOut());
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Appender<ILoggingEvent> appender = context.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("ASYNC");
+        if (appender instanceof DropCountingAsyncAppender async) {
+            Map<String, Object> queue = new HashMap<>();
+            queue.put("queueSize", async.getQueueSize());
+            queue.put("queued", async.getNumberOfElementsInQueue());
+            queue.put("remainingCapacity", async.getRemainingCapacity());
+            queue.put("dropped", async.getDroppedCount());
+            status.put("asyncQueue", queue);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.springbootlearning.controller;
+
+import com.example.springbootlearning.config.ReadReplicaManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Duration;
+
+/**
+ * read-your-writes 쿠키 추가
+ *
+ * 요청 처리 중 사용자 쓰기가 커밋되었으면, 응답 본문을 쓰기 직전에 마지막 쓰기의 LSN을 쿠키로 내려줍니다.
+ * 클라이언트가 이후 요청에 이 쿠키를 보내면 그 LSN까지 복제된 복제본(또는 primary)에서만 읽습니다.
+ * (일괄 생성처럼 한 요청에서 여러 번 커밋되어도 쿠키는 마지막 LSN으로 한 번만 추가됨)
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class ReadYourWritesCookieAdvice implements ResponseBodyAdvice<Object> {
+
+    @Autowired
+    private ReadReplicaManager readReplicaManager;
+
+    /**
+     * 쓰기 후 복제본 대신 primary(또는 따라잡은 복제본)에서 읽는 최대 시간 (초)
+     */
+    @Value("${app.datasource.routing.sticky-seconds:10}")
+    private long stickySeconds;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object writeLsn = attributes == null ? null
+                : attributes.getAttribute(ReadReplicaManager.WRITE_LSN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (writeLsn != null) {
+            ResponseCookie cookie = ResponseCookie.from(ReadReplicaManager.COOKIE_NAME,
+                            readReplicaManager.cookieValue((Long) writeLsn))
+                    .path("/")
+                    .maxAge(Duration.ofSeconds(stickySeconds))
+                    .httpOnly(true)
+                    .build();
+            response.getHeaders().add(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+        return body;
+    }
+}
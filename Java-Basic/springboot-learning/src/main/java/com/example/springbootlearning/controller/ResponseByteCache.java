@@ -0,0 +1,174 @@
+package com.example.springbootlearning.controller;
+
+import com.example.springbootlearning.config.ReadReplicaManager;
+import com.example.springbootlearning.service.UserTableVersion;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화된 응답 바이트 캐시
+ *
+ * 자주 호출되는 GET 응답을 JSON으로 직렬화한 결과(바이트 배열)와 gzip으로 압축한 결과를 함께 보관합니다.
+ * 캐시에 있으면 Jackson 직렬화와 압축을 건너뛰고 저장된 바이트를 그대로 응답합니다.
+ *
+ * 캐시 키는 "엔드포인트 + 파라미터" 이며 (응답은 항상 JSON이므로 Content-Type은 키에 넣지 않음),
+ * 각 항목은 계산을 시작할 때의 사용자 테이블 버전(UserTableVersion)을 함께 저장합니다.
+ * 사용자 쓰기가 커밋되어 버전이 바뀌면 이전 항목은 더 이상 사용되지 않습니다.
+ *
+ * 읽기 복제본 라우팅을 켠 경우, 뒤처진 복제본에서 읽은 결과가 현재 버전으로 저장되면 쓰기가 반영될 때까지
+ * 오래된 응답이 계속 나가므로, 캐시를 채우는 계산은 ReadReplicaManager.readCurrent()로 감싸서
+ * 계산 시작 시점의 LSN까지 따라잡은 복제본이나 primary에서만 읽습니다.
+ *
+ * 주요 학습 내용:
+ * 1. 직렬화 결과 캐싱 (데이터 캐시보다 한 단계 더 앞에서 캐싱)
+ * 2. Accept-Encoding / Content-Encoding / Vary 헤더를 사용한 압축 응답
+ * 3. 버전 번호를 사용한 캐시 무효화
+ */
+@Component
+public class ResponseByteCache {
+
+    /**
+     * 미리 직렬화된 응답 한 건
+     */
+    private static final class CachedBody {
+        private final long version;
+        private final byte[] plain;
+        private final byte[] gzip;
+
+        private CachedBody(long version, byte[] plain, byte[] gzip) {
+            this.version = version;
+            this.plain = plain;
+            this.gzip = gzip;
+        }
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserTableVersion tableVersion;
+
+    /**
+     * 읽기 복제본 관리자 (app.datasource.routing.enabled=true 일 때만 있음)
+     */
+    @Autowired
+    private ObjectProvider<ReadReplicaManager> readReplicaManager;
+
+    private final int maxEntries;
+
+    /**
+     * 최근에 사용한 순서를 유지하는 LRU 맵 (가장 오래 사용하지 않은 항목부터 제거)
+     */
+    private final Map<String, CachedBody> entries;
+
+    public ResponseByteCache(@Value("${app.users.response-cache.max-entries:1000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedBody> eldest) {
+                return size() > ResponseByteCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 JSON 응답 반환 (없거나 오래되었으면 새로 계산해서 저장)
+     *
+     * @param key 엔드포인트와 파라미터로 만든 키 (예: "/api/users/1")
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 (없으면 null)
+     * @param loader 응답 본문 계산 (null을 반환하면 404 Not Found, 캐시하지 않음)
+     * @return JSON 바이트 응답
+     */
+    public ResponseEntity<byte[]> getJson(String key, String acceptEncoding, Supplier<Object> loader) {
+        CachedBody cached = lookup(key);
+        if (cached == null) {
+            // 계산 전에 버전을 읽어야, 계산 중에 커밋된 쓰기가 있으면 이 결과가 무효가 됨
+            long version = tableVersion.current();
+            ReadReplicaManager replicas = readReplicaManager.getIfAvailable();
+            Object body = replicas == null ? loader.get() : replicas.readCurrent(loader);
+            if (body == null) {
+                return ResponseEntity.notFound().build();
+            }
+            cached = serialize(version, body);
+            store(key, cached);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzip);
+        }
+        return response.body(cached.plain);
+    }
+
+    private synchronized CachedBody lookup(String cacheKey) {
+        CachedBody cached = entries.get(cacheKey);
+        if (cached != null && cached.version != tableVersion.current()) {
+            entries.remove(cacheKey);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void store(String cacheKey, CachedBody cached) {
+        if (cached.version == tableVersion.current()) {
+            entries.put(cacheKey, cached);
+        }
+    }
+
+    private CachedBody serialize(long version, Object body) {
+        try {
+            byte[] plain = objectMapper.writeValueAsBytes(body);
+            return new CachedBody(version, plain, gzip(plain));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] plain) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(plain.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(plain);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Accept-Encoding에 gzip이 포함되어 있는지 확인 (gzip;q=0은 거부로 처리)
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].trim().matches("q\\s*=\\s*0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.springbootlearning.controller;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.service.ShardedUserService;
+import com.example.springbootlearning.service.UserResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤딩된 사용자 저장소 REST API 컨트롤러
+ *
+ * /api/users와 같은 형식의 API를 샤드 데이터베이스에 대해 제공합니다.
+ * app.users.sharding.enabled=true 일 때만 등록됩니다.
+ */
+@RestController
+@RequestMapping("/api/shards/users")
+@ConditionalOnProperty(name = "app.users.sharding.enabled", havingValue = "true")
+public class ShardedUserController {
+
+    @Autowired
+    private ShardedUserService shardedUserService;
+
+    /**
+     * 사용자 생성 API
+     *
+     * URL: POST /api/shards/users
+     * 응답: 생성된 사용자 정보 또는 에러 메시지 (400 입력 데이터 검증 실패, 409 이메일 중복)
+     */
+    @PostMapping
+    public ResponseEntity<?> createUser(@RequestBody User user) {
+        UserResult result = shardedUserService.tryCreateUser(user);
+        if (!result.isSuccess()) {
+            return errorResponse(result);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(result.getUser());
+    }
+
+    /**
+     * ID로 사용자 조회 API (ID가 속한 샤드 하나만 조회)
+     *
+     * URL: GET /api/shards/users/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<User> getUserById(@PathVariable Long id) {
+        return shardedUserService.getUserById(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 이메일로 사용자 조회 API (이메일 디렉터리 샤드 → 사용자 샤드)
+     *
+     * URL: GET /api/shards/users/email/{email}
+     */
+    @GetMapping("/email/{email}")
+    public ResponseEntity<User> getUserByEmail(@PathVariable String email) {
+        return shardedUserService.getUserByEmail(email)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 사용자 정보 수정 API
+     *
+     * URL: PUT /api/shards/users/{id}
+     * 응답: 수정된 사용자 정보 또는 에러 메시지 (400, 404, 409)
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody User userDetails) {
+        UserResult result = shardedUserService.tryUpdateUser(id, userDetails);
+        if (!result.isSuccess()) {
+            return errorResponse(result);
+        }
+        return ResponseEntity.ok(result.getUser());
+    }
+
+    /**
+     * 사용자 삭제 API
+     *
+     * URL: DELETE /api/shards/users/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteUser(@PathVariable Long id) {
+        UserResult result = shardedUserService.tryDeleteUser(id);
+        if (!result.isSuccess()) {
+            return errorResponse(result);
+        }
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "사용자가 성공적으로 삭제되었습니다.");
+        response.put("deletedUserId", id.toString());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 이름 검색 API (대소문자 무시, 모든 샤드 조회)
+     *
+     * URL: GET /api/shards/users/search?name=김
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<User>> searchUsers(@RequestParam String name) {
+        return ResponseEntity.ok(shardedUserService.searchUsersByNameIgnoreCase(name));
+    }
+
+    /**
+     * 나이순 정렬 목록 API (샤드별 정렬 결과를 병합)
+     *
+     * URL: GET /api/shards/users/sorted/age
+     */
+    @GetMapping("/sorted/age")
+    public ResponseEntity<List<User>> getUsersSortedByAge() {
+        return ResponseEntity.ok(shardedUserService.getUsersSortedByAge());
+    }
+
+    /**
+     * 이름 역순 정렬 목록 API (샤드별 정렬 결과를 병합)
+     *
+     * URL: GET /api/shards/users/sorted/name
+     */
+    @GetMapping("/sorted/name")
+    public ResponseEntity<List<User>> getUsersSortedByNameDesc() {
+        return ResponseEntity.ok(shardedUserService.getUsersSortedByNameDesc());
+    }
+
+    /**
+     * 나이대별 사용자 수 API (샤드별 집계를 합산)
+     *
+     * URL: GET /api/shards/users/statistics
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<List<Object[]>> getUserStatistics() {
+        return ResponseEntity.ok(shardedUserService.getUserStatistics());
+    }
+
+    /**
+     * 이메일 도메인별 사용자 수 API (샤드별 집계를 합산)
+     *
+     * URL: GET /api/shards/users/statistics/domains
+     */
+    @GetMapping("/statistics/domains")
+    public ResponseEntity<List<Object[]>> getUserCountByEmailDomain() {
+        return ResponseEntity.ok(shardedUserService.getUserCountByEmailDomain());
+    }
+
+    /**
+     * 샤드별 사용자 수 API
+     *
+     * URL: GET /api/shards/users/shards
+     */
+    @GetMapping("/shards")
+    public ResponseEntity<Map<String, Object>> getShardStatistics() {
+        return ResponseEntity.ok(shardedUserService.getShardStatistics());
+    }
+
+    /**
+     * 전체 사용자 수 API
+     *
+     * URL: GET /api/shards/users/count
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Map<String, Object>> getTotalUserCount() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("totalUsers", shardedUserService.getTotalUserCount());
+        response.put("message", "전체 사용자 수 조회 완료");
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<Map<String, Object>> errorResponse(UserResult result) {
+        HttpStatus status;
+        switch (result.getStatus()) {
+            case NOT_FOUND:
+                status = HttpStatus.NOT_FOUND;
+                break;
+            case CONFLICT:
+                status = HttpStatus.CONFLICT;
+                break;
+            default:
+                status = HttpStatus.BAD_REQUEST;
+        }
+        return ResponseEntity.status(status).body(result.getErrorBody());
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.springbootlearning.controller;
+
+import com.example.springbootlearning.service.UserAnalyticsCube;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 분석(OLAP 큐브) REST API 컨트롤러
+ *
+ * 나이 × 이메일 도메인 × 가입일로 미리 집계된 큐브(UserAnalyticsCube)를 조회하므로
+ * 데이터베이스에 GROUP BY 쿼리를 보내지 않습니다.
+ */
+@RestController
+@RequestMapping("/api/users/analytics")
+public class UserAnalyticsController {
+
+    private static final int MAX_LIMIT = 10_000;
+
+    @Autowired
+    private UserAnalyticsCube userAnalyticsCube;
+
+    /**
+     * 교차 집계 API
+     *
+     * URL: GET /api/users/analytics?groupBy=domain,week&minAge=18&from=2024-01-01
+     * 응답: 조건에 맞는 전체 사용자 수, 묶음별 사용자 수, 걸린 시간(마이크로초) (JSON)
+     *
+     * @param groupBy 묶을 차원 (쉼표로 구분, 최대 3개: ageGroup, age, domain, day, week, month / 없으면 전체 합계)
+     * @param minAge 최소 나이 (포함)
+     * @param maxAge 최대 나이 (포함)
+     * @param ageGroup 나이대 (예: 20대, 여러 개 가능)
+     * @param domain 이메일 도메인 (여러 개 가능)
+     * @param from 가입일 시작 (포함, yyyy-MM-dd)
+     * @param to 가입일 끝 (포함, yyyy-MM-dd)
+     * @param limit 최대 행 수 (기본값: 1000)
+     * @return 집계 결과 또는 에러 메시지
+     */
+    @GetMapping
+    public ResponseEntity<?> query(@RequestParam(required = false) List<String> groupBy,
+                                   @RequestParam(required = false) Integer minAge,
+                                   @RequestParam(required = false) Integer maxAge,
+                                   @RequestParam(required = false) List<String> ageGroup,
+                                   @RequestParam(required = false) List<String> domain,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                   @RequestParam(defaultValue = "1000") int limit) {
+        try {
+            if (limit < 1 || limit > MAX_LIMIT) {
+                throw new IllegalArgumentException("limit은 1~" + MAX_LIMIT + " 사이여야 합니다.");
+            }
+            List<UserAnalyticsCube.Dimension> dimensions = new ArrayList<>();
+            if (groupBy != null) {
+                for (String name : groupBy) {
+                    if (!name.isBlank()) {
+                        dimensions.add(UserAnalyticsCube.Dimension.fromParam(name));
+                    }
+                }
+            }
+            UserAnalyticsCube.Filter filter = new UserAnalyticsCube.Filter(minAge, maxAge,
+                    toSet(ageGroup), toSet(domain), from, to);
+            return ResponseEntity.ok(userAnalyticsCube.query(dimensions, filter, limit));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "잘못된 요청");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * 큐브 크기 조회 API
+     *
+     * URL: GET /api/users/analytics/stats
+     * 응답: 큐브에 집계된 사용자 수, 셀 수, 도메인 수 (JSON)
+     *
+     * @return 큐브 크기
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(userAnalyticsCube.getStats());
+    }
+
+    private static Set<String> toSet(List<String> values) {
+        return values == null || values.isEmpty() ? null : new LinkedHashSet<>(values);
+    }
+}
@@ -1,13 +1,24 @@
 package com.example.springbootlearning.controller;
 
 import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.service.UserChangeFeed;
+import com.example.springbootlearning.service.UserDelta;
+import com.example.springbootlearning.service.UserResult;
 import com.example.springbootlearning.service.UserService;
+import com.example.springbootlearning.snapshot.UserSnapshotExporter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,6 +49,36 @@ public class UserController {
     @Autowired
     private UserService userService;
     
+    /**
+     * 사용자 변경 피드 (SSE 구독용)
+     */
+    @Autowired
+    private UserChangeFeed userChangeFeed;
+    
+    /**
+     * 직렬화된 응답 바이트 캐시 (자주 호출되는 GET 응답용)
+     */
+    @Autowired
+    private ResponseByteCache responseByteCache;
+    
+    /**
+     * 멱등성 키별 생성 응답 저장소 (재전송된 생성 요청용)
+     */
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+    
+    /**
+     * 사용자 스냅샷 내보내기 (열 단위 압축 형식)
+     */
+    @Autowired
+    private UserSnapshotExporter userSnapshotExporter;
+    
+    /**
+     * 일괄 생성 API 한 번에 받을 수 있는 최대 사용자 수
+     */
+    @Value("${app.users.bulk.max-size:1000}")
+    private int bulkMaxSize;
+    
     /**
      * 모든 사용자 조회 API
      * 
@@ -57,19 +98,18 @@ public class UserController {
      * 
      * URL: GET /api/users/{id}
      * 응답: 사용자 정보 (JSON) 또는 404 Not Found
+     * 직렬화된 응답을 캐시하며, Accept-Encoding에 gzip이 있으면 압축된 응답을 반환
      * 
      * @param id 사용자 ID
+     * @param acceptEncoding Accept-Encoding 헤더
      * @return 사용자 정보 또는 404 에러
      */
     @GetMapping("/{id}")  // /api/users/{id} 경로
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
-        Optional<User> user = userService.getUserById(id);
-        
-        if (user.isPresent()) {
-            return ResponseEntity.ok(user.get());  // 사용자 정보 반환
-        } else {
-            return ResponseEntity.notFound().build();  // 404 Not Found
-        }
+    public ResponseEntity<byte[]> getUserById(@PathVariable Long id,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        // 사용자가 없으면 null → 404 Not Found
+        return responseByteCache.getJson("/api/users/" + id, acceptEncoding,
+                () -> userService.getUserById(id).orElse(null));
     }
     
     /**
@@ -97,33 +137,91 @@ public class UserController {
      * 
      * URL: POST /api/users
      * 요청 본문: 사용자 정보 (JSON)
-     * 응답: 생성된 사용자 정보 (JSON) 또는 400 Bad Request
+     * 응답: 생성된 사용자 정보 (JSON) 또는 에러 메시지
+     *       (400 입력 데이터 검증 실패, 409 이메일 중복, 422 멱등성 키를 다른 요청에 재사용,
+     *        503 처리 중인 멱등성 키가 저장소 한도만큼 있음)
+     * 
+     * Idempotency-Key 헤더가 있으면 같은 키로 다시 보낸 요청에는 처음 응답을 그대로 돌려줍니다.
+     * (데이터베이스를 거치지 않으며 Idempotent-Replayed: true 헤더가 붙음)
      * 
      * @param user 생성할 사용자 정보
+     * @param idempotencyKey 재시도해도 한 번만 생성되도록 클라이언트가 정한 키 (선택)
      * @return 생성된 사용자 정보 또는 에러 메시지
      */
     @PostMapping  // HTTP POST 요청 처리
-    public ResponseEntity<?> createUser(@RequestBody User user) {
-        try {
-            // 사용자 정보 검증
-            String validationMessage = userService.validateUser(user);
-            if (!validationMessage.isEmpty()) {
-                Map<String, String> error = new HashMap<>();
-                error.put("error", "입력 데이터 검증 실패");
-                error.put("message", validationMessage);
-                return ResponseEntity.badRequest().body(error);
-            }
-            
-            // 사용자 생성
-            User createdUser = userService.createUser(user);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);  // HTTP 201 Created
-            
-        } catch (IllegalArgumentException e) {
+    public ResponseEntity<?> createUser(@RequestBody User user,
+                                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey != null) {
+            return idempotencyStore.execute(idempotencyKey, user, () -> create(user));
+        }
+        return create(user);
+    }
+    
+    private ResponseEntity<?> create(User user) {
+        UserResult result = userService.tryCreateUser(user);
+        if (!result.isSuccess()) {
+            return errorResponse(result);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(result.getUser());  // HTTP 201 Created
+    }
+    
+    /**
+     * 멱등성 키 저장소 상태 조회 API
+     * 
+     * URL: GET /api/users/idempotency
+     * 응답: 보관 중인 키 수, 처리한 요청 수, 재전송 응답 수, 처음 요청을 기다린 수 (JSON)
+     * 
+     * @return 멱등성 키 저장소 통계
+     */
+    @GetMapping("/idempotency")
+    public ResponseEntity<Map<String, Object>> getIdempotencyStats() {
+        return ResponseEntity.ok(idempotencyStore.getStats());
+    }
+    
+    /**
+     * 사용자 일괄 생성 API
+     * 
+     * URL: POST /api/users/bulk
+     * 요청 본문: 사용자 정보 배열 (JSON)
+     * 응답: 생성/실패 건수와 입력 순서대로의 결과 목록 (JSON)
+     * 
+     * 잘못된 사용자가 섞여 있어도 나머지는 생성되며,
+     * 실패한 항목은 단건 생성 API와 같은 에러 본문(error, message, codes)에 index가 추가됩니다.
+     * 
+     * @param users 생성할 사용자 목록
+     * @return 일괄 생성 결과 또는 에러 메시지
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createUsers(@RequestBody List<User> users) {
+        if (users.size() > bulkMaxSize) {
             Map<String, String> error = new HashMap<>();
-            error.put("error", "사용자 생성 실패");
-            error.put("message", e.getMessage());
+            error.put("error", "입력 데이터 검증 실패");
+            error.put("message", "한 번에 생성할 수 있는 사용자는 최대 " + bulkMaxSize + "명입니다.");
             return ResponseEntity.badRequest().body(error);
         }
+        
+        List<UserResult> results = userService.tryCreateUsers(users);
+        
+        List<Object> items = new ArrayList<>(results.size());
+        int created = 0;
+        for (int i = 0; i < results.size(); i++) {
+            UserResult result = results.get(i);
+            if (result.isSuccess()) {
+                created++;
+                items.add(result.getUser());
+            } else {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("index", i);
+                item.putAll(result.getErrorBody());
+                items.add(item);
+            }
+        }
+        
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("created", created);
+        response.put("failed", results.size() - created);
+        response.put("results", items);
+        return ResponseEntity.status(created > 0 ? HttpStatus.CREATED : HttpStatus.OK).body(response);
     }
     
     /**
@@ -132,6 +230,7 @@ public class UserController {
      * URL: PUT /api/users/{id}
      * 요청 본문: 수정할 사용자 정보 (JSON)
      * 응답: 수정된 사용자 정보 (JSON) 또는 에러 메시지
+     *       (400 입력 데이터 검증 실패, 404 사용자 없음, 409 이메일 중복)
      * 
      * @param id 수정할 사용자 ID
      * @param userDetails 수정할 사용자 정보
@@ -139,69 +238,221 @@ public class UserController {
      */
     @PutMapping("/{id}")  // HTTP PUT 요청 처리
     public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody User userDetails) {
-        try {
-            // 사용자 정보 검증
-            String validationMessage = userService.validateUser(userDetails);
-            if (!validationMessage.isEmpty()) {
-                Map<String, String> error = new HashMap<>();
-                error.put("error", "입력 데이터 검증 실패");
-                error.put("message", validationMessage);
-                return ResponseEntity.badRequest().body(error);
-            }
-            
-            // 사용자 정보 수정
-            User updatedUser = userService.updateUser(id, userDetails);
-            return ResponseEntity.ok(updatedUser);
-            
-        } catch (IllegalArgumentException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "사용자 수정 실패");
-            error.put("message", e.getMessage());
-            return ResponseEntity.badRequest().body(error);
+        UserResult result = userService.tryUpdateUser(id, userDetails);
+        if (!result.isSuccess()) {
+            return errorResponse(result);
         }
+        return ResponseEntity.ok(result.getUser());
     }
     
     /**
      * 사용자 삭제 API
      * 
      * URL: DELETE /api/users/{id}
-     * 응답: 삭제 성공 메시지 또는 에러 메시지
+     * 응답: 삭제 성공 메시지 또는 에러 메시지 (404 사용자 없음)
      * 
      * @param id 삭제할 사용자 ID
      * @return 삭제 성공 메시지 또는 에러 메시지
      */
     @DeleteMapping("/{id}")  // HTTP DELETE 요청 처리
     public ResponseEntity<?> deleteUser(@PathVariable Long id) {
+        UserResult result = userService.tryDeleteUser(id);
+        if (!result.isSuccess()) {
+            return errorResponse(result);
+        }
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "사용자가 성공적으로 삭제되었습니다.");
+        response.put("deletedUserId", id.toString());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 실패 결과를 HTTP 응답으로 변환
+     * 에러 본문은 UserResult가 미리 만들어 둔 Map을 그대로 사용 (error, message, codes)
+     * 
+     * @param result 실패 결과
+     * @return 400 / 404 / 409 에러 응답
+     */
+    private ResponseEntity<Map<String, Object>> errorResponse(UserResult result) {
+        HttpStatus status;
+        switch (result.getStatus()) {
+            case NOT_FOUND:
+                status = HttpStatus.NOT_FOUND;
+                break;
+            case CONFLICT:
+                status = HttpStatus.CONFLICT;
+                break;
+            default:
+                status = HttpStatus.BAD_REQUEST;
+        }
+        return ResponseEntity.status(status).body(result.getErrorBody());
+    }
+    
+    /**
+     * 변경분 동기화 API
+     * 
+     * URL: GET /api/users/changes?since=토큰
+     * 응답: 토큰 이후에 생성/수정된 사용자, 삭제된 사용자 ID, 다음 토큰 (JSON)
+     * 
+     * 처음에는 since 없이 호출해서 전체 목록과 토큰을 받고,
+     * 이후에는 받은 토큰(nextToken)으로 호출해서 변경분만 받습니다.
+     * fullResync가 true이면 가지고 있던 목록을 users로 통째로 교체해야 합니다.
+     * 
+     * @param since 이전 응답의 nextToken (선택)
+     * @return 변경분 또는 에러 메시지
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<?> getUserChanges(@RequestParam(required = false) String since) {
         try {
-            userService.deleteUser(id);
-            Map<String, String> response = new HashMap<>();
-            response.put("message", "사용자가 성공적으로 삭제되었습니다.");
-            response.put("deletedUserId", id.toString());
+            UserDelta delta = userService.getChangesSince(since);
+            Map<String, Object> response = new HashMap<>();
+            response.put("users", delta.getUsers());
+            response.put("deletedUserIds", delta.getDeletedUserIds());
+            response.put("nextToken", delta.getNextToken());
+            response.put("fullResync", delta.isFullResync());
             return ResponseEntity.ok(response);
             
         } catch (IllegalArgumentException e) {
             Map<String, String> error = new HashMap<>();
-            error.put("error", "사용자 삭제 실패");
+            error.put("error", "변경분 조회 실패");
             error.put("message", e.getMessage());
             return ResponseEntity.badRequest().body(error);
         }
     }
     
+    /**
+     * 사용자 스냅샷 다운로드 API
+     * 
+     * URL: GET /api/users/snapshot
+     * 응답: 전체 사용자를 열 단위로 압축한 스냅샷 파일 (application/octet-stream)
+     * 
+     * 받은 파일은 애플리케이션을 --snapshot.import=파일경로 인수로 실행하면 빈 데이터베이스에 한 번에 적재됩니다.
+     * 응답은 스트리밍으로 전송되므로 사용자 수와 관계없이 서버 메모리를 일정하게 사용합니다.
+     * 
+     * @return 스냅샷 파일 스트림
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<StreamingResponseBody> exportSnapshot() {
+        StreamingResponseBody body = output -> userSnapshotExporter.export(output);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.usnp\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(body);
+    }
+    
+    /**
+     * 사용자 변경 피드 구독 API (Server-Sent Events)
+     * 
+     * URL: GET /api/users/changes/stream
+     * 응답: 커밋된 생성/수정/삭제 이벤트 스트림 (created / updated / deleted)
+     * 
+     * 연결이 끊긴 후 재접속할 때 Last-Event-ID 헤더를 보내면 그 이후 이벤트부터 이어서 받습니다.
+     * (브라우저의 EventSource는 이 헤더를 자동으로 보냅니다)
+     * 
+     * @param lastEventId 마지막으로 받은 이벤트 ID (선택)
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUserChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return userChangeFeed.subscribe(lastEventId);
+    }
+    
     /**
      * 이름으로 사용자 검색 API
      * 
-     * URL: GET /api/users/search?name=검색어
+     * URL: GET /api/users/search?name=검색어&mode=hangul&limit=100
+     * 응답: 검색된 사용자 목록 (JSON, 최대 limit명)
+     * 
+     * mode: contains(부분 일치), hangul(초성 / 입력 중인 음절, 예: "ㄱㅊㅅ", "김처"), fuzzy(오타 허용, 예: "김철슈")
+     * 생략하면 검색어에 한글 낱자(ㄱ~ㅣ)가 있을 때 hangul, 아니면 contains로 검색합니다.
+     * 
+     * @param name 검색할 이름
+     * @param mode 검색 방식 (선택)
+     * @param limit 최대 사용자 수 (기본값: 100, 최대 1000)
+     * @return 검색된 사용자 목록 또는 에러 메시지
+     */
+    @GetMapping("/search")  // /api/users/search 경로
+    public ResponseEntity<?> searchUsersByName(@RequestParam String name,
+                                               @RequestParam(required = false) String mode,
+                                               @RequestParam(defaultValue = "100") int limit) {
+        try {
+            List<User> users = userService.searchUsersByName(name, mode, limit);
+            return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "잘못된 요청");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
+    /**
+     * 이름으로 사용자 검색 API (대소문자 무시)
+     * 
+     * URL: GET /api/users/search/ignore-case?name=검색어
      * 응답: 검색된 사용자 목록 (JSON)
      * 
      * @param name 검색할 이름
      * @return 검색된 사용자 목록
      */
-    @GetMapping("/search")  // /api/users/search 경로
-    public ResponseEntity<List<User>> searchUsersByName(@RequestParam String name) {
-        List<User> users = userService.searchUsersByName(name);
+    @GetMapping("/search/ignore-case")
+    public ResponseEntity<List<User>> searchUsersByNameIgnoreCase(@RequestParam String name) {
+        List<User> users = userService.searchUsersByNameIgnoreCase(name);
+        return ResponseEntity.ok(users);
+    }
+    
+    /**
+     * 이름 접두사로 사용자 검색 API (대소문자 무시)
+     * 
+     * URL: GET /api/users/search/prefix?name=검색어
+     * 응답: 이름이 검색어로 시작하는 사용자 목록 (JSON)
+     * 
+     * @param name 검색할 이름 접두사
+     * @return 검색된 사용자 목록
+     */
+    @GetMapping("/search/prefix")
+    public ResponseEntity<List<User>> searchUsersByNamePrefix(@RequestParam String name) {
+        List<User> users = userService.searchUsersByNamePrefix(name);
         return ResponseEntity.ok(users);
     }
     
+    /**
+     * 이름 / 이메일 접두사 자동완성 API
+     * 
+     * URL: GET /api/users/suggest?prefix=김&limit=10
+     * 응답: [값, 필드(name/email), 가중치] 목록 (가중치 내림차순, 데이터베이스 조회 없음) (JSON)
+     * 
+     * @param prefix 접두사
+     * @param limit 개수 (기본값: 10)
+     * @return 자동완성 목록 또는 에러 메시지
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(@RequestParam String prefix,
+                                     @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(userService.suggest(prefix, limit));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "잘못된 요청");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
+    /**
+     * 자동완성 인덱스 크기 조회 API
+     * 
+     * URL: GET /api/users/suggest/stats
+     * 응답: 이름 / 이메일 수, trie 노드 수, 필드 가중치 (JSON)
+     * 
+     * @return 자동완성 인덱스 크기
+     */
+    @GetMapping("/suggest/stats")
+    public ResponseEntity<Map<String, Object>> getSuggestStats() {
+        return ResponseEntity.ok(userService.getSuggestStats());
+    }
+    
     /**
      * 나이 범위로 사용자 검색 API
      * 
@@ -264,6 +515,56 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
     
+    /**
+     * 전화번호로 사용자 조회 API
+     * 
+     * URL: GET /api/users/phone/010-1234-5678
+     * 응답: 해당 번호의 사용자 목록 (형식이 달라도 같은 번호면 찾음, 예: 01012345678, +82-10-1234-5678) (JSON)
+     * 
+     * @param number 전화번호
+     * @return 해당 번호의 사용자 목록 또는 에러 메시지
+     */
+    @GetMapping("/phone/{number}")
+    public ResponseEntity<?> getUsersByPhoneNumber(@PathVariable String number) {
+        try {
+            return ResponseEntity.ok(userService.getUsersByPhoneNumber(number));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "잘못된 요청");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
+    /**
+     * 특정 지역에 사는 사용자 조회 API
+     * 
+     * URL: GET /api/users/region?province=서울&district=강남구&afterId=0&limit=100
+     * 응답: 해당 지역의 사용자 목록 (JSON, ID 순으로 최대 limit명)
+     * 
+     * 다음 페이지는 마지막 사용자의 ID를 afterId로 넘겨 조회합니다. (받은 사용자가 limit보다 적으면 마지막 페이지)
+     * 
+     * @param province 시/도 (정식 이름이나 줄임말, 예: 서울, 서울시, 서울특별시)
+     * @param district 시/군/구 (선택, 없으면 시/도 전체)
+     * @param afterId 이 ID보다 큰 사용자부터 (기본값: 0)
+     * @param limit 최대 사용자 수 (기본값: 100, 최대 1000)
+     * @return 해당 지역의 사용자 목록 또는 에러 메시지
+     */
+    @GetMapping("/region")
+    public ResponseEntity<?> getUsersByRegion(@RequestParam String province,
+                                              @RequestParam(required = false) String district,
+                                              @RequestParam(defaultValue = "0") long afterId,
+                                              @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(userService.getUsersByRegion(province, district, afterId, limit));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "잘못된 요청");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
     /**
      * 전화번호가 있는 사용자 조회 API
      * 
@@ -311,29 +612,113 @@ public class UserController {
      * 
      * URL: GET /api/users/statistics
      * 응답: 나이대별 사용자 수 통계 (JSON)
+     * 직렬화된 응답을 캐시하며, Accept-Encoding에 gzip이 있으면 압축된 응답을 반환
      * 
+     * @param acceptEncoding Accept-Encoding 헤더
      * @return 사용자 통계 정보
      */
     @GetMapping("/statistics")
-    public ResponseEntity<List<Object[]>> getUserStatistics() {
-        List<Object[]> statistics = userService.getUserStatistics();
-        return ResponseEntity.ok(statistics);
+    public ResponseEntity<byte[]> getUserStatistics(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return responseByteCache.getJson("/api/users/statistics", acceptEncoding,
+                () -> userService.getUserStatistics());
     }
     
     /**
      * 이메일 도메인별 사용자 수 조회 API
      * 
-     * URL: GET /api/users/statistics/domains
+     * URL: GET /api/users/statistics/domains?top=10
      * 응답: 이메일 도메인별 사용자 수 통계 (JSON)
      * 
-     * @return 이메일 도메인별 사용자 수 통계
+     * top이 있으면 쓰기 때마다 갱신되는 상위 K개 추적기에서 데이터베이스 조회 없이 응답합니다.
+     * 
+     * @param top 사용자가 많은 순서로 앞의 몇 개만 (선택)
+     * @return 이메일 도메인별 사용자 수 통계 또는 에러 메시지
      */
     @GetMapping("/statistics/domains")
-    public ResponseEntity<List<Object[]>> getUserCountByEmailDomain() {
+    public ResponseEntity<?> getUserCountByEmailDomain(@RequestParam(required = false) Integer top) {
+        if (top != null) {
+            if (top < 1) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "잘못된 요청");
+                error.put("message", "top은 1 이상이어야 합니다.");
+                return ResponseEntity.badRequest().body(error);
+            }
+            return ResponseEntity.ok(userService.getTopEmailDomains(top));
+        }
         List<Object[]> domainStatistics = userService.getUserCountByEmailDomain();
         return ResponseEntity.ok(domainStatistics);
     }
     
+    /**
+     * 이름별 사용자 수 상위 K개 조회 API
+     * 
+     * URL: GET /api/users/statistics/names?top=10
+     * 응답: [이름, 사용자 수] 목록 (사용자 수 내림차순, 데이터베이스 조회 없음) (JSON)
+     * 
+     * @param top 개수 (기본값: 10)
+     * @return 이름별 사용자 수 상위 목록 또는 에러 메시지
+     */
+    @GetMapping("/statistics/names")
+    public ResponseEntity<?> getTopNames(@RequestParam(defaultValue = "10") int top) {
+        try {
+            return ResponseEntity.ok(userService.getTopNames(top));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "잘못된 요청");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
+    /**
+     * 지역별 사용자 수 조회 API
+     * 
+     * URL: GET /api/users/statistics/regions?province=서울
+     * 응답: [지역, 사용자 수] 목록 (사용자 수 내림차순, 지역 비트맵 인덱스의 카운터에서 응답) (JSON)
+     * 
+     * @param province 시/도 (선택, 없으면 시/도별, 있으면 그 안의 시/군/구별)
+     * @return 지역별 사용자 수 또는 에러 메시지
+     */
+    @GetMapping("/statistics/regions")
+    public ResponseEntity<?> getUserCountByRegion(@RequestParam(required = false) String province) {
+        try {
+            return ResponseEntity.ok(userService.getUserCountByRegion(province));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "잘못된 요청");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
+    /**
+     * 서로 다른 이메일 도메인 수 / 이름 수 조회 API
+     * 
+     * URL: GET /api/users/statistics/distinct?approx=true
+     * 응답: 도메인 수, 이름 수 (approx=true이면 HyperLogLog 추정값과 상대 표준 오차) (JSON)
+     * 
+     * @param approx 추정값으로 충분하면 true (데이터베이스 조회 없음)
+     * @return 서로 다른 도메인 수 / 이름 수
+     */
+    @GetMapping("/statistics/distinct")
+    public ResponseEntity<Map<String, Object>> getDistinctCounts(@RequestParam(defaultValue = "false") boolean approx) {
+        return ResponseEntity.ok(userService.getDistinctCounts(approx));
+    }
+    
+    /**
+     * 통계 요청 병합 지표 조회 API
+     * 
+     * URL: GET /api/users/statistics/coalescing
+     * 응답: 통계 종류별 요청 수, 실제 쿼리 실행 수, 병합 비율 (JSON)
+     * 
+     * @return 요청 병합 지표
+     */
+    @GetMapping("/statistics/coalescing")
+    public ResponseEntity<Map<String, Object>> getStatisticsCoalescingStats() {
+        return ResponseEntity.ok(userService.getStatisticsCoalescingStats());
+    }
+    
     /**
      * 최근 가입한 사용자 조회 API
      * 
@@ -349,21 +734,42 @@ public class UserController {
         return ResponseEntity.ok(recentUsers);
     }
     
+    /**
+     * 이름별 사용자 수 조회 API
+     * 
+     * URL: GET /api/users/count/name?name=김철수&approx=true
+     * 응답: 이름, 사용자 수 (approx=true이면 Count-Min 스케치 추정값과 오차 범위) (JSON)
+     * 
+     * @param name 사용자 이름
+     * @param approx 추정값으로 충분하면 true (데이터베이스 조회 없음)
+     * @return 이름별 사용자 수
+     */
+    @GetMapping("/count/name")
+    public ResponseEntity<Map<String, Object>> getUserCountByName(@RequestParam String name,
+                                                                  @RequestParam(defaultValue = "false") boolean approx) {
+        return ResponseEntity.ok(userService.getUserCountByName(name, approx));
+    }
+    
     /**
      * 전체 사용자 수 조회 API
      * 
      * URL: GET /api/users/count
      * 응답: 전체 사용자 수 (JSON)
+     * 직렬화된 응답을 캐시하며, Accept-Encoding에 gzip이 있으면 압축된 응답을 반환
      * 
+     * @param acceptEncoding Accept-Encoding 헤더
      * @return 전체 사용자 수
      */
     @GetMapping("/count")
-    public ResponseEntity<Map<String, Object>> getTotalUserCount() {
-        long totalCount = userService.getTotalUserCount();
-        Map<String, Object> response = new HashMap<>();
-        response.put("totalUsers", totalCount);
-        response.put("message", "전체 사용자 수 조회 완료");
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getTotalUserCount(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return responseByteCache.getJson("/api/users/count", acceptEncoding, () -> {
+            long totalCount = userService.getTotalUserCount();
+            Map<String, Object> response = new HashMap<>();
+            response.put("totalUsers", totalCount);
+            response.put("message", "전체 사용자 수 조회 완료");
+            return response;
+        });
     }
     
     /**
@@ -0,0 +1,116 @@
+package com.example.springbootlearning.controller;
+
+import com.example.springbootlearning.dedup.UserDuplicateDetector;
+import com.example.springbootlearning.dedup.UserDuplicateJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 중복 의심 사용자 찾기 REST API 컨트롤러
+ *
+ * 이름, 주소, 이메일 앞부분이 조금씩만 다른 사용자 쌍을 찾는 오프라인 작업을 시작하고,
+ * 진행 상황과 결과 보고서(CSV)를 조회합니다. (UserDuplicateDetector 참고)
+ */
+@RestController
+@RequestMapping(UserDuplicateController.PATH)
+public class UserDuplicateController {
+
+    public static final String PATH = "/api/users/duplicates";
+
+    @Autowired
+    private UserDuplicateDetector userDuplicateDetector;
+
+    /**
+     * 중복 찾기 작업 시작 API
+     *
+     * URL: POST /api/users/duplicates
+     * 응답: 202 Accepted + 등록된 작업 (백그라운드에서 실행되며, 앞 작업이 있으면 끝난 뒤 실행)
+     *
+     * @return 등록된 작업
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> startJob() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(userDuplicateDetector.start().toMap());
+    }
+
+    /**
+     * 중복 찾기 작업 목록 API (최근 작업부터)
+     *
+     * URL: GET /api/users/duplicates
+     *
+     * @return 작업별 진행 상황 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getJobs() {
+        return ResponseEntity.ok(userDuplicateDetector.getJobs().stream().map(UserDuplicateJob::toMap).toList());
+    }
+
+    /**
+     * 중복 찾기 작업 진행 상황 API
+     *
+     * URL: GET /api/users/duplicates/{jobId}
+     * 응답: 상태(queued/running/completed/failed), 단계, 읽은 행 수, 비교한 후보 쌍 수, 단계별 소요 시간, 찾은 쌍 수
+     *
+     * @param jobId 작업 ID
+     * @return 작업 진행 상황 또는 404
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable long jobId) {
+        Optional<UserDuplicateJob> job = userDuplicateDetector.getJob(jobId);
+        if (job.isEmpty()) {
+            return jobNotFound(jobId);
+        }
+        return ResponseEntity.ok(job.get().toMap());
+    }
+
+    /**
+     * 중복 찾기 보고서 다운로드 API
+     *
+     * URL: GET /api/users/duplicates/{jobId}/report
+     * 응답: CSV (user_id_a,user_id_b,similarity, 앞 사용자 ID순), 작업이 끝나지 않았거나 실패했으면 404
+     *
+     * @param jobId 작업 ID
+     * @return 보고서 파일 또는 404
+     */
+    @GetMapping("/{jobId}/report")
+    public ResponseEntity<?> getReport(@PathVariable long jobId) {
+        Optional<UserDuplicateJob> job = userDuplicateDetector.getJob(jobId);
+        if (job.isEmpty()) {
+            return jobNotFound(jobId);
+        }
+        Path report = job.get().getReport();
+        if (report == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "보고서를 찾을 수 없습니다");
+            error.put("message", "작업이 아직 끝나지 않았거나 실패했습니다: " + jobId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + report.getFileName() + "\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(new FileSystemResource(report));
+    }
+
+    private static ResponseEntity<Map<String, String>> jobNotFound(long jobId) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "작업을 찾을 수 없습니다");
+        error.put("message", "중복 찾기 작업이 없거나 오래되어 삭제되었습니다: " + jobId);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+}
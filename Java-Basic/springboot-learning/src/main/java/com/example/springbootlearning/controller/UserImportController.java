@@ -0,0 +1,143 @@
+package com.example.springbootlearning.controller;
+
+import com.example.springbootlearning.importer.MultipartStreamReader;
+import com.example.springbootlearning.importer.UserImportFormat;
+import com.example.springbootlearning.importer.UserImportJob;
+import com.example.springbootlearning.importer.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 사용자 파일 가져오기 REST API 컨트롤러
+ *
+ * CSV 또는 NDJSON 파일로 많은 사용자를 한 번에 생성합니다.
+ * 업로드는 받는 대로 처리되므로 spring.servlet.multipart.max-file-size 제한을 받지 않고,
+ * 대신 app.users.import.max-size 까지 받을 수 있습니다. (MultipartConfig 참고)
+ *
+ * 주의: 이 API는 요청 본문을 직접 읽으므로 @RequestParam이나 request.getParameter()를 사용하면 안 됩니다.
+ * (multipart 요청에서 파라미터를 읽으면 서블릿 컨테이너가 본문 전체를 먼저 읽어 버림)
+ */
+@RestController
+@RequestMapping(UserImportController.PATH)
+public class UserImportController {
+
+    /**
+     * 가져오기 API 경로 (MultipartConfig에서 multipart 자동 처리 대상에서 제외)
+     */
+    public static final String PATH = "/api/users/import";
+
+    @Autowired
+    private UserImportService userImportService;
+
+    /**
+     * 사용자 파일 가져오기 API
+     *
+     * URL: POST /api/users/import
+     * 요청 본문 (둘 중 하나):
+     * - multipart/form-data의 file 파트 (curl -F "file=@users.csv")
+     * - 파일 내용 그대로 (Content-Type: text/csv 또는 application/x-ndjson)
+     * 응답: 가져오기 작업 결과 (저장/오류/중복 건수, 처리 속도, 행 오류 일부)
+     *
+     * 파일 형식은 Content-Type이나 파일 확장자(.csv, .ndjson, .jsonl)로 판단합니다.
+     * 잘못된 행이 있어도 나머지 행은 저장되며, 파일 자체를 읽을 수 없으면 그때까지 저장한 행을 남기고 400을 반환합니다.
+     *
+     * @param request HTTP 요청 (본문을 직접 읽음)
+     * @return 가져오기 작업 결과 또는 에러 메시지
+     * @throws IOException 요청 본문을 읽을 수 없는 경우
+     */
+    @PostMapping
+    public ResponseEntity<?> importUsers(HttpServletRequest request) throws IOException {
+        String contentType = request.getContentType();
+        InputStream body = request.getInputStream();
+        String source = "request";
+        UserImportFormat format;
+
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("multipart/")) {
+            MultipartStreamReader reader;
+            try {
+                reader = new MultipartStreamReader(body, MultipartStreamReader.boundaryOf(contentType));
+            } catch (IllegalArgumentException e) {
+                return badRequest(e.getMessage());
+            }
+            MultipartStreamReader.Part part;
+            while ((part = reader.nextPart()) != null && !"file".equals(part.name())) {
+                // file 파트가 나올 때까지 다른 파트는 건너뜀
+            }
+            if (part == null) {
+                return badRequest("file 파트가 없습니다.");
+            }
+            format = UserImportFormat.detect(part.contentType(), part.filename());
+            source = part.filename() != null ? part.filename() : "file";
+            body = part.body();
+        } else {
+            format = UserImportFormat.detect(contentType, null);
+        }
+        if (format == null) {
+            return badRequest("지원하지 않는 파일 형식입니다. (CSV: text/csv 또는 .csv, NDJSON: application/x-ndjson 또는 .ndjson/.jsonl)");
+        }
+
+        UserImportJob job = userImportService.run(userImportService.createJob(source, format), body);
+        if (job.getStatus() == UserImportJob.Status.FAILED) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "가져오기 실패");
+            error.put("message", job.getFailure());
+            error.put("job", job.toMap());
+            return ResponseEntity.badRequest().body(error);
+        }
+        return ResponseEntity.status(job.getInserted() > 0 ? HttpStatus.CREATED : HttpStatus.OK).body(job.toMap());
+    }
+
+    /**
+     * 가져오기 작업 목록 API (최근 작업부터)
+     *
+     * URL: GET /api/users/import
+     *
+     * @return 작업별 진행 상황 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getJobs() {
+        return ResponseEntity.ok(userImportService.getJobs().stream().map(UserImportJob::toMap).toList());
+    }
+
+    /**
+     * 가져오기 작업 진행 상황 API
+     *
+     * URL: GET /api/users/import/{jobId}
+     * 응답: 상태(running/completed/failed), 읽은 바이트/행 수, 저장/오류/중복 건수, 초당 처리량, 행 오류 일부
+     *
+     * @param jobId 작업 ID
+     * @return 작업 진행 상황 또는 404
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable long jobId) {
+        return userImportService.getJob(jobId)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.ok(job.toMap()))
+                .orElseGet(() -> {
+                    Map<String, String> error = new HashMap<>();
+                    error.put("error", "작업을 찾을 수 없습니다");
+                    error.put("message", "가져오기 작업이 없거나 오래되어 삭제되었습니다: " + jobId);
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+                });
+    }
+
+    private static ResponseEntity<Map<String, String>> badRequest(String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "잘못된 요청");
+        error.put("message", message);
+        return ResponseEntity.badRequest().body(error);
+    }
+}
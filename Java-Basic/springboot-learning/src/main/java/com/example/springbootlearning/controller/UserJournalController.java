@@ -0,0 +1,149 @@
+package com.example.springbootlearning.controller;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.journal.UserJournal;
+import com.example.springbootlearning.journal.UserJournalReader;
+import com.example.springbootlearning.journal.UserJournalRecord;
+import com.example.springbootlearning.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 사용자 변경 저널 REST API 컨트롤러
+ *
+ * app.users.journal.enabled=true 일 때만 등록됩니다.
+ */
+@RestController
+@RequestMapping("/api/journal")
+@ConditionalOnProperty(name = "app.users.journal.enabled", havingValue = "true")
+public class UserJournalController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private UserJournal userJournal;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * 저널 상태 조회 API
+     *
+     * URL: GET /api/journal/status
+     * 응답: 현재 세그먼트, 마지막/디스크에 내려간 LSN, 기록/flush 횟수, flush 한 번에 내려간 평균 레코드 수 (JSON)
+     *
+     * @return 저널 상태
+     */
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(userJournal.getStatus());
+    }
+
+    /**
+     * 저널 레코드 조회 API
+     *
+     * URL: GET /api/journal/records?from=1&limit=100
+     *
+     * @param from 처음 LSN (기본값: 1)
+     * @param limit 최대 레코드 수 (기본값: 100, 최대 1000)
+     * @return 레코드 목록
+     */
+    @GetMapping("/records")
+    public ResponseEntity<?> getRecords(@RequestParam(defaultValue = "1") long from,
+                                        @RequestParam(defaultValue = "100") int limit) throws IOException {
+        if (from < 1 || limit < 1 || limit > MAX_LIMIT) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "잘못된 요청");
+            error.put("message", "from은 1 이상, limit은 1~" + MAX_LIMIT + " 사이여야 합니다.");
+            return ResponseEntity.badRequest().body(error);
+        }
+        long to = Math.min(userJournal.getLastLsn(), from + limit - 1);
+        List<UserJournalRecord> records = new ArrayList<>();
+        userJournal.getReader().replay(from, to, records::add);
+        return ResponseEntity.ok(records);
+    }
+
+    /**
+     * 사용자 변경 이력 조회 API (저널 전체에서 그 사용자의 생성/수정/삭제 레코드)
+     *
+     * URL: GET /api/journal/users/{id}
+     *
+     * @param id 사용자 ID
+     * @return 변경 레코드 목록 (RESET 이후 같은 ID로 다시 만든 사용자의 기록도 함께 나옴)
+     */
+    @GetMapping("/users/{id}")
+    public ResponseEntity<List<UserJournalRecord>> getUserHistory(@PathVariable Long id) throws IOException {
+        List<UserJournalRecord> records = new ArrayList<>();
+        userJournal.getReader().replay(1, userJournal.getLastLsn(), record -> {
+            if (record.userId() == id && (record.op() == UserJournalRecord.Op.CREATED
+                    || record.op() == UserJournalRecord.Op.UPDATED || record.op() == UserJournalRecord.Op.DELETED)) {
+                records.add(record);
+            }
+        });
+        return ResponseEntity.ok(records);
+    }
+
+    /**
+     * 저널로 사용자 상태를 복원해서 데이터베이스와 비교하는 API
+     *
+     * URL: GET /api/journal/verify
+     * 응답: 읽은 레코드 수, 복원에 걸린 시간, 복원한 사용자 수, 데이터베이스와 다른 사용자 ID (JSON)
+     *
+     * @return 비교 결과
+     */
+    @GetMapping("/verify")
+    public ResponseEntity<Map<String, Object>> verify() throws IOException {
+        // 복원 이후에 커밋된 변경이 차이로 보이지 않도록 복원할 LSN을 먼저 정하고 데이터베이스를 읽음
+        long lastLsn = userJournal.getLastLsn();
+        UserJournalReader.Rebuilt rebuilt = userJournal.getReader().rebuild(lastLsn);
+        List<User> stored = userRepository.findAll();
+
+        List<Long> mismatched = new ArrayList<>();
+        Map<Long, User> remaining = new HashMap<>(rebuilt.users());
+        for (User user : stored) {
+            User journaled = remaining.remove(user.getId());
+            if (journaled == null) {
+                if (!rebuilt.partial()) {
+                    mismatched.add(user.getId());
+                }
+            } else if (!sameFields(user, journaled)) {
+                mismatched.add(user.getId());
+            }
+        }
+        mismatched.addAll(remaining.keySet());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("lastLsn", lastLsn);
+        result.put("records", rebuilt.records());
+        result.put("elapsedMillis", rebuilt.elapsedMillis());
+        result.put("boundaryLsn", rebuilt.boundaryLsn());
+        result.put("partial", rebuilt.partial());
+        result.put("journaledUsers", rebuilt.users().size());
+        result.put("storedUsers", stored.size());
+        result.put("mismatchedCount", mismatched.size());
+        result.put("mismatchedIds", mismatched.stream().sorted().limit(100).toList());
+        return ResponseEntity.ok(result);
+    }
+
+    private static boolean sameFields(User a, User b) {
+        return Objects.equals(a.getName(), b.getName())
+                && Objects.equals(a.getEmail(), b.getEmail())
+                && Objects.equals(a.getAge(), b.getAge())
+                && Objects.equals(a.getPhoneNumber(), b.getPhoneNumber())
+                && Objects.equals(a.getAddress(), b.getAddress());
+    }
+}
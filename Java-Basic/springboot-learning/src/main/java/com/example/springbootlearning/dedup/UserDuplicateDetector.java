@@ -0,0 +1,409 @@
+package com.example.springbootlearning.dedup;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.sketch.MinHash;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * 중복 의심 사용자 찾기 (MinHash + LSH)
+ *
+ * 이름, 주소, 이메일 앞부분(@ 앞)이 조금씩만 다른 계정을 찾기 위해, 사용자마다 세 필드의 글자 n-gram 집합으로
+ * MinHash 서명을 만들고, 서명을 밴드로 나눈 LSH(locality-sensitive hashing)로 후보 쌍을 고릅니다.
+ * 모든 쌍을 비교하면 n²/2번이지만, 밴드 키가 하나라도 같은 쌍만 비교하므로 거의 선형 시간에 끝납니다.
+ *
+ * 처리 과정:
+ * 1. users 테이블을 ID순으로 읽어 CHUNK_SIZE 행씩 fork-join 풀에 넘기고, 묶음마다 병렬로 서명과 밴드 키를 계산합니다.
+ *    서명은 값마다 하위 8비트만 남기고(b-bit MinHash) 문자열은 버리므로 사용자당 (해시 수 + 밴드 수 × 4 + 8)바이트만 남습니다.
+ * 2. 밴드마다 (밴드 키, 행 번호)를 정렬해 같은 키끼리 모인 묶음 안에서만 쌍을 비교합니다. (밴드끼리 병렬)
+ *    추정 유사도가 threshold 이상인 쌍만 남기고, max-bucket-size보다 큰 묶음은 비교하지 않고 건너뜁니다.
+ * 3. 여러 밴드에서 나온 같은 쌍을 하나로 합쳐 보고서(CSV: user_id_a,user_id_b,similarity)를 씁니다.
+ *
+ * 작업은 한 번에 하나씩 백그라운드 스레드에서 실행되며, 읽는 동안 바뀐 사용자는 반영되지 않을 수 있습니다. (오프라인 분석용)
+ *
+ * 주요 학습 내용:
+ * 1. MinHash로 집합의 Jaccard 유사도 추정
+ * 2. LSH 밴딩으로 후보 쌍 줄이기 (유사도 기준 ≈ (1/밴드 수)^(1/밴드 길이))
+ * 3. ForkJoinPool을 사용한 데이터 병렬 처리
+ */
+@Service
+public class UserDuplicateDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(UserDuplicateDetector.class);
+
+    private static final String SELECT_SQL = "SELECT id, name, email, address FROM users ORDER BY id";
+
+    /**
+     * 보관하는 작업 수 (오래된 작업부터 목록에서 제거)
+     */
+    private static final int MAX_JOBS = 20;
+
+    /**
+     * 한 번에 서명을 계산하는 행 수 (fork-join 작업 하나)
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    /**
+     * 해시 함수 시드 (고정해 두어 같은 데이터로 다시 실행하면 같은 보고서가 나옴)
+     */
+    private static final long SEED = 0x5DEECE66DL;
+
+    // MinHash.addShingles의 필드 구분 값
+    private static final long NAME = 1;
+    private static final long EMAIL = 2;
+    private static final long ADDRESS = 3;
+
+    /**
+     * 8비트 서명 값이 우연히 같을 확률 (유사도 추정에서 보정)
+     */
+    private static final double RANDOM_MATCH = 1.0 / 256;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final int bands;
+    private final int rowsPerBand;
+    private final double threshold;
+    private final int maxBucketSize;
+    private final int parallelism;
+    private final Path reportDirectory;
+    private final MinHash minHash;
+    private final ForkJoinPool pool;
+    private final ExecutorService runner;
+
+    private final AtomicLong nextJobId = new AtomicLong();
+    private final Map<Long, UserDuplicateJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserDuplicateJob> eldest) {
+            return size() > MAX_JOBS;
+        }
+    };
+
+    public UserDuplicateDetector(@Value("${app.users.dedup.bands:16}") int bands,
+                                 @Value("${app.users.dedup.rows-per-band:4}") int rowsPerBand,
+                                 @Value("${app.users.dedup.threshold:0.7}") double threshold,
+                                 @Value("${app.users.dedup.max-bucket-size:1000}") int maxBucketSize,
+                                 @Value("${app.users.dedup.parallelism:0}") int parallelism,
+                                 @Value("${app.users.dedup.report-directory:./data/dedup}") String reportDirectory) {
+        if (bands < 1 || rowsPerBand < 1) {
+            throw new IllegalArgumentException("bands와 rows-per-band는 1 이상이어야 합니다: " + bands + ", " + rowsPerBand);
+        }
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("threshold는 0보다 크고 1 이하여야 합니다: " + threshold);
+        }
+        if (maxBucketSize < 2) {
+            throw new IllegalArgumentException("max-bucket-size는 2 이상이어야 합니다: " + maxBucketSize);
+        }
+        this.bands = bands;
+        this.rowsPerBand = rowsPerBand;
+        this.threshold = threshold;
+        this.maxBucketSize = maxBucketSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.reportDirectory = Paths.get(reportDirectory);
+        this.minHash = new MinHash(bands * rowsPerBand, SEED);
+        this.pool = new ForkJoinPool(this.parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("user-dedup-worker-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.runner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-dedup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 중복 찾기 작업 시작 (앞 작업이 실행 중이면 끝난 뒤 실행됨)
+     *
+     * @return 등록된 작업 (QUEUED)
+     */
+    public UserDuplicateJob start() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("bands", bands);
+        parameters.put("rowsPerBand", rowsPerBand);
+        parameters.put("threshold", threshold);
+        parameters.put("maxBucketSize", maxBucketSize);
+        parameters.put("parallelism", parallelism);
+        UserDuplicateJob job = new UserDuplicateJob(nextJobId.incrementAndGet(), parameters);
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+        }
+        runner.execute(() -> run(job));
+        return job;
+    }
+
+    public Optional<UserDuplicateJob> getJob(long id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    /**
+     * 최근 작업 목록 (최신순)
+     *
+     * @return 작업 목록
+     */
+    public List<UserDuplicateJob> getJobs() {
+        synchronized (jobs) {
+            List<UserDuplicateJob> list = new ArrayList<>(jobs.values());
+            Collections.reverse(list);
+            return list;
+        }
+    }
+
+    private void run(UserDuplicateJob job) {
+        try {
+            job.start(UserDuplicateJob.Phase.SIGNATURES);
+            SignatureReader reader = new SignatureReader(job);
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(SELECT_SQL);
+                ps.setFetchSize(CHUNK_SIZE);
+                return ps;
+            }, reader);
+            Chunk[] chunks = reader.finish();
+            int rows = chunks.length == 0 ? 0 : (chunks.length - 1) * CHUNK_SIZE + chunks[chunks.length - 1].size;
+
+            job.start(UserDuplicateJob.Phase.BUCKETING);
+            List<ForkJoinTask<long[]>> tasks = new ArrayList<>(bands);
+            for (int band = 0; band < bands; band++) {
+                int current = band;
+                tasks.add(pool.submit(() -> findPairs(job, chunks, rows, current)));
+            }
+            LongStream.Builder all = LongStream.builder();
+            for (ForkJoinTask<long[]> task : tasks) {
+                Arrays.stream(task.join()).forEach(all);
+            }
+            long[] pairs = all.build().sorted().distinct().toArray();
+
+            job.start(UserDuplicateJob.Phase.REPORT);
+            Path report = writeReport(job, chunks, pairs);
+            job.complete(report, pairs.length);
+        } catch (IOException e) {
+            job.fail(e.getMessage());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            log.error("중복 사용자 찾기 {} 실패", job.getId(), e);
+        } finally {
+            log.info("중복 사용자 찾기 {} 종료: {}", job.getId(), job.toMap());
+        }
+    }
+
+    /**
+     * users 테이블을 읽으며 CHUNK_SIZE 행마다 서명 계산을 fork-join 풀에 넘김
+     *
+     * 계산 중인 묶음은 (스레드 수 × 2)개까지만 쌓아 두므로, 계산이 밀리면 읽기도 기다립니다.
+     */
+    private final class SignatureReader implements RowCallbackHandler {
+        private final UserDuplicateJob job;
+        private final List<Chunk> chunks = new ArrayList<>();
+        private final ArrayDeque<ForkJoinTask<?>> pending = new ArrayDeque<>();
+        private Chunk current = new Chunk();
+
+        SignatureReader(UserDuplicateJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            current.add(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4));
+            if (current.size == CHUNK_SIZE) {
+                submit();
+                if (pending.size() >= parallelism * 2) {
+                    pending.poll().join();
+                }
+            }
+        }
+
+        private void submit() {
+            Chunk chunk = current;
+            chunks.add(chunk);
+            pending.add(pool.submit(() -> {
+                chunk.computeSignatures();
+                job.rowsRead(chunk.size);
+            }));
+            current = new Chunk();
+        }
+
+        Chunk[] finish() {
+            if (current.size > 0) {
+                submit();
+            }
+            while (!pending.isEmpty()) {
+                pending.poll().join();
+            }
+            return chunks.toArray(new Chunk[0]);
+        }
+    }
+
+    /**
+     * 서명을 계산할 사용자 묶음 (계산이 끝나면 문자열은 버리고 ID, 서명, 밴드 키만 남음)
+     */
+    private final class Chunk {
+        final long[] ids = new long[CHUNK_SIZE];
+        String[] names = new String[CHUNK_SIZE];
+        String[] emails = new String[CHUNK_SIZE];
+        String[] addresses = new String[CHUNK_SIZE];
+        int size;
+
+        byte[] signatures;  // 행 i의 값 j: [i × 해시 수 + j] (하위 8비트)
+        int[] bandKeys;     // 행 i의 밴드 b: [b × size + i]
+
+        void add(long id, String name, String email, String address) {
+            ids[size] = id;
+            names[size] = name;
+            emails[size] = email;
+            addresses[size] = address;
+            size++;
+        }
+
+        void computeSignatures() {
+            int numHashes = minHash.numHashes();
+            signatures = new byte[size * numHashes];
+            bandKeys = new int[bands * size];
+            for (int i = 0; i < size; i++) {
+                int[] signature = minHash.newSignature();
+                minHash.addShingles(signature, User.normalizeName(names[i]), 2, NAME);
+                minHash.addShingles(signature, emailLocalPart(emails[i]), 3, EMAIL);
+                minHash.addShingles(signature, normalizeAddress(addresses[i]), 3, ADDRESS);
+                for (int j = 0; j < numHashes; j++) {
+                    signatures[i * numHashes + j] = (byte) signature[j];
+                }
+                for (int band = 0; band < bands; band++) {
+                    bandKeys[band * size + i] = MinHash.bandKey(signature, band, rowsPerBand);
+                }
+            }
+            names = null;
+            emails = null;
+            addresses = null;
+        }
+    }
+
+    private static String emailLocalPart(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        return (at < 0 ? email : email.substring(0, at)).toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeAddress(String address) {
+        return address == null ? null : address.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 밴드 하나에서 키가 같은 행끼리 비교해 유사도가 threshold 이상인 쌍을 찾음
+     *
+     * @return (앞 행 번호 << 32 | 뒤 행 번호) 목록
+     */
+    private long[] findPairs(UserDuplicateJob job, Chunk[] chunks, int rows, int band) {
+        long[] entries = new long[rows];
+        for (int c = 0; c < chunks.length; c++) {
+            Chunk chunk = chunks[c];
+            for (int i = 0; i < chunk.size; i++) {
+                int row = c * CHUNK_SIZE + i;
+                entries[row] = ((long) chunk.bandKeys[band * chunk.size + i] << 32) | row;
+            }
+        }
+        Arrays.sort(entries);
+
+        LongStream.Builder pairs = LongStream.builder();
+        long compared = 0;
+        for (int start = 0, end; start < rows; start = end) {
+            long key = entries[start] >>> 32;
+            end = start + 1;
+            while (end < rows && entries[end] >>> 32 == key) {
+                end++;
+            }
+            if (end - start > maxBucketSize) {
+                job.skippedBucket();
+                continue;
+            }
+            // 같은 키 안에서는 행 번호 오름차순이므로 a < b
+            for (int i = start; i < end; i++) {
+                int a = (int) entries[i];
+                for (int j = i + 1; j < end; j++) {
+                    int b = (int) entries[j];
+                    compared++;
+                    if (similarity(chunks, a, b) >= threshold) {
+                        pairs.add(((long) a << 32) | b);
+                    }
+                }
+            }
+        }
+        job.candidatePairs(compared);
+        return pairs.build().toArray();
+    }
+
+    /**
+     * 두 행의 추정 Jaccard 유사도 (8비트 값이 우연히 같은 경우를 보정)
+     */
+    private double similarity(Chunk[] chunks, int a, int b) {
+        int numHashes = minHash.numHashes();
+        byte[] first = chunks[a / CHUNK_SIZE].signatures;
+        byte[] second = chunks[b / CHUNK_SIZE].signatures;
+        int firstOffset = (a % CHUNK_SIZE) * numHashes;
+        int secondOffset = (b % CHUNK_SIZE) * numHashes;
+        int matches = 0;
+        for (int j = 0; j < numHashes; j++) {
+            if (first[firstOffset + j] == second[secondOffset + j]) {
+                matches++;
+            }
+        }
+        double estimate = ((double) matches / numHashes - RANDOM_MATCH) / (1 - RANDOM_MATCH);
+        return Math.max(estimate, 0);
+    }
+
+    private Path writeReport(UserDuplicateJob job, Chunk[] chunks, long[] pairs) throws IOException {
+        Files.createDirectories(reportDirectory);
+        Path report = reportDirectory.resolve("user-duplicates-" + job.getId() + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            writer.write("user_id_a,user_id_b,similarity\n");
+            for (long pair : pairs) {
+                int a = (int) (pair >>> 32);
+                int b = (int) pair;
+                writer.write(chunks[a / CHUNK_SIZE].ids[a % CHUNK_SIZE] + "," + chunks[b / CHUNK_SIZE].ids[b % CHUNK_SIZE]
+                        + "," + String.format(Locale.ROOT, "%.3f", similarity(chunks, a, b)) + "\n");
+            }
+        }
+        return report;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        pool.shutdownNow();
+    }
+}
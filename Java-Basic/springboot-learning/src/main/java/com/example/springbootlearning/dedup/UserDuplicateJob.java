@@ -0,0 +1,141 @@
+package com.example.springbootlearning.dedup;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 중복 의심 사용자 찾기 작업 (진행 상황)
+ *
+ * 작업은 백그라운드에서 실행되며, 그동안 GET /api/users/duplicates/{id}로 단계와 처리 건수를 볼 수 있습니다.
+ * 카운터는 fork-join 작업 스레드가 올리고 조회 요청이 읽으므로 Atomic 변수를 사용합니다.
+ */
+public class UserDuplicateJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * 처리 단계 (SIGNATURES: 사용자를 읽으며 서명 계산, BUCKETING: 밴드별 후보 쌍 비교, REPORT: 보고서 쓰기)
+     */
+    public enum Phase {
+        SIGNATURES, BUCKETING, REPORT
+    }
+
+    private final long id;
+    private final Map<String, Object> parameters;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private volatile long finishNanos;
+    private volatile Status status = Status.QUEUED;
+    private volatile Phase phase;
+    private volatile long phaseStartNanos;
+    private volatile String failure;
+    private volatile Path report;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong candidatePairs = new AtomicLong();
+    private final AtomicLong skippedBuckets = new AtomicLong();
+    private volatile long duplicatePairs;
+    private final Map<String, Long> phaseMillis = new LinkedHashMap<>();
+
+    UserDuplicateJob(long id, Map<String, Object> parameters) {
+        this.id = id;
+        this.parameters = parameters;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * 보고서 파일 (완료되기 전에는 null)
+     */
+    public Path getReport() {
+        return status == Status.COMPLETED ? report : null;
+    }
+
+    void start(Phase next) {
+        long now = System.nanoTime();
+        endPhase(now);
+        status = Status.RUNNING;
+        phase = next;
+        phaseStartNanos = now;
+    }
+
+    private void endPhase(long now) {
+        synchronized (phaseMillis) {
+            if (phase != null) {
+                phaseMillis.put(phase.name().toLowerCase(), TimeUnit.NANOSECONDS.toMillis(now - phaseStartNanos));
+            }
+        }
+    }
+
+    void rowsRead(int count) {
+        rowsRead.addAndGet(count);
+    }
+
+    void candidatePairs(long count) {
+        candidatePairs.addAndGet(count);
+    }
+
+    void skippedBucket() {
+        skippedBuckets.incrementAndGet();
+    }
+
+    void complete(Path report, long duplicatePairs) {
+        finishNanos = System.nanoTime();
+        endPhase(finishNanos);
+        this.report = report;
+        this.duplicatePairs = duplicatePairs;
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        finishNanos = System.nanoTime();
+        failure = message;
+        status = Status.FAILED;
+    }
+
+    /**
+     * 진행 상황 (API 응답용)
+     *
+     * @return 상태, 단계, 처리 건수, 단계별 소요 시간, 보고서 정보
+     */
+    public Map<String, Object> toMap() {
+        Status current = status;
+        long elapsedNanos = (current == Status.COMPLETED || current == Status.FAILED ? finishNanos : System.nanoTime()) - startNanos;
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", id);
+        map.put("status", current.name().toLowerCase());
+        if (current == Status.RUNNING && phase != null) {
+            map.put("phase", phase.name().toLowerCase());
+        }
+        if (failure != null) {
+            map.put("failure", failure);
+        }
+        map.put("parameters", parameters);
+        map.put("startedAt", startedAt);
+        map.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        map.put("rowsRead", rowsRead.get());
+        map.put("candidatePairs", candidatePairs.get());
+        map.put("skippedBuckets", skippedBuckets.get());
+        synchronized (phaseMillis) {
+            map.put("phaseMs", new LinkedHashMap<>(phaseMillis));
+        }
+        if (current == Status.COMPLETED) {
+            map.put("duplicatePairs", duplicatePairs);
+            map.put("report", report.toString());
+        }
+        return map;
+    }
+}
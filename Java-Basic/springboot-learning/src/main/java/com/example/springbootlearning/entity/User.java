@@ -1,5 +1,6 @@
 package com.example.springbootlearning.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Max;
@@ -8,7 +9,9 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import java.text.Normalizer;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * 사용자 엔티티 클래스
@@ -25,7 +28,13 @@ import java.time.LocalDateTime;
  * 5. 생성자, Getter, Setter 메서드
  */
 @Entity  // JPA 엔티티임을 나타냄
-@Table(name = "users")  // 데이터베이스 테이블 이름 지정
+@Table(name = "users",  // 데이터베이스 테이블 이름 지정
+       indexes = {
+           @Index(name = "idx_users_name_normalized", columnList = "name_normalized"),  // 대소문자 무시 검색용 인덱스
+           @Index(name = "idx_users_phone_key", columnList = "phone_key"),  // 전화번호 조회용 인덱스
+           @Index(name = "idx_users_created_at", columnList = "created_at"),  // 변경분 동기화용 인덱스
+           @Index(name = "idx_users_updated_at", columnList = "updated_at")
+       })
 public class User {
     
     /**
@@ -49,6 +58,17 @@ public class User {
     @Column(nullable = false, length = 50)
     private String name;
     
+    /**
+     * 검색용으로 정규화된 이름 (소문자 + 유니코드 NFC)
+     * 
+     * LOWER(name)처럼 조회할 때마다 함수를 적용하면 인덱스를 사용할 수 없으므로,
+     * 저장/수정 시점에 미리 정규화한 값을 별도 컬럼에 보관하고 인덱스를 겁니다.
+     * @JsonIgnore: API 응답(JSON)에는 포함하지 않음
+     */
+    @JsonIgnore
+    @Column(name = "name_normalized", length = 100)
+    private String nameNormalized;
+    
     /**
      * 이메일 주소
      * @Email: 이메일 형식 검증
@@ -78,6 +98,17 @@ public class User {
     @Column(length = 20)
     private String phoneNumber;
     
+    /**
+     * 조회용으로 정규화된 전화번호 (숫자만 남긴 국내 번호, 앞의 0 제외)
+     * 
+     * "010-1234-5678", "010 1234 5678", "+82 10-1234-5678"처럼 형식이 달라도 같은 번호는 같은 값이 되므로,
+     * 문자열 대신 숫자 키로 비교하고 인덱스를 겁니다.
+     * @JsonIgnore: API 응답(JSON)에는 포함하지 않음
+     */
+    @JsonIgnore
+    @Column(name = "phone_key")
+    private Long phoneKey;
+    
     /**
      * 주소
      * @Size: 최대 200자
@@ -140,6 +171,27 @@ public class User {
         this.createdAt = LocalDateTime.now();
     }
     
+    /**
+     * 복사 생성자
+     * 
+     * 수정 전 상태를 보관할 때 사용합니다.
+     * 복사된 객체는 JPA가 관리하지 않는 별도 객체입니다.
+     * 
+     * @param other 복사할 사용자 정보
+     */
+    public User(User other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.nameNormalized = other.nameNormalized;
+        this.email = other.email;
+        this.age = other.age;
+        this.phoneNumber = other.phoneNumber;
+        this.phoneKey = other.phoneKey;
+        this.address = other.address;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+    
     // Getter 메서드들
     public Long getId() {
         return id;
@@ -149,6 +201,14 @@ public class User {
         return name;
     }
     
+    public String getNameNormalized() {
+        return nameNormalized;
+    }
+    
+    public Long getPhoneKey() {
+        return phoneKey;
+    }
+    
     public String getEmail() {
         return email;
     }
@@ -214,6 +274,8 @@ public class User {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        nameNormalized = normalizeName(name);
+        phoneKey = normalizePhoneNumber(phoneNumber);
     }
     
     /**
@@ -223,6 +285,61 @@ public class User {
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        nameNormalized = normalizeName(name);
+        phoneKey = normalizePhoneNumber(phoneNumber);
+    }
+    
+    /**
+     * 검색용 이름 정규화
+     * 
+     * 유니코드 NFC로 정규화한 뒤 소문자로 변환합니다.
+     * (한글 자모가 분리되어 입력된 경우에도 완성형과 같은 값으로 비교하기 위함)
+     * 
+     * @param name 원본 이름
+     * @return 정규화된 이름 (null이면 null)
+     */
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        return Normalizer.normalize(name, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 조회용 전화번호 정규화
+     * 
+     * 숫자만 남기고, 국가 번호(+82, 0082)나 국내 번호 앞의 0을 뗀 나머지를 숫자로 바꿉니다.
+     * 예: "010-1234-5678", "+82 10-1234-5678", "+82 (0)10 1234 5678" → 1012345678
+     *     "02-123-4567" → 21234567
+     * 
+     * @param phoneNumber 원본 전화번호
+     * @return 정규화된 번호 (null이거나 전화번호로 볼 수 없으면 null)
+     */
+    public static Long normalizePhoneNumber(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phoneNumber.length());
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        String number = digits.toString();
+        if (number.startsWith("0082")) {
+            number = number.substring(4);
+        } else if (number.startsWith("82")) {
+            number = number.substring(2);
+        }
+        if (number.startsWith("0")) {
+            number = number.substring(1);
+        }
+        // 국내 번호는 0을 뗀 뒤 7자리(1588-1234 같은 대표 번호) 이상
+        if (number.length() < 7 || number.length() > 15 || number.startsWith("0")) {
+            return null;
+        }
+        return Long.parseLong(number);
     }
     
     /**
@@ -0,0 +1,64 @@
+package com.example.springbootlearning.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 삭제 기록(툼스톤) 엔티티
+ * 
+ * 삭제된 행은 users 테이블에서 사라지므로, 변경분 동기화(/api/users/changes)에서
+ * "어떤 사용자가 언제 삭제되었는지" 알려주기 위해 삭제 기록을 별도 테이블에 남깁니다.
+ * deleted_at 인덱스로 특정 시각 이후의 삭제만 빠르게 조회합니다.
+ */
+@Entity
+@Table(name = "user_tombstones",
+       indexes = @Index(name = "idx_user_tombstones_deleted_at", columnList = "deleted_at"))
+public class UserTombstone {
+    
+    /**
+     * 기록 ID (Primary Key)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /**
+     * 삭제된 사용자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    /**
+     * 삭제 시각
+     */
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+    
+    /**
+     * 기본 생성자 (JPA 요구사항)
+     */
+    protected UserTombstone() {
+    }
+    
+    /**
+     * @param userId 삭제된 사용자 ID
+     * @param deletedAt 삭제 시각
+     */
+    public UserTombstone(Long userId, LocalDateTime deletedAt) {
+        this.userId = userId;
+        this.deletedAt = deletedAt;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.springbootlearning.event;
+
+/**
+ * 사용자 대량 적재 이벤트
+ *
+ * 스냅샷 가져오기처럼 UserService를 거치지 않고 JDBC로 많은 사용자를 한꺼번에 저장한 뒤 발행합니다.
+ * 행마다 UserChangeEvent를 발행하지 않으므로, 캐시나 복제본처럼 사용자 테이블에서 파생된 데이터는
+ * 이 이벤트를 받으면 전체를 다시 읽어야 합니다.
+ *
+ * 적재가 끝난(커밋된) 뒤 트랜잭션 밖에서 발행되므로 @EventListener로 받습니다.
+ */
+public class UserBulkLoadedEvent {
+
+    private final String source;
+    private final long rowCount;
+
+    /**
+     * @param source 적재한 데이터의 출처 (예: 스냅샷 파일 경로)
+     * @param rowCount 적재한 행 수
+     */
+    public UserBulkLoadedEvent(String source, long rowCount) {
+        this.source = source;
+        this.rowCount = rowCount;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public String toString() {
+        return "UserBulkLoadedEvent{source='" + source + "', rowCount=" + rowCount + '}';
+    }
+}
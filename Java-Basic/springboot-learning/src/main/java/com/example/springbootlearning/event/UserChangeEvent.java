@@ -0,0 +1,80 @@
+package com.example.springbootlearning.event;
+
+import com.example.springbootlearning.entity.User;
+
+/**
+ * 사용자 변경 이벤트
+ * 
+ * UserService가 사용자를 생성/수정/삭제할 때 발행하는 애플리케이션 이벤트입니다.
+ * 리스너는 @TransactionalEventListener를 사용하여 트랜잭션 커밋 이후에만 이벤트를 받으므로,
+ * 롤백된 변경이 캐시나 인덱스에 반영되는 일이 없습니다.
+ * 
+ * 주요 학습 내용:
+ * 1. ApplicationEventPublisher를 사용한 이벤트 발행
+ * 2. @TransactionalEventListener를 사용한 커밋 후 처리
+ * 3. 변경 전/후 상태를 함께 전달하여 파생 데이터를 갱신하는 방법
+ */
+public class UserChangeEvent {
+    
+    /**
+     * 변경 종류
+     */
+    public enum Type {
+        CREATED,  // 생성
+        UPDATED,  // 수정
+        DELETED   // 삭제
+    }
+    
+    private final Type type;
+    private final Long userId;
+    private final User user;
+    private final User previous;
+    
+    /**
+     * @param type 변경 종류
+     * @param user 변경 후 사용자 정보 (삭제인 경우 삭제된 사용자 정보)
+     * @param previous 변경 전 사용자 정보 (생성인 경우 null)
+     */
+    public UserChangeEvent(Type type, User user, User previous) {
+        this.type = type;
+        this.userId = user.getId();
+        this.user = user;
+        this.previous = previous;
+    }
+    
+    public static UserChangeEvent created(User user) {
+        return new UserChangeEvent(Type.CREATED, user, null);
+    }
+    
+    public static UserChangeEvent updated(User user, User previous) {
+        return new UserChangeEvent(Type.UPDATED, user, previous);
+    }
+    
+    public static UserChangeEvent deleted(User user) {
+        return new UserChangeEvent(Type.DELETED, user, user);
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public User getUser() {
+        return user;
+    }
+    
+    public User getPrevious() {
+        return previous;
+    }
+    
+    @Override
+    public String toString() {
+        return "UserChangeEvent{" +
+                "type=" + type +
+                ", userId=" + userId +
+                '}';
+    }
+}
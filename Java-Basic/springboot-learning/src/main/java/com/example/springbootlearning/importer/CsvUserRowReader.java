@@ -0,0 +1,186 @@
+package com.example.springbootlearning.importer;
+
+import com.example.springbootlearning.entity.User;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV 리더 (RFC 4180)
+ *
+ * - 첫 레코드는 헤더이며, 열 이름으로 사용자 필드를 찾습니다. (대소문자, 밑줄 무시: phone_number = phoneNumber)
+ * - 큰따옴표로 감싼 값 안에는 쉼표, 줄바꿈, "" (큰따옴표 하나)를 쓸 수 있습니다.
+ * - 빈 값은 null로 읽고, 모르는 열은 무시합니다.
+ */
+final class CsvUserRowReader implements UserRowReader {
+
+    private static final int NAME = 0;
+    private static final int EMAIL = 1;
+    private static final int AGE = 2;
+    private static final int PHONE_NUMBER = 3;
+    private static final int ADDRESS = 4;
+
+    private final Reader reader;
+    private final char[] buffer = new char[64 * 1024];
+    private int position;
+    private int limit;
+
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private long lineNumber = 1;
+    private int[] columns;  // CSV 열 번호 → 사용자 필드 (-1: 무시)
+
+    CsvUserRowReader(InputStream in) {
+        this.reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Row next() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+        while (true) {
+            long startLine = lineNumber;
+            if (!readRecord()) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;  // 빈 줄
+            }
+            return toRow(startLine);
+        }
+    }
+
+    private void readHeader() throws IOException {
+        if (peek() == '\uFEFF') {
+            position++;  // UTF-8 BOM
+        }
+        if (!readRecord()) {
+            throw new IllegalArgumentException("CSV 파일이 비어 있습니다.");
+        }
+        columns = new int[fields.size()];
+        boolean known = false;
+        for (int i = 0; i < fields.size(); i++) {
+            columns[i] = switch (fields.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT)) {
+                case "name" -> NAME;
+                case "email" -> EMAIL;
+                case "age" -> AGE;
+                case "phonenumber" -> PHONE_NUMBER;
+                case "address" -> ADDRESS;
+                default -> -1;
+            };
+            known |= columns[i] >= 0;
+        }
+        if (!known) {
+            throw new IllegalArgumentException("CSV 첫 줄은 열 이름(name, email, age, phoneNumber, address) 헤더여야 합니다.");
+        }
+    }
+
+    private Row toRow(long line) {
+        String[] values = new String[5];
+        for (int i = 0; i < fields.size() && i < columns.length; i++) {
+            if (columns[i] >= 0 && !fields.get(i).isEmpty()) {
+                values[columns[i]] = fields.get(i);
+            }
+        }
+
+        User user = new User();
+        user.setName(values[NAME]);
+        user.setEmail(values[EMAIL]);
+        user.setPhoneNumber(values[PHONE_NUMBER]);
+        user.setAddress(values[ADDRESS]);
+        if (values[AGE] != null) {
+            try {
+                user.setAge(Integer.parseInt(values[AGE].trim()));
+            } catch (NumberFormatException e) {
+                return Row.error(line, "나이는 숫자여야 합니다: " + values[AGE]);
+            }
+        }
+        return Row.of(line, user);
+    }
+
+    /**
+     * 레코드 하나를 fields에 읽음
+     *
+     * @return 파일이 끝나서 읽을 레코드가 없으면 false
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        int c = read();
+        if (c < 0) {
+            return false;
+        }
+        boolean quoted = false;
+        boolean afterQuote = false;  // 닫는 큰따옴표 뒤
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IllegalArgumentException(lineNumber + "번째 줄: 큰따옴표가 닫히지 않았습니다.");
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        position++;
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        afterQuote = true;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c < 0 || c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    position++;
+                }
+                if (c >= 0) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '"' && field.length() == 0 && !afterQuote) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
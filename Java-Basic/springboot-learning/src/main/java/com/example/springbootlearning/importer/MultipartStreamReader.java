@@ -0,0 +1,262 @@
+package com.example.springbootlearning.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * multipart/form-data 본문을 스트림으로 읽는 리더
+ *
+ * 서블릿 컨테이너의 multipart 처리(getParts)는 파트 전체를 메모리나 임시 파일에 저장한 뒤에 넘겨주고,
+ * spring.servlet.multipart.max-file-size 제한도 받습니다.
+ * 이 리더는 요청 본문을 고정 크기 버퍼로 읽으면서 경계(boundary)를 찾아, 파트 내용을 도착하는 대로 넘겨줍니다.
+ *
+ * 사용 방법: nextPart()로 다음 파트를 얻고, 파트의 body()를 끝까지 읽거나 그냥 nextPart()를 다시 호출합니다.
+ * (읽지 않은 나머지 내용은 건너뜀)
+ */
+public class MultipartStreamReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_HEADER_BYTES = 8 * 1024;
+
+    private final InputStream in;
+    private final byte[] delimiter;  // CRLF + "--" + boundary
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean eof;
+    private PartInputStream currentBody;
+    private boolean finished;
+
+    /**
+     * @param in 요청 본문
+     * @param boundary Content-Type 헤더의 boundary 값
+     */
+    public MultipartStreamReader(InputStream in, String boundary) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[Math.max(BUFFER_SIZE, delimiter.length * 4)];
+        // 첫 경계는 본문 맨 앞에 CRLF 없이 오므로, CRLF가 있는 것처럼 시작해서 모든 경계를 같은 방법으로 찾음
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        limit = 2;
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 값 꺼내기
+     *
+     * @param contentType 요청 Content-Type
+     * @return boundary 값
+     * @throws IllegalArgumentException multipart/form-data가 아니거나 boundary가 없는 경우
+     */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            throw new IllegalArgumentException("multipart/form-data 요청이 아닙니다.");
+        }
+        String boundary = headerParameter(contentType, "boundary");
+        if (boundary == null || boundary.isEmpty() || boundary.length() > 70) {
+            throw new IllegalArgumentException("multipart 경계(boundary)가 올바르지 않습니다.");
+        }
+        return boundary;
+    }
+
+    /**
+     * 다음 파트
+     *
+     * @return 다음 파트, 더 없으면 null
+     * @throws IOException 본문을 읽을 수 없거나 형식이 잘못된 경우
+     */
+    public Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (currentBody == null) {
+            currentBody = new PartInputStream();  // 첫 경계 앞의 프리앰블
+        }
+        currentBody.skipToEnd();
+        position += delimiter.length;
+
+        // 경계 뒤: "--"이면 마지막, 아니면 (공백 무시) CRLF 다음에 헤더
+        if (!ensure(2)) {
+            throw new IOException("multipart 본문이 경계 뒤에서 끝났습니다.");
+        }
+        if (buffer[position] == '-' && buffer[position + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        int[] headerBytes = new int[1];
+        readLine(headerBytes);  // 경계 줄의 나머지 (공백)
+        String disposition = null;
+        String contentType = null;
+        String line;
+        while (!(line = readLine(headerBytes)).isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String name = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (name.equals("content-disposition")) {
+                disposition = value;
+            } else if (name.equals("content-type")) {
+                contentType = value;
+            }
+        }
+        currentBody = new PartInputStream();
+        return new Part(disposition == null ? null : headerParameter(disposition, "name"),
+                disposition == null ? null : headerParameter(disposition, "filename"),
+                contentType, currentBody);
+    }
+
+    /**
+     * CRLF로 끝나는 한 줄 읽기 (CRLF는 빼고 반환)
+     */
+    private String readLine(int[] headerBytes) throws IOException {
+        int length = 0;
+        while (true) {
+            if (!ensure(length + 2)) {
+                throw new IOException("multipart 파트 헤더가 끝나지 않았습니다.");
+            }
+            if (buffer[position + length] == '\r' && buffer[position + length + 1] == '\n') {
+                String line = new String(buffer, position, length, StandardCharsets.UTF_8);
+                position += length + 2;
+                headerBytes[0] += length + 2;
+                return line;
+            }
+            length++;
+            if (headerBytes[0] + length > MAX_HEADER_BYTES) {
+                throw new IOException("multipart 파트 헤더가 너무 깁니다.");
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 position부터 최소 count바이트가 있도록 채움
+     *
+     * @return 본문이 끝나서 채울 수 없으면 false
+     */
+    private boolean ensure(int count) throws IOException {
+        if (limit - position >= count) {
+            return true;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        while (limit < count && !eof) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+        return limit - position >= count;
+    }
+
+    /**
+     * buffer[from, limit)에서 경계 위치 찾기
+     *
+     * @return 경계 시작 위치, 없으면 -1
+     */
+    private int indexOfDelimiter(int from) {
+        int last = limit - delimiter.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            if (buffer[i] != '\r') {
+                continue;
+            }
+            for (int j = 1; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 헤더 값에서 파라미터 꺼내기 (예: form-data; name="file"; filename="users.csv")
+     */
+    private static String headerParameter(String header, String name) {
+        for (String token : header.split(";")) {
+            String trimmed = token.trim();
+            int equals = trimmed.indexOf('=');
+            if (equals > 0 && trimmed.substring(0, equals).trim().equalsIgnoreCase(name)) {
+                String value = trimmed.substring(equals + 1).trim();
+                if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                    value = value.substring(1, value.length() - 1);
+                }
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * multipart 파트 하나
+     *
+     * @param name 폼 필드 이름
+     * @param filename 업로드한 파일 이름 (파일 파트가 아니면 null)
+     * @param contentType 파트의 Content-Type (없으면 null)
+     * @param body 파트 내용 (다음 경계 직전까지)
+     */
+    public record Part(String name, String filename, String contentType, InputStream body) {
+    }
+
+    /**
+     * 다음 경계 직전까지만 읽히는 스트림
+     */
+    private final class PartInputStream extends InputStream {
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (ended || currentBody != this) {
+                return -1;
+            }
+            if (length == 0) {
+                return 0;
+            }
+            ensure(delimiter.length);
+            int found = indexOfDelimiter(position);
+            int available;
+            if (found == position) {
+                ended = true;
+                return -1;
+            } else if (found >= 0) {
+                available = found - position;
+            } else {
+                // 버퍼 끝부분은 경계의 앞부분일 수 있으므로 남겨 둠
+                available = limit - position - (delimiter.length - 1);
+                if (available <= 0) {
+                    if (eof) {
+                        throw new IOException("multipart 본문이 마지막 경계 없이 끝났습니다.");
+                    }
+                    ensure(limit - position + 1);
+                    return read(target, offset, length);
+                }
+            }
+            int count = Math.min(length, available);
+            System.arraycopy(buffer, position, target, offset, count);
+            position += count;
+            return count;
+        }
+
+        void skipToEnd() throws IOException {
+            byte[] discard = new byte[BUFFER_SIZE];
+            while (read(discard, 0, discard.length) >= 0) {
+                // 남은 내용 버리기
+            }
+        }
+    }
+}
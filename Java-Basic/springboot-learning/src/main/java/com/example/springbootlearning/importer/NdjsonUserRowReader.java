@@ -0,0 +1,55 @@
+package com.example.springbootlearning.importer;
+
+import com.example.springbootlearning.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NDJSON 리더 (한 줄에 사용자 JSON 객체 하나, 빈 줄은 건너뜀)
+ *
+ * 줄 단위로 읽으므로 잘못된 줄이 있어도 그 줄만 오류가 되고 다음 줄부터 계속 읽습니다.
+ */
+final class NdjsonUserRowReader implements UserRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader userReader;
+    private long lineNumber;
+
+    NdjsonUserRowReader(InputStream in, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.userReader = objectMapper.readerFor(User.class);
+    }
+
+    @Override
+    public Row next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            User user = userReader.readValue(line);
+            if (user == null) {
+                return Row.error(lineNumber, "사용자 JSON 객체가 아닙니다.");
+            }
+            // ID와 시각은 저장할 때 정해짐
+            user.setId(null);
+            user.setCreatedAt(null);
+            user.setUpdatedAt(null);
+            return Row.of(lineNumber, user);
+        } catch (JsonProcessingException e) {
+            return Row.error(lineNumber, "JSON 형식이 잘못되었습니다: " + e.getOriginalMessage());
+        }
+    }
+}
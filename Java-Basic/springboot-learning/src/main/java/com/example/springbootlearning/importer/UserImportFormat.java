@@ -0,0 +1,55 @@
+package com.example.springbootlearning.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * 사용자 가져오기 파일 형식
+ */
+public enum UserImportFormat {
+
+    /**
+     * 첫 줄이 헤더인 CSV (열: name, email, age, phoneNumber, address / 순서 무관)
+     */
+    CSV,
+
+    /**
+     * 한 줄에 사용자 JSON 객체 하나 (newline-delimited JSON)
+     */
+    NDJSON;
+
+    /**
+     * Content-Type이나 파일 확장자로 형식 판단
+     *
+     * @param contentType 파일(또는 요청)의 Content-Type (없으면 null)
+     * @param filename 파일 이름 (없으면 null)
+     * @return 판단한 형식, 알 수 없으면 null
+     */
+    public static UserImportFormat detect(String contentType, String filename) {
+        if (contentType != null) {
+            String type = contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                return NDJSON;
+            }
+        }
+        if (filename != null) {
+            String name = filename.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+        }
+        return null;
+    }
+
+    UserRowReader open(InputStream in, ObjectMapper objectMapper) {
+        return this == CSV ? new CsvUserRowReader(in) : new NdjsonUserRowReader(in, objectMapper);
+    }
+}
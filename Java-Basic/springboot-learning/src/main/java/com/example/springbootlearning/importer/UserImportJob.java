@@ -0,0 +1,159 @@
+package com.example.springbootlearning.importer;
+
+import com.example.springbootlearning.service.UserErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 가져오기 작업 (진행 상황)
+ *
+ * 업로드를 처리하는 동안 다른 요청에서 GET /api/users/import/{id}로 진행 상황을 볼 수 있습니다.
+ * 카운터는 가져오기 스레드가 올리고 조회 요청이 읽으므로 Atomic 변수를 사용합니다.
+ */
+public class UserImportJob {
+
+    /**
+     * 보관하는 행 오류 수 (나머지는 개수만 셈)
+     */
+    private static final int MAX_ERROR_SAMPLES = 100;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final long id;
+    private final String source;
+    private final UserImportFormat format;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private volatile long finishNanos;
+    private volatile Status status = Status.RUNNING;
+    private volatile String failure;
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final List<Map<String, Object>> errors = new ArrayList<>();
+
+    UserImportJob(long id, String source, UserImportFormat format) {
+        this.id = id;
+        this.source = source;
+        this.format = format;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public UserImportFormat getFormat() {
+        return format;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public long getInserted() {
+        return inserted.get();
+    }
+
+    void addBytes(long count) {
+        bytesRead.addAndGet(count);
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void inserted(int count) {
+        inserted.addAndGet(count);
+    }
+
+    /**
+     * 검증에 실패했거나 읽을 수 없는 행
+     */
+    void invalid(long line, int errorMask, String message) {
+        invalid.incrementAndGet();
+        addError(line, errorMask, message);
+    }
+
+    /**
+     * 이메일이 파일 앞쪽이나 데이터베이스에 이미 있는 행
+     */
+    void duplicate(long line) {
+        duplicates.incrementAndGet();
+        addError(line, UserErrorCode.EMAIL_DUPLICATE.bit(), null);
+    }
+
+    private void addError(long line, int errorMask, String message) {
+        synchronized (errors) {
+            if (errors.size() >= MAX_ERROR_SAMPLES) {
+                return;
+            }
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("line", line);
+            if (errorMask != 0) {
+                error.put("codes", Arrays.stream(UserErrorCode.fromMask(errorMask)).map(Enum::name).toList());
+            }
+            error.put("message", message != null ? message : UserErrorCode.fromMask(errorMask)[0].getMessage());
+            errors.add(error);
+        }
+    }
+
+    void complete() {
+        finishNanos = System.nanoTime();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        finishNanos = System.nanoTime();
+        failure = message;
+        status = Status.FAILED;
+    }
+
+    /**
+     * 진행 상황 (API 응답용)
+     *
+     * @return 상태, 처리 건수, 처리 속도, 행 오류 일부
+     */
+    public Map<String, Object> toMap() {
+        long elapsedNanos = (status == Status.RUNNING ? System.nanoTime() : finishNanos) - startNanos;
+        double elapsedSeconds = Math.max(elapsedNanos, 1) / 1e9;
+        long rows = rowsRead.get();
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", id);
+        map.put("source", source);
+        map.put("format", format.name().toLowerCase());
+        map.put("status", status.name().toLowerCase());
+        if (failure != null) {
+            map.put("failure", failure);
+        }
+        map.put("startedAt", startedAt);
+        map.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        map.put("bytesRead", bytesRead.get());
+        map.put("rowsRead", rows);
+        map.put("inserted", inserted.get());
+        map.put("invalid", invalid.get());
+        map.put("duplicates", duplicates.get());
+        map.put("rowsPerSecond", Math.round(rows / elapsedSeconds));
+        map.put("bytesPerSecond", Math.round(bytesRead.get() / elapsedSeconds));
+        synchronized (errors) {
+            map.put("errors", new ArrayList<>(errors));
+        }
+        return map;
+    }
+}
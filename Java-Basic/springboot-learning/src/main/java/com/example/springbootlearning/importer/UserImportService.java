@@ -0,0 +1,399 @@
+package com.example.springbootlearning.importer;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.event.UserChangeEvent;
+import com.example.springbootlearning.service.UserErrorCode;
+import com.example.springbootlearning.service.UserValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 파일 가져오기 서비스 (CSV / NDJSON)
+ *
+ * 업로드된 파일을 처음부터 끝까지 스트림으로 읽으며, 파일 전체를 메모리에 올리지 않습니다.
+ *
+ * 처리 과정:
+ * 1. 요청 스레드가 파일을 읽어 chunk-size 행씩 묶음(chunk)을 만듭니다.
+ * 2. 묶음은 검증 스레드 풀에서 병렬로 검증됩니다. (UserValidator + 묶음 안의 이메일 중복 검사)
+ * 3. 요청 스레드는 검증이 끝난 묶음을 파일 순서대로 받아서, 데이터베이스에 이미 있는 이메일을 한 번의 쿼리로 걸러내고
+ *    나머지를 배치 INSERT로 저장합니다. (묶음마다 트랜잭션 하나)
+ *    앞 묶음은 이미 저장되어 있으므로, 묶음 사이의 이메일 중복도 같은 쿼리로 걸러집니다.
+ * 4. 검증 중인 묶음은 최대 (검증 스레드 수 × 2)개까지만 쌓아 두므로, 저장이 느리면 파일 읽기도 기다립니다.
+ *
+ * 저장한 사용자마다 UserChangeEvent를 발행하므로 캐시, 변경 피드, 복제본에도 반영됩니다.
+ *
+ * 주요 학습 내용:
+ * 1. 스트림 처리와 배압(backpressure)
+ * 2. 순서를 유지하는 병렬 처리 (Future를 제출한 순서대로 꺼내기)
+ * 3. JdbcTemplate 배치 INSERT와 생성된 키(KeyHolder) 받기
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final String INSERT_SQL = "INSERT INTO users (name, name_normalized, email, age, "
+            + "phone_number, phone_key, address, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 보관하는 작업 수 (오래된 작업부터 목록에서 제거)
+     */
+    private static final int MAX_JOBS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UserValidator userValidator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final int chunkSize;
+    private final int validationThreads;
+    private final long maxBytes;
+    private final ExecutorService validators;
+
+    private final AtomicLong nextJobId = new AtomicLong();
+    private final Map<Long, UserImportJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserImportJob> eldest) {
+            return size() > MAX_JOBS;
+        }
+    };
+
+    public UserImportService(@Value("${app.users.import.chunk-size:1000}") int chunkSize,
+                             @Value("${app.users.import.validation-threads:0}") int validationThreads,
+                             @Value("${app.users.import.max-size:1GB}") DataSize maxSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk-size는 1 이상이어야 합니다: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.validationThreads = validationThreads > 0 ? validationThreads : Runtime.getRuntime().availableProcessors();
+        this.maxBytes = maxSize.toBytes();
+        this.validators = Executors.newFixedThreadPool(this.validationThreads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-validator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 가져오기 작업 등록
+     *
+     * @param source 파일 이름 등 출처
+     * @param format 파일 형식
+     * @return 등록된 작업 (RUNNING)
+     */
+    public UserImportJob createJob(String source, UserImportFormat format) {
+        UserImportJob job = new UserImportJob(nextJobId.incrementAndGet(), source, format);
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+        }
+        return job;
+    }
+
+    public Optional<UserImportJob> getJob(long id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    /**
+     * 최근 작업 목록 (최신순)
+     *
+     * @return 작업 목록
+     */
+    public List<UserImportJob> getJobs() {
+        synchronized (jobs) {
+            List<UserImportJob> list = new ArrayList<>(jobs.values());
+            Collections.reverse(list);
+            return list;
+        }
+    }
+
+    /**
+     * 파일을 끝까지 읽어서 가져오기 (호출한 스레드에서 실행되며, 끝나면 작업 상태가 COMPLETED 또는 FAILED가 됨)
+     *
+     * 파일 형식 오류나 읽기 오류는 작업을 FAILED로 만들고 반환합니다. (이미 저장한 묶음은 그대로 남음)
+     *
+     * @param job createJob으로 등록한 작업
+     * @param in 파일 내용 (닫지 않음)
+     * @return 같은 작업
+     */
+    public UserImportJob run(UserImportJob job, InputStream in) {
+        ArrayDeque<Future<Chunk>> pending = new ArrayDeque<>();
+        try {
+            UserRowReader reader = job.getFormat().open(new CountingInputStream(in, job, maxBytes), objectMapper);
+            List<UserRowReader.Row> rows = new ArrayList<>(chunkSize);
+            UserRowReader.Row row;
+            while ((row = reader.next()) != null) {
+                job.rowRead();
+                rows.add(row);
+                if (rows.size() == chunkSize) {
+                    submit(pending, rows);
+                    rows = new ArrayList<>(chunkSize);
+                    if (pending.size() >= validationThreads * 2) {
+                        write(job, pending.poll());
+                    }
+                }
+            }
+            if (!rows.isEmpty()) {
+                submit(pending, rows);
+            }
+            while (!pending.isEmpty()) {
+                write(job, pending.poll());
+            }
+            job.complete();
+        } catch (IOException | IllegalArgumentException e) {
+            job.fail(e.getMessage());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            throw e;
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+            log.info("사용자 가져오기 {} 종료: 상태 {}, 저장 {}행", job.getId(), job.getStatus(), job.getInserted());
+        }
+        return job;
+    }
+
+    private void submit(ArrayDeque<Future<Chunk>> pending, List<UserRowReader.Row> rows) {
+        pending.add(validators.submit(() -> validate(rows)));
+    }
+
+    /**
+     * 묶음 검증 (검증 스레드에서 실행)
+     */
+    private Chunk validate(List<UserRowReader.Row> rows) {
+        int[] errors = new int[rows.size()];
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            UserRowReader.Row row = rows.get(i);
+            if (row.parseError() != null) {
+                errors[i] = -1;
+                continue;
+            }
+            errors[i] = userValidator.validate(row.user());
+            if (errors[i] == 0 && !emails.add(row.user().getEmail())) {
+                errors[i] = UserErrorCode.EMAIL_DUPLICATE.bit();
+            }
+        }
+        return new Chunk(rows, errors);
+    }
+
+    /**
+     * 검증된 묶음 저장 (파일 순서대로 호출됨)
+     */
+    private void write(UserImportJob job, Future<Chunk> future) throws IOException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("가져오기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("행 검증 중 오류가 발생했습니다.", e.getCause());
+        }
+
+        List<UserRowReader.Row> candidates = new ArrayList<>(chunk.rows.size());
+        for (int i = 0; i < chunk.rows.size(); i++) {
+            if (chunk.errors[i] == 0) {
+                candidates.add(chunk.rows.get(i));
+            }
+        }
+        Set<String> existing = candidates.isEmpty() ? Set.of() : existingEmails(candidates);
+
+        // 행 오류는 파일 순서대로 기록
+        List<User> users = new ArrayList<>(candidates.size());
+        for (int i = 0; i < chunk.rows.size(); i++) {
+            UserRowReader.Row row = chunk.rows.get(i);
+            int errors = chunk.errors[i];
+            if (errors == -1) {
+                job.invalid(row.line(), 0, row.parseError());
+            } else if (errors == UserErrorCode.EMAIL_DUPLICATE.bit()
+                    || (errors == 0 && existing.contains(row.user().getEmail()))) {
+                job.duplicate(row.line());
+            } else if (errors != 0) {
+                job.invalid(row.line(), errors, null);
+            } else {
+                users.add(row.user());
+            }
+        }
+        if (users.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            transaction.executeWithoutResult(status -> insert(users));
+            job.inserted(users.size());
+        } catch (DuplicateKeyException e) {
+            // 조회한 뒤 다른 요청이 같은 이메일로 사용자를 만든 경우: 한 행씩 다시 저장
+            for (UserRowReader.Row row : candidates) {
+                if (existing.contains(row.user().getEmail())) {
+                    continue;
+                }
+                try {
+                    transaction.executeWithoutResult(status -> insert(List.of(row.user())));
+                    job.inserted(1);
+                } catch (DuplicateKeyException duplicate) {
+                    job.duplicate(row.line());
+                }
+            }
+        }
+    }
+
+    private Set<String> existingEmails(List<UserRowReader.Row> rows) {
+        StringJoiner placeholders = new StringJoiner(", ", "(", ")");
+        Object[] emails = new Object[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            placeholders.add("?");
+            emails[i] = rows.get(i).user().getEmail();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT email FROM users WHERE email IN " + placeholders, String.class, emails));
+    }
+
+    /**
+     * 배치 INSERT 후 생성된 ID를 사용자에게 설정하고 변경 이벤트 발행 (트랜잭션 안에서 호출)
+     */
+    private void insert(List<User> users) {
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        User user = users.get(i);
+                        ps.setString(1, user.getName());
+                        ps.setString(2, User.normalizeName(user.getName()));
+                        ps.setString(3, user.getEmail());
+                        ps.setInt(4, user.getAge());
+                        setNullable(ps, 5, user.getPhoneNumber());
+                        ps.setObject(6, User.normalizePhoneNumber(user.getPhoneNumber()), Types.BIGINT);
+                        setNullable(ps, 7, user.getAddress());
+                        ps.setTimestamp(8, Timestamp.valueOf(now));
+                        ps.setTimestamp(9, Timestamp.valueOf(now));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return users.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            user.setId(((Number) generated.get(i).get("id")).longValue());
+            // JPA로 저장할 때(@PrePersist)와 같은 값
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+            eventPublisher.publishEvent(UserChangeEvent.created(user));
+        }
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        validators.shutdownNow();
+    }
+
+    /**
+     * 검증이 끝난 묶음 (errors[i]: 오류 비트 마스크, 0이면 통과, -1이면 읽기 오류)
+     */
+    private record Chunk(List<UserRowReader.Row> rows, int[] errors) {
+    }
+
+    /**
+     * 읽은 바이트 수를 작업에 기록하고, 최대 크기를 넘으면 읽기를 멈추는 스트림
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private final UserImportJob job;
+        private final long maxBytes;
+        private long count;
+
+        private CountingInputStream(InputStream in, UserImportJob job, long maxBytes) {
+            super(in);
+            this.job = job;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                counted(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                counted(read);
+            }
+            return read;
+        }
+
+        private void counted(int bytes) throws IOException {
+            count += bytes;
+            job.addBytes(bytes);
+            if (maxBytes >= 0 && count > maxBytes) {
+                throw new IOException("파일이 최대 크기(" + maxBytes + "바이트)를 넘었습니다.");
+            }
+        }
+    }
+}
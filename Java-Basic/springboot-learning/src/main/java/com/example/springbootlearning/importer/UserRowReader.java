@@ -0,0 +1,38 @@
+package com.example.springbootlearning.importer;
+
+import com.example.springbootlearning.entity.User;
+
+import java.io.IOException;
+
+/**
+ * 가져오기 파일에서 사용자를 한 행씩 읽는 리더
+ */
+interface UserRowReader {
+
+    /**
+     * 다음 행
+     *
+     * @return 다음 행, 파일이 끝났으면 null
+     * @throws IOException 파일을 읽을 수 없는 경우
+     * @throws IllegalArgumentException 파일 전체를 읽을 수 없는 형식 오류 (예: CSV 헤더 없음)
+     */
+    Row next() throws IOException;
+
+    /**
+     * 파일의 한 행
+     *
+     * @param line 행이 시작하는 줄 번호 (1부터)
+     * @param user 읽은 사용자 (parseError가 있으면 null)
+     * @param parseError 행을 사용자로 바꿀 수 없는 이유 (없으면 null)
+     */
+    record Row(long line, User user, String parseError) {
+
+        static Row of(long line, User user) {
+            return new Row(line, user, null);
+        }
+
+        static Row error(long line, String parseError) {
+            return new Row(line, null, parseError);
+        }
+    }
+}
@@ -0,0 +1,469 @@
+package com.example.springbootlearning.journal;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import com.example.springbootlearning.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 변경 저널 (append-only, 메모리 매핑 세그먼트 파일)
+ *
+ * 사용자 생성/수정/삭제가 커밋될 때마다(UserChangeEvent) 변경 내용을 고정 형식의 바이너리 레코드로
+ * 세그먼트 파일 끝에 덧붙입니다. 수정 레코드에는 바뀐 필드만 들어갑니다.
+ * 저널은 지워지지 않고 계속 쌓이므로, 재시작 후 UserJournalReader로 처음부터 다시 읽어서
+ * 사용자 상태나 그로부터 파생된 인덱스/캐시를 데이터베이스를 거치지 않고 다시 만들 수 있습니다.
+ * (예: UserPhoneIndex는 기동할 때 users 테이블 대신 저널로 만듦)
+ * app.users.journal.enabled=true 일 때만 생성됩니다.
+ *
+ * 쓰기 방식:
+ * - 세그먼트 파일은 segment-size 크기로 메모리 매핑해 두고, 레코드는 매핑된 버퍼에 복사만 합니다. (시스템 콜 없음)
+ * - 레코드가 현재 세그먼트에 들어가지 않으면 세그먼트를 디스크에 내리고 새 세그먼트로 넘어갑니다. (segment rolling)
+ * - 디스크에 내리는(force) 일은 flush 스레드가 flush-interval-ms마다 그동안 쓴 범위를 한 번에 합니다. (group flush)
+ *   sync=true이면 변경을 기록한 요청 스레드가 자기 레코드가 디스크에 내려갈 때까지 기다리며,
+ *   동시에 기다리는 요청들은 한 번의 force로 함께 끝납니다. (group commit)
+ *
+ * 기동할 때 마지막 세그먼트를 처음부터 읽어서 마지막 레코드 다음 위치부터 이어 씁니다.
+ * 쓰는 도중 프로세스가 죽어 잘린 레코드(CRC 불일치)가 있으면 그 뒤를 0으로 지웁니다.
+ *
+ * 주요 학습 내용:
+ * 1. 메모리 매핑 파일(MappedByteBuffer)을 사용한 append-only 로그
+ * 2. 그룹 플러시/그룹 커밋으로 fsync 횟수 줄이기
+ * 3. 세그먼트 롤링과 잘린 꼬리 레코드 복구
+ * 4. 변경 로그를 다시 읽어 상태 복원하기 (이벤트 소싱의 기본 개념)
+ */
+@Component
+@ConditionalOnProperty(name = "app.users.journal.enabled", havingValue = "true")
+public class UserJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(UserJournal.class);
+
+    /**
+     * 세그먼트 파일을 저장할 디렉터리
+     */
+    @Value("${app.users.journal.directory:./data/journal}")
+    private String directory;
+
+    /**
+     * 세그먼트 파일 하나의 크기 (레코드가 들어가지 않으면 새 세그먼트를 만듦)
+     */
+    @Value("${app.users.journal.segment-size:64MB}")
+    private DataSize segmentSize;
+
+    /**
+     * flush 스레드가 디스크에 내리는 간격 (밀리초)
+     */
+    @Value("${app.users.journal.flush-interval-ms:10}")
+    private long flushIntervalMs;
+
+    /**
+     * true이면 변경을 기록한 뒤 그 레코드가 디스크에 내려갈 때까지 기다림
+     */
+    @Value("${app.users.journal.sync:false}")
+    private boolean sync;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Path root;
+    private UserJournalReader reader;
+
+    // 현재 세그먼트와 쓰기 위치 (this로 동기화)
+    private Segment segment;
+    private long nextLsn;
+    private int dirtyFrom;
+    private int forcedTo;       // 현재 세그먼트에서 디스크에 내려간 것이 확인된 위치 (진행 중인 flush 범위는 포함하지 않음)
+    private Segment forcing;    // flush 스레드가 force하고 있는 세그먼트
+    private Segment retired;    // 롤링으로 닫아야 하지만 force가 진행 중이라 flush 스레드가 닫을 세그먼트
+    private long appendCount;
+    private long appendedBytes;
+    private long rollCount;
+    private long failureCount;
+
+    // flush 상태 (flushLock으로 동기화)
+    private final Object flushLock = new Object();
+    private long flushedLsn;
+    private long flushCount;
+    private long flushedRecords;
+    private boolean flushRequested;
+    private volatile boolean running;
+    private Thread flusher;
+
+    /**
+     * 마지막 세그먼트를 열어 쓰기 위치를 복구하고 flush 스레드 시작
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        if (segmentSize.toBytes() < DataSize.ofMegabytes(1).toBytes() || segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("app.users.journal.segment-size는 1MB 이상 2GB 미만이어야 합니다: " + segmentSize);
+        }
+        root = Path.of(directory).toAbsolutePath();
+        Files.createDirectories(root);
+        reader = new UserJournalReader(root);
+
+        List<Path> segments = UserJournalFormat.listSegments(root);
+        if (segments.isEmpty()) {
+            segment = Segment.open(root.resolve(UserJournalFormat.segmentName(1)), (int) segmentSize.toBytes());
+            nextLsn = 1;
+        } else {
+            recover(segments.get(segments.size() - 1));
+        }
+        dirtyFrom = segment.buffer.position();
+        forcedTo = dirtyFrom;
+        flushedLsn = nextLsn - 1;
+
+        // 인메모리 데이터베이스는 재시작하면 비어 있으므로, 이전 기록과 이번 기동 이후 기록을 구분해 둠
+        if (nextLsn > 1 && userRepository.count() == 0) {
+            append(UserJournalRecord.Op.RESET, 0, 0, null);
+        }
+
+        running = true;
+        flusher = new Thread(this::runFlusher, "user-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("사용자 저널 열기 완료: {} (세그먼트 {}개, 다음 LSN {})", root, segments.size(), nextLsn);
+    }
+
+    /**
+     * 마지막 세그먼트를 읽어 마지막 레코드 다음 위치를 찾고, 잘린 레코드가 있으면 지움
+     */
+    private void recover(Path path) throws IOException {
+        long firstLsn = UserJournalFormat.firstLsnOf(path);
+        int size = (int) Math.max(Files.size(path), segmentSize.toBytes());
+        segment = Segment.open(path, size);
+
+        MappedByteBuffer buffer = segment.buffer;
+        long lastLsn = firstLsn - 1;
+        UserJournalRecord record;
+        while ((record = UserJournalFormat.decode(buffer)) != null) {
+            lastLsn = record.lsn();
+        }
+        nextLsn = lastLsn + 1;
+
+        int end = buffer.position();
+        if (end + 4 <= buffer.capacity() && buffer.getInt(end) != 0) {
+            log.warn("사용자 저널 {}의 {}바이트 위치에서 잘린 레코드를 발견해서 지웁니다.", path.getFileName(), end);
+            for (int i = end; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+    }
+
+    /**
+     * 사용자 변경 기록 (트랜잭션 커밋 후 호출됨)
+     *
+     * 저널 기록에 실패해도 이미 커밋된 변경은 되돌릴 수 없으므로 오류를 로그로만 남깁니다.
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onUserChange(UserChangeEvent event) {
+        switch (event.getType()) {
+            case CREATED -> record(event, UserJournalRecord.Op.CREATED, event.getUserId(),
+                    UserJournalFormat.ALL_FIELDS, event.getUser(), sync);
+            case UPDATED -> record(event, UserJournalRecord.Op.UPDATED, event.getUserId(),
+                    UserJournalFormat.changedFields(event.getPrevious(), event.getUser()), event.getUser(), sync);
+            case DELETED -> record(event, UserJournalRecord.Op.DELETED, event.getUserId(), 0, null, sync);
+        }
+    }
+
+    /**
+     * 대량 적재 기록 (행별 기록 대신 적재한 행 수만 남기고, 디스크에 내려갈 때까지 기다림)
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public void onBulkLoad(UserBulkLoadedEvent event) {
+        record(event, UserJournalRecord.Op.BULK_LOADED, event.getRowCount(), 0, null, true);
+    }
+
+    private void record(Object event, UserJournalRecord.Op op, long userId, int fields, User user, boolean wait) {
+        try {
+            long lsn = append(op, userId, fields, user);
+            if (wait) {
+                awaitFlushed(lsn);
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                failureCount++;
+            }
+            log.error("사용자 저널 기록 실패 ({}): {}", event, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 레코드 하나를 현재 세그먼트 끝에 덧붙임 (디스크에 내리는 것은 flush 스레드가 함)
+     *
+     * @return 기록한 레코드의 LSN
+     */
+    synchronized long append(UserJournalRecord.Op op, long userId, int fields, User user) {
+        if (segment == null) {
+            throw new IllegalStateException("사용자 저널이 닫혀 있습니다.");
+        }
+        long lsn = nextLsn;
+        byte[] record = UserJournalFormat.encode(lsn, UserJournalFormat.currentMicros(), op, userId, fields, user);
+        if (record.length > segment.buffer.remaining()) {
+            roll(lsn);
+        }
+        segment.buffer.put(record);
+        nextLsn++;
+        appendCount++;
+        appendedBytes += record.length;
+        return lsn;
+    }
+
+    /**
+     * 현재 세그먼트를 디스크에 내리고 닫은 뒤 firstLsn으로 시작하는 새 세그먼트를 만듦 (this 잠금 안에서 호출)
+     *
+     * flush 스레드가 잠금 밖에서 force하는 중일 수 있으므로, dirtyFrom이 아니라 마지막으로 확인된 위치(forcedTo)부터 내립니다.
+     * 그래야 진행 중인 flush 범위의 레코드를 기다리는 sync 요청을 그 범위가 디스크에 내려간 뒤에 깨웁니다.
+     * force가 진행 중인 세그먼트는 여기서 닫지 않고 flush 스레드가 끝난 뒤 닫습니다.
+     */
+    private void roll(long firstLsn) {
+        Segment previous = segment;
+        int end = previous.buffer.position();
+        if (end > forcedTo) {
+            previous.buffer.force(forcedTo, end - forcedTo);
+        }
+        synchronized (flushLock) {
+            if (firstLsn - 1 > flushedLsn) {
+                flushedRecords += firstLsn - 1 - flushedLsn;
+                flushedLsn = firstLsn - 1;
+            }
+            flushCount++;
+            flushLock.notifyAll();
+        }
+        try {
+            if (forcing == previous) {
+                retired = previous;
+            } else {
+                previous.channel.close();
+            }
+            segment = Segment.open(root.resolve(UserJournalFormat.segmentName(firstLsn)), (int) segmentSize.toBytes());
+        } catch (IOException e) {
+            segment = null;
+            throw new UncheckedIOException("사용자 저널 세그먼트를 만들 수 없습니다.", e);
+        }
+        dirtyFrom = 0;
+        forcedTo = 0;
+        rollCount++;
+        log.info("사용자 저널 세그먼트 전환: {} → {}", previous.path.getFileName(), segment.path.getFileName());
+    }
+
+    /**
+     * lsn까지의 레코드가 디스크에 내려갈 때까지 대기 (flush 스레드를 바로 깨움)
+     */
+    private void awaitFlushed(long lsn) {
+        synchronized (flushLock) {
+            flushRequested = true;
+            flushLock.notifyAll();
+            while (flushedLsn < lsn && running) {
+                try {
+                    flushLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void runFlusher() {
+        while (running) {
+            synchronized (flushLock) {
+                if (!flushRequested) {
+                    try {
+                        flushLock.wait(flushIntervalMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                flushRequested = false;
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("사용자 저널 flush 실패: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 마지막 flush 이후 쓴 범위를 디스크에 내림
+     * (범위를 정하는 동안만 잠그므로 force하는 동안에도 다른 스레드는 계속 기록할 수 있음)
+     */
+    private void flush() {
+        Segment target;
+        int from;
+        int to;
+        long lastLsn;
+        synchronized (this) {
+            lastLsn = nextLsn - 1;
+            if (segment == null || lastLsn <= flushedLsn()) {
+                return;
+            }
+            target = segment;
+            from = dirtyFrom;
+            to = target.buffer.position();
+            dirtyFrom = to;
+            forcing = target;
+        }
+        try {
+            if (to > from) {
+                target.buffer.force(from, to - from);
+            }
+        } finally {
+            synchronized (this) {
+                forcing = null;
+                if (target == segment) {
+                    forcedTo = Math.max(forcedTo, to);
+                }
+                if (target == retired) {
+                    // force하는 동안 롤링된 세그먼트 (롤링이 남은 범위까지 이미 디스크에 내림)
+                    retired = null;
+                    closeQuietly(target);
+                }
+            }
+        }
+        synchronized (flushLock) {
+            if (lastLsn > flushedLsn) {
+                flushedRecords += lastLsn - flushedLsn;
+                flushedLsn = lastLsn;
+            }
+            flushCount++;
+            flushLock.notifyAll();
+        }
+    }
+
+    private static void closeQuietly(Segment segment) {
+        try {
+            segment.channel.close();
+        } catch (IOException e) {
+            log.warn("사용자 저널 세그먼트 {}를 닫을 수 없습니다: {}", segment.path.getFileName(), e.getMessage());
+        }
+    }
+
+    private long flushedLsn() {
+        synchronized (flushLock) {
+            return flushedLsn;
+        }
+    }
+
+    /**
+     * 저널 읽기 도구 (같은 디렉터리를 읽음)
+     */
+    public UserJournalReader getReader() {
+        return reader;
+    }
+
+    /**
+     * 마지막으로 기록한 레코드의 LSN
+     */
+    public synchronized long getLastLsn() {
+        return nextLsn - 1;
+    }
+
+    /**
+     * 저널 상태
+     *
+     * @return 디렉터리, 세그먼트 수, 마지막/디스크에 내려간 LSN, 기록/flush 횟수
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("directory", root.toString());
+        synchronized (this) {
+            status.put("currentSegment", segment == null ? null : segment.path.getFileName().toString());
+            status.put("currentSegmentBytes", segment == null ? 0 : segment.buffer.position());
+            status.put("segmentSize", segmentSize.toBytes());
+            status.put("lastLsn", nextLsn - 1);
+            status.put("appendCount", appendCount);
+            status.put("appendedBytes", appendedBytes);
+            status.put("rollCount", rollCount);
+            status.put("failureCount", failureCount);
+        }
+        synchronized (flushLock) {
+            status.put("flushedLsn", flushedLsn);
+            status.put("flushCount", flushCount);
+            status.put("recordsPerFlush", flushCount == 0 ? 0.0 : Math.round(flushedRecords * 100.0 / flushCount) / 100.0);
+        }
+        status.put("sync", sync);
+        try {
+            List<Path> segments = UserJournalFormat.listSegments(root);
+            long totalBytes = 0;
+            for (Path path : segments) {
+                totalBytes += Files.size(path);
+            }
+            status.put("segmentCount", segments.size());
+            status.put("totalFileBytes", totalBytes);
+        } catch (IOException e) {
+            status.put("segmentCount", null);
+        }
+        return status;
+    }
+
+    /**
+     * flush 스레드를 멈추고 남은 레코드를 디스크에 내린 뒤 세그먼트를 닫음
+     */
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        synchronized (flushLock) {
+            flushLock.notifyAll();
+        }
+        if (flusher != null) {
+            flusher.join(5_000);
+        }
+        flush();
+        synchronized (this) {
+            if (retired != null) {
+                closeQuietly(retired);
+                retired = null;
+            }
+            if (segment != null) {
+                segment.channel.close();
+                segment = null;
+            }
+        }
+    }
+
+    /**
+     * 쓰기 중인 세그먼트 파일
+     */
+    private record Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+
+        static Segment open(Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                // 파일보다 크게 매핑하면 파일이 그 크기로 늘어남 (새로 늘어난 부분은 0)
+                return new Segment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+    }
+}
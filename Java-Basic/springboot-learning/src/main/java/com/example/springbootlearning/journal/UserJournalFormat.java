@@ -0,0 +1,235 @@
+package com.example.springbootlearning.journal;
+
+import com.example.springbootlearning.entity.User;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 사용자 변경 저널 파일 형식
+ *
+ * 세그먼트 파일(journal-{첫 LSN 20자리}.seg)은 처음부터 정해진 크기로 만들어지고, 레코드를 앞에서부터 이어 씁니다.
+ * 아직 쓰지 않은 부분은 0이므로 길이가 0인 곳이 세그먼트의 끝입니다.
+ *
+ * 레코드 구조 (정수는 빅 엔디언):
+ *
+ *   고정 헤더 34바이트  길이(int, 헤더 포함) | CRC32(int) | LSN(long) | 시각(long, epoch 마이크로초)
+ *                      | 종류(byte) | 필드 비트(byte) | 사용자 ID(long)
+ *   필드 값            필드 비트 순서대로 문자열은 [길이(unsigned short, 0xFFFF = null) | UTF-8], 나이는 int (MIN_VALUE = null)
+ *
+ * CRC32는 LSN부터 레코드 끝까지 계산합니다. 쓰는 도중에 프로세스가 죽어 잘린 레코드는 CRC가 맞지 않으므로,
+ * 읽을 때 CRC가 맞지 않는 첫 레코드를 저널의 끝으로 봅니다.
+ */
+public final class UserJournalFormat {
+
+    static final int HEADER_SIZE = 34;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int CRC_START = 8;
+    private static final int NULL_STRING = 0xFFFF;
+    private static final int NULL_AGE = Integer.MIN_VALUE;
+
+    public static final int FIELD_NAME = 1;
+    public static final int FIELD_EMAIL = 1 << 1;
+    public static final int FIELD_AGE = 1 << 2;
+    public static final int FIELD_PHONE_NUMBER = 1 << 3;
+    public static final int FIELD_ADDRESS = 1 << 4;
+    public static final int ALL_FIELDS = FIELD_NAME | FIELD_EMAIL | FIELD_AGE | FIELD_PHONE_NUMBER | FIELD_ADDRESS;
+
+    private UserJournalFormat() {
+    }
+
+    static String segmentName(long firstLsn) {
+        return String.format(SEGMENT_PREFIX + "%020d" + SEGMENT_SUFFIX, firstLsn);
+    }
+
+    /**
+     * 디렉터리의 세그먼트 파일 목록 (첫 LSN 순서)
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static long firstLsnOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 변경 전/후에서 값이 바뀐 필드 비트
+     */
+    static int changedFields(User before, User after) {
+        if (before == null) {
+            return ALL_FIELDS;
+        }
+        int fields = 0;
+        if (!Objects.equals(before.getName(), after.getName())) {
+            fields |= FIELD_NAME;
+        }
+        if (!Objects.equals(before.getEmail(), after.getEmail())) {
+            fields |= FIELD_EMAIL;
+        }
+        if (!Objects.equals(before.getAge(), after.getAge())) {
+            fields |= FIELD_AGE;
+        }
+        if (!Objects.equals(before.getPhoneNumber(), after.getPhoneNumber())) {
+            fields |= FIELD_PHONE_NUMBER;
+        }
+        if (!Objects.equals(before.getAddress(), after.getAddress())) {
+            fields |= FIELD_ADDRESS;
+        }
+        return fields;
+    }
+
+    /**
+     * 레코드를 인코딩한 바이트 (길이와 CRC 포함)
+     */
+    static byte[] encode(long lsn, long timestampMicros, UserJournalRecord.Op op, long userId, int fields, User user) {
+        byte[][] strings = new byte[5][];
+        int size = HEADER_SIZE;
+        if ((fields & FIELD_NAME) != 0) {
+            size += stringSize(strings, 0, user.getName());
+        }
+        if ((fields & FIELD_EMAIL) != 0) {
+            size += stringSize(strings, 1, user.getEmail());
+        }
+        if ((fields & FIELD_AGE) != 0) {
+            size += 4;
+        }
+        if ((fields & FIELD_PHONE_NUMBER) != 0) {
+            size += stringSize(strings, 3, user.getPhoneNumber());
+        }
+        if ((fields & FIELD_ADDRESS) != 0) {
+            size += stringSize(strings, 4, user.getAddress());
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(size);
+        buffer.putInt(0);  // CRC (아래에서 채움)
+        buffer.putLong(lsn);
+        buffer.putLong(timestampMicros);
+        buffer.put(op.code());
+        buffer.put((byte) fields);
+        buffer.putLong(userId);
+        if ((fields & FIELD_NAME) != 0) {
+            putString(buffer, strings[0]);
+        }
+        if ((fields & FIELD_EMAIL) != 0) {
+            putString(buffer, strings[1]);
+        }
+        if ((fields & FIELD_AGE) != 0) {
+            buffer.putInt(user.getAge() == null ? NULL_AGE : user.getAge());
+        }
+        if ((fields & FIELD_PHONE_NUMBER) != 0) {
+            putString(buffer, strings[3]);
+        }
+        if ((fields & FIELD_ADDRESS) != 0) {
+            putString(buffer, strings[4]);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), CRC_START, size - CRC_START);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    private static int stringSize(byte[][] strings, int index, String value) {
+        strings[index] = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+        if (strings[index] != null && strings[index].length >= NULL_STRING) {
+            throw new IllegalArgumentException("저널에 기록할 수 없는 길이의 값입니다: " + strings[index].length + "바이트");
+        }
+        return 2 + (strings[index] == null ? 0 : strings[index].length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putShort((short) NULL_STRING);
+        } else {
+            buffer.putShort((short) value.length);
+            buffer.put(value);
+        }
+    }
+
+    /**
+     * buffer의 현재 위치에서 레코드 하나 읽기 (성공하면 위치가 다음 레코드로 이동)
+     *
+     * @return 레코드, 세그먼트 끝이거나 잘린 레코드이면 null (위치는 그대로)
+     */
+    static UserJournalRecord decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE) {
+            return null;
+        }
+        int length = buffer.getInt(start);
+        if (length < HEADER_SIZE || length > buffer.remaining()) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(start + CRC_START, length - CRC_START));
+        if ((int) crc.getValue() != buffer.getInt(start + 4)) {
+            return null;
+        }
+
+        ByteBuffer record = buffer.slice(start, length);
+        record.position(CRC_START);
+        long lsn = record.getLong();
+        long micros = record.getLong();
+        UserJournalRecord.Op op = UserJournalRecord.Op.fromCode(record.get());
+        int fields = record.get();
+        long userId = record.getLong();
+        String name = (fields & FIELD_NAME) != 0 ? getString(record) : null;
+        String email = (fields & FIELD_EMAIL) != 0 ? getString(record) : null;
+        Integer age = null;
+        if ((fields & FIELD_AGE) != 0) {
+            int value = record.getInt();
+            age = value == NULL_AGE ? null : value;
+        }
+        String phoneNumber = (fields & FIELD_PHONE_NUMBER) != 0 ? getString(record) : null;
+        String address = (fields & FIELD_ADDRESS) != 0 ? getString(record) : null;
+
+        buffer.position(start + length);
+        return new UserJournalRecord(lsn, toLocalDateTime(micros), op, userId, fields,
+                name, email, age, phoneNumber, address);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static long currentMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+
+    private static LocalDateTime toLocalDateTime(long micros) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                Math.floorMod(micros, 1_000_000L) * 1_000L), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.springbootlearning.journal;
+
+import com.example.springbootlearning.entity.User;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 변경 저널 읽기 도구
+ *
+ * 세그먼트 파일을 읽기 전용으로 메모리 매핑해서 레코드를 LSN 순서대로 읽습니다.
+ * 세그먼트 파일 이름이 첫 LSN이므로, 중간부터 읽을 때는 그 LSN이 들어 있는 세그먼트부터 엽니다.
+ * 애플리케이션이 실행 중이 아니어도(저널 디렉터리만 있으면) 사용할 수 있습니다.
+ */
+public final class UserJournalReader {
+
+    private final Path directory;
+
+    public UserJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * fromLsn부터 toLsn까지의 레코드를 차례로 전달
+     *
+     * @param fromLsn 처음 LSN (포함)
+     * @param toLsn 마지막 LSN (포함, 쓰는 중인 레코드를 읽지 않도록 UserJournal.getLastLsn()을 넘김)
+     * @param consumer 레코드를 받을 함수
+     * @return 전달한 레코드 수
+     * @throws IOException 세그먼트 파일을 읽을 수 없는 경우
+     */
+    public long replay(long fromLsn, long toLsn, Consumer<UserJournalRecord> consumer) throws IOException {
+        List<Path> segments = UserJournalFormat.listSegments(directory);
+        int first = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            if (UserJournalFormat.firstLsnOf(segments.get(i)) <= fromLsn) {
+                first = i;
+            }
+        }
+
+        long count = 0;
+        for (int i = first; i < segments.size(); i++) {
+            if (UserJournalFormat.firstLsnOf(segments.get(i)) > toLsn) {
+                break;
+            }
+            try (FileChannel channel = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                UserJournalRecord record;
+                while ((record = UserJournalFormat.decode(buffer)) != null && record.lsn() <= toLsn) {
+                    if (record.lsn() >= fromLsn) {
+                        consumer.accept(record);
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 저널 전체를 읽어 사용자 상태 복원
+     *
+     * 생성 레코드로 사용자를 만들고, 수정 레코드의 바뀐 필드를 덮어쓰고, 삭제 레코드로 지웁니다.
+     * BULK_LOADED/RESET 레코드를 만나면 그 이전 상태는 버립니다. (이후 기록만으로는 전체 상태가 아님)
+     *
+     * @param toLsn 마지막 LSN (포함)
+     * @return 복원한 상태
+     * @throws IOException 세그먼트 파일을 읽을 수 없는 경우
+     */
+    public Rebuilt rebuild(long toLsn) throws IOException {
+        long startedAt = System.nanoTime();
+        Map<Long, User> users = new HashMap<>();
+        UserJournalRecord[] boundary = new UserJournalRecord[1];  // 마지막 BULK_LOADED/RESET 레코드
+        long records = replay(1, toLsn, record -> {
+            switch (record.op()) {
+                case CREATED, UPDATED -> record.applyTo(users.computeIfAbsent(record.userId(), id -> new User()));
+                case DELETED -> users.remove(record.userId());
+                case BULK_LOADED, RESET -> {
+                    users.clear();
+                    boundary[0] = record;
+                }
+            }
+        });
+        return new Rebuilt(users, records,
+                boundary[0] == null ? 0 : boundary[0].lsn(),
+                boundary[0] != null && boundary[0].op() == UserJournalRecord.Op.BULK_LOADED,
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 저널로 복원한 사용자 상태
+     *
+     * @param users 사용자 ID → 사용자
+     * @param records 읽은 레코드 수
+     * @param boundaryLsn 마지막 BULK_LOADED/RESET 레코드의 LSN (없으면 0)
+     * @param partial 마지막 경계가 BULK_LOADED여서 대량 적재된 사용자가 빠져 있는지 여부
+     * @param elapsedMillis 걸린 시간 (밀리초)
+     */
+    public record Rebuilt(Map<Long, User> users, long records, long boundaryLsn, boolean partial, long elapsedMillis) {
+    }
+}
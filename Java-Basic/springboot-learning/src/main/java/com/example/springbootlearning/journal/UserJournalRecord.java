@@ -0,0 +1,88 @@
+package com.example.springbootlearning.journal;
+
+import com.example.springbootlearning.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 변경 저널 레코드 하나
+ *
+ * 수정(UPDATED) 레코드에는 바뀐 필드만 들어 있으며, 어떤 필드가 들어 있는지는 changedFields 비트로 알 수 있습니다.
+ * 들어 있지 않은 필드의 값은 null입니다.
+ *
+ * @param lsn 저널 순서 번호 (1부터 증가)
+ * @param timestamp 기록 시각 (서버 시간대)
+ * @param op 변경 종류
+ * @param userId 사용자 ID (BULK_LOADED이면 적재한 행 수, RESET이면 0)
+ * @param changedFields 들어 있는 필드 비트 (UserJournalFormat.FIELD_*)
+ */
+public record UserJournalRecord(long lsn, LocalDateTime timestamp, Op op, long userId, int changedFields,
+                                String name, String email, Integer age, String phoneNumber, String address) {
+
+    /**
+     * 변경 종류 (코드는 파일에 저장되므로 바꾸면 안 됨)
+     */
+    public enum Op {
+        CREATED(1),
+        UPDATED(2),
+        DELETED(3),
+
+        /**
+         * 행별 기록 없이 사용자를 대량 적재함 (이 레코드 이전 기록만으로는 현재 상태를 만들 수 없음)
+         */
+        BULK_LOADED(4),
+
+        /**
+         * 사용자 테이블이 빈 상태로 기동됨 (인메모리 데이터베이스 재시작 / 이 레코드 이전 기록은 현재 상태와 무관)
+         */
+        RESET(5);
+
+        private final byte code;
+
+        Op(int code) {
+            this.code = (byte) code;
+        }
+
+        byte code() {
+            return code;
+        }
+
+        static Op fromCode(byte code) {
+            for (Op op : values()) {
+                if (op.code == code) {
+                    return op;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 저널 레코드 종류: " + code);
+        }
+    }
+
+    /**
+     * 이 레코드의 필드를 사용자에 적용 (생성/수정 레코드를 차례로 적용하면 최신 상태가 됨)
+     *
+     * @param user 적용할 사용자
+     */
+    public void applyTo(User user) {
+        user.setId(userId);
+        if ((changedFields & UserJournalFormat.FIELD_NAME) != 0) {
+            user.setName(name);
+        }
+        if ((changedFields & UserJournalFormat.FIELD_EMAIL) != 0) {
+            user.setEmail(email);
+        }
+        if ((changedFields & UserJournalFormat.FIELD_AGE) != 0) {
+            user.setAge(age);
+        }
+        if ((changedFields & UserJournalFormat.FIELD_PHONE_NUMBER) != 0) {
+            user.setPhoneNumber(phoneNumber);
+        }
+        if ((changedFields & UserJournalFormat.FIELD_ADDRESS) != 0) {
+            user.setAddress(address);
+        }
+        if (op == Op.CREATED) {
+            user.setCreatedAt(timestamp);
+        } else if (op == Op.UPDATED) {
+            user.setUpdatedAt(timestamp);
+        }
+    }
+}
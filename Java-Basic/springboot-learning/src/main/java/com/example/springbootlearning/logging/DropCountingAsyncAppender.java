@@ -0,0 +1,41 @@
+package com.example.springbootlearning.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버려진 로그 수를 세는 비동기 어펜더
+ *
+ * logback의 AsyncAppender는 요청 스레드 대신 별도 스레드가 로그를 기록하도록
+ * 크기가 제한된 큐에 로그 이벤트를 넣습니다.
+ * - 큐에 남은 자리가 discardingThreshold보다 적으면 INFO 이하 로그를 버림
+ * - neverBlock=true이면 큐가 가득 찼을 때 기다리지 않고 버림 (요청 스레드가 로그 때문에 멈추지 않음)
+ *
+ * 기본 AsyncAppender는 버린 개수를 알려주지 않으므로, 같은 조건으로 개수를 세어 둡니다.
+ * (동시에 여러 스레드가 기록하면 근삿값)
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if ((remaining < getDiscardingThreshold() && isDiscardable(event))
+                || (remaining == 0 && isNeverBlock())) {
+            dropped.increment();
+        }
+        super.append(event);
+    }
+
+    /**
+     * 큐가 차서 버려진 로그 수
+     *
+     * @return 버려진 로그 수
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.springbootlearning.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * JSON 로그 인코더
+ *
+ * 로그 이벤트 하나를 JSON 한 줄로 변환합니다. (JSON Lines 형식)
+ * 로그 수집기가 문자열 패턴을 다시 파싱하지 않고 필드별로 바로 검색할 수 있습니다.
+ *
+ * 출력 예:
+ * {"timestamp":"2024-01-01T12:00:00.000+09:00","level":"INFO","logger":"...","thread":"main","message":"..."}
+ *
+ * MDC 값이 있으면 "mdc" 객체로, 예외가 있으면 스택 트레이스를 "exception" 문자열로 추가합니다.
+ * 매 이벤트마다 Jackson 같은 범용 직렬화기를 거치지 않도록 직접 문자열을 만듭니다.
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneId.systemDefault());
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"timestamp\":\"")
+                .append(TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(event.getTimeStamp())))
+                .append("\",\"level\":\"").append(event.getLevel())
+                .append("\",\"logger\":");
+        appendString(json, event.getLoggerName());
+        json.append(",\"thread\":");
+        appendString(json, event.getThreadName());
+        json.append(",\"message\":");
+        appendString(json, event.getFormattedMessage());
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            json.append(",\"mdc\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                appendString(json, entry.getKey());
+                json.append(':');
+                appendString(json, entry.getValue());
+                first = false;
+            }
+            json.append('}');
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            json.append(",\"exception\":");
+            appendString(json, ThrowableProxyUtil.asString(throwable));
+        }
+
+        json.append("}\n");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    /**
+     * JSON 문자열 값 추가 (따옴표, 역슬래시, 제어 문자 이스케이프)
+     */
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.springbootlearning.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로거별 로그 샘플링 필터
+ *
+ * 로거 이름(패키지 접두사)마다 남길 비율(0.0 ~ 1.0)을 지정하면,
+ * 그 로거의 로그 중 해당 비율만 무작위로 남기고 나머지는 버립니다.
+ * 예: org.hibernate.SQL=0.1 → SQL 로그 10개 중 약 1개만 기록
+ *
+ * - WARN 이상 로그는 샘플링하지 않고 항상 기록합니다.
+ * - 가장 긴(구체적인) 로거 이름 접두사의 비율이 적용됩니다.
+ * - 비율은 실행 중에 바꿀 수 있습니다. (/api/logging/sampling)
+ *
+ * TurboFilter는 로그 이벤트 객체를 만들기 전에 호출되므로, 버려지는 로그는 메시지 포맷팅 비용도 들지 않습니다.
+ * 설정된 비율과 로거 이름별 계산 결과는 하나의 스냅숏(Rates)으로 묶어 volatile 필드로 통째로 바꿉니다.
+ * 비율을 바꾸는 도중에 이전 설정으로 계산한 값은 이전 스냅숏에만 들어가므로 새 설정에 섞이지 않습니다.
+ * logback-spring.xml에서 등록합니다.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    /**
+     * 설정된 비율과 그 설정으로 계산해 둔 로거 이름별 비율
+     *
+     * @param configured 로거 이름 접두사 → 비율 (바뀌지 않음)
+     * @param resolved 로거 이름 → 적용할 비율 (이 스냅숏의 configured로만 계산해서 채움)
+     */
+    private record Rates(Map<String, Double> configured, Map<String, Double> resolved) {
+        private Rates(Map<String, Double> configured) {
+            this(Map.copyOf(configured), new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 현재 스냅숏 (setRate가 새 스냅숏으로 바꿈)
+     */
+    private volatile Rates rates = new Rates(Map.of());
+
+    private final LongAdder sampledIn = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+
+    /**
+     * 실행 중인 로거 컨텍스트에 등록된 샘플링 필터 찾기
+     *
+     * @return 샘플링 필터 (logback-spring.xml에 등록되지 않았으면 새로 만들어 등록)
+     */
+    public static synchronized SamplingTurboFilter get() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof SamplingTurboFilter sampling) {
+                return sampling;
+            }
+        }
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+        return filter;
+    }
+
+    /**
+     * 설정 문자열로 비율 지정 (logback-spring.xml의 &lt;rates&gt; 요소에서 호출)
+     *
+     * @param spec "로거=비율" 목록을 쉼표로 구분한 문자열 (예: "org.hibernate.SQL=0.1,org.springframework.web=0.5")
+     */
+    public void setRates(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return;
+        }
+        for (String entry : spec.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("샘플링 설정 형식이 올바르지 않습니다 (로거=비율): " + entry.trim());
+            }
+            setRate(entry.substring(0, separator).trim(), Double.parseDouble(entry.substring(separator + 1).trim()));
+        }
+    }
+
+    /**
+     * 로거의 샘플링 비율 변경
+     *
+     * @param loggerName 로거 이름 또는 패키지 접두사 (ROOT는 전체)
+     * @param rate 남길 비율 (0.0 ~ 1.0, 1.0이면 샘플링 해제)
+     * @throws IllegalArgumentException 비율이 범위를 벗어난 경우
+     */
+    public synchronized void setRate(String loggerName, double rate) {
+        if (loggerName == null || loggerName.isBlank()) {
+            throw new IllegalArgumentException("로거 이름은 필수입니다.");
+        }
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException("샘플링 비율은 0.0 이상 1.0 이하여야 합니다: " + rate);
+        }
+        Map<String, Double> configured = new HashMap<>(rates.configured());
+        if (rate == 1.0) {
+            configured.remove(loggerName);
+        } else {
+            configured.put(loggerName, rate);
+        }
+        rates = new Rates(configured);
+    }
+
+    /**
+     * 현재 설정된 비율 (로거 이름 순)
+     *
+     * @return 로거 이름 접두사 → 비율
+     */
+    public Map<String, Double> getRates() {
+        return new TreeMap<>(rates.configured());
+    }
+
+    /**
+     * 샘플링 대상 로그 중 기록된 수
+     *
+     * @return 기록된 로그 수
+     */
+    public long getSampledIn() {
+        return sampledIn.sum();
+    }
+
+    /**
+     * 샘플링으로 버려진 로그 수
+     *
+     * @return 버려진 로그 수
+     */
+    public long getSampledOut() {
+        return sampledOut.sum();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isDebugEnabled() 같은 레벨 확인 호출(format == null)과 WARN 이상은 샘플링하지 않음
+        // (레벨 확인까지 샘플링하면 실제 비율이 rate²로 줄어듦)
+        Rates current = rates;
+        if (format == null || level == null || level.isGreaterOrEqual(Level.WARN) || current.configured().isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!logger.isEnabledFor(level)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        double rate = current.resolved().computeIfAbsent(logger.getName(), name -> resolveRate(current.configured(), name));
+        if (rate >= 1.0) {
+            return FilterReply.NEUTRAL;
+        }
+        if (ThreadLocalRandom.current().nextDouble() < rate) {
+            sampledIn.increment();
+            return FilterReply.NEUTRAL;
+        }
+        sampledOut.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * 로거 이름에 적용할 비율 찾기 (a.b.C → a.b.C, a.b, a, ROOT 순서로 확인)
+     */
+    private static double resolveRate(Map<String, Double> rates, String loggerName) {
+        String name = loggerName;
+        while (true) {
+            Double rate = rates.get(name);
+            if (rate != null) {
+                return rate;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                break;
+            }
+            name = name.substring(0, dot);
+        }
+        return rates.getOrDefault(Logger.ROOT_LOGGER_NAME, 1.0);
+    }
+}
@@ -0,0 +1,669 @@
+package com.example.springbootlearning.repository;
+
+import com.example.springbootlearning.entity.User;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 샤딩된 사용자 리포지토리 (여러 H2 파일 데이터베이스에 사용자를 나누어 저장)
+ *
+ * 하나의 H2 데이터베이스는 쓰기 잠금을 하나만 가지므로 쓰기 처리량에 한계가 있습니다.
+ * 이 리포지토리는 사용자를 N개의 H2 파일 데이터베이스(샤드)에 나누어 저장해서
+ * 서로 다른 샤드에 대한 쓰기가 동시에 진행되도록 합니다.
+ * app.users.sharding.enabled=true 일 때만 생성되며, JPA의 UserRepository와는 별도의 저장소입니다.
+ *
+ * 데이터 배치:
+ * - 사용자 행: id를 샤드 수로 나눈 나머지 번호의 샤드 (users 테이블)
+ * - 이메일 디렉터리: 이메일 해시로 정한 샤드 (email_directory 테이블, 이메일 → 사용자 ID)
+ * - ID 할당기: 0번 샤드의 shard_meta 테이블 (블록 단위로 할당)
+ *
+ * 이메일 유일성은 이메일 디렉터리의 기본 키가 전체 샤드에 걸쳐 보장하고,
+ * 각 샤드의 users.email UNIQUE 제약은 샤드 안에서 한 번 더 보장합니다.
+ * 디렉터리와 사용자 행은 서로 다른 데이터베이스에 있어 한 트랜잭션으로 묶을 수 없으므로,
+ * 등록의 주인은 "그 ID의 사용자 행이 지금 그 이메일을 가지고 있는지"로 판단합니다.
+ * 중단된 저장이나 수정이 남긴 등록(행이 없거나 행의 이메일이 다름)은 다음에 그 이메일을 등록할 때 넘겨받으며,
+ * 같은 사용자의 저장/수정/삭제와 이 판단은 사용자 ID별 잠금으로 직렬화합니다.
+ *
+ * 목록/통계 조회는 모든 샤드에 동시에 쿼리를 보내고(scatter) 결과를 합칩니다(gather).
+ * 정렬된 목록은 각 샤드가 정렬한 결과를 k-way 병합해서 전체를 다시 정렬하지 않습니다.
+ *
+ * 주요 학습 내용:
+ * 1. 해시 샤딩과 라우팅 키
+ * 2. 전역 ID 할당 (hi/lo 블록 할당)
+ * 3. 샤드를 가로지르는 유일성 제약 (전역 디렉터리)
+ * 4. scatter-gather 쿼리와 k-way 병합 정렬
+ */
+@Repository
+@ConditionalOnProperty(name = "app.users.sharding.enabled", havingValue = "true")
+public class ShardedUserRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedUserRepository.class);
+
+    private static final String USER_COLUMNS =
+            "id, name, email, age, phone_number, address, created_at, updated_at";
+
+    private static final String AGE_GROUP_EXPRESSION = """
+            CASE
+                WHEN age < 20 THEN '10대'
+                WHEN age < 30 THEN '20대'
+                WHEN age < 40 THEN '30대'
+                WHEN age < 50 THEN '40대'
+                WHEN age < 60 THEN '50대'
+                ELSE '60대 이상'
+            END""";
+
+    private static final RowMapper<User> USER_ROW_MAPPER = (rs, rowNum) -> {
+        User user = new User();
+        user.setId(rs.getLong("id"));
+        user.setName(rs.getString("name"));
+        user.setEmail(rs.getString("email"));
+        user.setAge(rs.getInt("age"));
+        user.setPhoneNumber(rs.getString("phone_number"));
+        user.setAddress(rs.getString("address"));
+        user.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        user.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        return user;
+    };
+
+    private static final Comparator<User> BY_AGE_ASC =
+            Comparator.comparing(User::getAge).thenComparing(User::getId);
+
+    private static final Comparator<User> BY_NAME_DESC =
+            Comparator.comparing(User::getName).reversed().thenComparing(User::getId);
+
+    /**
+     * 샤드 수 (데이터가 저장된 뒤에는 바꿀 수 없음)
+     */
+    @Value("${app.users.sharding.shard-count:4}")
+    private int shardCount;
+
+    /**
+     * 샤드 데이터베이스 파일을 저장할 디렉터리
+     */
+    @Value("${app.users.sharding.directory:./data/shards}")
+    private String directory;
+
+    /**
+     * 샤드별 커넥션 풀 크기
+     */
+    @Value("${app.users.sharding.pool-size:4}")
+    private int poolSize;
+
+    /**
+     * ID 할당기에서 한 번에 가져올 ID 개수
+     */
+    @Value("${app.users.sharding.id-block-size:100}")
+    private int idBlockSize;
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+    private TransactionTemplate allocatorTransaction;
+    private ExecutorService scatterExecutor;
+
+    /**
+     * 사용자 ID별 잠금 (ID를 나눈 나머지로 고름, 디렉터리 등록과 사용자 행 변경을 한 사용자 안에서 직렬화)
+     */
+    private final ReentrantLock[] userLocks = new ReentrantLock[64];
+
+    // 현재 할당받은 ID 블록 (this로 동기화)
+    private long nextId;
+    private long blockEnd;
+
+    /**
+     * 샤드 데이터베이스 연결 및 테이블 생성
+     */
+    @PostConstruct
+    public void init() {
+        Arrays.setAll(userLocks, i -> new ReentrantLock());
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("app.users.sharding.shard-count는 1 이상이어야 합니다: " + shardCount);
+        }
+        Path root = Path.of(directory).toAbsolutePath();
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("샤드 디렉터리를 만들 수 없습니다: " + root, e);
+        }
+
+        for (int i = 0; i < shardCount; i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("user-shard-" + i);
+            config.setJdbcUrl("jdbc:h2:file:" + root.resolve("users-" + i));
+            config.setUsername("sa");
+            config.setPassword("");
+            config.setMaximumPoolSize(poolSize);
+            HikariDataSource dataSource = new HikariDataSource(config);
+            dataSources.add(dataSource);
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            createTables(jdbc);
+            shards.add(jdbc);
+        }
+
+        JdbcTemplate metaShard = shards.get(0);
+        allocatorTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSources.get(0)));
+        metaShard.update("INSERT INTO shard_meta (name, meta_value) "
+                + "SELECT 'next_id', 1 WHERE NOT EXISTS (SELECT 1 FROM shard_meta WHERE name = 'next_id')");
+        metaShard.update("INSERT INTO shard_meta (name, meta_value) "
+                + "SELECT 'shard_count', ? WHERE NOT EXISTS (SELECT 1 FROM shard_meta WHERE name = 'shard_count')",
+                shardCount);
+        long storedShardCount = metaShard.queryForObject(
+                "SELECT meta_value FROM shard_meta WHERE name = 'shard_count'", Long.class);
+        if (storedShardCount != shardCount) {
+            // 샤드 수가 바뀌면 id/이메일이 가리키는 샤드가 달라지므로 기존 데이터를 찾을 수 없게 됨
+            close();
+            throw new IllegalStateException("저장된 샤드 수(" + storedShardCount + ")와 설정된 샤드 수("
+                    + shardCount + ")가 다릅니다. 샤드 수를 바꾸려면 데이터를 재분배해야 합니다.");
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        scatterExecutor = Executors.newFixedThreadPool(shardCount, runnable -> {
+            Thread thread = new Thread(runnable, "user-shard-query-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow();
+        }
+        for (HikariDataSource dataSource : dataSources) {
+            dataSource.close();
+        }
+    }
+
+    private static void createTables(JdbcTemplate jdbc) {
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS users (
+                    id BIGINT PRIMARY KEY,
+                    name VARCHAR(50) NOT NULL,
+                    name_normalized VARCHAR(100),
+                    email VARCHAR(100) NOT NULL UNIQUE,
+                    age INT NOT NULL,
+                    phone_number VARCHAR(20),
+                    address VARCHAR(200),
+                    created_at TIMESTAMP,
+                    updated_at TIMESTAMP
+                )""");
+        // 정렬된 목록을 인덱스 순서대로 읽기 위한 인덱스 (k-way 병합의 입력)
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_users_age_id ON users (age, id)");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_users_name_id ON users (name DESC, id)");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_users_name_normalized ON users (name_normalized)");
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS email_directory (
+                    email VARCHAR(100) PRIMARY KEY,
+                    user_id BIGINT NOT NULL
+                )""");
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS shard_meta (
+                    name VARCHAR(50) PRIMARY KEY,
+                    meta_value BIGINT NOT NULL
+                )""");
+    }
+
+    // ===========================================
+    // 라우팅
+    // ===========================================
+
+    /**
+     * 사용자 행을 저장하는 샤드 번호 (ID가 연속으로 할당되므로 나머지 연산으로도 고르게 분산됨)
+     */
+    public int shardForId(long id) {
+        return (int) Math.floorMod(id, (long) shardCount);
+    }
+
+    /**
+     * 이메일 디렉터리 항목을 저장하는 샤드 번호
+     * (String.hashCode는 JVM이 달라도 값이 같으므로 재시작 후에도 같은 샤드를 가리킴)
+     */
+    public int shardForEmail(String email) {
+        return Math.floorMod(email.hashCode(), shardCount);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    // ===========================================
+    // 전역 ID 할당
+    // ===========================================
+
+    /**
+     * 새 사용자 ID 할당
+     *
+     * 0번 샤드의 카운터를 idBlockSize만큼 한 번에 올리고, 받은 블록 안에서는 메모리에서 ID를 나눠줍니다.
+     * (ID마다 카운터를 갱신하면 모든 쓰기가 0번 샤드의 잠금을 기다리게 됨)
+     * 재시작하면 쓰지 않은 블록의 나머지 ID는 건너뜁니다.
+     *
+     * @return 전체 샤드에서 유일한 ID
+     */
+    public synchronized long allocateId() {
+        if (nextId >= blockEnd) {
+            Long blockStart = allocatorTransaction.execute(status -> {
+                JdbcTemplate metaShard = shards.get(0);
+                Long start = metaShard.queryForObject(
+                        "SELECT meta_value FROM shard_meta WHERE name = 'next_id' FOR UPDATE", Long.class);
+                metaShard.update("UPDATE shard_meta SET meta_value = ? WHERE name = 'next_id'", start + idBlockSize);
+                return start;
+            });
+            nextId = blockStart;
+            blockEnd = blockStart + idBlockSize;
+        }
+        return nextId++;
+    }
+
+    // ===========================================
+    // 단건 조회/쓰기
+    // ===========================================
+
+    /**
+     * 새 사용자 저장
+     *
+     * 1. 전역 ID 할당
+     * 2. 이메일 디렉터리에 이메일 등록 (이미 있으면 DuplicateKeyException)
+     * 3. ID 샤드에 사용자 행 저장 (실패하면 등록한 이메일을 되돌림)
+     *
+     * @param user 저장할 사용자 (id는 무시됨)
+     * @return 저장된 사용자 (id, 생성/수정 시각 포함)
+     * @throws DuplicateKeyException 이메일이 이미 등록된 경우
+     */
+    public User insert(User user) {
+        long id = allocateId();
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            claimEmail(user.getEmail(), id);
+
+            LocalDateTime now = LocalDateTime.now();
+            User saved = new User(user);
+            saved.setId(id);
+            saved.setCreatedAt(now);
+            saved.setUpdatedAt(now);
+            try {
+                shard(id).update("INSERT INTO users (id, name, name_normalized, email, age, phone_number, address, "
+                                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        id, saved.getName(), User.normalizeName(saved.getName()), saved.getEmail(), saved.getAge(),
+                        saved.getPhoneNumber(), saved.getAddress(), Timestamp.valueOf(now), Timestamp.valueOf(now));
+            } catch (RuntimeException e) {
+                releaseEmail(user.getEmail(), id);
+                throw e;
+            }
+            return saved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자 정보 수정
+     *
+     * 이메일이 바뀌면 새 이메일을 먼저 등록하고, 행을 수정한 뒤 이전 이메일 등록을 해제합니다.
+     * 행 수정이 실패하면 새 등록을 되돌리고, 이전 등록 해제가 실패하면 남은 등록은 행의 이메일과 다르므로
+     * 다른 사용자가 그 이메일을 등록할 때 넘겨받습니다. (어느 쪽이든 이메일이 영구히 묶이지 않음)
+     *
+     * @param user 수정할 사용자 (id 필수)
+     * @return 수정된 사용자, 사용자가 없으면 빈 Optional
+     * @throws DuplicateKeyException 새 이메일이 이미 등록된 경우
+     */
+    public Optional<User> update(User user) {
+        long id = user.getId();
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            Optional<User> found = findById(id);
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+            User existing = found.get();
+            boolean emailChanged = !existing.getEmail().equals(user.getEmail());
+            if (emailChanged) {
+                claimEmail(user.getEmail(), id);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            User saved = new User(user);
+            saved.setCreatedAt(existing.getCreatedAt());
+            saved.setUpdatedAt(now);
+            try {
+                shard(id).update("UPDATE users SET name = ?, name_normalized = ?, email = ?, age = ?, phone_number = ?, "
+                                + "address = ?, updated_at = ? WHERE id = ?",
+                        saved.getName(), User.normalizeName(saved.getName()), saved.getEmail(), saved.getAge(),
+                        saved.getPhoneNumber(), saved.getAddress(), Timestamp.valueOf(now), id);
+            } catch (RuntimeException e) {
+                if (emailChanged) {
+                    releaseEmail(user.getEmail(), id);
+                }
+                throw e;
+            }
+            if (emailChanged) {
+                try {
+                    releaseEmail(existing.getEmail(), id);
+                } catch (RuntimeException e) {
+                    log.warn("이전 이메일 등록 해제 실패, 다음 등록 때 넘겨받습니다: {} ({})", existing.getEmail(), e.getMessage());
+                }
+            }
+            return Optional.of(saved);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자 삭제 (사용자 행을 먼저 지우고 이메일 등록을 해제)
+     *
+     * @param id 삭제할 사용자 ID
+     * @return 삭제된 사용자, 사용자가 없으면 빈 Optional
+     */
+    public Optional<User> deleteById(long id) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            Optional<User> found = findById(id);
+            if (found.isPresent() && shard(id).update("DELETE FROM users WHERE id = ?", id) > 0) {
+                releaseEmail(found.get().getEmail(), id);
+                return found;
+            }
+            return Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<User> findById(long id) {
+        List<User> users = shard(id).query("SELECT " + USER_COLUMNS + " FROM users WHERE id = ?", USER_ROW_MAPPER, id);
+        return users.stream().findFirst();
+    }
+
+    /**
+     * 이메일로 사용자 찾기 (디렉터리 샤드에서 ID를 찾은 뒤 ID 샤드에서 조회 - 샤드 두 곳만 접근)
+     * 수정 중이거나 중단된 수정이 남긴 등록은 행의 이메일과 다르므로 결과에서 뺍니다.
+     *
+     * @param email 이메일
+     * @return 사용자 정보
+     */
+    public Optional<User> findByEmail(String email) {
+        Long id = lookupEmail(email);
+        return id == null ? Optional.empty() : findById(id).filter(user -> email.equals(user.getEmail()));
+    }
+
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+
+    // ===========================================
+    // 이메일 디렉터리
+    // ===========================================
+
+    private Long lookupEmail(String email) {
+        List<Long> ids = shards.get(shardForEmail(email))
+                .queryForList("SELECT user_id FROM email_directory WHERE email = ?", Long.class, email);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    /**
+     * 이메일 등록 (id의 잠금 안에서 호출)
+     *
+     * 이미 등록된 이메일이라도 그 ID의 사용자 행이 없거나(행 저장 전에 중단된 경우)
+     * 행의 이메일이 다르면(이메일 변경 중 이전 등록 해제 전에 중단된 경우) 남은 등록을 넘겨받습니다.
+     * 주인의 잠금을 바로 얻지 못하면 주인이 저장/수정 중이므로 넘겨받지 않습니다. (기다리지 않으므로 서로 이메일을 바꾸는 두 수정이 교착되지 않음)
+     */
+    private void claimEmail(String email, long id) {
+        JdbcTemplate directoryShard = shards.get(shardForEmail(email));
+        try {
+            directoryShard.update("INSERT INTO email_directory (email, user_id) VALUES (?, ?)", email, id);
+        } catch (DuplicateKeyException e) {
+            Long ownerId = lookupEmail(email);
+            if (ownerId != null && ownerId == id) {
+                return;  // 이전에 해제하지 못한 자기 등록
+            }
+            if (ownerId == null || !takeOver(directoryShard, email, ownerId, id)) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 주인이 더 이상 쓰지 않는 등록을 넘겨받음
+     *
+     * @return 넘겨받았으면 true
+     */
+    private boolean takeOver(JdbcTemplate directoryShard, String email, long ownerId, long id) {
+        ReentrantLock ownerLock = lockFor(ownerId);
+        if (!ownerLock.tryLock()) {
+            return false;
+        }
+        try {
+            boolean stale = findById(ownerId).map(owner -> !email.equals(owner.getEmail())).orElse(true);
+            return stale && directoryShard.update(
+                    "UPDATE email_directory SET user_id = ? WHERE email = ? AND user_id = ?", id, email, ownerId) > 0;
+        } finally {
+            ownerLock.unlock();
+        }
+    }
+
+    private void releaseEmail(String email, long id) {
+        shards.get(shardForEmail(email))
+                .update("DELETE FROM email_directory WHERE email = ? AND user_id = ?", email, id);
+    }
+
+    // ===========================================
+    // scatter-gather 조회
+    // ===========================================
+
+    /**
+     * 나이순으로 정렬된 전체 사용자 (같은 나이는 ID순)
+     *
+     * @return 나이순으로 정렬된 사용자 목록
+     */
+    public List<User> findByOrderByAgeAsc() {
+        return mergeSorted(scatter(jdbc -> jdbc.query(
+                "SELECT " + USER_COLUMNS + " FROM users ORDER BY age ASC, id ASC", USER_ROW_MAPPER)), BY_AGE_ASC);
+    }
+
+    /**
+     * 이름 역순으로 정렬된 전체 사용자 (같은 이름은 ID순)
+     *
+     * @return 이름 역순으로 정렬된 사용자 목록
+     */
+    public List<User> findByOrderByNameDesc() {
+        return mergeSorted(scatter(jdbc -> jdbc.query(
+                "SELECT " + USER_COLUMNS + " FROM users ORDER BY name DESC, id ASC", USER_ROW_MAPPER)), BY_NAME_DESC);
+    }
+
+    /**
+     * 이름으로 사용자 찾기 (대소문자 무시, 부분 일치, ID순)
+     *
+     * @param name 검색할 이름
+     * @return 사용자 목록
+     */
+    public List<User> findByNameContainingIgnoreCase(String name) {
+        String pattern = "%" + User.normalizeName(name) + "%";
+        return mergeSorted(scatter(jdbc -> jdbc.query(
+                "SELECT " + USER_COLUMNS + " FROM users WHERE name_normalized LIKE ? ORDER BY id",
+                USER_ROW_MAPPER, pattern)), Comparator.comparing(User::getId));
+    }
+
+    public long count() {
+        long total = 0;
+        for (Long count : scatter(jdbc -> jdbc.queryForObject("SELECT COUNT(*) FROM users", Long.class))) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 샤드별 사용자 수
+     *
+     * @return 샤드 번호순의 사용자 수
+     */
+    public List<Long> countPerShard() {
+        return scatter(jdbc -> jdbc.queryForObject("SELECT COUNT(*) FROM users", Long.class));
+    }
+
+    /**
+     * 나이대별 사용자 수 (UserRepository.getUserStatisticsByAgeGroup과 같은 형식)
+     *
+     * 샤드마다 나이대별 COUNT와 MIN(age)를 구한 뒤 COUNT는 더하고,
+     * 전체 결과는 나이대의 가장 어린 나이순으로 정렬합니다.
+     *
+     * @return [나이대, 사용자 수] 목록
+     */
+    public List<Object[]> getUserStatisticsByAgeGroup() {
+        List<List<Object[]>> partials = scatter(jdbc -> jdbc.query(
+                "SELECT " + AGE_GROUP_EXPRESSION + " AS age_group, COUNT(*) AS user_count, MIN(age) AS min_age "
+                        + "FROM users GROUP BY age_group",
+                (rs, rowNum) -> new Object[] {rs.getString("age_group"), rs.getLong("user_count"), rs.getInt("min_age")}));
+
+        // 나이대 → [사용자 수, 가장 어린 나이]
+        Map<String, long[]> merged = new HashMap<>();
+        for (List<Object[]> rows : partials) {
+            for (Object[] row : rows) {
+                long[] totals = merged.computeIfAbsent((String) row[0], group -> new long[] {0, Long.MAX_VALUE});
+                totals[0] += (Long) row[1];
+                totals[1] = Math.min(totals[1], (Integer) row[2]);
+            }
+        }
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(merged.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue()[1]));
+
+        List<Object[]> statistics = new ArrayList<>(entries.size());
+        for (Map.Entry<String, long[]> entry : entries) {
+            statistics.add(new Object[] {entry.getKey(), entry.getValue()[0]});
+        }
+        return statistics;
+    }
+
+    /**
+     * 이메일 도메인별 사용자 수 (UserRepository.getUserCountByEmailDomain과 같은 형식)
+     *
+     * @return [도메인, 사용자 수] 목록 (사용자 수 내림차순, 같으면 도메인순)
+     */
+    public List<Object[]> getUserCountByEmailDomain() {
+        List<List<Object[]>> partials = scatter(jdbc -> jdbc.query(
+                "SELECT SUBSTRING(email, LOCATE('@', email) + 1) AS domain, COUNT(*) AS user_count "
+                        + "FROM users GROUP BY domain",
+                (rs, rowNum) -> new Object[] {rs.getString("domain"), rs.getLong("user_count")}));
+
+        Map<String, Long> merged = new LinkedHashMap<>();
+        for (List<Object[]> rows : partials) {
+            for (Object[] row : rows) {
+                merged.merge((String) row[0], (Long) row[1], Long::sum);
+            }
+        }
+        List<Object[]> statistics = new ArrayList<>(merged.size());
+        merged.forEach((domain, count) -> statistics.add(new Object[] {domain, count}));
+        statistics.sort(Comparator.comparing((Object[] row) -> (Long) row[1]).reversed()
+                .thenComparing(row -> (String) row[0]));
+        return statistics;
+    }
+
+    private JdbcTemplate shard(long id) {
+        return shards.get(shardForId(id));
+    }
+
+    private ReentrantLock lockFor(long id) {
+        return userLocks[(int) Math.floorMod(id, (long) userLocks.length)];
+    }
+
+    /**
+     * 모든 샤드에 같은 쿼리를 동시에 실행
+     *
+     * @param query 샤드 하나에 실행할 쿼리
+     * @return 샤드 번호순의 결과
+     */
+    private <T> List<T> scatter(Function<JdbcTemplate, T> query) {
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (JdbcTemplate jdbc : shards) {
+            futures.add(scatterExecutor.submit(() -> query.apply(jdbc)));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("샤드 조회 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("샤드 조회에 실패했습니다.", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * 각각 정렬된 목록들을 하나의 정렬된 목록으로 병합 (k-way merge)
+     *
+     * 각 목록의 현재 맨 앞 원소만 우선순위 큐에 넣고, 가장 작은 원소를 꺼낼 때마다
+     * 그 목록의 다음 원소를 넣습니다. 전체 n개, 목록 k개일 때 O(n log k)입니다.
+     *
+     * @param lists 같은 기준으로 정렬된 목록들
+     * @param order 정렬 기준
+     * @return 병합된 목록
+     */
+    static List<User> mergeSorted(List<List<User>> lists, Comparator<User> order) {
+        int total = 0;
+        for (List<User> list : lists) {
+            total += list.size();
+        }
+        List<User> merged = new ArrayList<>(total);
+
+        // 큐 원소: [목록 번호, 목록 안의 위치]
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, lists.size()),
+                (a, b) -> order.compare(lists.get(a[0]).get(a[1]), lists.get(b[0]).get(b[1])));
+        for (int i = 0; i < lists.size(); i++) {
+            if (!lists.get(i).isEmpty()) {
+                heads.add(new int[] {i, 0});
+            }
+        }
+        while (!heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<User> list = lists.get(head[0]);
+            merged.add(list.get(head[1]));
+            if (++head[1] < list.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+}
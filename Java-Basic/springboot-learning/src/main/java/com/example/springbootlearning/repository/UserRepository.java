@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -91,6 +92,37 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     List<User> findByPhoneNumberIsNotNull();
     
+    /**
+     * 정규화된 전화번호로 사용자 찾기
+     * 
+     * 메서드 이름: findBy + 필드명
+     * 생성되는 쿼리: SELECT * FROM users WHERE phone_key = ?
+     * 
+     * @param phoneKey 정규화된 전화번호 (User.normalizePhoneNumber)
+     * @return 사용자 목록
+     */
+    List<User> findByPhoneKey(Long phoneKey);
+    
+    /**
+     * 특정 시각 이후에 생성된 사용자 찾기 (변경분 동기화용)
+     * 
+     * 생성되는 쿼리: SELECT * FROM users WHERE created_at > ?
+     * 
+     * @param since 기준 시각
+     * @return 사용자 목록
+     */
+    List<User> findByCreatedAtAfter(LocalDateTime since);
+    
+    /**
+     * 특정 시각 이후에 수정된 사용자 찾기 (변경분 동기화용)
+     * 
+     * 생성되는 쿼리: SELECT * FROM users WHERE updated_at > ?
+     * 
+     * @param since 기준 시각
+     * @return 사용자 목록
+     */
+    List<User> findByUpdatedAtAfter(LocalDateTime since);
+    
     /**
      * 이름과 나이로 사용자 찾기
      * 
@@ -180,14 +212,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * 커스텀 JPQL 쿼리 - 이름으로 검색 (대소문자 무시)
      * 
-     * LOWER(): 문자열을 소문자로 변환
+     * LOWER(u.name)처럼 컬럼에 함수를 적용하지 않도록 미리 정규화해 둔 name_normalized 컬럼과 비교합니다.
+     * 검색어도 User.normalizeName()으로 정규화해서 전달해야 합니다.
+     * 
+     * 단, 부분 일치('%검색어%')는 앞부분이 고정되지 않아 idx_users_name_normalized로 범위를 좁힐 수 없으므로
+     * 테이블(또는 인덱스) 전체를 훑습니다. 인덱스를 타는 검색이 필요하면 findByNameNormalizedStartingWith를 사용합니다.
      * 
-     * @param name 검색할 이름
+     * @param name 검색할 이름 (정규화된 값)
      * @return 해당 이름을 포함한 사용자 목록 (대소문자 무시)
      */
-    @Query("SELECT u FROM User u WHERE LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    @Query("SELECT u FROM User u WHERE u.nameNormalized LIKE CONCAT('%', :name, '%')")
     List<User> findUsersByNameIgnoreCase(@Param("name") String name);
     
+    /**
+     * 이름 접두사로 사용자 찾기 (대소문자 무시)
+     * 
+     * 메서드 이름: findBy + 필드명 + StartingWith
+     * 생성되는 쿼리: SELECT * FROM users WHERE name_normalized LIKE ?%
+     * 앞부분이 고정된 LIKE 조건은 인덱스 범위 검색(range scan)으로 처리됩니다.
+     * 
+     * @param prefix 검색할 이름 접두사 (정규화된 값)
+     * @return 이름이 해당 접두사로 시작하는 사용자 목록
+     */
+    List<User> findByNameNormalizedStartingWith(String prefix);
+    
     /**
      * 네이티브 SQL 쿼리 - 복잡한 통계 쿼리
      * 
@@ -216,11 +264,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * 커스텀 JPQL 쿼리 - 최근 가입한 사용자 찾기
      * 
-     * @param days 최근 며칠간
+     * 기준 시각은 서비스 계층에서 계산해서 전달합니다.
+     * (날짜 - 정수 연산은 Hibernate 6에서 타입 검증에 실패하기 때문)
+     * 
+     * @param since 이 시각 이후에 가입한 사용자를 조회 (예: 7일 전 0시)
      * @return 최근 가입한 사용자 목록
      */
-    @Query("SELECT u FROM User u WHERE u.createdAt >= CURRENT_DATE - :days")
-    List<User> findRecentUsers(@Param("days") int days);
+    @Query("SELECT u FROM User u WHERE u.createdAt >= :since")
+    List<User> findRecentUsers(@Param("since") LocalDateTime since);
     
     /**
      * 커스텀 JPQL 쿼리 - 이메일 도메인별 사용자 수
@@ -238,4 +289,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
         ORDER BY count DESC
         """)
     List<Object[]> getUserCountByEmailDomain();
+    
+    /**
+     * 커스텀 JPQL 쿼리 - 서로 다른 이메일 도메인 수
+     * 
+     * @return 서로 다른 이메일 도메인 수
+     */
+    @Query("SELECT COUNT(DISTINCT SUBSTRING(u.email, LOCATE('@', u.email) + 1)) FROM User u WHERE u.email IS NOT NULL")
+    long countDistinctEmailDomains();
+    
+    /**
+     * 커스텀 JPQL 쿼리 - 서로 다른 이름 수
+     * 
+     * @return 서로 다른 이름 수
+     */
+    @Query("SELECT COUNT(DISTINCT u.name) FROM User u")
+    long countDistinctNames();
 }
@@ -0,0 +1,40 @@
+package com.example.springbootlearning.repository;
+
+import com.example.springbootlearning.entity.UserTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 삭제 기록(툼스톤) 리포지토리
+ */
+@Repository
+public interface UserTombstoneRepository extends JpaRepository<UserTombstone, Long> {
+    
+    /**
+     * 특정 시각 이후의 삭제 기록 찾기
+     * 
+     * 생성되는 쿼리: SELECT * FROM user_tombstones WHERE deleted_at > ?
+     * 
+     * @param since 기준 시각
+     * @return 삭제 기록 목록
+     */
+    List<UserTombstone> findByDeletedAtAfter(LocalDateTime since);
+    
+    /**
+     * 보관 기간이 지난 삭제 기록 정리
+     * 
+     * @Modifying: 조회가 아닌 변경(DELETE/UPDATE) 쿼리임을 나타냄
+     * 
+     * @param cutoff 이 시각 이전의 기록을 삭제
+     * @return 삭제된 기록 수
+     */
+    @Modifying
+    @Query("DELETE FROM UserTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
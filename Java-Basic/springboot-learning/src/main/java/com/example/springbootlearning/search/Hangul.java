@@ -0,0 +1,127 @@
+package com.example.springbootlearning.search;
+
+/**
+ * 한글 음절 분해 도구
+ *
+ * 완성형 음절(U+AC00~U+D7A3)은 (초성 × 21 + 중성) × 28 + 종성 순서로 배열되어 있으므로
+ * 코드 값만으로 초성/중성/종성을 알 수 있습니다. 분해 결과는 키보드로 입력하는 낱자(호환용 자모, ㄱ~ㅣ)로 돌려주며,
+ * 겹받침(ㄺ)과 이중 모음(ㅘ)은 입력 순서대로 나눕니다. (입력 중인 "첡"이 "철"+"기"의 앞부분과 같아지도록)
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private Hangul() {
+    }
+
+    /**
+     * 완성형 한글 음절인지 확인
+     */
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    /**
+     * 호환용 자음(ㄱ~ㅎ, 겹자음 포함)인지 확인
+     */
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 호환용 자모(ㄱ~ㅣ)가 하나라도 있는지 확인 (초성 검색이나 입력 중인 검색어)
+     */
+    public static boolean containsJamo(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅣ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 글자의 초성 (한글 음절이 아니면 글자 그대로)
+     *
+     * @param c 글자
+     * @return 초성 (예: '김' → 'ㄱ')
+     */
+    public static char choseong(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSEONG.charAt((c - SYLLABLE_FIRST) / (21 * 28));
+    }
+
+    /**
+     * 문자열의 초성만 (한글 음절이 아닌 글자는 그대로)
+     *
+     * @param text 문자열
+     * @return 초성 문자열 (예: "김철수" → "ㄱㅊㅅ")
+     */
+    public static String choseongOf(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            result.append(choseong(text.charAt(i)));
+        }
+        return result.toString();
+    }
+
+    /**
+     * 글자를 입력 순서대로의 낱자로 분해 (한글 음절이 아니면 글자 그대로, 겹받침/이중 모음 낱자도 나눔)
+     *
+     * @param c 글자
+     * @param out 분해한 낱자를 붙일 곳
+     */
+    public static void appendJamo(char c, StringBuilder out) {
+        if (isSyllable(c)) {
+            int index = c - SYLLABLE_FIRST;
+            out.append(CHOSEONG.charAt(index / (21 * 28)));
+            out.append(JUNGSEONG[index % (21 * 28) / 28]);
+            out.append(JONGSEONG[index % 28]);
+            return;
+        }
+        // 입력 중에는 겹자음/이중 모음이 낱자로 남기도 함 (예: "ㄺ", "ㅘ")
+        int compound = COMPOUND_JAMO.indexOf(c);
+        if (compound >= 0) {
+            out.append(COMPOUND_SPLIT[compound]);
+            return;
+        }
+        out.append(c);
+    }
+
+    /**
+     * 문자열을 낱자로 분해
+     *
+     * @param text 문자열
+     * @return 낱자 문자열 (예: "김철" → "ㄱㅣㅁㅊㅓㄹ")
+     */
+    public static String jamoOf(String text) {
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            appendJamo(text.charAt(i), result);
+        }
+        return result.toString();
+    }
+}
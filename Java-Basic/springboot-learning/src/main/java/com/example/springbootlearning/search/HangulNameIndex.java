@@ -0,0 +1,254 @@
+package com.example.springbootlearning.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 초성 / 입력 중인 음절 / 오타를 허용하는 이름 검색 인덱스
+ *
+ * 이름마다 초성 문자열("김철수" → "ㄱㅊㅅ")과 낱자 문자열("ㄱㅣㅁㅊㅓㄹㅅㅜ")을 저장할 때 한 번 만들어 두고,
+ * 검색어는 글자 단위로 다음 중 하나를 만족하면 이름의 연속된 글자와 일치하는 것으로 봅니다.
+ * - 같은 글자
+ * - 검색어 글자가 자음이면 이름 글자의 초성과 같음 ("ㄱㅊㅅ", "김ㅊㅅ")
+ * - 마지막 글자는 입력 중일 수 있으므로 낱자가 이름의 그 위치부터의 낱자의 앞부분 ("김처", "김첤" → "김철수")
+ *
+ * 어느 경우든 검색어 글자의 초성은 이름 글자의 초성과 같으므로, 초성 1~2글자 → 이름 역색인으로 후보를 줄인 뒤 확인합니다.
+ * 오타 검색은 낱자 문자열의 편집 거리(Levenshtein)로 이름 전체를 비교합니다.
+ *
+ * 이름은 호출하는 쪽에서 정규화(예: 소문자)해서 넘깁니다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public class HangulNameIndex {
+
+    /**
+     * 서로 다른 이름 하나
+     */
+    private static final class Entry {
+        final String name;
+        final String choseong;
+        final String jamo;
+        final int[] jamoOffsets;         // 글자마다 낱자 문자열에서의 시작 위치
+        final Set<Long> ids = new HashSet<>();
+
+        Entry(String name) {
+            this.name = name;
+            this.choseong = Hangul.choseongOf(name);
+            this.jamoOffsets = new int[name.length()];
+            StringBuilder jamo = new StringBuilder(name.length() * 3);
+            for (int i = 0; i < name.length(); i++) {
+                jamoOffsets[i] = jamo.length();
+                Hangul.appendJamo(name.charAt(i), jamo);
+            }
+            this.jamo = jamo.toString();
+        }
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * 초성 1글자 / 연속된 2글자 → 그 초성을 포함하는 이름
+     */
+    private final Map<String, Set<Entry>> postings = new HashMap<>();
+
+    /**
+     * 이름 추가
+     *
+     * @param name 정규화된 이름 (null이나 빈 문자열은 무시)
+     * @param id 사용자 ID
+     */
+    public void add(String name, long id) {
+        if (name == null || name.isEmpty()) {
+            return;
+        }
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            entry = new Entry(name);
+            entries.put(name, entry);
+            for (String gram : grams(entry.choseong)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(entry);
+            }
+        }
+        entry.ids.add(id);
+    }
+
+    /**
+     * 이름 제거
+     *
+     * @param name 정규화된 이름
+     * @param id 사용자 ID
+     */
+    public void remove(String name, long id) {
+        Entry entry = name == null ? null : entries.get(name);
+        if (entry == null || !entry.ids.remove(id) || !entry.ids.isEmpty()) {
+            return;
+        }
+        entries.remove(name);
+        for (String gram : grams(entry.choseong)) {
+            Set<Entry> posting = postings.get(gram);
+            posting.remove(entry);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * 모든 이름 지우기
+     */
+    public void clear() {
+        entries.clear();
+        postings.clear();
+    }
+
+    /**
+     * 서로 다른 이름 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static Set<String> grams(String choseong) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < choseong.length(); i++) {
+            grams.add(choseong.substring(i, i + 1));
+            if (i + 1 < choseong.length()) {
+                grams.add(choseong.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 초성 / 입력 중인 음절을 포함한 부분 일치 검색
+     *
+     * "ㄱ"처럼 짧은 검색어는 사용자 대부분과 일치할 수 있으므로 limit개를 찾으면 멈춥니다.
+     *
+     * @param query 정규화된 검색어 (예: "ㄱㅊㅅ", "김ㅊ", "김처")
+     * @param limit 최대 개수
+     * @return 일치하는 이름을 가진 사용자 ID (limit개보다 많으면 그중 일부)
+     */
+    public List<Long> search(String query, int limit) {
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        // 검색어 초성의 1~2글자 조각 중 이름이 가장 적은 것만 후보로 보고, 나머지 조건은 직접 확인
+        String key = Hangul.choseongOf(query);
+        Set<Entry> candidates = null;
+        for (String gram : key.length() == 1 ? Set.of(key) : bigrams(key)) {
+            Set<Entry> posting = postings.getOrDefault(gram, Collections.emptySet());
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+
+        String lastJamo = Hangul.jamoOf(query.substring(query.length() - 1));
+        List<Long> ids = new ArrayList<>();
+        for (Entry entry : candidates) {
+            if (contains(entry, query, lastJamo) && addIds(ids, entry, limit)) {
+                break;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 이름을 쓰는 사용자 ID를 limit개까지 추가
+     *
+     * @return limit개가 찼으면 true
+     */
+    private static boolean addIds(List<Long> ids, Entry entry, int limit) {
+        for (long id : entry.ids) {
+            if (ids.size() >= limit) {
+                return true;
+            }
+            ids.add(id);
+        }
+        return ids.size() >= limit;
+    }
+
+    private static Set<String> bigrams(String key) {
+        Set<String> bigrams = new HashSet<>();
+        for (int i = 0; i + 1 < key.length(); i++) {
+            bigrams.add(key.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    private static boolean contains(Entry entry, String query, String lastJamo) {
+        for (int start = 0; start + query.length() <= entry.name.length(); start++) {
+            if (matchesAt(entry, query, lastJamo, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAt(Entry entry, String query, String lastJamo, int start) {
+        int last = query.length() - 1;
+        for (int k = 0; k <= last; k++) {
+            char q = query.charAt(k);
+            char c = entry.name.charAt(start + k);
+            if (q == c || (Hangul.isConsonant(q) && Hangul.choseong(c) == q)) {
+                continue;
+            }
+            if (k == last && entry.jamo.startsWith(lastJamo, entry.jamoOffsets[start + k])) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 오타를 허용하는 이름 검색 (이름 전체의 낱자 편집 거리)
+     *
+     * @param query 정규화된 검색어 (예: "김철슈" → "김철수")
+     * @param maxDistance 허용할 최대 낱자 편집 거리
+     * @param limit 최대 개수
+     * @return 일치하는 이름을 가진 사용자 ID (limit개보다 많으면 그중 일부)
+     */
+    public List<Long> searchFuzzy(String query, int maxDistance, int limit) {
+        String queryJamo = Hangul.jamoOf(query);
+        List<Long> ids = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (Math.abs(entry.jamo.length() - queryJamo.length()) <= maxDistance
+                    && withinDistance(entry.jamo, queryJamo, maxDistance)
+                    && addIds(ids, entry, limit)) {
+                break;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 편집 거리가 maxDistance 이하인지 (행의 최솟값이 넘으면 바로 중단)
+     */
+    private static boolean withinDistance(String a, String b, int maxDistance) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1], previous[j]) + 1, previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxDistance) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxDistance;
+    }
+}
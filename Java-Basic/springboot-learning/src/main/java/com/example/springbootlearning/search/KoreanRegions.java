@@ -0,0 +1,88 @@
+package com.example.springbootlearning.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주소의 시/도, 시/군/구 사전
+ *
+ * "서울시 강남구", "서울특별시 강남구", "서울 강남구"처럼 같은 지역을 다르게 쓴 주소를
+ * 시/도 17개의 정식 이름과 두 번째 단어(시/군/구/읍/면)로 나눕니다.
+ * 시/도를 알 수 없는 주소는 지역 없음(null)으로 봅니다.
+ */
+public final class KoreanRegions {
+
+    /**
+     * 주소에서 읽은 지역
+     *
+     * @param province 시/도 정식 이름 (예: "서울특별시")
+     * @param district 시/군/구 (예: "강남구", 없으면 null)
+     */
+    public record Region(String province, String district) {
+    }
+
+    /**
+     * 시/도 정식 이름 (순서가 시/도 코드)
+     */
+    public static final List<String> PROVINCES = List.of(
+            "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시", "대전광역시", "울산광역시",
+            "세종특별자치시", "경기도", "강원특별자치도", "충청북도", "충청남도", "전북특별자치도", "전라남도",
+            "경상북도", "경상남도", "제주특별자치도");
+
+    private static final Map<String, Integer> PROVINCE_CODES = new HashMap<>();
+
+    static {
+        String[][] aliases = {
+                {"서울", "서울시"}, {"부산", "부산시"}, {"대구", "대구시"}, {"인천", "인천시"}, {"광주", "광주시"},
+                {"대전", "대전시"}, {"울산", "울산시"}, {"세종", "세종시"}, {"경기"}, {"강원", "강원도"},
+                {"충북"}, {"충남"}, {"전북", "전라북도"}, {"전남"}, {"경북"}, {"경남"}, {"제주", "제주도"}
+        };
+        for (int code = 0; code < PROVINCES.size(); code++) {
+            PROVINCE_CODES.put(PROVINCES.get(code), code);
+            for (String alias : aliases[code]) {
+                PROVINCE_CODES.put(alias, code);
+            }
+        }
+    }
+
+    private KoreanRegions() {
+    }
+
+    /**
+     * 시/도 이름(정식 이름이나 줄임말)의 코드
+     *
+     * @param province 시/도 (예: "서울", "서울시", "서울특별시")
+     * @return PROVINCES에서의 위치 (알 수 없으면 -1)
+     */
+    public static int provinceCode(String province) {
+        return province == null ? -1 : PROVINCE_CODES.getOrDefault(province.strip(), -1);
+    }
+
+    /**
+     * 주소에서 지역 읽기
+     *
+     * @param address 주소 (예: "서울시 강남구 테헤란로 1")
+     * @return 지역 (시/도를 알 수 없으면 null)
+     */
+    public static Region parse(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        String[] words = address.strip().split("\\s+");
+        int code = provinceCode(words[0]);
+        if (code < 0) {
+            return null;
+        }
+        String district = words.length > 1 && isDistrict(words[1]) ? words[1] : null;
+        return new Region(PROVINCES.get(code), district);
+    }
+
+    private static boolean isDistrict(String word) {
+        if (word.length() < 2) {
+            return false;
+        }
+        char suffix = word.charAt(word.length() - 1);
+        return suffix == '시' || suffix == '군' || suffix == '구' || suffix == '읍' || suffix == '면';
+    }
+}
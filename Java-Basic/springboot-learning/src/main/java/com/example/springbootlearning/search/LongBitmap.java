@@ -0,0 +1,95 @@
+package com.example.springbootlearning.search;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * long 값 비트맵 (2^16개씩 나눈 조각 비트맵, Roaring 방식)
+ *
+ * BitSet은 int 위치만 받고, 큰 값 하나만 켜도 그 값까지의 배열을 모두 만듭니다.
+ * 값의 상위 비트로 조각을 고르고 조각마다 BitSet 하나(최대 8KB)를 두면, long 범위의 값을 받으면서도
+ * 값이 없는 구간에는 메모리를 쓰지 않습니다. 조각이 비면 지웁니다.
+ *
+ * 음수는 저장할 수 없습니다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public class LongBitmap {
+
+    private static final int CHUNK_BITS = 16;
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+
+    private final TreeMap<Long, BitSet> chunks = new TreeMap<>();
+
+    /**
+     * 값이 켜져 있는지 확인
+     *
+     * @param value 값 (0 이상)
+     * @return 켜져 있으면 true
+     */
+    public boolean get(long value) {
+        BitSet chunk = chunks.get(value >>> CHUNK_BITS);
+        return chunk != null && chunk.get((int) (value & CHUNK_MASK));
+    }
+
+    /**
+     * 값을 켜거나 끔
+     *
+     * @param value 값 (0 이상)
+     * @param on 켤지 여부
+     * @return 바뀌었으면 true (이미 그 상태면 false)
+     * @throws IllegalArgumentException 음수인 경우
+     */
+    public boolean set(long value, boolean on) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수는 저장할 수 없습니다: " + value);
+        }
+        long key = value >>> CHUNK_BITS;
+        int bit = (int) (value & CHUNK_MASK);
+        BitSet chunk = chunks.get(key);
+        if (on) {
+            if (chunk == null) {
+                chunk = new BitSet();
+                chunks.put(key, chunk);
+            }
+            if (chunk.get(bit)) {
+                return false;
+            }
+            chunk.set(bit);
+            return true;
+        }
+        if (chunk == null || !chunk.get(bit)) {
+            return false;
+        }
+        chunk.clear(bit);
+        if (chunk.isEmpty()) {
+            chunks.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * from 이상인 가장 작은 켜진 값
+     *
+     * @param from 시작 값 (포함)
+     * @return 켜진 값, 없으면 -1
+     */
+    public long nextSetBit(long from) {
+        long start = Math.max(from, 0);
+        for (Map.Entry<Long, BitSet> entry : chunks.tailMap(start >>> CHUNK_BITS, true).entrySet()) {
+            long base = entry.getKey() << CHUNK_BITS;
+            int bit = entry.getValue().nextSetBit(base >= start ? 0 : (int) (start - base));
+            if (bit >= 0) {
+                return base + bit;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 모든 값 지우기
+     */
+    public void clear() {
+        chunks.clear();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.springbootlearning.search;
+
+import java.util.Arrays;
+
+/**
+ * long → long 해시 맵 (기본형 배열, 열린 주소법)
+ *
+ * HashMap&lt;Long, Long&gt;은 항목마다 Long 객체 두 개와 Node 객체를 만들어 항목당 80바이트 가까이 쓰고,
+ * 조회할 때마다 박싱이 일어납니다. 키와 값을 long 배열 두 개에 나란히 두고 선형 탐사(linear probing)로 찾으면
+ * 항목당 약 16 / 적재율 바이트만 쓰고, 조회는 캐시 친화적인 배열 접근 몇 번으로 끝납니다.
+ *
+ * 키 0은 빈 칸 표시로 쓰므로 저장할 수 없습니다.
+ * 삭제는 뒤따르는 항목을 앞으로 당겨(backward shift) 빈 칸 표시(tombstone) 없이 처리합니다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public class LongLongHashMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongLongHashMap() {
+        allocate(16);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * 값 조회
+     *
+     * @param key 키 (0이 아님)
+     * @param missing 키가 없을 때 돌려줄 값
+     * @return 값
+     */
+    public long get(long key, long missing) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            if (keys[slot] == 0) {
+                return missing;
+            }
+        }
+    }
+
+    /**
+     * 값 저장 (이미 있으면 바꿈)
+     *
+     * @param key 키 (0이 아님)
+     * @param value 값
+     */
+    public void put(long key, long value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("키 0은 저장할 수 없습니다.");
+        }
+        int slot = slot(key);
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == 0) {
+            if (size >= resizeAt) {
+                resize();
+                put(key, value);
+                return;
+            }
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * 값 삭제
+     *
+     * @param key 키
+     * @return 삭제했으면 true
+     */
+    public boolean remove(long key) {
+        int slot = slot(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == 0) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // 빈 칸이 생기면 그 뒤에서 탐사하던 항목을 찾을 수 없게 되므로, 원래 자리가 빈 칸 이전인 항목을 당겨 옴
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+        size--;
+        return true;
+    }
+
+    /**
+     * 저장된 항목 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 배열 크기 (메모리 사용량 = capacity × 16바이트)
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * 모든 항목 지우기
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * 키의 원래 자리 (곱셈 해시로 상위 비트를 섞어 연속된 번호도 고르게 퍼뜨림)
+     */
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.springbootlearning.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 가중치가 있는 문자열의 접두사 자동완성용 radix trie (압축 trie)
+ *
+ * 자식이 하나뿐인 노드를 이어 붙여 간선에 문자열(label)을 두므로, 노드 수가 키 수의 두 배를 넘지 않습니다.
+ * 노드마다 서브트리의 최대 가중치(maxWeight)를 두어, 접두사 노드에서 가중치가 큰 쪽부터 탐색(best-first)하면
+ * 서브트리 크기와 관계없이 상위 n개를 찾는 데 필요한 노드만 보고 멈출 수 있습니다.
+ *
+ * 키는 호출하는 쪽에서 정규화(예: 소문자)해서 넘기고, 응답에 보여 줄 원래 표기가 키와 다를 때만 따로 보관합니다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public class RadixTrie {
+
+    /**
+     * 자동완성 결과 하나
+     *
+     * @param term 원래 표기
+     * @param weight 가중치
+     */
+    public record Entry(String term, long weight) {
+    }
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static final class Node {
+        String label;                     // 부모에서 이 노드로 오는 간선의 문자열
+        Node[] children = NO_CHILDREN;    // label 첫 글자 순
+        long weight;                      // 이 노드에서 끝나는 키의 가중치 (0이면 키 없음)
+        String display;                   // 원래 표기 (키와 같으면 null)
+        long maxWeight;                   // 서브트리(자신 포함)의 최대 가중치
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * 탐색 후보 (terminal이면 결과로 낼 키, 아니면 펼쳐 볼 서브트리)
+     */
+    private record Candidate(Node node, String key, long weight, boolean terminal) {
+    }
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingLong(Candidate::weight).reversed()
+            .thenComparing(Candidate::terminal, Comparator.reverseOrder())
+            .thenComparing(Candidate::key);
+
+    private Node root = new Node("");
+    private int size;
+    private int nodeCount = 1;
+
+    /**
+     * 키의 가중치 더하기 (가중치가 0 이하가 되면 키 삭제)
+     *
+     * @param key 정규화된 키 (null은 무시)
+     * @param display 원래 표기 (키가 새로 생길 때만 사용)
+     * @param delta 더할 가중치 (삭제는 음수)
+     */
+    public void add(String key, String display, long delta) {
+        if (key == null || key.isEmpty() || delta == 0) {
+            return;
+        }
+        add(root, key, 0, display, delta);
+    }
+
+    private void add(Node node, String key, int offset, String display, long delta) {
+        if (offset == key.length()) {
+            long previous = node.weight;
+            node.weight = Math.max(0, previous + delta);
+            if (previous == 0 && node.weight > 0) {
+                size++;
+                node.display = key.equals(display) ? null : display;
+            } else if (previous > 0 && node.weight == 0) {
+                size--;
+                node.display = null;
+            }
+            updateMaxWeight(node);
+            return;
+        }
+
+        int index = childIndex(node, key.charAt(offset));
+        if (index < 0) {
+            if (delta < 0) {
+                return;  // 없는 키
+            }
+            Node leaf = new Node(key.substring(offset));
+            insertChild(node, -index - 1, leaf);
+            nodeCount++;
+            add(leaf, key, key.length(), display, delta);
+            node.maxWeight = Math.max(node.maxWeight, leaf.maxWeight);
+            return;
+        }
+
+        Node child = node.children[index];
+        int common = commonPrefixLength(child.label, key, offset);
+        if (common < child.label.length()) {
+            if (delta < 0) {
+                return;  // 없는 키
+            }
+            // 간선 중간에서 갈라지므로 공통 부분을 새 노드로 나눔
+            Node middle = new Node(child.label.substring(0, common));
+            child.label = child.label.substring(common);
+            middle.children = new Node[] {child};
+            middle.maxWeight = child.maxWeight;
+            node.children[index] = middle;
+            nodeCount++;
+            child = middle;
+        }
+        add(child, key, offset + common, display, delta);
+        if (delta > 0) {
+            node.maxWeight = Math.max(node.maxWeight, child.maxWeight);  // 늘어날 때는 자식 하나만 보면 됨
+        } else {
+            compact(node, index);
+            updateMaxWeight(node);
+        }
+    }
+
+    /**
+     * 키가 사라진 자식 정리 (자식이 없으면 제거, 하나뿐이면 간선을 이어 붙임)
+     */
+    private void compact(Node parent, int index) {
+        Node child = parent.children[index];
+        if (child.weight > 0 || child.children.length > 1) {
+            return;
+        }
+        if (child.children.length == 0) {
+            Node[] children = new Node[parent.children.length - 1];
+            System.arraycopy(parent.children, 0, children, 0, index);
+            System.arraycopy(parent.children, index + 1, children, index, children.length - index);
+            parent.children = children.length == 0 ? NO_CHILDREN : children;
+        } else {
+            Node grandchild = child.children[0];
+            grandchild.label = child.label + grandchild.label;
+            parent.children[index] = grandchild;
+        }
+        nodeCount--;
+    }
+
+    /**
+     * 접두사로 시작하는 키 중 가중치가 큰 순서로 n개
+     *
+     * @param prefix 정규화된 접두사
+     * @param n 개수
+     * @return 결과 목록 (가중치 내림차순, 같으면 키 순서)
+     */
+    public List<Entry> top(String prefix, int n) {
+        Node node = root;
+        String key = "";
+        int offset = 0;
+        while (offset < prefix.length()) {
+            int index = childIndex(node, prefix.charAt(offset));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, offset);
+            if (common < child.label.length() && offset + common < prefix.length()) {
+                return List.of();
+            }
+            key = prefix.substring(0, offset) + child.label;
+            offset += common;
+            node = child;
+        }
+
+        List<Entry> result = new ArrayList<>(n);
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+        queue.add(new Candidate(node, key, node.maxWeight, false));
+        while (!queue.isEmpty() && result.size() < n) {
+            Candidate candidate = queue.poll();
+            Node current = candidate.node();
+            if (candidate.terminal()) {
+                result.add(new Entry(current.display != null ? current.display : candidate.key(), current.weight));
+                continue;
+            }
+            if (current.weight > 0) {
+                queue.add(new Candidate(current, candidate.key(), current.weight, true));
+            }
+            for (Node child : current.children) {
+                queue.add(new Candidate(child, candidate.key() + child.label, child.maxWeight, false));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 저장된 키 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 노드 수 (루트 포함)
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * 모든 키 지우기
+     */
+    public void clear() {
+        root = new Node("");
+        size = 0;
+        nodeCount = 1;
+    }
+
+    private static void updateMaxWeight(Node node) {
+        long max = node.weight;
+        for (Node child : node.children) {
+            max = Math.max(max, child.maxWeight);
+        }
+        node.maxWeight = max;
+    }
+
+    /**
+     * 첫 글자가 c인 자식의 위치 (없으면 -(넣을 위치) - 1)
+     */
+    private static int childIndex(Node node, char c) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = node.children[mid].label.charAt(0);
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static void insertChild(Node node, int index, Node child) {
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.children, 0, children, 0, index);
+        children[index] = child;
+        System.arraycopy(node.children, index, children, index + 1, node.children.length - index);
+        node.children = children;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 최근 가입자 링 버퍼
+ *
+ * 최근 N일 동안 가입한 사용자를 날짜(일) 단위 버킷에 보관하는 메모리 구조입니다.
+ * 버킷 배열을 원형(ring)으로 재사용하므로, 날짜가 지나면 가장 오래된 버킷이
+ * 자동으로 비워지고 새 날짜의 버킷으로 쓰입니다.
+ *
+ * /api/users/recent 요청은 보관 기간(horizon) 이내라면 데이터베이스를 조회하지 않고
+ * 이 버퍼에서 바로 응답하며, 보관 기간을 넘는 요청만 SQL로 처리합니다.
+ * 버퍼는 커밋된 사용자 변경 이벤트(UserChangeEvent)로 갱신됩니다.
+ *
+ * 데이터베이스에서 읽어 채우는 동안 커밋된 삭제는 읽은 결과에 아직 남아 있을 수 있으므로(읽기 복제본 지연 포함),
+ * 채우기 전에 들어온 삭제의 ID를 기억해 두었다가 채울 때 뺍니다.
+ * 읽는 도중에 대량 적재가 있었거나 다른 요청이 먼저 채웠으면 그 결과는 버립니다.
+ *
+ * 주요 학습 내용:
+ * 1. 원형 버퍼(ring buffer)를 사용한 시간 구간 데이터 관리
+ * 2. @Value를 사용한 설정값 주입
+ * 3. synchronized를 사용한 간단한 동시성 제어
+ */
+@Component
+public class RecentSignupBuffer {
+
+    /**
+     * 하루치 가입자를 담는 버킷
+     */
+    private static final class Bucket {
+        private long epochDay = Long.MIN_VALUE;  // 이 버킷이 담당하는 날짜
+        private final Map<Long, User> users = new LinkedHashMap<>();  // 사용자 ID → 사용자
+    }
+
+    /**
+     * 버퍼가 보관하는 최대 일수 (오늘 포함 horizonDays + 1개의 버킷 사용)
+     */
+    private final int horizonDays;
+
+    private final Bucket[] ring;
+
+    /**
+     * 데이터베이스의 기존 가입자로 버퍼를 채웠는지 여부
+     */
+    private boolean primed;
+
+    /**
+     * 대량 적재마다 1씩 증가 (적재 전에 읽은 결과로 채우지 않도록)
+     */
+    private long generation;
+
+    /**
+     * 채우기 전에 삭제된 사용자 ID (채울 때 빼고 비움)
+     */
+    private final Set<Long> deletedBeforePriming = new HashSet<>();
+
+    public RecentSignupBuffer(@Value("${app.users.recent-buffer.horizon-days:30}") int horizonDays) {
+        if (horizonDays < 0) {
+            throw new IllegalArgumentException("horizon-days는 0 이상이어야 합니다: " + horizonDays);
+        }
+        this.horizonDays = horizonDays;
+        this.ring = new Bucket[horizonDays + 1];
+        for (int i = 0; i < ring.length; i++) {
+            ring[i] = new Bucket();
+        }
+    }
+
+    /**
+     * 버퍼가 보관하는 최대 일수
+     *
+     * @return 보관 기간 (일)
+     */
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    /**
+     * 버퍼를 채우기 시작 (데이터베이스를 읽기 전에 호출)
+     *
+     * @return prime()에 넘길 세대 번호, 이미 채워져 있으면 -1
+     */
+    public synchronized long beginPriming() {
+        return primed ? -1 : generation;
+    }
+
+    /**
+     * 데이터베이스에서 읽어 온 최근 가입자로 버퍼를 채움
+     * 이미 버퍼에 있는 사용자(읽는 동안 추가/수정된 사용자)는 그대로 유지하고, 읽는 동안 삭제된 사용자는 넣지 않습니다.
+     * 그사이 다른 요청이 먼저 채웠거나 대량 적재가 있었으면 아무것도 하지 않습니다.
+     *
+     * @param generation beginPriming()이 돌려준 세대 번호
+     * @param users 보관 기간 이내에 가입한 사용자 목록
+     */
+    public synchronized void prime(long generation, Collection<User> users) {
+        if (primed || generation != this.generation) {
+            return;
+        }
+        for (User user : users) {
+            if (!deletedBeforePriming.contains(user.getId()) && findBucket(user.getId()) == null) {
+                put(user);
+            }
+        }
+        deletedBeforePriming.clear();
+        primed = true;
+    }
+
+    /**
+     * 사용자 변경 이벤트 처리 (트랜잭션 커밋 후 호출됨)
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onUserChange(UserChangeEvent event) {
+        if (event.getType() == UserChangeEvent.Type.DELETED) {
+            remove(event.getUserId());
+        } else {
+            add(event.getUser());
+        }
+    }
+
+    /**
+     * 대량 적재 이벤트 처리
+     * 적재된 사용자는 개별 이벤트가 없으므로, 다음 조회 때 데이터베이스에서 다시 채우도록 표시합니다.
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public synchronized void onBulkLoad(UserBulkLoadedEvent event) {
+        primed = false;
+        generation++;
+    }
+
+    /**
+     * 새로 가입한 사용자를 버퍼에 추가 (수정된 경우에는 최신 정보로 교체)
+     *
+     * @param user 저장된 사용자 정보
+     */
+    public synchronized void add(User user) {
+        if (user.getId() == null || user.getCreatedAt() == null) {
+            return;
+        }
+
+        Bucket existing = findBucket(user.getId());
+        if (existing != null) {
+            existing.users.put(user.getId(), user);
+            return;
+        }
+        put(user);
+    }
+
+    /**
+     * 삭제된 사용자를 버퍼에서 제거
+     *
+     * @param userId 삭제된 사용자 ID
+     */
+    public synchronized void remove(Long userId) {
+        if (!primed) {
+            deletedBeforePriming.add(userId);
+        }
+        Bucket bucket = findBucket(userId);
+        if (bucket != null) {
+            bucket.users.remove(userId);
+        }
+    }
+
+    /**
+     * 최근 N일간 가입한 사용자 조회
+     *
+     * 조건은 SQL과 동일하게 "가입일 >= 오늘 - days" 입니다.
+     *
+     * @param days 최근 며칠간
+     * @return 버퍼로 응답할 수 있으면 사용자 목록, 보관 기간을 넘거나 아직 채워지지 않았으면 빈 Optional
+     */
+    public synchronized Optional<List<User>> findRecent(int days) {
+        if (!primed || days < 0 || days > horizonDays) {
+            return Optional.empty();
+        }
+
+        long today = LocalDate.now().toEpochDay();
+        List<User> result = new ArrayList<>();
+        for (long day = today - days; day <= today; day++) {
+            Bucket bucket = ring[slot(day)];
+            if (bucket.epochDay == day) {
+                result.addAll(bucket.users.values());
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * 가입일에 해당하는 버킷에 사용자를 넣음 (보관 기간을 벗어난 사용자는 무시)
+     */
+    private void put(User user) {
+        long today = LocalDate.now().toEpochDay();
+        long day = user.getCreatedAt().toLocalDate().toEpochDay();
+        if (day < today - horizonDays || day > today) {
+            return;
+        }
+
+        Bucket bucket = ring[slot(day)];
+        if (bucket.epochDay != day) {
+            // 지난 날짜의 버킷을 재사용
+            bucket.users.clear();
+            bucket.epochDay = day;
+        }
+        bucket.users.put(user.getId(), user);
+    }
+
+    /**
+     * 사용자가 들어 있는 버킷 찾기
+     */
+    private Bucket findBucket(Long userId) {
+        for (Bucket bucket : ring) {
+            if (bucket.users.containsKey(userId)) {
+                return bucket;
+            }
+        }
+        return null;
+    }
+
+    private int slot(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) ring.length);
+    }
+}
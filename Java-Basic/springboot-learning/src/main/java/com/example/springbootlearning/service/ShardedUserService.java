@@ -0,0 +1,144 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.repository.ShardedUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 샤딩된 사용자 저장소의 비즈니스 로직 서비스
+ *
+ * UserService와 같은 검증 규칙(UserValidator)과 결과 형식(UserResult)을 사용하지만,
+ * 데이터는 ShardedUserRepository의 샤드 데이터베이스에 저장합니다.
+ * 샤드마다 데이터베이스가 다르므로 @Transactional을 사용하지 않고,
+ * 여러 샤드에 걸친 쓰기의 정합성은 리포지토리의 등록/되돌리기 순서로 맞춥니다.
+ *
+ * JPA 사용자 테이블과는 별도의 저장소이므로 변경 이벤트(UserChangeEvent)를 발행하지 않습니다.
+ */
+@Service
+@ConditionalOnProperty(name = "app.users.sharding.enabled", havingValue = "true")
+public class ShardedUserService {
+
+    @Autowired
+    private ShardedUserRepository shardedUserRepository;
+
+    @Autowired
+    private UserValidator userValidator;
+
+    /**
+     * 사용자 생성 (실패를 예외 대신 결과로 반환)
+     *
+     * @param user 생성할 사용자 정보
+     * @return 성공 시 저장된 사용자, 실패 시 VALIDATION_ERROR 또는 CONFLICT 결과
+     */
+    public UserResult tryCreateUser(User user) {
+        int errors = userValidator.validate(user);
+        if (errors != 0) {
+            return UserResult.failure(errors);
+        }
+        try {
+            return UserResult.success(shardedUserRepository.insert(user));
+        } catch (DuplicateKeyException e) {
+            // 이메일 디렉터리에 이미 등록된 이메일
+            return UserResult.failure(UserErrorCode.EMAIL_DUPLICATE);
+        }
+    }
+
+    /**
+     * 사용자 정보 수정 (실패를 예외 대신 결과로 반환)
+     *
+     * @param id 수정할 사용자 ID
+     * @param userDetails 수정할 사용자 정보
+     * @return 성공 시 수정된 사용자, 실패 시 VALIDATION_ERROR, NOT_FOUND 또는 CONFLICT 결과
+     */
+    public UserResult tryUpdateUser(Long id, User userDetails) {
+        int errors = userValidator.validate(userDetails);
+        if (errors != 0) {
+            return UserResult.failure(errors);
+        }
+        User user = new User(userDetails);
+        user.setId(id);
+        try {
+            return shardedUserRepository.update(user)
+                    .map(UserResult::success)
+                    .orElseGet(() -> UserResult.failure(UserErrorCode.USER_NOT_FOUND));
+        } catch (DuplicateKeyException e) {
+            return UserResult.failure(UserErrorCode.EMAIL_DUPLICATE);
+        }
+    }
+
+    /**
+     * 사용자 삭제 (실패를 예외 대신 결과로 반환)
+     *
+     * @param id 삭제할 사용자 ID
+     * @return 성공 시 삭제된 사용자, 실패 시 NOT_FOUND 결과
+     */
+    public UserResult tryDeleteUser(Long id) {
+        return shardedUserRepository.deleteById(id)
+                .map(UserResult::success)
+                .orElseGet(() -> UserResult.failure(UserErrorCode.USER_NOT_FOUND));
+    }
+
+    public Optional<User> getUserById(Long id) {
+        return shardedUserRepository.findById(id);
+    }
+
+    public Optional<User> getUserByEmail(String email) {
+        return shardedUserRepository.findByEmail(email);
+    }
+
+    public List<User> searchUsersByNameIgnoreCase(String name) {
+        return shardedUserRepository.findByNameContainingIgnoreCase(name);
+    }
+
+    public List<User> getUsersSortedByAge() {
+        return shardedUserRepository.findByOrderByAgeAsc();
+    }
+
+    public List<User> getUsersSortedByNameDesc() {
+        return shardedUserRepository.findByOrderByNameDesc();
+    }
+
+    public List<Object[]> getUserStatistics() {
+        return shardedUserRepository.getUserStatisticsByAgeGroup();
+    }
+
+    public List<Object[]> getUserCountByEmailDomain() {
+        return shardedUserRepository.getUserCountByEmailDomain();
+    }
+
+    public long getTotalUserCount() {
+        return shardedUserRepository.count();
+    }
+
+    /**
+     * 샤드 구성과 샤드별 사용자 수 조회 (분산이 고른지 확인용)
+     *
+     * @return 샤드 수, 전체 사용자 수, 샤드별 사용자 수
+     */
+    public Map<String, Object> getShardStatistics() {
+        List<Long> counts = shardedUserRepository.countPerShard();
+        List<Map<String, Object>> shards = new ArrayList<>(counts.size());
+        long total = 0;
+        for (int i = 0; i < counts.size(); i++) {
+            Map<String, Object> shard = new LinkedHashMap<>();
+            shard.put("shard", i);
+            shard.put("users", counts.get(i));
+            shards.add(shard);
+            total += counts.get(i);
+        }
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("shardCount", shardedUserRepository.getShardCount());
+        statistics.put("totalUsers", total);
+        statistics.put("shards", shards);
+        return statistics;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.springbootlearning.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 요청 병합(single-flight) 캐시
+ *
+ * 같은 계산을 요청하는 호출이 동시에 여러 개 들어오면, 첫 번째 호출(leader)만 실제로 계산하고
+ * 나머지 호출은 그 계산이 끝나기를 기다렸다가 같은 결과를 받습니다.
+ * 대시보드가 한꺼번에 새로고침되어 같은 통계 요청이 수백 개 몰려도 GROUP BY 쿼리는 한 번만 실행됩니다.
+ *
+ * 선택적으로 stale-while-revalidate를 지원합니다.
+ * - freshMillis 이내의 결과: 그대로 반환
+ * - 그 이후 staleMillis 이내의 결과: 오래된 결과를 즉시 반환하고, 백그라운드에서 한 번만 다시 계산
+ * - 그보다 오래된 결과: 다시 계산 (동시 호출은 병합)
+ * 두 값이 모두 0이면 결과를 보관하지 않고, 동시에 진행 중인 계산만 공유합니다.
+ *
+ * @param <T> 계산 결과 타입 (호출자끼리 공유되므로 수정하면 안 됨)
+ */
+public class SingleFlightCache<T> {
+
+    private final Supplier<T> loader;
+    private final long freshMillis;
+    private final long staleMillis;
+    private final Executor refreshExecutor;
+
+    // 아래 세 필드는 this로 동기화
+    private CompletableFuture<T> inFlight;
+    private T value;
+    private long loadedAt;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder freshHits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+
+    /**
+     * @param loader 실제 계산 (예: 통계 쿼리)
+     * @param freshMillis 결과를 그대로 사용하는 시간 (0이면 보관하지 않음)
+     * @param staleMillis fresh 이후 오래된 결과를 반환하면서 백그라운드로 갱신하는 시간
+     * @param refreshExecutor 백그라운드 갱신을 실행할 스레드 풀
+     */
+    public SingleFlightCache(Supplier<T> loader, long freshMillis, long staleMillis, Executor refreshExecutor) {
+        this.loader = loader;
+        this.freshMillis = Math.max(0, freshMillis);
+        this.staleMillis = Math.max(0, staleMillis);
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * 결과 조회 (필요하면 계산하고, 진행 중인 계산이 있으면 그 결과를 기다림)
+     *
+     * @return 계산 결과
+     */
+    public T get() {
+        requests.increment();
+
+        CompletableFuture<T> future;
+        boolean leader = false;
+        synchronized (this) {
+            if (value != null) {
+                long age = System.currentTimeMillis() - loadedAt;
+                if (age < freshMillis) {
+                    freshHits.increment();
+                    return value;
+                }
+                if (age < freshMillis + staleMillis) {
+                    staleHits.increment();
+                    if (inFlight == null) {
+                        CompletableFuture<T> refresh = new CompletableFuture<>();
+                        inFlight = refresh;
+                        try {
+                            refreshExecutor.execute(() -> load(refresh));
+                        } catch (RejectedExecutionException e) {
+                            // 갱신을 맡길 수 없으면 다음 호출이 다시 시도하도록 비워 둠 (오래된 결과는 계속 반환)
+                            inFlight = null;
+                            refresh.completeExceptionally(e);
+                        }
+                    }
+                    return value;
+                }
+            }
+
+            if (inFlight != null) {
+                coalesced.increment();
+                future = inFlight;
+            } else {
+                future = new CompletableFuture<>();
+                inFlight = future;
+                leader = true;
+            }
+        }
+
+        if (leader) {
+            load(future);
+        }
+        return await(future);
+    }
+
+    /**
+     * 병합 통계
+     *
+     * coalescingRatio: 전체 요청 중 실제 계산 없이 처리된 비율 (1 - loads / requests)
+     *
+     * @return 요청 수, 실제 계산 수, 병합된 요청 수 등
+     */
+    public Map<String, Object> getStats() {
+        long requestCount = requests.sum();
+        long loadCount = loads.sum();
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("requests", requestCount);
+        stats.put("loads", loadCount);
+        stats.put("coalesced", coalesced.sum());
+        stats.put("freshHits", freshHits.sum());
+        stats.put("staleHits", staleHits.sum());
+        stats.put("coalescingRatio", requestCount == 0 ? 0.0 : 1.0 - (double) loadCount / requestCount);
+        return stats;
+    }
+
+    /**
+     * 실제 계산 후 기다리는 호출자들에게 결과 전달
+     *
+     * 계산이 어떻게 끝나든(Error 포함) inFlight를 비우고 future를 완료합니다.
+     * 그렇지 않으면 이후 호출이 모두 끝나지 않는 future를 기다리게 됩니다.
+     */
+    private void load(CompletableFuture<T> future) {
+        loads.increment();
+        T result;
+        try {
+            result = loader.get();
+        } catch (Throwable e) {
+            synchronized (this) {
+                inFlight = null;
+            }
+            future.completeExceptionally(e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+            return;
+        }
+        synchronized (this) {
+            if (freshMillis + staleMillis > 0) {
+                value = result;
+                loadedAt = System.currentTimeMillis();
+            }
+            inFlight = null;
+        }
+        future.complete(result);
+    }
+
+    private T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,512 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import com.example.springbootlearning.search.LongLongHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 분석 큐브 (나이 × 이메일 도메인 × 가입일별 사용자 수를 미리 집계한 메모리 구조)
+ *
+ * 셀 하나는 (나이, 이메일 도메인, 가입일) 조합이며 그 조합의 사용자 수를 가집니다.
+ * 사용자가 생성/수정/삭제될 때(UserChangeEvent) 해당 셀의 수만 1씩 늘리거나 줄이므로,
+ * 조회는 테이블 크기와 관계없이 셀 수에 비례하는 시간(보통 수십 마이크로초)에 끝납니다.
+ *
+ * 사용자마다 지금 세고 있는 셀을 기억해 두고(사용자 ID → 셀 키), 변경 이벤트는 "이 사용자를 이 셀로 옮김"으로 반영합니다.
+ * 다시 만드는 동안 커밋된 변경은 조회 결과에 이미 들어 있을 수도 있는데, 그 이벤트가 뒤늦게 와도
+ * 이미 그 셀에 있으면 아무것도 하지 않으므로 두 번 세지 않습니다.
+ * 수가 0이 된 셀은 빈 셀이 절반을 넘으면 한꺼번에 정리하고, 그때 사용자가 없는 도메인도 사전에서 지워 번호를 다시 씁니다.
+ *
+ * 조회 방법:
+ * - slice/dice: 나이 범위, 나이대, 도메인, 가입일 범위로 셀을 거름
+ * - rollup: 나이 → 나이대, 가입일 → 주 → 월처럼 더 굵은 단위로 묶거나 차원을 빼서 합침
+ * 예) 주별 도메인별 성인 가입자 수 = groupBy(DOMAIN, WEEK) + minAge 18
+ *
+ * 셀은 키(가입일 32비트 | 도메인 번호 24비트 | 나이 8비트)와 수를 배열 두 개에 나누어 담는
+ * 개방 주소법 해시 테이블에 저장해서, 조회할 때 배열을 처음부터 끝까지 한 번 훑습니다.
+ *
+ * 기동 직후(샘플 데이터를 넣기 전)와 대량 적재 후에는 데이터베이스에서 나이/이메일/가입 시각만 읽어 다시 만듭니다.
+ *
+ * 주요 학습 내용:
+ * 1. OLAP 큐브와 slice / dice / rollup
+ * 2. 쓰기 시점의 증분 집계 (조회 시점 GROUP BY 대신)
+ * 3. 키를 long 하나에 담는 비트 패킹과 개방 주소법 해시 테이블
+ */
+@Component
+public class UserAnalyticsCube {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAnalyticsCube.class);
+
+    /**
+     * 한 번에 묶을 수 있는 최대 차원 수 (묶음 키를 long 하나에 담기 위한 제한)
+     */
+    public static final int MAX_GROUP_BY = 3;
+
+    private static final String[] AGE_GROUPS = {"10대", "20대", "30대", "40대", "50대", "60대 이상"};
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int GROUP_BITS = 21;
+    private static final long GROUP_MASK = (1L << GROUP_BITS) - 1;
+
+    /**
+     * 묶을 수 있는 차원
+     */
+    public enum Dimension {
+        AGE_GROUP("ageGroup"),
+        AGE("age"),
+        DOMAIN("domain"),
+        DAY("day"),
+        WEEK("week"),
+        MONTH("month");
+
+        private final String paramName;
+
+        Dimension(String paramName) {
+            this.paramName = paramName;
+        }
+
+        public String getParamName() {
+            return paramName;
+        }
+
+        /**
+         * 요청 파라미터 이름으로 차원 찾기
+         *
+         * @param name 차원 이름 (예: "domain", "week")
+         * @return 차원
+         * @throws IllegalArgumentException 알 수 없는 이름인 경우
+         */
+        public static Dimension fromParam(String name) {
+            for (Dimension dimension : values()) {
+                if (dimension.paramName.equalsIgnoreCase(name.trim())) {
+                    return dimension;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 차원입니다: " + name
+                    + " (사용 가능: ageGroup, age, domain, day, week, month)");
+        }
+    }
+
+    /**
+     * 셀을 거르는 조건 (null인 조건은 적용하지 않음)
+     *
+     * @param minAge 최소 나이 (포함)
+     * @param maxAge 최대 나이 (포함)
+     * @param ageGroups 나이대 (예: "20대")
+     * @param domains 이메일 도메인 (대소문자 무시)
+     * @param from 가입일 시작 (포함)
+     * @param to 가입일 끝 (포함)
+     */
+    public record Filter(Integer minAge, Integer maxAge, Set<String> ageGroups, Set<String> domains,
+                         LocalDate from, LocalDate to) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 아래 필드는 모두 this로 동기화
+    private long[] keys = newKeys(1024);
+    private int[] counts = new int[1024];
+    private int cellCount;
+    private int emptyCells;  // 키는 있지만 수가 0인 셀
+    private long userCount;
+    private final LongLongHashMap userCells = new LongLongHashMap();  // 사용자 ID → 셀 키
+    private final Map<String, Integer> domainIds = new HashMap<>();
+    private final List<String> domains = new ArrayList<>();  // 도메인 번호 → 이름 (지운 번호는 null)
+    private int[] domainCounts = new int[64];
+    private final List<Integer> freeDomainIds = new ArrayList<>();
+
+    /**
+     * 기동 직후 데이터베이스 내용으로 큐브 채우기 (샘플 데이터는 이후 변경 이벤트로 들어옴)
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted() {
+        rebuild();
+    }
+
+    /**
+     * 대량 적재된 사용자는 개별 이벤트가 없으므로 큐브 전체를 다시 만듦
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public void onBulkLoad(UserBulkLoadedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 사용자 변경 반영 (트랜잭션 커밋 후 호출됨)
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onUserChange(UserChangeEvent event) {
+        User user = event.getUser();
+        if (event.getType() == UserChangeEvent.Type.DELETED
+                || user.getCreatedAt() == null || user.getAge() == null || user.getEmail() == null) {
+            remove(user.getId());
+        } else {
+            place(user.getId(), cellKey(user.getAge(), user.getEmail(), user.getCreatedAt()));
+        }
+        if (emptyCells * 2 > cellCount) {
+            compact();
+        }
+    }
+
+    /**
+     * 데이터베이스의 모든 사용자로 큐브를 새로 만듦 (필요한 열만 읽음)
+     */
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        keys = newKeys(1024);
+        counts = new int[1024];
+        cellCount = 0;
+        emptyCells = 0;
+        userCount = 0;
+        userCells.clear();
+        domainIds.clear();
+        domains.clear();
+        domainCounts = new int[64];
+        freeDomainIds.clear();
+        jdbcTemplate.query("SELECT id, age, email, created_at FROM users", rs -> {
+            LocalDateTime createdAt = rs.getObject("created_at", LocalDateTime.class);
+            if (createdAt != null) {
+                place(rs.getLong("id"), cellKey(rs.getInt("age"), rs.getString("email"), createdAt));
+            }
+        });
+        log.info("사용자 분석 큐브 생성 완료: 사용자 {}명, 셀 {}개 ({}ms)",
+                userCount, cellCount, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 사용자를 셀로 옮김 (이미 그 셀에 있으면 아무것도 하지 않음)
+     */
+    private void place(long userId, long key) {
+        long previous = userCells.get(userId, EMPTY);
+        if (previous == key) {
+            return;
+        }
+        if (previous != EMPTY) {
+            increment(previous, -1);
+        }
+        userCells.put(userId, key);
+        increment(key, 1);
+    }
+
+    /**
+     * 사용자를 큐브에서 뺌 (없으면 아무것도 하지 않음)
+     */
+    private void remove(long userId) {
+        long previous = userCells.get(userId, EMPTY);
+        if (previous != EMPTY) {
+            userCells.remove(userId);
+            increment(previous, -1);
+        }
+    }
+
+    private long cellKey(int age, String email, LocalDateTime createdAt) {
+        String domain = email.substring(email.indexOf('@') + 1);
+        Integer domainId = domainIds.get(domain);
+        if (domainId == null) {
+            if (freeDomainIds.isEmpty()) {
+                domainId = domains.size();
+                domains.add(domain);
+                if (domainId == domainCounts.length) {
+                    domainCounts = Arrays.copyOf(domainCounts, domainCounts.length * 2);
+                }
+            } else {
+                domainId = freeDomainIds.remove(freeDomainIds.size() - 1);
+                domains.set(domainId, domain);
+            }
+            domainIds.put(domain, domainId);
+        }
+        long day = createdAt.toLocalDate().toEpochDay();
+        return day << 32 | (long) domainId << 8 | Math.max(0, Math.min(255, age));
+    }
+
+    private void increment(long key, int delta) {
+        int slot = slot(keys, key);
+        if (keys[slot] == EMPTY) {
+            // 늘린 뒤에 넣어야 함 (옮길 때 수가 0인 셀은 버리므로)
+            if ((cellCount + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+                slot = slot(keys, key);
+            }
+            keys[slot] = key;
+            cellCount++;
+            emptyCells++;
+        }
+        if (counts[slot] == 0) {
+            emptyCells--;
+        }
+        counts[slot] += delta;
+        if (counts[slot] == 0) {
+            emptyCells++;
+        }
+        userCount += delta;
+        domainCounts[(int) (key >>> 8 & 0xFFFFFF)] += delta;
+    }
+
+    /**
+     * 수가 0인 셀을 지우고, 사용자가 없는 도메인의 번호를 돌려받음
+     * (셀이 남아 있는 동안은 그 도메인 번호를 다른 도메인에 줄 수 없으므로 셀을 먼저 지움)
+     */
+    private void compact() {
+        int capacity = 1024;
+        while ((cellCount - emptyCells) * 2 > capacity) {
+            capacity *= 2;
+        }
+        resize(capacity);
+        for (int id = 0; id < domains.size(); id++) {
+            if (domains.get(id) != null && domainCounts[id] == 0) {
+                domainIds.remove(domains.get(id));
+                domains.set(id, null);
+                freeDomainIds.add(id);
+            }
+        }
+    }
+
+    private static int slot(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * 새 크기의 배열로 옮김 (수가 0인 셀은 옮기지 않음)
+     */
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = newKeys(capacity);
+        counts = new int[capacity];
+        cellCount = 0;
+        emptyCells = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY && oldCounts[i] != 0) {
+                int slot = slot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+                cellCount++;
+            }
+        }
+    }
+
+    private static long[] newKeys(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+
+    /**
+     * 조건에 맞는 셀을 차원별로 묶어 사용자 수 합계
+     *
+     * @param groupBy 묶을 차원 (0~3개, 비어 있으면 전체 합계만)
+     * @param filter 셀을 거르는 조건
+     * @param limit 최대 행 수
+     * @return 합계, 묶음별 사용자 수 (차원 순서대로 정렬), 훑은 셀 수, 걸린 시간(마이크로초)
+     */
+    public Map<String, Object> query(List<Dimension> groupBy, Filter filter, int limit) {
+        if (groupBy.size() > MAX_GROUP_BY) {
+            throw new IllegalArgumentException("groupBy는 최대 " + MAX_GROUP_BY + "개까지 지정할 수 있습니다.");
+        }
+        if (groupBy.stream().distinct().count() != groupBy.size()) {
+            throw new IllegalArgumentException("groupBy에 같은 차원이 여러 번 있습니다: " + groupBy);
+        }
+        long startedAt = System.nanoTime();
+
+        boolean[] ageAllowed = ageFilter(filter);
+        long fromDay = filter.from() == null ? Long.MIN_VALUE : filter.from().toEpochDay();
+        long toDay = filter.to() == null ? Long.MAX_VALUE : filter.to().toEpochDay();
+
+        Map<Long, long[]> groups = new HashMap<>();
+        long total = 0;
+        int scanned;
+        List<String> domainNames;
+        synchronized (this) {
+            boolean[] domainAllowed = domainFilter(filter);
+            for (int i = 0; i < keys.length; i++) {
+                long key = keys[i];
+                if (key == EMPTY || counts[i] == 0) {
+                    continue;
+                }
+                int age = (int) (key & 0xFF);
+                int domainId = (int) (key >>> 8 & 0xFFFFFF);
+                long day = key >> 32;
+                if (!ageAllowed[age] || day < fromDay || day > toDay
+                        || (domainAllowed != null && !domainAllowed[domainId])) {
+                    continue;
+                }
+                total += counts[i];
+                long groupKey = 0;
+                for (Dimension dimension : groupBy) {
+                    groupKey = groupKey << GROUP_BITS | groupValue(dimension, age, domainId, day);
+                }
+                groups.computeIfAbsent(groupKey, k -> new long[1])[0] += counts[i];
+            }
+            scanned = cellCount;
+            domainNames = new ArrayList<>(domains);  // 지운 번호(null)가 있어 List.copyOf는 쓸 수 없음
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>(groups.size());
+        List<long[]> sorted = new ArrayList<>(groups.size());
+        for (Map.Entry<Long, long[]> entry : groups.entrySet()) {
+            if (entry.getValue()[0] != 0) {
+                sorted.add(new long[] {entry.getKey(), entry.getValue()[0]});
+            }
+        }
+        sorted.sort(groupComparator(groupBy, domainNames));
+        for (long[] group : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int d = 0; d < groupBy.size(); d++) {
+                Dimension dimension = groupBy.get(d);
+                row.put(dimension.getParamName(), label(dimension, part(group[0], groupBy.size(), d), domainNames));
+            }
+            row.put("count", group[1]);
+            rows.add(row);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("groupBy", groupBy.stream().map(Dimension::getParamName).toList());
+        result.put("total", total);
+        result.put("groups", sorted.size());
+        result.put("truncated", sorted.size() > limit);
+        result.put("rows", rows);
+        result.put("cellsScanned", scanned);
+        result.put("elapsedMicros", (System.nanoTime() - startedAt) / 1_000);
+        return result;
+    }
+
+    /**
+     * 큐브 크기
+     *
+     * @return 사용자 수, 셀 수, 도메인 수
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("users", userCount);
+        stats.put("cells", cellCount - emptyCells);
+        stats.put("emptyCells", emptyCells);
+        stats.put("domains", domains.size() - freeDomainIds.size());
+        stats.put("capacity", keys.length);
+        return stats;
+    }
+
+    private static boolean[] ageFilter(Filter filter) {
+        boolean[] allowed = new boolean[256];
+        Set<Integer> groupIndexes = null;
+        if (filter.ageGroups() != null) {
+            groupIndexes = new HashSet<>();
+            for (String group : filter.ageGroups()) {
+                int index = Arrays.asList(AGE_GROUPS).indexOf(group.trim());
+                if (index < 0) {
+                    throw new IllegalArgumentException("알 수 없는 나이대입니다: " + group
+                            + " (사용 가능: " + String.join(", ", AGE_GROUPS) + ")");
+                }
+                groupIndexes.add(index);
+            }
+        }
+        for (int age = 0; age < allowed.length; age++) {
+            allowed[age] = (filter.minAge() == null || age >= filter.minAge())
+                    && (filter.maxAge() == null || age <= filter.maxAge())
+                    && (groupIndexes == null || groupIndexes.contains(ageGroupIndex(age)));
+        }
+        return allowed;
+    }
+
+    /**
+     * 허용할 도메인 번호 (this 잠금 안에서 호출 / 조건이 없으면 null)
+     */
+    private boolean[] domainFilter(Filter filter) {
+        if (filter.domains() == null) {
+            return null;
+        }
+        boolean[] allowed = new boolean[domains.size()];
+        for (String domain : filter.domains()) {
+            for (int id = 0; id < domains.size(); id++) {
+                if (domains.get(id) != null && domains.get(id).equalsIgnoreCase(domain.trim())) {
+                    allowed[id] = true;
+                }
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * 나이대 번호 (UserRepository.getUserStatisticsByAgeGroup의 CASE 식과 같은 구간)
+     */
+    private static int ageGroupIndex(int age) {
+        return age < 20 ? 0 : Math.min(5, age / 10 - 1);
+    }
+
+    private static long groupValue(Dimension dimension, int age, int domainId, long day) {
+        long value = switch (dimension) {
+            case AGE_GROUP -> ageGroupIndex(age);
+            case AGE -> age;
+            case DOMAIN -> domainId;
+            case DAY -> day;
+            case WEEK -> LocalDate.ofEpochDay(day).with(DayOfWeek.MONDAY).toEpochDay();
+            case MONTH -> {
+                LocalDate date = LocalDate.ofEpochDay(day);
+                yield date.getYear() * 12L + date.getMonthValue() - 1;
+            }
+        };
+        return value & GROUP_MASK;
+    }
+
+    private static long part(long groupKey, int dimensions, int index) {
+        return groupKey >>> (GROUP_BITS * (dimensions - 1 - index)) & GROUP_MASK;
+    }
+
+    private static Object label(Dimension dimension, long value, List<String> domainNames) {
+        return switch (dimension) {
+            case AGE_GROUP -> AGE_GROUPS[(int) value];
+            case AGE -> (int) value;
+            case DOMAIN -> domainNames.get((int) value);
+            case DAY, WEEK -> LocalDate.ofEpochDay(value).toString();
+            case MONTH -> YearMonth.of((int) (value / 12), (int) (value % 12) + 1).toString();
+        };
+    }
+
+    /**
+     * 차원 순서대로 정렬 (도메인은 이름순, 나머지는 값 순서)
+     */
+    private static Comparator<long[]> groupComparator(List<Dimension> groupBy, List<String> domainNames) {
+        Comparator<long[]> comparator = (a, b) -> 0;
+        for (int d = 0; d < groupBy.size(); d++) {
+            int index = d;
+            if (groupBy.get(d) == Dimension.DOMAIN) {
+                comparator = comparator.thenComparing(group ->
+                        domainNames.get((int) part(group[0], groupBy.size(), index)).toLowerCase(Locale.ROOT));
+            } else {
+                comparator = comparator.thenComparingLong(group -> part(group[0], groupBy.size(), index));
+            }
+        }
+        return comparator;
+    }
+}
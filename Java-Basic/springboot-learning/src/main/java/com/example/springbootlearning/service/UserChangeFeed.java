@@ -0,0 +1,345 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자 변경 피드 (Server-Sent Events)
+ *
+ * 커밋된 사용자 생성/수정/삭제 이벤트를 SSE 구독자에게 전달합니다.
+ * 하위 캐시들이 getAllUsers를 주기적으로 호출(polling)하는 대신 이 피드를 구독합니다.
+ *
+ * 동작 방식:
+ * 1. 모든 이벤트에 순서 번호를 붙이고, 최근 이벤트는 재전송 로그(replay log)에 보관합니다.
+ * 2. 구독자마다 크기가 제한된 버퍼(큐)를 두고, 별도 스레드가 버퍼를 비우며 전송합니다.
+ * 3. 버퍼가 가득 찰 정도로 뒤처진 구독자는 "dropped" 이벤트(재개 토큰 포함)를 받고 연결이 끊깁니다.
+ * 4. 재접속 시 Last-Event-ID 헤더로 마지막으로 받은 이벤트를 알려주면, 그 이후 이벤트만 다시 받습니다.
+ *    재전송 로그에 남아 있지 않은 오래된 ID라면 "reset" 이벤트로 전체 재조회가 필요함을 알립니다.
+ * 5. 스냅샷 적재처럼 개별 이벤트 없이 대량 적재되면 모든 구독자에게 "reset" 이벤트를 보내고,
+ *    적재 이전 위치로는 이어받을 수 없게 재전송 로그를 비웁니다.
+ *
+ * 주요 학습 내용:
+ * 1. SseEmitter를 사용한 서버 푸시
+ * 2. 구독자별 제한 버퍼를 사용한 배압(backpressure) 처리
+ * 3. Last-Event-ID를 사용한 이어받기
+ */
+@Component
+public class UserChangeFeed {
+
+    /**
+     * 피드에 기록된 변경 한 건
+     */
+    private static final class ChangeEntry {
+        private final long sequence;
+        private final String id;
+        private final String type;
+        private final Map<String, Object> payload;
+
+        private ChangeEntry(long sequence, String id, String type, Map<String, Object> payload) {
+            this.sequence = sequence;
+            this.id = id;
+            this.type = type;
+            this.payload = payload;
+        }
+
+        private static ChangeEntry of(long sequence, String id, UserChangeEvent event) {
+            String type = event.getType().name().toLowerCase();
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("type", type);
+            payload.put("userId", event.getUserId());
+            if (event.getType() != UserChangeEvent.Type.DELETED) {
+                payload.put("user", event.getUser());
+            }
+            return new ChangeEntry(sequence, id, type, payload);
+        }
+    }
+
+    /**
+     * 이벤트 ID 앞에 붙는 값 (애플리케이션이 재시작되면 달라지므로 이전 실행의 ID를 구분할 수 있음)
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final int bufferSize;
+    private final int replaySize;
+    private final long timeoutMillis;
+
+    private final ArrayDeque<ChangeEntry> replayLog = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private long lastSequence;
+
+    /**
+     * 구독자 버퍼를 비우며 전송하는 스레드 풀
+     */
+    private final ExecutorService sender = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "user-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserChangeFeed(@Value("${app.users.change-feed.buffer-size:256}") int bufferSize,
+                          @Value("${app.users.change-feed.replay-size:1024}") int replaySize,
+                          @Value("${app.users.change-feed.timeout-ms:1800000}") long timeoutMillis) {
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 사용자 변경 이벤트 처리 (트랜잭션 커밋 후 호출됨)
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onUserChange(UserChangeEvent event) {
+        long sequence = ++lastSequence;
+        ChangeEntry entry = ChangeEntry.of(sequence, epoch + "-" + sequence, event);
+
+        replayLog.addLast(entry);
+        if (replayLog.size() > replaySize) {
+            replayLog.removeFirst();
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(entry);
+        }
+    }
+
+    /**
+     * 대량 적재 처리 (적재된 사용자마다 이벤트가 없으므로 구독자에게 전체 재조회를 알림)
+     *
+     * reset 이벤트에도 순서 번호를 붙여 보내므로, 받은 구독자는 그 ID로 적재 이후부터 이어받을 수 있습니다.
+     * 재전송 로그는 비우므로 적재 이전 ID로 재접속하면 reset 이벤트를 받습니다.
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public synchronized void onBulkLoad(UserBulkLoadedEvent event) {
+        long sequence = ++lastSequence;
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("reason", "bulk-load");
+        payload.put("rowCount", event.getRowCount());
+        payload.put("message", "사용자가 대량 적재되었습니다. 전체 목록을 다시 조회하세요.");
+        ChangeEntry entry = new ChangeEntry(sequence, epoch + "-" + sequence, "reset", payload);
+
+        replayLog.clear();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(entry);
+        }
+    }
+
+    /**
+     * 변경 피드 구독
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (Last-Event-ID 헤더, 처음 구독이면 null)
+     * @return SSE 응답 객체
+     */
+    public synchronized SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+
+        boolean resumable = true;
+        List<ChangeEntry> backlog = new ArrayList<>();
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            Long cursor = parseSequence(lastEventId);
+            resumable = cursor != null && canReplayFrom(cursor);
+            if (resumable) {
+                for (ChangeEntry entry : replayLog) {
+                    if (entry.sequence > cursor) {
+                        backlog.add(entry);
+                    }
+                }
+            }
+        }
+
+        // 아직 아무것도 받지 않은 구독자의 재개 위치는 구독한 시점 (그 이후 이벤트부터 다시 받음)
+        boolean resuming = resumable && lastEventId != null && !lastEventId.isBlank();
+        String position = resuming ? lastEventId : epoch + "-" + lastSequence;
+        // 밀린 이벤트는 버퍼 크기와 별도로 수용 (재접속 직후 바로 내보내지 않도록)
+        Subscriber subscriber = new Subscriber(emitter, position, bufferSize + backlog.size());
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        if (!resumable) {
+            // 재전송할 수 없는 위치 → 전체 재조회 필요
+            subscriber.sendReset();
+        }
+        for (ChangeEntry entry : backlog) {
+            subscriber.offer(entry);
+        }
+
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 현재 구독자 수
+     *
+     * @return 구독자 수
+     */
+    public synchronized int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private synchronized void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * 이벤트 ID에서 순서 번호 추출 (다른 실행에서 발급된 ID이거나 형식이 잘못되면 null)
+     */
+    private Long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * cursor 다음 이벤트부터 빠짐없이 재전송할 수 있는지 확인
+     */
+    private boolean canReplayFrom(long cursor) {
+        if (cursor > lastSequence) {
+            return false;
+        }
+        long oldestRetained = replayLog.isEmpty() ? lastSequence + 1 : replayLog.peekFirst().sequence;
+        return cursor >= oldestRetained - 1;
+    }
+
+    /**
+     * 구독자 한 명의 상태와 전송 버퍼
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<ChangeEntry> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean dropped;
+        private volatile boolean closed;
+
+        /**
+         * 마지막으로 전송한 이벤트 ID (재개 토큰으로 사용, 아직 보낸 것이 없으면 구독한 시점의 위치)
+         */
+        private volatile String lastSentId;
+
+        private Subscriber(SseEmitter emitter, String lastEventId, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.lastSentId = lastEventId;
+        }
+
+        /**
+         * 버퍼에 이벤트 추가 (버퍼가 가득 차면 구독자를 내보냄)
+         */
+        private void offer(ChangeEntry entry) {
+            if (dropped || closed) {
+                return;
+            }
+            if (!queue.offer(entry)) {
+                dropped = true;
+                queue.clear();
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        /**
+         * 버퍼를 비우며 전송 (구독자마다 한 번에 하나의 스레드만 실행)
+         */
+        private void drain() {
+            try {
+                while (!closed) {
+                    if (dropped) {
+                        sendDropped();
+                        return;
+                    }
+                    ChangeEntry entry = queue.poll();
+                    if (entry == null) {
+                        break;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(entry.id)
+                            .name(entry.type)
+                            .data(entry.payload, MediaType.APPLICATION_JSON));
+                    lastSentId = entry.id;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결이 끊어진 경우
+                close();
+            } finally {
+                draining.set(false);
+            }
+
+            // 종료 직전에 들어온 이벤트가 있으면 다시 전송
+            if (!closed && (dropped || !queue.isEmpty())) {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * 뒤처진 구독자에게 재개 토큰을 알리고 연결 종료
+         */
+        private void sendDropped() {
+            Map<String, Object> data = new HashMap<>();
+            data.put("resumeToken", lastSentId);
+            data.put("message", "구독자가 너무 뒤처져 연결을 종료합니다. Last-Event-ID로 재접속하세요.");
+            try {
+                emitter.send(SseEmitter.event().name("dropped").data(data, MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 이미 끊어진 연결
+            }
+            close();
+        }
+
+        /**
+         * 이어받기가 불가능함을 알림 (클라이언트는 전체 목록을 다시 조회해야 함)
+         */
+        private void sendReset() {
+            Map<String, Object> data = new HashMap<>();
+            data.put("message", "요청한 위치부터 이어받을 수 없습니다. 전체 목록을 다시 조회하세요.");
+            try {
+                emitter.send(SseEmitter.event().name("reset").data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            unsubscribe(this);
+        }
+    }
+}
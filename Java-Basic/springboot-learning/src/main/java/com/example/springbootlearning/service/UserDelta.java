@@ -0,0 +1,48 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+
+import java.util.List;
+
+/**
+ * 변경분 동기화 결과
+ * 
+ * 클라이언트가 가진 토큰 이후에 생성/수정된 사용자와 삭제된 사용자 ID,
+ * 그리고 다음 요청에 사용할 새 토큰을 담습니다.
+ */
+public class UserDelta {
+    
+    private final List<User> users;
+    private final List<Long> deletedUserIds;
+    private final String nextToken;
+    private final boolean fullResync;
+    
+    /**
+     * @param users 생성/수정된 사용자 목록 (fullResync이면 전체 사용자)
+     * @param deletedUserIds 삭제된 사용자 ID 목록
+     * @param nextToken 다음 요청에 사용할 토큰
+     * @param fullResync 전체 목록으로 교체해야 하는지 여부
+     */
+    public UserDelta(List<User> users, List<Long> deletedUserIds, String nextToken, boolean fullResync) {
+        this.users = users;
+        this.deletedUserIds = deletedUserIds;
+        this.nextToken = nextToken;
+        this.fullResync = fullResync;
+    }
+    
+    public List<User> getUsers() {
+        return users;
+    }
+    
+    public List<Long> getDeletedUserIds() {
+        return deletedUserIds;
+    }
+    
+    public String getNextToken() {
+        return nextToken;
+    }
+    
+    public boolean isFullResync() {
+        return fullResync;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.springbootlearning.service;
+
+/**
+ * 사용자 API 오류 코드
+ *
+ * 오류마다 고정된 코드와 메시지를 미리 만들어 두고, 여러 오류는 비트 마스크 하나로 표현합니다.
+ * (검증에 실패할 때마다 문자열이나 예외를 새로 만들지 않기 위함)
+ */
+public enum UserErrorCode {
+
+    NAME_REQUIRED("이름은 필수입니다."),
+    NAME_LENGTH("이름은 2자 이상 50자 이하여야 합니다."),
+    EMAIL_REQUIRED("이메일은 필수입니다."),
+    EMAIL_FORMAT("올바른 이메일 형식이 아닙니다."),
+    AGE_REQUIRED("나이는 필수입니다."),
+    AGE_RANGE("나이는 1세 이상 150세 이하여야 합니다."),
+    PHONE_NUMBER_LENGTH("전화번호는 20자 이하여야 합니다."),
+    ADDRESS_LENGTH("주소는 200자 이하여야 합니다."),
+    EMAIL_DUPLICATE("이미 존재하는 이메일입니다."),
+    USER_NOT_FOUND("사용자를 찾을 수 없습니다.");
+
+    private static final UserErrorCode[] VALUES = values();
+
+    private final String message;
+    private final int bit;
+
+    UserErrorCode(String message) {
+        this.message = message;
+        this.bit = 1 << ordinal();
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * 비트 마스크에서 이 오류를 나타내는 비트
+     *
+     * @return 오류 비트
+     */
+    public int bit() {
+        return bit;
+    }
+
+    /**
+     * 비트 마스크에 들어 있는 오류 코드 목록 (선언 순서)
+     *
+     * @param mask 오류 비트 마스크
+     * @return 오류 코드 배열
+     */
+    public static UserErrorCode[] fromMask(int mask) {
+        UserErrorCode[] codes = new UserErrorCode[Integer.bitCount(mask)];
+        int index = 0;
+        for (UserErrorCode code : VALUES) {
+            if ((mask & code.bit) != 0) {
+                codes[index++] = code;
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * 전체 오류 코드 개수 (비트 마스크 크기 계산용)
+     *
+     * @return 오류 코드 개수
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import com.example.springbootlearning.sketch.CountedValues;
+import com.example.springbootlearning.sketch.SpaceSaving;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자주 쓰이는 이메일 도메인 / 이름 상위 K개 추적기
+ *
+ * 사용자 쓰기가 커밋될 때마다(UserChangeEvent) Space-Saving 카운터를 갱신해서,
+ * /api/users/statistics/domains?top=K 같은 요청에 데이터베이스의 GROUP BY + 정렬 없이 응답합니다.
+ *
+ * Space-Saving은 삭제를 정확히 반영하지 못하고, 카운터를 빼앗긴 값의 빈도는 과대 추정될 수 있으므로
+ * reconcile-interval-ms마다 데이터베이스에서 빈도 상위 capacity개를 정확히 세어 카운터를 다시 채웁니다.
+ * 빈도가 고르게 퍼진 값이 많이 들어와 카운터를 capacity번 넘게 빼앗기면 (예: 파일 가져오기)
+ * 추정 오차가 커지므로 주기를 기다리지 않고 바로 재조정합니다.
+ *
+ * 재조정은 사용자를 한 번 읽어 값별 수를 세면서, 사용자마다 센 도메인/이름(CountedValues)도 함께 기록합니다.
+ * 읽는 동안(잠금 밖) 들어온 변경 이벤트는 모아 두었다가 새 카운터로 바꾼 뒤 다시 반영하는데,
+ * 기록과 맞는 이벤트만 반영하므로 읽은 결과에 이미 들어 있는 변경을 두 번 세거나 읽은 뒤의 변경을 놓치지 않습니다.
+ *
+ * 주요 학습 내용:
+ * 1. 스트림에서 빈도 상위 K개 찾기 (Space-Saving / heavy hitters)
+ * 2. 근사 구조를 정기적으로 정확한 값과 맞추는 재조정(reconciliation)
+ * 3. ScheduledExecutorService를 사용한 주기 작업
+ */
+@Component
+public class UserHeavyHitters {
+
+    private static final Logger log = LoggerFactory.getLogger(UserHeavyHitters.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 정확한 빈도로 다시 채우는 간격 (0이면 기동/대량 적재 때만)
+     */
+    @Value("${app.users.top-k.reconcile-interval-ms:60000}")
+    private long reconcileIntervalMs;
+
+    // 아래 구조는 this로 동기화
+    private final SpaceSaving domains;
+    private final SpaceSaving names;
+    private CountedValues countedDomains = new CountedValues();
+    private CountedValues countedNames = new CountedValues();
+
+    /**
+     * 재조정 중에 들어온 변경 이벤트 (재조정 중이 아니면 null, this로 동기화)
+     */
+    private List<UserChangeEvent> pendingEvents;
+
+    /**
+     * 재조정을 한 번에 하나만 실행하기 위한 잠금
+     */
+    private final Object reconcileLock = new Object();
+
+    private ScheduledExecutorService reconciler;
+
+    /**
+     * 마지막 재조정 후 카운터를 빼앗긴 횟수 (this로 동기화)
+     */
+    private int evictionsSinceReconcile;
+
+    public UserHeavyHitters(@Value("${app.users.top-k.capacity:100}") int capacity) {
+        this.domains = new SpaceSaving(capacity);
+        this.names = new SpaceSaving(capacity);
+    }
+
+    @PostConstruct
+    void startReconciler() {
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "top-k-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (reconcileIntervalMs > 0) {
+            reconciler.scheduleWithFixedDelay(this::reconcileQuietly,
+                    reconcileIntervalMs, reconcileIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stopReconciler() {
+        reconciler.shutdownNow();
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("상위 K개 재조정 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 직후 데이터베이스 내용으로 채우기
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted() {
+        reconcile();
+    }
+
+    /**
+     * 대량 적재된 사용자는 개별 이벤트가 없으므로 다시 채움
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public void onBulkLoad(UserBulkLoadedEvent event) {
+        reconcile();
+    }
+
+    /**
+     * 사용자 변경 반영 (트랜잭션 커밋 후 호출됨)
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onUserChange(UserChangeEvent event) {
+        if (pendingEvents != null) {
+            pendingEvents.add(event);
+        }
+        apply(event);
+    }
+
+    /**
+     * 변경 이벤트 반영 (this 잠금 안에서 호출 / 사용자별로 센 값과 맞을 때만)
+     */
+    private void apply(UserChangeEvent event) {
+        long id = event.getUserId();
+        String domain = domainOf(event.getUser().getEmail());
+        String name = event.getUser().getName();
+        switch (event.getType()) {
+            case CREATED -> {
+                if (countedDomains.created(id, domain)) {
+                    add(domains, domain);
+                }
+                if (countedNames.created(id, name)) {
+                    add(names, name);
+                }
+            }
+            case UPDATED -> {
+                String previousDomain = domainOf(event.getPrevious().getEmail());
+                String previousName = event.getPrevious().getName();
+                if (countedDomains.updated(id, previousDomain, domain)) {
+                    remove(domains, previousDomain);
+                    add(domains, domain);
+                }
+                if (countedNames.updated(id, previousName, name)) {
+                    remove(names, previousName);
+                    add(names, name);
+                }
+            }
+            case DELETED -> {
+                if (countedDomains.deleted(id, domain)) {
+                    remove(domains, domain);
+                }
+                if (countedNames.deleted(id, name)) {
+                    remove(names, name);
+                }
+            }
+        }
+    }
+
+    /**
+     * 값 추가 (카운터를 빼앗긴 횟수가 capacity에 이르면 재조정 예약, 재조정 전까지 한 번만)
+     */
+    private void add(SpaceSaving counters, String item) {
+        if (item != null && counters.add(item) && ++evictionsSinceReconcile == counters.capacity()) {
+            reconciler.execute(this::reconcileQuietly);
+        }
+    }
+
+    private static void remove(SpaceSaving counters, String item) {
+        if (item != null) {
+            counters.remove(item);
+        }
+    }
+
+    /**
+     * 데이터베이스의 사용자를 모두 읽어 정확한 빈도로 카운터를 다시 채움 (빈도 상위 capacity개만 남음)
+     */
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            synchronized (this) {
+                pendingEvents = new ArrayList<>();
+            }
+            try {
+                Map<String, Long> exactDomains = new HashMap<>();
+                Map<String, Long> exactNames = new HashMap<>();
+                CountedValues scannedDomains = new CountedValues();
+                CountedValues scannedNames = new CountedValues();
+                jdbcTemplate.query("SELECT id, name, email FROM users", rs -> {
+                    long id = rs.getLong("id");
+                    String domain = domainOf(rs.getString("email"));
+                    String name = rs.getString("name");
+                    if (domain != null) {
+                        exactDomains.merge(domain, 1L, Long::sum);
+                    }
+                    exactNames.merge(name, 1L, Long::sum);
+                    scannedDomains.set(id, domain);
+                    scannedNames.set(id, name);
+                });
+                synchronized (this) {
+                    domains.reset(exactDomains);
+                    names.reset(exactNames);
+                    countedDomains = scannedDomains;
+                    countedNames = scannedNames;
+                    evictionsSinceReconcile = 0;
+                    // 읽는 동안 들어온 변경 중 읽은 결과에 없던 것만 새 카운터에 반영됨
+                    for (UserChangeEvent event : pendingEvents) {
+                        apply(event);
+                    }
+                }
+            } finally {
+                synchronized (this) {
+                    pendingEvents = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 사용자가 많은 이메일 도메인 상위 k개
+     *
+     * @param k 개수 (capacity 이하)
+     * @return [도메인, 사용자 수] 목록 (사용자 수 내림차순)
+     */
+    public synchronized List<Object[]> topDomains(int k) {
+        return toRows(domains.top(k));
+    }
+
+    /**
+     * 사용자가 많은 이름 상위 k개
+     *
+     * @param k 개수 (capacity 이하)
+     * @return [이름, 사용자 수] 목록 (사용자 수 내림차순)
+     */
+    public synchronized List<Object[]> topNames(int k) {
+        return toRows(names.top(k));
+    }
+
+    /**
+     * 추적할 수 있는 최대 K
+     */
+    public int getCapacity() {
+        return domains.capacity();
+    }
+
+    private static List<Object[]> toRows(List<SpaceSaving.Counter> counters) {
+        return counters.stream()
+                .map(counter -> new Object[] {counter.item(), counter.count()})
+                .toList();
+    }
+
+    private static String domainOf(String email) {
+        return email == null ? null : email.substring(email.indexOf('@') + 1);
+    }
+}
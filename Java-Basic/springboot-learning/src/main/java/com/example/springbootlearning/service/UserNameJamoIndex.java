@@ -0,0 +1,112 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import com.example.springbootlearning.search.HangulNameIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 한글 초성 / 낱자 이름 검색 인덱스
+ *
+ * "ㄱㅊㅅ"처럼 초성만 입력하거나 "김처"처럼 입력 중인 음절로 검색하면 LIKE '%x%'로는 찾을 수 없으므로,
+ * 사용자 이름을 저장할 때 초성 / 낱자로 분해해 둔 메모리 인덱스(HangulNameIndex)에서 찾습니다.
+ * 이름은 User.normalizeName(NFC + 소문자)으로 정규화하므로, 자모가 분리되어 저장된 이름도 완성형과 같이 찾을 수 있습니다.
+ *
+ * 쓰기가 커밋될 때마다(UserChangeEvent) 추가/삭제를 반영하고, 기동 직후와 대량 적재 후에는 데이터베이스에서 다시 만듭니다.
+ *
+ * 주요 학습 내용:
+ * 1. 유니코드 한글 음절의 초성/중성/종성 분해
+ * 2. 역색인(inverted index)으로 후보를 줄인 뒤 확인하는 검색
+ * 3. 편집 거리(Levenshtein)를 사용한 오타 허용 검색
+ */
+@Component
+public class UserNameJamoIndex {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // this로 동기화
+    private final HangulNameIndex index = new HangulNameIndex();
+
+    /**
+     * 기동 직후 데이터베이스 내용으로 채우기
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted() {
+        rebuild();
+    }
+
+    /**
+     * 대량 적재된 사용자는 개별 이벤트가 없으므로 다시 만듦
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public void onBulkLoad(UserBulkLoadedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 사용자 변경 반영 (트랜잭션 커밋 후 호출됨)
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onUserChange(UserChangeEvent event) {
+        User user = event.getUser();
+        switch (event.getType()) {
+            case CREATED -> index.add(User.normalizeName(user.getName()), user.getId());
+            case UPDATED -> {
+                String previousName = User.normalizeName(event.getPrevious().getName());
+                String name = User.normalizeName(user.getName());
+                if (!Objects.equals(previousName, name)) {
+                    index.remove(previousName, user.getId());
+                    index.add(name, user.getId());
+                }
+            }
+            case DELETED -> index.remove(User.normalizeName(user.getName()), user.getId());
+        }
+    }
+
+    /**
+     * 데이터베이스의 모든 사용자로 인덱스를 새로 만듦
+     */
+    public synchronized void rebuild() {
+        index.clear();
+        jdbcTemplate.query("SELECT id, name FROM users", rs -> {
+            index.add(User.normalizeName(rs.getString("name")), rs.getLong("id"));
+        });
+    }
+
+    /**
+     * 초성 / 입력 중인 음절을 포함한 부분 일치 검색
+     *
+     * @param query 검색어 (예: "ㄱㅊㅅ", "김ㅊ", "김처")
+     * @param limit 최대 개수
+     * @return 일치하는 사용자 ID (limit개보다 많으면 그중 일부)
+     */
+    public synchronized List<Long> search(String query, int limit) {
+        return index.search(User.normalizeName(query), limit);
+    }
+
+    /**
+     * 오타를 허용하는 이름 검색
+     *
+     * @param query 검색어 (예: "김철슈")
+     * @param maxDistance 허용할 최대 낱자 편집 거리
+     * @param limit 최대 개수
+     * @return 일치하는 사용자 ID (limit개보다 많으면 그중 일부)
+     */
+    public synchronized List<Long> searchFuzzy(String query, int maxDistance, int limit) {
+        return index.searchFuzzy(User.normalizeName(query), maxDistance, limit);
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import com.example.springbootlearning.journal.UserJournal;
+import com.example.springbootlearning.journal.UserJournalReader;
+import com.example.springbootlearning.search.LongLongHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 전화번호 → 사용자 ID 인덱스
+ *
+ * 콜센터의 발신 번호 조회처럼 요청이 많은 번호 조회를 위해, 정규화된 전화번호(User.normalizePhoneNumber)를
+ * 사용자 ID로 바꾸는 기본형 long → long 해시 맵을 메모리에 둡니다.
+ * 번호가 없으면 데이터베이스를 보지 않고 바로 "없음"으로 답하고, 있으면 기본키로 한 건만 읽습니다.
+ *
+ * 같은 번호를 쓰는 사용자가 둘 이상이면 ID 대신 USE_DATABASE를 저장해 두고 데이터베이스(phone_key 인덱스)에서 찾습니다.
+ * (그중 한 명만 남아도 다시 만들 때까지 USE_DATABASE로 남음)
+ * 쓰기가 커밋될 때마다(UserChangeEvent) 반영하고, 대량 적재 후에는 데이터베이스에서 다시 만듭니다.
+ * 기동 직후에는 사용자 변경 저널(app.users.journal.enabled=true)이 있으면 테이블 대신 저널을 다시 읽어서 만들고,
+ * 저널이 없거나 저널만으로는 전체 상태를 알 수 없으면(대량 적재 이후, 사용자 수 불일치) 데이터베이스에서 만듭니다.
+ *
+ * 주요 학습 내용:
+ * 1. 쓰기 시점의 값 정규화 (문자열 → 숫자 키)
+ * 2. 박싱 없는 기본형 해시 맵
+ * 3. 메모리 인덱스로 답할 수 없는 경우의 데이터베이스 대체 조회(fallback)
+ */
+@Component
+public class UserPhoneIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPhoneIndex.class);
+
+    /**
+     * 조회 결과: 그 번호를 쓰는 사용자가 없음
+     */
+    public static final long NOT_FOUND = 0;
+
+    /**
+     * 조회 결과: 인덱스로 답할 수 없음 (같은 번호의 사용자가 여럿이거나 아직 채우기 전, 데이터베이스에서 찾아야 함)
+     */
+    public static final long USE_DATABASE = -1;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 변경 저널 (꺼져 있으면 빈이 없음)
+     */
+    @Autowired
+    private ObjectProvider<UserJournal> userJournal;
+
+    // 아래 필드는 this로 동기화
+    private final LongLongHashMap ids = new LongLongHashMap();
+    private boolean loaded;
+
+    /**
+     * 기동 직후 저널(없으면 데이터베이스) 내용으로 채우기
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted() {
+        if (!rebuildFromJournal()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 대량 적재된 사용자는 개별 이벤트가 없으므로 다시 만듦
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public void onBulkLoad(UserBulkLoadedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 사용자 변경 반영 (트랜잭션 커밋 후 호출됨)
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onUserChange(UserChangeEvent event) {
+        User user = event.getUser();
+        Long key = User.normalizePhoneNumber(user.getPhoneNumber());
+        switch (event.getType()) {
+            case CREATED -> add(key, user.getId());
+            case UPDATED -> {
+                Long previousKey = User.normalizePhoneNumber(event.getPrevious().getPhoneNumber());
+                if (!Objects.equals(previousKey, key)) {
+                    remove(previousKey, user.getId());
+                    add(key, user.getId());
+                }
+            }
+            case DELETED -> remove(key, user.getId());
+        }
+    }
+
+    /**
+     * 데이터베이스의 모든 사용자로 인덱스를 새로 만듦
+     */
+    public synchronized void rebuild() {
+        ids.clear();
+        jdbcTemplate.query("SELECT id, phone_key FROM users WHERE phone_key IS NOT NULL", rs -> {
+            add(rs.getLong("phone_key"), rs.getLong("id"));
+        });
+        loaded = true;
+    }
+
+    /**
+     * 저널을 처음부터 다시 읽어 복원한 사용자 상태로 인덱스를 새로 만듦 (users 테이블을 읽지 않음)
+     *
+     * @return 만들었으면 true, 저널이 꺼져 있거나 저널만으로는 전체 상태가 아니면 false (인덱스는 그대로)
+     */
+    public synchronized boolean rebuildFromJournal() {
+        UserJournal journal = userJournal.getIfAvailable();
+        if (journal == null) {
+            return false;
+        }
+        UserJournalReader.Rebuilt state;
+        try {
+            state = journal.getReader().rebuild(journal.getLastLsn());
+        } catch (IOException e) {
+            log.warn("사용자 저널을 읽을 수 없어 데이터베이스에서 전화번호 인덱스를 만듭니다: {}", e.getMessage());
+            return false;
+        }
+        // 대량 적재된 사용자는 저널에 없고, 저널을 켜기 전에 저장된 사용자도 없으므로 사용자 수로 확인
+        Long stored = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (state.partial() || stored == null || stored != state.users().size()) {
+            log.info("사용자 저널만으로는 전체 사용자를 알 수 없어 데이터베이스에서 전화번호 인덱스를 만듭니다. (저널 {}명, 데이터베이스 {}명)",
+                    state.users().size(), stored);
+            return false;
+        }
+        ids.clear();
+        state.users().forEach((id, user) -> add(User.normalizePhoneNumber(user.getPhoneNumber()), id));
+        loaded = true;
+        log.info("사용자 저널로 전화번호 인덱스 생성: 사용자 {}명, 레코드 {}개, {}ms",
+                state.users().size(), state.records(), state.elapsedMillis());
+        return true;
+    }
+
+    private void add(Long key, long id) {
+        if (key == null) {
+            return;
+        }
+        long existing = ids.get(key, NOT_FOUND);
+        ids.put(key, existing == NOT_FOUND || existing == id ? id : USE_DATABASE);
+    }
+
+    private void remove(Long key, long id) {
+        if (key != null && ids.get(key, NOT_FOUND) == id) {
+            ids.remove(key);
+        }
+    }
+
+    /**
+     * 번호를 쓰는 사용자 ID 조회
+     *
+     * @param key 정규화된 전화번호
+     * @return 사용자 ID, 없으면 NOT_FOUND, 인덱스로 답할 수 없으면 USE_DATABASE
+     */
+    public synchronized long lookup(long key) {
+        return loaded ? ids.get(key, NOT_FOUND) : USE_DATABASE;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import com.example.springbootlearning.search.KoreanRegions;
+import com.example.springbootlearning.search.LongBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 주소 지역(시/도, 시/군/구) 비트맵 인덱스
+ *
+ * 주소를 저장할 때 KoreanRegions 사전으로 시/도 코드와 시/군/구 코드로 바꾸고(사전 인코딩),
+ * 지역마다 "사용자 ID 번째 비트가 켜진" 비트맵(LongBitmap)과 사용자 수를 둡니다.
+ * "서울시 사용자 전부"는 LIKE '서울%' 대신 비트맵을 읽고, 지역별 사용자 수는 카운터를 읽기만 하므로
+ * 지역 하나당 상수 시간에 응답합니다.
+ *
+ * 쓰기가 커밋될 때마다(UserChangeEvent) 비트를 켜고 끄며, 기동 직후와 대량 적재 후에는 데이터베이스에서 다시 만듭니다.
+ * 사용자 수는 비트가 실제로 바뀔 때만 바꾸므로, 다시 만드는 동안 커밋되어 조회 결과에 이미 들어간 변경의 이벤트가
+ * 뒤늦게 와도 두 번 세지 않습니다. (UserAnalyticsCube도 같은 이유로 사용자별 셀을 기억함)
+ * 비트맵은 2^16개씩 나눈 조각으로 되어 있어 int 범위를 넘는 사용자 ID도 저장할 수 있습니다.
+ *
+ * 주요 학습 내용:
+ * 1. 사전 인코딩(dictionary encoding)으로 문자열을 작은 코드로 바꾸기
+ * 2. 조각 비트맵(Roaring 방식)을 사용한 비트맵 인덱스
+ * 3. 쓰기 시점에 미리 계산해 두는 집계 카운터
+ */
+@Component
+public class UserRegionIndex {
+
+    /**
+     * 시/군/구 하나 (사전에서의 위치가 코드)
+     */
+    private static final class District {
+        final int province;
+        final String name;
+        final LongBitmap users = new LongBitmap();
+        int count;
+
+        District(int province, String name) {
+            this.province = province;
+            this.name = name;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 아래 구조는 모두 this로 동기화
+    private final LongBitmap[] provinceUsers = new LongBitmap[KoreanRegions.PROVINCES.size()];
+    private final int[] provinceCounts = new int[KoreanRegions.PROVINCES.size()];
+    private final List<District> districts = new ArrayList<>();
+    private final Map<String, Integer> districtCodes = new HashMap<>();  // "시/도 코드:시/군/구" → 코드
+
+    public UserRegionIndex() {
+        for (int i = 0; i < provinceUsers.length; i++) {
+            provinceUsers[i] = new LongBitmap();
+        }
+    }
+
+    /**
+     * 기동 직후 데이터베이스 내용으로 채우기
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted() {
+        rebuild();
+    }
+
+    /**
+     * 대량 적재된 사용자는 개별 이벤트가 없으므로 다시 만듦
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public void onBulkLoad(UserBulkLoadedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 사용자 변경 반영 (트랜잭션 커밋 후 호출됨)
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onUserChange(UserChangeEvent event) {
+        User user = event.getUser();
+        switch (event.getType()) {
+            case CREATED -> set(user.getId(), KoreanRegions.parse(user.getAddress()), true);
+            case UPDATED -> {
+                KoreanRegions.Region previous = KoreanRegions.parse(event.getPrevious().getAddress());
+                KoreanRegions.Region region = KoreanRegions.parse(user.getAddress());
+                if (!Objects.equals(previous, region)) {
+                    set(user.getId(), previous, false);
+                    set(user.getId(), region, true);
+                }
+            }
+            case DELETED -> set(user.getId(), KoreanRegions.parse(user.getAddress()), false);
+        }
+    }
+
+    /**
+     * 데이터베이스의 모든 사용자로 인덱스를 새로 만듦
+     */
+    public synchronized void rebuild() {
+        for (int i = 0; i < provinceUsers.length; i++) {
+            provinceUsers[i].clear();
+            provinceCounts[i] = 0;
+        }
+        districts.clear();
+        districtCodes.clear();
+        jdbcTemplate.query("SELECT id, address FROM users WHERE address IS NOT NULL", rs -> {
+            set(rs.getLong("id"), KoreanRegions.parse(rs.getString("address")), true);
+        });
+    }
+
+    private void set(long id, KoreanRegions.Region region, boolean value) {
+        if (region == null) {
+            return;
+        }
+        int province = KoreanRegions.provinceCode(region.province());
+        provinceCounts[province] += flip(provinceUsers[province], id, value);
+        if (region.district() != null) {
+            District district = value ? districtOf(province, region.district()) : findDistrict(province, region.district());
+            if (district != null) {
+                district.count += flip(district.users, id, value);
+            }
+        }
+    }
+
+    /**
+     * 비트를 바꾸고 사용자 수 변화량을 돌려줌 (이미 그 값이면 0)
+     */
+    private static int flip(LongBitmap bits, long id, boolean value) {
+        if (!bits.set(id, value)) {
+            return 0;
+        }
+        return value ? 1 : -1;
+    }
+
+    private District findDistrict(int province, String name) {
+        Integer code = districtCodes.get(province + ":" + name);
+        return code == null ? null : districts.get(code);
+    }
+
+    private District districtOf(int province, String name) {
+        District district = findDistrict(province, name);
+        if (district == null) {
+            district = new District(province, name);
+            districtCodes.put(province + ":" + name, districts.size());
+            districts.add(district);
+        }
+        return district;
+    }
+
+    /**
+     * 지역에 사는 사용자 ID (afterId 다음부터 limit개씩 나누어 조회)
+     *
+     * @param province 시/도 (정식 이름이나 줄임말, 예: "서울", "서울시")
+     * @param district 시/군/구 (null이면 시/도 전체)
+     * @param afterId 이 ID보다 큰 사용자부터 (처음이면 0)
+     * @param limit 최대 개수
+     * @return 사용자 ID (오름차순)
+     * @throws IllegalArgumentException 알 수 없는 시/도인 경우
+     */
+    public synchronized List<Long> findUserIds(String province, String district, long afterId, int limit) {
+        int code = requireProvince(province);
+        LongBitmap users;
+        if (district == null) {
+            users = provinceUsers[code];
+        } else {
+            District found = findDistrict(code, district.strip());
+            if (found == null) {
+                return List.of();
+            }
+            users = found.users;
+        }
+        List<Long> ids = new ArrayList<>(Math.min(limit, 1024));
+        for (long id = users.nextSetBit(afterId + 1); id >= 0 && ids.size() < limit; id = users.nextSetBit(id + 1)) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * 시/도별 사용자 수
+     *
+     * @return [시/도, 사용자 수] 목록 (사용자 수 내림차순, 사용자가 있는 시/도만)
+     */
+    public synchronized List<Object[]> countByProvince() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int code = 0; code < provinceCounts.length; code++) {
+            if (provinceCounts[code] > 0) {
+                rows.add(new Object[] {KoreanRegions.PROVINCES.get(code), (long) provinceCounts[code]});
+            }
+        }
+        return sortByCount(rows);
+    }
+
+    /**
+     * 시/도 안의 시/군/구별 사용자 수
+     *
+     * @param province 시/도 (정식 이름이나 줄임말)
+     * @return [시/군/구, 사용자 수] 목록 (사용자 수 내림차순, 사용자가 있는 곳만)
+     * @throws IllegalArgumentException 알 수 없는 시/도인 경우
+     */
+    public synchronized List<Object[]> countByDistrict(String province) {
+        int code = requireProvince(province);
+        List<Object[]> rows = new ArrayList<>();
+        for (District district : districts) {
+            if (district.province == code && district.count > 0) {
+                rows.add(new Object[] {district.name, (long) district.count});
+            }
+        }
+        return sortByCount(rows);
+    }
+
+    private static int requireProvince(String province) {
+        int code = KoreanRegions.provinceCode(province);
+        if (code < 0) {
+            throw new IllegalArgumentException("알 수 없는 시/도입니다: " + province);
+        }
+        return code;
+    }
+
+    private static List<Object[]> sortByCount(List<Object[]> rows) {
+        rows.sort((a, b) -> Long.compare((long) b[1], (long) a[1]));
+        return rows;
+    }
+}
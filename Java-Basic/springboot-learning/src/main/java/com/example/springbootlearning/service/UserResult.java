@@ -0,0 +1,177 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 사용자 생성/수정/삭제 결과
+ *
+ * 실패를 예외로 던지는 대신 결과 객체로 돌려줍니다.
+ * 실패 결과는 오류 비트 마스크마다 한 번만 만들어 재사용하므로,
+ * 잘못된 요청을 거절할 때 예외 생성(스택 트레이스 수집)이나 응답 Map 생성 비용이 들지 않습니다.
+ *
+ * 상태:
+ * - SUCCESS: 성공 (getUser()로 결과 사용자 조회)
+ * - VALIDATION_ERROR: 입력 데이터 검증 실패 (400)
+ * - CONFLICT: 이메일 중복 (409)
+ * - NOT_FOUND: 사용자 없음 (404)
+ */
+public class UserResult {
+
+    public enum Status {
+        SUCCESS, VALIDATION_ERROR, CONFLICT, NOT_FOUND
+    }
+
+    /**
+     * 오류 비트 마스크 → 실패 결과 (처음 사용할 때 만들어 보관)
+     */
+    private static final AtomicReferenceArray<UserResult> FAILURES =
+            new AtomicReferenceArray<>(1 << UserErrorCode.count());
+
+    private final Status status;
+    private final User user;
+    private final int errorMask;
+    private final String message;
+    private final Map<String, Object> errorBody;
+
+    private UserResult(User user) {
+        this.status = Status.SUCCESS;
+        this.user = user;
+        this.errorMask = 0;
+        this.message = null;
+        this.errorBody = null;
+    }
+
+    private UserResult(int errorMask) {
+        if ((errorMask & UserErrorCode.USER_NOT_FOUND.bit()) != 0) {
+            this.status = Status.NOT_FOUND;
+        } else if ((errorMask & UserErrorCode.EMAIL_DUPLICATE.bit()) != 0) {
+            this.status = Status.CONFLICT;
+        } else {
+            this.status = Status.VALIDATION_ERROR;
+        }
+        this.user = null;
+        this.errorMask = errorMask;
+
+        StringBuilder message = new StringBuilder();
+        List<String> codes = new ArrayList<>();
+        for (UserErrorCode code : UserErrorCode.fromMask(errorMask)) {
+            if (message.length() > 0) {
+                message.append(' ');
+            }
+            message.append(code.getMessage());
+            codes.add(code.name());
+        }
+        this.message = message.toString();
+
+        // 기존 에러 응답과 같은 error / message 키에 오류 코드 목록을 추가 (수정 불가능한 Map)
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", errorTitle(status));
+        body.put("message", this.message);
+        body.put("codes", List.copyOf(codes));
+        this.errorBody = Collections.unmodifiableMap(body);
+    }
+
+    /**
+     * 성공 결과
+     *
+     * @param user 생성/수정/삭제된 사용자
+     * @return 성공 결과
+     */
+    public static UserResult success(User user) {
+        return new UserResult(user);
+    }
+
+    /**
+     * 실패 결과 (같은 오류 조합이면 같은 객체를 반환)
+     *
+     * @param errorMask 오류 비트 마스크 (UserErrorCode.bit()의 조합, 0이 아니어야 함)
+     * @return 실패 결과
+     */
+    public static UserResult failure(int errorMask) {
+        if (errorMask == 0) {
+            throw new IllegalArgumentException("실패 결과에는 오류 코드가 필요합니다.");
+        }
+        UserResult result = FAILURES.get(errorMask);
+        if (result == null) {
+            // 동시에 만들어지더라도 내용이 같으므로 먼저 저장된 객체를 사용
+            FAILURES.compareAndSet(errorMask, null, new UserResult(errorMask));
+            result = FAILURES.get(errorMask);
+        }
+        return result;
+    }
+
+    /**
+     * 단일 오류 실패 결과
+     *
+     * @param code 오류 코드
+     * @return 실패 결과
+     */
+    public static UserResult failure(UserErrorCode code) {
+        return failure(code.bit());
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public int getErrorMask() {
+        return errorMask;
+    }
+
+    /**
+     * 오류 메시지 (성공이면 빈 문자열)
+     *
+     * @return 오류 메시지
+     */
+    public String getMessage() {
+        return message == null ? "" : message;
+    }
+
+    /**
+     * 에러 응답 본문 (error, message, codes) - 미리 만들어 둔 수정 불가능한 Map
+     *
+     * @return 에러 응답 본문 (성공이면 null)
+     */
+    public Map<String, Object> getErrorBody() {
+        return errorBody;
+    }
+
+    /**
+     * 성공이면 사용자를 반환하고, 실패면 예외를 던짐 (예외 기반 API와의 호환용)
+     *
+     * @return 결과 사용자
+     * @throws IllegalArgumentException 실패 결과인 경우
+     */
+    public User orElseThrow() {
+        if (!isSuccess()) {
+            throw new IllegalArgumentException(message);
+        }
+        return user;
+    }
+
+    private static String errorTitle(Status status) {
+        switch (status) {
+            case NOT_FOUND:
+                return "사용자 없음";
+            case CONFLICT:
+                return "데이터 충돌";
+            default:
+                return "입력 데이터 검증 실패";
+        }
+    }
+}
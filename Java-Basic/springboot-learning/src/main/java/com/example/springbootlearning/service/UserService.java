@@ -1,12 +1,35 @@
 package com.example.springbootlearning.service;
 
 import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.entity.UserTombstone;
+import com.example.springbootlearning.event.UserChangeEvent;
 import com.example.springbootlearning.repository.UserRepository;
+import com.example.springbootlearning.repository.UserTombstoneRepository;
+import com.example.springbootlearning.search.Hangul;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -34,6 +57,123 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
     
+    /**
+     * 최근 가입자 링 버퍼 (/api/users/recent 응답용)
+     */
+    @Autowired
+    private RecentSignupBuffer recentSignupBuffer;
+    
+    /**
+     * 근사 통계 스케치 (approx=true 요청용)
+     */
+    @Autowired
+    private UserSketches userSketches;
+    
+    /**
+     * 이메일 도메인 / 이름 상위 K개 추적기 (top=K 요청용)
+     */
+    @Autowired
+    private UserHeavyHitters userHeavyHitters;
+    
+    /**
+     * 이름 / 이메일 접두사 자동완성 인덱스
+     */
+    @Autowired
+    private UserSuggestIndex userSuggestIndex;
+    
+    /**
+     * 한글 초성 / 낱자 이름 검색 인덱스
+     */
+    @Autowired
+    private UserNameJamoIndex userNameJamoIndex;
+    
+    /**
+     * 주소 지역(시/도, 시/군/구) 비트맵 인덱스
+     */
+    @Autowired
+    private UserRegionIndex userRegionIndex;
+    
+    /**
+     * 전화번호 → 사용자 ID 인덱스
+     */
+    @Autowired
+    private UserPhoneIndex userPhoneIndex;
+    
+    /**
+     * 사용자 변경 이벤트 발행기
+     * 리스너(@TransactionalEventListener)는 트랜잭션 커밋 이후에 이벤트를 받습니다.
+     */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * 사용자 삭제 기록(툼스톤) 리포지토리 (변경분 동기화용)
+     */
+    @Autowired
+    private UserTombstoneRepository tombstoneRepository;
+    
+    /**
+     * 사전 컴파일된 사용자 검증기 (User 엔티티의 검증 어노테이션 규칙)
+     */
+    @Autowired
+    private UserValidator userValidator;
+    
+    /**
+     * 트랜잭션 관리자 (일괄 생성에서 항목마다 트랜잭션을 따로 열 때 사용)
+     */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    /**
+     * 변경분 조회 시 토큰보다 앞당겨 조회하는 시간 (커밋이 늦게 끝난 변경을 놓치지 않기 위함)
+     */
+    @Value("${app.users.delta-sync.overlap-ms:2000}")
+    private long deltaSyncOverlapMillis;
+    
+    /**
+     * 삭제 기록 보관 기간 (이보다 오래된 토큰은 전체 재동기화)
+     */
+    @Value("${app.users.delta-sync.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+    
+    /**
+     * 통계 결과를 그대로 사용하는 시간 (0이면 동시에 들어온 요청끼리만 결과를 공유)
+     */
+    @Value("${app.users.statistics.fresh-ms:0}")
+    private long statisticsFreshMillis;
+    
+    /**
+     * fresh 시간이 지난 뒤 오래된 통계를 반환하면서 백그라운드로 갱신하는 시간
+     */
+    @Value("${app.users.statistics.stale-ms:0}")
+    private long statisticsStaleMillis;
+    
+    /**
+     * 통계 백그라운드 갱신용 스레드 풀 (스프링부트 기본 제공)
+     */
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+    
+    /**
+     * 나이대별 통계 / 도메인별 통계 요청 병합 캐시
+     * (캐시한 목록은 모든 요청이 함께 보므로 수정할 수 없는 목록으로 저장)
+     */
+    private SingleFlightCache<List<Object[]>> ageGroupStatistics;
+    private SingleFlightCache<List<Object[]>> emailDomainStatistics;
+    
+    /**
+     * 의존성 주입이 끝난 뒤 통계 캐시 생성
+     * @PostConstruct: 빈 생성과 주입이 완료된 직후 한 번 호출됨
+     */
+    @PostConstruct
+    void initStatisticsCaches() {
+        ageGroupStatistics = new SingleFlightCache<>(() -> List.copyOf(userRepository.getUserStatisticsByAgeGroup()),
+                statisticsFreshMillis, statisticsStaleMillis, taskExecutor);
+        emailDomainStatistics = new SingleFlightCache<>(() -> List.copyOf(userRepository.getUserCountByEmailDomain()),
+                statisticsFreshMillis, statisticsStaleMillis, taskExecutor);
+    }
+    
     /**
      * 모든 사용자 조회
      * 
@@ -71,16 +211,73 @@ public class UserService {
      * 
      * @param user 생성할 사용자 정보
      * @return 저장된 사용자 정보
-     * @throws IllegalArgumentException 이메일이 이미 존재하는 경우
+     * @throws IllegalArgumentException 입력 데이터가 잘못되었거나 이메일이 이미 존재하는 경우
      */
     public User createUser(User user) {
+        return tryCreateUser(user).orElseThrow();
+    }
+    
+    /**
+     * 사용자 생성 (실패를 예외 대신 결과로 반환)
+     * 
+     * 입력 데이터 검증에 실패하면 데이터베이스를 조회하지 않고 바로 반환합니다.
+     * 
+     * @param user 생성할 사용자 정보
+     * @return 성공 시 저장된 사용자, 실패 시 VALIDATION_ERROR 또는 CONFLICT 결과
+     */
+    public UserResult tryCreateUser(User user) {
+        int errors = validate(user);
+        if (errors != 0) {
+            return UserResult.failure(errors);
+        }
+        
         // 이메일 중복 검사
         if (userRepository.existsByEmail(user.getEmail())) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + user.getEmail());
+            return UserResult.failure(UserErrorCode.EMAIL_DUPLICATE);
         }
         
         // 사용자 저장
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        
+        // 변경 이벤트 발행 (커밋 후 캐시, 변경 피드 등에 전달됨)
+        eventPublisher.publishEvent(UserChangeEvent.created(savedUser));
+        return UserResult.success(savedUser);
+    }
+    
+    /**
+     * 여러 사용자 일괄 생성 (실패를 예외 대신 결과로 반환)
+     * 
+     * 각 사용자를 순서대로 검증하고 저장하며, 실패한 사용자가 있어도 나머지는 계속 저장합니다.
+     * 같은 요청 안에서 이메일이 중복되면 뒤에 나온 사용자가 CONFLICT가 됩니다.
+     * 
+     * 사용자마다 별도의 트랜잭션으로 저장하므로, 중복 검사 이후 다른 요청이 같은 이메일을 먼저 저장해
+     * 고유 제약 조건 위반이 나더라도 그 사용자만 CONFLICT가 되고 앞뒤 사용자는 그대로 저장됩니다.
+     * 
+     * @param users 생성할 사용자 목록
+     * @return 입력 순서와 같은 순서의 결과 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 항목마다 트랜잭션을 따로 열기 위해 바깥 트랜잭션은 만들지 않음
+    public List<UserResult> tryCreateUsers(List<User> users) {
+        TransactionTemplate perItem = new TransactionTemplate(transactionManager);
+        perItem.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        List<UserResult> results = new ArrayList<>(users.size());
+        for (User user : users) {
+            UserResult result;
+            try {
+                result = perItem.execute(status -> {
+                    UserResult created = tryCreateUser(user);
+                    if (created.isSuccess()) {
+                        userRepository.flush();  // 제약 조건 위반이 커밋이 아니라 여기서 나도록
+                    }
+                    return created;
+                });
+            } catch (DataIntegrityViolationException e) {
+                result = UserResult.failure(UserErrorCode.EMAIL_DUPLICATE);
+            }
+            results.add(result);
+        }
+        return results;
     }
     
     /**
@@ -89,19 +286,41 @@ public class UserService {
      * @param id 수정할 사용자 ID
      * @param userDetails 수정할 사용자 정보
      * @return 수정된 사용자 정보
-     * @throws IllegalArgumentException 사용자를 찾을 수 없는 경우
+     * @throws IllegalArgumentException 입력 데이터가 잘못되었거나, 사용자를 찾을 수 없거나, 이메일이 이미 존재하는 경우
      */
     public User updateUser(Long id, User userDetails) {
+        return tryUpdateUser(id, userDetails).orElseThrow();
+    }
+    
+    /**
+     * 사용자 정보 수정 (실패를 예외 대신 결과로 반환)
+     * 
+     * @param id 수정할 사용자 ID
+     * @param userDetails 수정할 사용자 정보
+     * @return 성공 시 수정된 사용자, 실패 시 VALIDATION_ERROR, NOT_FOUND 또는 CONFLICT 결과
+     */
+    public UserResult tryUpdateUser(Long id, User userDetails) {
+        int errors = validate(userDetails);
+        if (errors != 0) {
+            return UserResult.failure(errors);
+        }
+        
         // 기존 사용자 조회
-        User existingUser = userRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + id));
+        Optional<User> found = userRepository.findById(id);
+        if (found.isEmpty()) {
+            return UserResult.failure(UserErrorCode.USER_NOT_FOUND);
+        }
+        User existingUser = found.get();
         
         // 이메일 변경 시 중복 검사
         if (!existingUser.getEmail().equals(userDetails.getEmail()) && 
             userRepository.existsByEmail(userDetails.getEmail())) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + userDetails.getEmail());
+            return UserResult.failure(UserErrorCode.EMAIL_DUPLICATE);
         }
         
+        // 변경 전 상태 보관 (변경 이벤트용)
+        User previous = new User(existingUser);
+        
         // 사용자 정보 업데이트
         existingUser.setName(userDetails.getName());
         existingUser.setEmail(userDetails.getEmail());
@@ -109,7 +328,10 @@ public class UserService {
         existingUser.setPhoneNumber(userDetails.getPhoneNumber());
         existingUser.setAddress(userDetails.getAddress());
         
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        
+        eventPublisher.publishEvent(UserChangeEvent.updated(savedUser, previous));
+        return UserResult.success(savedUser);
     }
     
     /**
@@ -119,12 +341,98 @@ public class UserService {
      * @throws IllegalArgumentException 사용자를 찾을 수 없는 경우
      */
     public void deleteUser(Long id) {
-        // 사용자 존재 여부 확인
-        if (!userRepository.existsById(id)) {
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + id);
+        tryDeleteUser(id).orElseThrow();
+    }
+    
+    /**
+     * 사용자 삭제 (실패를 예외 대신 결과로 반환)
+     * 
+     * @param id 삭제할 사용자 ID
+     * @return 성공 시 삭제된 사용자, 실패 시 NOT_FOUND 결과
+     */
+    public UserResult tryDeleteUser(Long id) {
+        // 사용자 존재 여부 확인 (삭제 이벤트에 담기 위해 엔티티를 조회)
+        Optional<User> found = userRepository.findById(id);
+        if (found.isEmpty()) {
+            return UserResult.failure(UserErrorCode.USER_NOT_FOUND);
         }
+        User user = found.get();
+        
+        userRepository.delete(user);
+        
+        // 변경분 동기화용 삭제 기록을 남기고, 보관 기간이 지난 기록은 정리
+        LocalDateTime now = LocalDateTime.now();
+        tombstoneRepository.save(new UserTombstone(id, now));
+        tombstoneRepository.deleteOlderThan(now.minusDays(tombstoneRetentionDays));
         
-        userRepository.deleteById(id);
+        eventPublisher.publishEvent(UserChangeEvent.deleted(user));
+        return UserResult.success(user);
+    }
+    
+    /**
+     * 변경분 조회 (델타 동기화)
+     * 
+     * 토큰 이후에 생성/수정된 사용자와 삭제된 사용자 ID만 반환하므로,
+     * 동기화 비용이 테이블 크기가 아니라 변경량에 비례합니다.
+     * (created_at, updated_at, deleted_at 인덱스 사용)
+     * 
+     * 토큰 경계에서 커밋이 늦게 끝난 변경을 놓치지 않도록 조금 앞당겨 조회하므로,
+     * 같은 변경이 두 번 전달될 수 있습니다. (클라이언트는 ID 기준으로 덮어쓰면 됨)
+     * 
+     * @param sinceToken 이전 응답의 nextToken (처음 동기화이면 null)
+     * @return 변경분과 다음 토큰
+     * @throws IllegalArgumentException 토큰 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public UserDelta getChangesSince(String sinceToken) {
+        LocalDateTime now = LocalDateTime.now();
+        String nextToken = toSyncToken(now);
+        
+        if (sinceToken == null || sinceToken.isBlank()) {
+            return new UserDelta(userRepository.findAll(), List.of(), nextToken, true);
+        }
+        
+        LocalDateTime since = parseSyncToken(sinceToken);
+        if (since.isBefore(now.minusDays(tombstoneRetentionDays))) {
+            // 삭제 기록이 이미 정리되었을 수 있으므로 전체 목록으로 교체
+            return new UserDelta(userRepository.findAll(), List.of(), nextToken, true);
+        }
+        
+        LocalDateTime from = since.minusNanos(deltaSyncOverlapMillis * 1_000_000L);
+        
+        // 생성된 사용자와 수정된 사용자를 ID 기준으로 합침
+        Map<Long, User> changedUsers = new LinkedHashMap<>();
+        for (User user : userRepository.findByCreatedAtAfter(from)) {
+            changedUsers.put(user.getId(), user);
+        }
+        for (User user : userRepository.findByUpdatedAtAfter(from)) {
+            changedUsers.put(user.getId(), user);
+        }
+        
+        List<Long> deletedUserIds = tombstoneRepository.findByDeletedAtAfter(from).stream()
+                .map(UserTombstone::getUserId)
+                .distinct()
+                .toList();
+        
+        return new UserDelta(new ArrayList<>(changedUsers.values()), deletedUserIds, nextToken, false);
+    }
+    
+    /**
+     * 시각을 동기화 토큰으로 변환 (epoch 밀리초)
+     */
+    private String toSyncToken(LocalDateTime time) {
+        return Long.toString(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+    
+    /**
+     * 동기화 토큰을 시각으로 변환
+     */
+    private LocalDateTime parseSyncToken(String token) {
+        try {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(token)), ZoneId.systemDefault());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("올바르지 않은 동기화 토큰입니다: " + token);
+        }
     }
     
     /**
@@ -138,6 +446,94 @@ public class UserService {
         return userRepository.findByNameContaining(name);
     }
     
+    /**
+     * 이름으로 사용자 검색 (검색 방식 선택)
+     * 
+     * - contains: 부분 일치 (LIKE)
+     * - hangul: 초성 / 입력 중인 음절 포함 부분 일치 ("ㄱㅊㅅ", "김ㅊ", "김처" → 김철수)
+     * - fuzzy: 오타 허용 이름 전체 일치 (낱자 편집 거리가 검색어 낱자 6개 이하면 1, 그보다 길면 2 이내)
+     * 
+     * hangul / fuzzy는 인덱스에서 limit명까지만 찾아서 읽으므로, "ㄱ"처럼 짧은 검색어도 조회 크기가 제한됩니다.
+     * 
+     * @param name 검색어
+     * @param mode 검색 방식 (null이면 검색어에 한글 낱자가 있을 때 hangul, 아니면 contains)
+     * @param limit 최대 사용자 수 (1~1000)
+     * @return 검색된 사용자 목록 (hangul / fuzzy는 ID 순, 일치하는 사용자가 limit명보다 많으면 그중 일부)
+     * @throws IllegalArgumentException 알 수 없는 검색 방식이거나 limit이 범위를 벗어난 경우
+     */
+    @Transactional(readOnly = true)
+    public List<User> searchUsersByName(String name, String mode, int limit) {
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("limit은 1~1000 사이여야 합니다.");
+        }
+        if (mode == null) {
+            mode = Hangul.containsJamo(name) ? "hangul" : "contains";
+        }
+        if (mode.equals("contains")) {
+            List<User> users = searchUsersByName(name);
+            return users.size() > limit ? users.subList(0, limit) : users;
+        }
+        List<Long> ids = switch (mode) {
+            case "hangul" -> userNameJamoIndex.search(name, limit);
+            case "fuzzy" -> userNameJamoIndex.searchFuzzy(name, Hangul.jamoOf(name).length() <= 6 ? 1 : 2, limit);
+            default -> throw new IllegalArgumentException("mode는 contains, hangul, fuzzy 중 하나여야 합니다: " + mode);
+        };
+        List<User> users = new ArrayList<>(userRepository.findAllById(ids));
+        users.sort(Comparator.comparing(User::getId));
+        return users;
+    }
+    
+    /**
+     * 이름으로 사용자 검색 (대소문자 무시)
+     * 
+     * 부분 일치라서 name_normalized 인덱스를 사용하지 못하고 전체를 훑습니다. (접두사 검색은 searchUsersByNamePrefix)
+     * 
+     * @param name 검색할 이름 (부분 일치)
+     * @return 검색된 사용자 목록
+     */
+    @Transactional(readOnly = true)
+    public List<User> searchUsersByNameIgnoreCase(String name) {
+        return userRepository.findUsersByNameIgnoreCase(User.normalizeName(name));
+    }
+    
+    /**
+     * 이름 접두사로 사용자 검색 (대소문자 무시)
+     * 
+     * @param prefix 검색할 이름 접두사
+     * @return 검색된 사용자 목록
+     */
+    @Transactional(readOnly = true)
+    public List<User> searchUsersByNamePrefix(String prefix) {
+        return userRepository.findByNameNormalizedStartingWith(User.normalizeName(prefix));
+    }
+    
+    /**
+     * 이름 / 이메일 접두사 자동완성 (데이터베이스 조회 없음)
+     * 
+     * @param prefix 접두사
+     * @param limit 개수 (1~100)
+     * @return [값, 필드(name/email), 가중치] 목록 (가중치 내림차순)
+     * @throws IllegalArgumentException 접두사가 비어 있거나 개수가 범위를 벗어난 경우
+     */
+    public List<Map<String, Object>> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("prefix는 비어 있을 수 없습니다.");
+        }
+        if (limit < 1 || limit > 100) {
+            throw new IllegalArgumentException("limit은 1~100 사이여야 합니다.");
+        }
+        return userSuggestIndex.suggest(prefix.strip(), limit);
+    }
+    
+    /**
+     * 자동완성 인덱스 크기 조회
+     * 
+     * @return 이름 / 이메일 수, trie 노드 수, 필드 가중치
+     */
+    public Map<String, Object> getSuggestStats() {
+        return userSuggestIndex.getStats();
+    }
+    
     /**
      * 나이 범위로 사용자 검색
      * 
@@ -182,6 +578,57 @@ public class UserService {
         return userRepository.findByEmailEndingWith("@" + domain);
     }
     
+    /**
+     * 전화번호로 사용자 조회 (형식이 달라도 같은 번호면 찾음, 예: "010-1234-5678" = "+82 10 1234 5678")
+     * 
+     * 메모리 인덱스에서 사용자 ID를 찾아 기본키로 읽고, 인덱스로 답할 수 없으면 phone_key 인덱스로 조회합니다.
+     * 
+     * @param number 전화번호
+     * @return 해당 번호의 사용자 목록 (없으면 빈 목록)
+     * @throws IllegalArgumentException 전화번호로 볼 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<User> getUsersByPhoneNumber(String number) {
+        Long key = User.normalizePhoneNumber(number);
+        if (key == null) {
+            throw new IllegalArgumentException("올바른 전화번호가 아닙니다: " + number);
+        }
+        long id = userPhoneIndex.lookup(key);
+        if (id == UserPhoneIndex.NOT_FOUND) {
+            return List.of();
+        }
+        if (id != UserPhoneIndex.USE_DATABASE) {
+            Optional<User> user = userRepository.findById(id);
+            if (user.isPresent() && key.equals(user.get().getPhoneKey())) {
+                return List.of(user.get());
+            }
+        }
+        return userRepository.findByPhoneKey(key);
+    }
+    
+    /**
+     * 특정 지역에 사는 사용자 조회 (주소를 LIKE로 찾지 않고 지역 비트맵 인덱스 사용)
+     * 
+     * 한 번에 limit명까지만 읽으며, 다음 페이지는 마지막으로 받은 사용자 ID를 afterId로 넘겨 조회합니다.
+     * 
+     * @param province 시/도 (예: "서울", "서울시", "서울특별시")
+     * @param district 시/군/구 (예: "강남구", null이면 시/도 전체)
+     * @param afterId 이 ID보다 큰 사용자부터 (처음이면 0)
+     * @param limit 최대 사용자 수 (1~1000)
+     * @return 해당 지역의 사용자 목록 (ID 순)
+     * @throws IllegalArgumentException 알 수 없는 시/도이거나 limit이 범위를 벗어난 경우
+     */
+    @Transactional(readOnly = true)
+    public List<User> getUsersByRegion(String province, String district, long afterId, int limit) {
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("limit은 1~1000 사이여야 합니다.");
+        }
+        List<Long> ids = userRegionIndex.findUserIds(province, district, afterId, limit);
+        List<User> users = new ArrayList<>(userRepository.findAllById(ids));
+        users.sort(Comparator.comparing(User::getId));
+        return users;
+    }
+    
     /**
      * 전화번호가 있는 사용자 조회
      * 
@@ -217,9 +664,10 @@ public class UserService {
      * 
      * @return 나이대별 사용자 수 통계
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 기다리는 요청이 커넥션을 잡지 않도록 (쿼리는 리포지토리 트랜잭션에서 실행)
     public List<Object[]> getUserStatistics() {
-        return userRepository.getUserStatisticsByAgeGroup();
+        // 동시에 들어온 같은 요청은 쿼리 한 번의 결과를 공유
+        return ageGroupStatistics.get();
     }
     
     /**
@@ -227,20 +675,93 @@ public class UserService {
      * 
      * @return 이메일 도메인별 사용자 수 통계
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 기다리는 요청이 커넥션을 잡지 않도록 (쿼리는 리포지토리 트랜잭션에서 실행)
     public List<Object[]> getUserCountByEmailDomain() {
-        return userRepository.getUserCountByEmailDomain();
+        return emailDomainStatistics.get();
+    }
+    
+    /**
+     * 사용자가 많은 이메일 도메인 상위 K개 조회
+     * 
+     * K가 추적기 용량 이하이면 쓰기 때마다 갱신되는 추적기에서 바로 응답하고 (데이터베이스 조회 없음),
+     * 그보다 크면 전체 도메인별 통계에서 앞의 K개를 잘라서 반환합니다.
+     * 
+     * @param top 개수
+     * @return [도메인, 사용자 수] 목록 (사용자 수 내림차순)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Object[]> getTopEmailDomains(int top) {
+        if (top <= userHeavyHitters.getCapacity()) {
+            return userHeavyHitters.topDomains(top);
+        }
+        List<Object[]> all = emailDomainStatistics.get();
+        return List.copyOf(all.subList(0, Math.min(top, all.size())));
+    }
+    
+    /**
+     * 사용자가 많은 이름 상위 K개 조회 (쓰기 때마다 갱신되는 추적기에서 응답)
+     * 
+     * @param top 개수 (추적기 용량 이하)
+     * @return [이름, 사용자 수] 목록 (사용자 수 내림차순)
+     * @throws IllegalArgumentException top이 1보다 작거나 추적기 용량보다 큰 경우
+     */
+    public List<Object[]> getTopNames(int top) {
+        if (top < 1 || top > userHeavyHitters.getCapacity()) {
+            throw new IllegalArgumentException("top은 1~" + userHeavyHitters.getCapacity() + " 사이여야 합니다.");
+        }
+        return userHeavyHitters.topNames(top);
+    }
+    
+    /**
+     * 지역별 사용자 수 조회 (지역 비트맵 인덱스의 카운터, 데이터베이스 조회 없음)
+     * 
+     * @param province 시/도 (null이면 시/도별, 있으면 그 안의 시/군/구별)
+     * @return [지역, 사용자 수] 목록 (사용자 수 내림차순)
+     * @throws IllegalArgumentException 알 수 없는 시/도인 경우
+     */
+    public List<Object[]> getUserCountByRegion(String province) {
+        return province == null ? userRegionIndex.countByProvince() : userRegionIndex.countByDistrict(province);
+    }
+    
+    /**
+     * 통계 요청 병합 지표 조회
+     * 
+     * @return 통계 종류별 요청 수, 실제 쿼리 실행 수, 병합 비율
+     */
+    public Map<String, Object> getStatisticsCoalescingStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("ageGroups", ageGroupStatistics.getStats());
+        stats.put("emailDomains", emailDomainStatistics.getStats());
+        return stats;
     }
     
     /**
      * 최근 가입한 사용자 조회
      * 
+     * 버퍼 보관 기간 이내의 요청은 메모리(RecentSignupBuffer)에서 응답하고,
+     * 보관 기간을 넘는 요청만 데이터베이스를 조회합니다.
+     * 
      * @param days 최근 며칠간
      * @return 최근 가입한 사용자 목록
      */
     @Transactional(readOnly = true)
     public List<User> getRecentUsers(int days) {
-        return userRepository.findRecentUsers(days);
+        long generation = recentSignupBuffer.beginPriming();
+        if (generation >= 0) {
+            // 처음 한 번은 데이터베이스의 기존 가입자로 버퍼를 채움
+            recentSignupBuffer.prime(generation,
+                    userRepository.findRecentUsers(startOfDaysAgo(recentSignupBuffer.getHorizonDays())));
+        }
+        
+        return recentSignupBuffer.findRecent(days)
+                .orElseGet(() -> userRepository.findRecentUsers(startOfDaysAgo(days)));
+    }
+    
+    /**
+     * N일 전 0시 계산 (CURRENT_DATE - N 과 같은 기준)
+     */
+    private LocalDateTime startOfDaysAgo(int days) {
+        return LocalDate.now().minusDays(days).atStartOfDay();
     }
     
     /**
@@ -264,6 +785,43 @@ public class UserService {
         return userRepository.countByName(name);
     }
     
+    /**
+     * 특정 이름의 사용자 수 조회 (정확한 값 또는 추정값)
+     * 
+     * @param name 사용자 이름
+     * @param approx true이면 Count-Min 스케치의 추정값과 오차 범위 (데이터베이스 조회 없음)
+     * @return 이름, 사용자 수, 근사 여부 (근사이면 오차 범위 포함)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserCountByName(String name, boolean approx) {
+        if (approx) {
+            return userSketches.estimateCountByName(name);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", name);
+        result.put("count", userRepository.countByName(name));
+        result.put("approx", false);
+        return result;
+    }
+    
+    /**
+     * 서로 다른 이메일 도메인 수 / 이름 수 조회 (정확한 값 또는 추정값)
+     * 
+     * @param approx true이면 HyperLogLog 추정값과 상대 표준 오차 (데이터베이스 조회 없음)
+     * @return 도메인 수, 이름 수, 근사 여부
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getDistinctCounts(boolean approx) {
+        if (approx) {
+            return userSketches.estimateDistinctCounts();
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("domains", userRepository.countDistinctEmailDomains());
+        result.put("names", userRepository.countDistinctNames());
+        result.put("approx", false);
+        return result;
+    }
+    
     /**
      * 이메일 존재 여부 확인
      * 
@@ -279,33 +837,22 @@ public class UserService {
      * 사용자 정보 검증
      * 
      * @param user 검증할 사용자 정보
-     * @return 검증 결과 메시지
+     * @return 검증 결과 메시지 (문제가 없으면 빈 문자열)
      */
     public String validateUser(User user) {
-        StringBuilder validationMessage = new StringBuilder();
-        
-        // 이름 검증
-        if (user.getName() == null || user.getName().trim().isEmpty()) {
-            validationMessage.append("이름은 필수입니다. ");
-        } else if (user.getName().length() < 2 || user.getName().length() > 50) {
-            validationMessage.append("이름은 2자 이상 50자 이하여야 합니다. ");
-        }
-        
-        // 이메일 검증
-        if (user.getEmail() == null || user.getEmail().trim().isEmpty()) {
-            validationMessage.append("이메일은 필수입니다. ");
-        } else if (!user.getEmail().contains("@")) {
-            validationMessage.append("올바른 이메일 형식이 아닙니다. ");
-        }
-        
-        // 나이 검증
-        if (user.getAge() == null) {
-            validationMessage.append("나이는 필수입니다. ");
-        } else if (user.getAge() < 1 || user.getAge() > 150) {
-            validationMessage.append("나이는 1세 이상 150세 이하여야 합니다. ");
-        }
-        
-        return validationMessage.toString().trim();
+        int errors = validate(user);
+        return errors == 0 ? "" : UserResult.failure(errors).getMessage();
+    }
+    
+    /**
+     * 사용자 정보 검증 (문자열을 만들지 않고 오류 비트 마스크만 계산)
+     * User 엔티티의 검증 어노테이션(@NotBlank, @Size, @Email 등) 규칙을 그대로 적용
+     * 
+     * @param user 검증할 사용자 정보
+     * @return 오류 비트 마스크 (문제가 없으면 0)
+     */
+    public int validate(User user) {
+        return userValidator.validate(user);
     }
     
     /**
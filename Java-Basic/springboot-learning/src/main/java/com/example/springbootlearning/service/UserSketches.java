@@ -0,0 +1,178 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import com.example.springbootlearning.sketch.CountMinSketch;
+import com.example.springbootlearning.sketch.CountedValues;
+import com.example.springbootlearning.sketch.HyperLogLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 사용자 근사 통계 스케치
+ *
+ * 정확한 답 대신 오차 범위가 알려진 추정값으로 충분한 대시보드용 통계를,
+ * 쓰기 때마다(UserChangeEvent) 갱신되는 고정 크기 스케치로 데이터베이스 조회 없이 응답합니다.
+ *
+ * - 서로 다른 이메일 도메인 수 / 이름 수: HyperLogLog (값을 뺄 수 없으므로 삭제/변경된 값도 포함됨)
+ * - 이름별 사용자 수: Count-Min 스케치 (삭제/이름 변경은 카운터를 빼서 반영)
+ *
+ * 기동 직후와 대량 적재 후에는 데이터베이스의 이름/이메일로 다시 만들며, 이때 삭제된 값도 정리됩니다.
+ * 다시 만드는 동안 커밋된 변경이 읽은 결과에 이미 들어 있어도 Count-Min 카운터를 두 번 올리지 않도록
+ * 사용자별로 세고 있는 이름(CountedValues)을 기억합니다. (HyperLogLog는 같은 값을 여러 번 넣어도 결과가 같음)
+ *
+ * 주요 학습 내용:
+ * 1. 확률적 자료구조 (HyperLogLog, Count-Min 스케치)
+ * 2. 정확도와 메모리/속도 사이의 trade-off
+ * 3. 추정값과 함께 오차 범위 제공하기
+ */
+@Component
+public class UserSketches {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 아래 스케치는 this로 동기화
+    private final HyperLogLog distinctDomains;
+    private final HyperLogLog distinctNames;
+    private final CountMinSketch nameFrequencies;
+    private final CountedValues countedNames = new CountedValues();
+
+    /**
+     * 마지막으로 다시 만든 뒤 삭제되거나 바뀐 값의 수 (HyperLogLog 추정값에 그만큼 더 들어 있을 수 있음)
+     */
+    private long removedSinceRebuild;
+
+    public UserSketches(@Value("${app.users.sketch.hll-precision:14}") int hllPrecision,
+                        @Value("${app.users.sketch.cms-width:8192}") int cmsWidth,
+                        @Value("${app.users.sketch.cms-depth:5}") int cmsDepth) {
+        this.distinctDomains = new HyperLogLog(hllPrecision);
+        this.distinctNames = new HyperLogLog(hllPrecision);
+        this.nameFrequencies = new CountMinSketch(cmsWidth, cmsDepth);
+    }
+
+    /**
+     * 기동 직후 데이터베이스 내용으로 스케치 채우기
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted() {
+        rebuild();
+    }
+
+    /**
+     * 대량 적재된 사용자는 개별 이벤트가 없으므로 스케치를 다시 만듦
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public void onBulkLoad(UserBulkLoadedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 사용자 변경 반영 (트랜잭션 커밋 후 호출됨)
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onUserChange(UserChangeEvent event) {
+        User user = event.getUser();
+        switch (event.getType()) {
+            case CREATED -> {
+                distinctNames.add(user.getName());
+                distinctDomains.add(domainOf(user.getEmail()));
+                if (countedNames.created(user.getId(), user.getName())) {
+                    nameFrequencies.add(user.getName(), 1);
+                }
+            }
+            case UPDATED -> {
+                User previous = event.getPrevious();
+                if (!Objects.equals(previous.getName(), user.getName())) {
+                    if (countedNames.updated(user.getId(), previous.getName(), user.getName())) {
+                        nameFrequencies.add(previous.getName(), -1);
+                        nameFrequencies.add(user.getName(), 1);
+                    }
+                    distinctNames.add(user.getName());
+                    removedSinceRebuild++;
+                }
+                if (!Objects.equals(domainOf(previous.getEmail()), domainOf(user.getEmail()))) {
+                    distinctDomains.add(domainOf(user.getEmail()));
+                    removedSinceRebuild++;
+                }
+            }
+            case DELETED -> {
+                if (countedNames.deleted(user.getId(), user.getName())) {
+                    nameFrequencies.add(user.getName(), -1);
+                }
+                removedSinceRebuild++;
+            }
+        }
+    }
+
+    /**
+     * 데이터베이스의 모든 사용자로 스케치를 새로 만듦
+     */
+    public synchronized void rebuild() {
+        distinctDomains.clear();
+        distinctNames.clear();
+        nameFrequencies.clear();
+        countedNames.clear();
+        removedSinceRebuild = 0;
+        jdbcTemplate.query("SELECT id, name, email FROM users", rs -> {
+            String name = rs.getString("name");
+            distinctNames.add(name);
+            nameFrequencies.add(name, 1);
+            countedNames.set(rs.getLong("id"), name);
+            distinctDomains.add(domainOf(rs.getString("email")));
+        });
+    }
+
+    /**
+     * 이메일 도메인 (UserRepository.getUserCountByEmailDomain과 같은 방식: '@' 뒤)
+     */
+    private static String domainOf(String email) {
+        return email == null ? null : email.substring(email.indexOf('@') + 1);
+    }
+
+    /**
+     * 이름별 사용자 수 추정
+     *
+     * @param name 사용자 이름
+     * @return 추정 수와 오차 범위 (추정값 - 실제값 ≤ maxOvercount, 확률 confidence 이상 / 실제보다 작게 나오지는 않음)
+     */
+    public synchronized Map<String, Object> estimateCountByName(String name) {
+        long maxOvercount = (long) Math.ceil(nameFrequencies.epsilon() * nameFrequencies.total());
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", name);
+        result.put("count", nameFrequencies.estimate(name));
+        result.put("approx", true);
+        result.put("maxOvercount", maxOvercount);
+        result.put("confidence", 1 - nameFrequencies.delta());
+        return result;
+    }
+
+    /**
+     * 서로 다른 이메일 도메인 수 / 이름 수 추정
+     *
+     * @return 추정 수와 상대 표준 오차 (약 68%는 ±1배, 95%는 ±2배 안에 들어감)
+     */
+    public synchronized Map<String, Object> estimateDistinctCounts() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("domains", distinctDomains.estimate());
+        result.put("names", distinctNames.estimate());
+        result.put("approx", true);
+        result.put("relativeStandardError", Math.round(distinctDomains.relativeStandardError() * 10_000) / 10_000.0);
+        result.put("removedSinceRebuild", removedSinceRebuild);
+        return result;
+    }
+}
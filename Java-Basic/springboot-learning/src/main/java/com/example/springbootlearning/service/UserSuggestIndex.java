@@ -0,0 +1,193 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import com.example.springbootlearning.search.RadixTrie;
+import com.example.springbootlearning.sketch.CountedValues;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 이름 / 이메일 접두사 자동완성 인덱스
+ *
+ * 관리 화면의 입력 중 자동완성(type-ahead)은 글자마다 요청이 오므로, LIKE '%x%' 검색 대신
+ * 메모리의 radix trie에서 접두사로 시작하는 값을 가중치 순서로 찾아 응답합니다.
+ * 가중치는 "그 값을 가진 사용자 수 × 필드 가중치"이며, 필드 가중치로 이름과 이메일 중 어느 쪽을 먼저 보여 줄지 정합니다.
+ *
+ * 이름은 User.normalizeName(NFC + 소문자), 이메일은 소문자로 비교하고 응답에는 처음 저장된 표기를 보여 줍니다.
+ * 쓰기가 커밋될 때마다(UserChangeEvent) 추가/삭제를 반영하고, 기동 직후와 대량 적재 후에는 데이터베이스에서 다시 만듭니다.
+ * 다시 만들 때 읽은 결과에 이미 들어 있는 변경의 이벤트가 뒤늦게 와도 두 번 더하지 않도록,
+ * 사용자마다 가중치에 반영한 이름/이메일(CountedValues)과 맞는 이벤트만 반영합니다.
+ *
+ * 주요 학습 내용:
+ * 1. radix trie(압축 trie)를 사용한 접두사 검색
+ * 2. 서브트리 최대 가중치를 이용한 상위 N개 best-first 탐색
+ * 3. 쓰기 경로에서 갱신되는 검색 인덱스
+ */
+@Component
+public class UserSuggestIndex {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final long nameWeight;
+    private final long emailWeight;
+
+    // 아래 구조는 this로 동기화
+    private final RadixTrie names = new RadixTrie();
+    private final RadixTrie emails = new RadixTrie();
+    private final CountedValues countedNames = new CountedValues();
+    private final CountedValues countedEmails = new CountedValues();
+
+    public UserSuggestIndex(@Value("${app.users.suggest.name-weight:2}") long nameWeight,
+                            @Value("${app.users.suggest.email-weight:1}") long emailWeight) {
+        if (nameWeight < 1 || emailWeight < 1) {
+            throw new IllegalArgumentException("자동완성 가중치는 1 이상이어야 합니다: name=" + nameWeight + ", email=" + emailWeight);
+        }
+        this.nameWeight = nameWeight;
+        this.emailWeight = emailWeight;
+    }
+
+    /**
+     * 기동 직후 데이터베이스 내용으로 채우기
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted() {
+        rebuild();
+    }
+
+    /**
+     * 대량 적재된 사용자는 개별 이벤트가 없으므로 다시 만듦
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public void onBulkLoad(UserBulkLoadedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 사용자 변경 반영 (트랜잭션 커밋 후 호출됨)
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public synchronized void onUserChange(UserChangeEvent event) {
+        long id = event.getUserId();
+        User user = event.getUser();
+        String name = User.normalizeName(user.getName());
+        String email = normalizeEmail(user.getEmail());
+        switch (event.getType()) {
+            case CREATED -> {
+                if (countedNames.created(id, name)) {
+                    names.add(name, user.getName(), nameWeight);
+                }
+                if (countedEmails.created(id, email)) {
+                    emails.add(email, user.getEmail(), emailWeight);
+                }
+            }
+            case UPDATED -> {
+                User previous = event.getPrevious();
+                String previousName = User.normalizeName(previous.getName());
+                String previousEmail = normalizeEmail(previous.getEmail());
+                if (countedNames.updated(id, previousName, name)) {
+                    names.add(previousName, previous.getName(), -nameWeight);
+                    names.add(name, user.getName(), nameWeight);
+                }
+                if (countedEmails.updated(id, previousEmail, email)) {
+                    emails.add(previousEmail, previous.getEmail(), -emailWeight);
+                    emails.add(email, user.getEmail(), emailWeight);
+                }
+            }
+            case DELETED -> {
+                if (countedNames.deleted(id, name)) {
+                    names.add(name, user.getName(), -nameWeight);
+                }
+                if (countedEmails.deleted(id, email)) {
+                    emails.add(email, user.getEmail(), -emailWeight);
+                }
+            }
+        }
+    }
+
+    /**
+     * 데이터베이스의 모든 사용자로 인덱스를 새로 만듦
+     */
+    public synchronized void rebuild() {
+        names.clear();
+        emails.clear();
+        countedNames.clear();
+        countedEmails.clear();
+        jdbcTemplate.query("SELECT id, name, email FROM users", rs -> {
+            long id = rs.getLong("id");
+            String name = rs.getString("name");
+            String email = rs.getString("email");
+            names.add(User.normalizeName(name), name, nameWeight);
+            emails.add(normalizeEmail(email), email, emailWeight);
+            countedNames.set(id, User.normalizeName(name));
+            countedEmails.set(id, normalizeEmail(email));
+        });
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 접두사로 시작하는 이름 / 이메일 중 가중치가 큰 순서로 limit개
+     *
+     * @param prefix 접두사 (이름은 NFC + 소문자, 이메일은 소문자로 비교)
+     * @param limit 개수
+     * @return [값, 필드(name/email), 가중치] 목록
+     */
+    public synchronized List<Map<String, Object>> suggest(String prefix, int limit) {
+        List<RadixTrie.Entry> nameMatches = names.top(User.normalizeName(prefix), limit);
+        List<RadixTrie.Entry> emailMatches = emails.top(normalizeEmail(prefix), limit);
+
+        // 두 목록 모두 가중치 내림차순이므로 앞에서부터 합침 (같으면 이름 먼저)
+        List<Map<String, Object>> result = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (result.size() < limit && (i < nameMatches.size() || j < emailMatches.size())) {
+            boolean takeName = j >= emailMatches.size()
+                    || (i < nameMatches.size() && nameMatches.get(i).weight() >= emailMatches.get(j).weight());
+            result.add(takeName ? toRow(nameMatches.get(i++), "name") : toRow(emailMatches.get(j++), "email"));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> toRow(RadixTrie.Entry entry, String field) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("value", entry.term());
+        row.put("field", field);
+        row.put("weight", entry.weight());
+        return row;
+    }
+
+    /**
+     * 인덱스 크기
+     *
+     * @return 이름 / 이메일 수와 trie 노드 수
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("names", names.size());
+        stats.put("emails", emails.size());
+        stats.put("nodes", names.nodeCount() + emails.nodeCount());
+        stats.put("nameWeight", nameWeight);
+        stats.put("emailWeight", emailWeight);
+        return stats;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import com.example.springbootlearning.event.UserChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 테이블 버전 카운터
+ *
+ * UserService를 통한 쓰기(생성/수정/삭제)가 커밋될 때마다 1씩 증가합니다.
+ * 캐시는 결과를 계산하기 전에 읽은 버전을 함께 저장해 두고,
+ * 현재 버전과 다르면 그 결과를 더 이상 사용하지 않습니다.
+ *
+ * 버전은 커밋 후에 올라가므로, 커밋 직전에 읽은 오래된 데이터는
+ * 항상 이전 버전으로 저장되어 곧바로 무효가 됩니다.
+ */
+@Component
+public class UserTableVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 현재 버전
+     *
+     * @return 현재 테이블 버전
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 사용자 변경 이벤트 처리 (트랜잭션 커밋 후 호출됨)
+     *
+     * @param event 사용자 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onUserChange(UserChangeEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 대량 적재 이벤트 처리 (적재가 커밋된 후 호출됨)
+     *
+     * @param event 대량 적재 이벤트
+     */
+    @EventListener
+    public void onBulkLoad(UserBulkLoadedEvent event) {
+        version.incrementAndGet();
+    }
+}
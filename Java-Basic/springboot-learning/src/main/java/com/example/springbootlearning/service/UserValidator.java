@@ -0,0 +1,300 @@
+package com.example.springbootlearning.service;
+
+import com.example.springbootlearning.entity.User;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 사전 컴파일된 사용자 검증기
+ *
+ * User 엔티티 필드에 선언된 Bean Validation 어노테이션(@NotBlank, @Size, @Email, @NotNull, @Min, @Max)을
+ * 애플리케이션 시작 시 한 번만 읽어서 규칙 배열로 만들어 둡니다.
+ * 검증할 때는 리플렉션 없이 이 배열을 한 번 훑으면서 오류 비트 마스크(UserErrorCode)를 계산합니다.
+ *
+ * 규칙마다 대응하는 오류 코드는 "필드명_종류" 이름으로 찾습니다.
+ * (예: name의 @Size → NAME_LENGTH, age의 @Min/@Max → AGE_RANGE)
+ * 어노테이션을 추가했는데 대응하는 오류 코드가 없으면 시작할 때 바로 실패합니다.
+ *
+ * 주요 학습 내용:
+ * 1. 어노테이션 메타데이터를 시작 시점에 한 번만 해석하기
+ * 2. 메서드 참조(Function)를 사용한 리플렉션 없는 필드 접근
+ * 3. 비트 마스크를 사용한 여러 오류의 표현
+ */
+@Component
+public class UserValidator {
+
+    /**
+     * 검증 규칙 한 개 (필드 값 하나에 대한 검사)
+     */
+    private interface Rule {
+        boolean isValid(User user);
+    }
+
+    /**
+     * 필드명 → 값 읽기 (리플렉션 대신 getter 메서드 참조 사용)
+     */
+    private static final Map<String, Function<User, Object>> ACCESSORS = Map.of(
+            "name", User::getName,
+            "email", User::getEmail,
+            "age", User::getAge,
+            "phoneNumber", User::getPhoneNumber,
+            "address", User::getAddress);
+
+    private final Rule[] rules;
+
+    /**
+     * 규칙이 실패했을 때 설정할 오류 비트
+     */
+    private final int[] errorBits;
+
+    /**
+     * 이 비트 중 하나라도 이미 설정되어 있으면 규칙을 건너뜀
+     * (같은 오류가 이미 있거나, 같은 필드의 필수 입력 규칙이 실패한 경우)
+     */
+    private final int[] skipMasks;
+
+    /**
+     * 필수 입력 오류 비트 전체 (사용자 정보 자체가 없을 때 사용)
+     */
+    private final int requiredMask;
+
+    public UserValidator() {
+        List<Rule> compiledRules = new ArrayList<>();
+        List<Integer> compiledBits = new ArrayList<>();
+        List<Integer> compiledSkipMasks = new ArrayList<>();
+        int compiledRequiredMask = 0;
+
+        for (Field field : User.class.getDeclaredFields()) {
+            // 필수 입력 규칙을 먼저 검사하도록 정렬
+            List<Annotation> constraints = new ArrayList<>();
+            for (Annotation annotation : field.getAnnotations()) {
+                String kind = constraintKind(annotation);
+                if ("REQUIRED".equals(kind)) {
+                    constraints.add(0, annotation);
+                } else if (kind != null) {
+                    constraints.add(annotation);
+                }
+            }
+            if (constraints.isEmpty()) {
+                continue;
+            }
+
+            Function<User, Object> accessor = ACCESSORS.get(field.getName());
+            if (accessor == null) {
+                throw new IllegalStateException("검증 대상 필드의 getter가 등록되지 않았습니다: " + field.getName());
+            }
+
+            int requiredBit = 0;
+            for (Annotation annotation : constraints) {
+                String kind = constraintKind(annotation);
+                int bit = errorCodeFor(field.getName(), kind).bit();
+                compiledRules.add(compile(annotation, accessor));
+                compiledBits.add(bit);
+                compiledSkipMasks.add(bit | requiredBit);
+                if ("REQUIRED".equals(kind)) {
+                    requiredBit = bit;
+                    compiledRequiredMask |= bit;
+                }
+            }
+        }
+
+        this.rules = compiledRules.toArray(new Rule[0]);
+        this.errorBits = compiledBits.stream().mapToInt(Integer::intValue).toArray();
+        this.skipMasks = compiledSkipMasks.stream().mapToInt(Integer::intValue).toArray();
+        this.requiredMask = compiledRequiredMask;
+    }
+
+    /**
+     * 사용자 정보 검증
+     *
+     * 같은 오류 코드에 해당하는 규칙이 이미 실패했거나 필수 입력 규칙이 실패한 필드는 나머지 검사를 건너뜁니다.
+     * (예: 이름이 비어 있으면 길이 검사를 하지 않음)
+     *
+     * @param user 검증할 사용자 정보 (null이면 모든 필수 입력 오류)
+     * @return 오류 비트 마스크 (문제가 없으면 0)
+     */
+    public int validate(User user) {
+        if (user == null) {
+            return requiredMask;
+        }
+        int errors = 0;
+        for (int i = 0; i < rules.length; i++) {
+            if ((errors & skipMasks[i]) == 0 && !rules[i].isValid(user)) {
+                errors |= errorBits[i];
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * 어노테이션 종류 → 오류 코드 이름의 뒷부분 (검증 어노테이션이 아니면 null)
+     */
+    private static String constraintKind(Annotation annotation) {
+        if (annotation instanceof NotBlank || annotation instanceof NotNull) {
+            return "REQUIRED";
+        }
+        if (annotation instanceof Size) {
+            return "LENGTH";
+        }
+        if (annotation instanceof Email) {
+            return "FORMAT";
+        }
+        if (annotation instanceof Min || annotation instanceof Max) {
+            return "RANGE";
+        }
+        return null;
+    }
+
+    private static UserErrorCode errorCodeFor(String fieldName, String kind) {
+        // phoneNumber → PHONE_NUMBER
+        String prefix = fieldName.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        try {
+            return UserErrorCode.valueOf(prefix + "_" + kind);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("검증 규칙에 대응하는 오류 코드가 없습니다: " + prefix + "_" + kind, e);
+        }
+    }
+
+    /**
+     * 어노테이션 하나를 검사 규칙으로 변환 (어노테이션 속성값은 여기서 미리 꺼내 둠)
+     * null 값은 @NotBlank / @NotNull을 제외하고 모두 통과 (Bean Validation 규약과 동일)
+     */
+    private static Rule compile(Annotation annotation, Function<User, Object> accessor) {
+        if (annotation instanceof NotBlank) {
+            return user -> hasText((CharSequence) accessor.apply(user));
+        }
+        if (annotation instanceof NotNull) {
+            return user -> accessor.apply(user) != null;
+        }
+        if (annotation instanceof Size size) {
+            int min = size.min();
+            int max = size.max();
+            return user -> {
+                CharSequence value = (CharSequence) accessor.apply(user);
+                return value == null || (value.length() >= min && value.length() <= max);
+            };
+        }
+        if (annotation instanceof Email) {
+            return user -> {
+                CharSequence value = (CharSequence) accessor.apply(user);
+                return value == null || isEmail(value);
+            };
+        }
+        if (annotation instanceof Min min) {
+            long minValue = min.value();
+            return user -> {
+                Number value = (Number) accessor.apply(user);
+                return value == null || value.longValue() >= minValue;
+            };
+        }
+        Max max = (Max) annotation;
+        long maxValue = max.value();
+        return user -> {
+            Number value = (Number) accessor.apply(user);
+            return value == null || value.longValue() <= maxValue;
+        };
+    }
+
+    /**
+     * 공백이 아닌 문자가 하나라도 있는지 확인 (trim()처럼 새 문자열을 만들지 않음)
+     */
+    private static boolean hasText(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 이메일 형식 검사 (정규식 없이 한 번 훑기)
+     *
+     * - 빈 문자열은 통과 (필수 여부는 @NotBlank가 담당, Hibernate Validator와 동일)
+     * - 마지막 '@'를 기준으로 로컬 파트(1~64자)와 도메인(1~255자)으로 나눔
+     * - 로컬 파트: 영문자, 숫자, 일부 특수문자, 점(맨 앞/맨 뒤/연속 불가), 그 밖의 유니코드 문자
+     * - 도메인: 점으로 구분된 레이블, 각 레이블은 1~63자이고 하이픈으로 시작하거나 끝날 수 없음
+     */
+    private static boolean isEmail(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            return true;
+        }
+
+        int at = -1;
+        for (int i = length - 1; i >= 0; i--) {
+            if (value.charAt(i) == '@') {
+                at = i;
+                break;
+            }
+        }
+        if (at <= 0 || at > 64 || at == length - 1 || length - at - 1 > 255) {
+            return false;
+        }
+
+        // 로컬 파트
+        char previous = '.';
+        for (int i = 0; i < at; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (previous == '.') {
+                    return false;
+                }
+            } else if (!isLocalPartChar(c)) {
+                return false;
+            }
+            previous = c;
+        }
+        if (previous == '.') {
+            return false;
+        }
+
+        // 도메인
+        int labelLength = 0;
+        previous = '.';
+        for (int i = at + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0 || previous == '-') {
+                    return false;
+                }
+                labelLength = 0;
+            } else if (isLetterOrDigit(c) || c >= 0x80) {
+                labelLength++;
+            } else if (c == '-' && labelLength > 0) {
+                labelLength++;
+            } else {
+                return false;
+            }
+            if (labelLength > 63) {
+                return false;
+            }
+            previous = c;
+        }
+        return labelLength > 0 && previous != '-';
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isLetterOrDigit(c) || "!#$%&'*+/=?^_`{|}~-".indexOf(c) >= 0 || c >= 0x80;
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
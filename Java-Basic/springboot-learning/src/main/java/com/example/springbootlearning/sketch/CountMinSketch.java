@@ -0,0 +1,107 @@
+package com.example.springbootlearning.sketch;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min 스케치 (값별 빈도를 고정된 메모리로 추정)
+ *
+ * depth개의 행마다 서로 다른 해시로 width개 중 하나의 카운터를 골라 더하고,
+ * 조회할 때는 그 카운터들 중 최솟값을 빈도로 돌려줍니다.
+ * 다른 값과 카운터를 나눠 쓰므로 추정값은 실제보다 작지 않고(음수 빈도가 없다면),
+ * 확률 1 - δ 이상으로 "실제 빈도 + ε × 전체 개수" 이하입니다. (ε = e / width, δ = e^-depth)
+ *
+ * 삭제도 카운터를 빼는 것으로 반영할 수 있습니다. (추가한 적 없는 값을 빼면 안 됨)
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[][] counters;
+    private long total;
+
+    /**
+     * @param width 행당 카운터 수 (클수록 오차 ε가 작아짐)
+     * @param depth 행 수 (클수록 오차 범위를 넘을 확률 δ가 작아짐)
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Count-Min 스케치의 width와 depth는 1 이상이어야 합니다: " + width + " x " + depth);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[depth][width];
+    }
+
+    /**
+     * 값의 빈도 더하기
+     *
+     * @param value 값 (null은 무시)
+     * @param count 더할 수 (삭제는 음수)
+     */
+    public void add(String value, long count) {
+        if (value == null) {
+            return;
+        }
+        long hash = Hashing.hash64(value);
+        for (int row = 0; row < depth; row++) {
+            counters[row][column(hash, row)] += count;
+        }
+        total += count;
+    }
+
+    /**
+     * 값의 빈도 추정
+     *
+     * @param value 값
+     * @return 추정 빈도 (실제 빈도 이상)
+     */
+    public long estimate(String value) {
+        long hash = Hashing.hash64(value);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row][column(hash, row)]);
+        }
+        return Math.max(0, min);
+    }
+
+    /**
+     * 행마다 다른 열 (해시 두 개를 섞어 depth개의 해시를 만드는 Kirsch-Mitzenmacher 방식)
+     */
+    private int column(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + row * h2, width);
+    }
+
+    /**
+     * 오차 비율 ε (추정값 - 실제값 ≤ ε × 전체 개수)
+     */
+    public double epsilon() {
+        return Math.E / width;
+    }
+
+    /**
+     * 오차 범위를 넘을 확률 δ
+     */
+    public double delta() {
+        return Math.exp(-depth);
+    }
+
+    /**
+     * 지금까지 더한 전체 개수
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * 모든 빈도 지우기
+     */
+    public void clear() {
+        for (long[] row : counters) {
+            Arrays.fill(row, 0);
+        }
+        total = 0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.springbootlearning.sketch;
+
+import com.example.springbootlearning.search.LongLongHashMap;
+
+/**
+ * 사용자별로 집계에 반영한 값 기록 (사용자 ID → 값의 64비트 해시)
+ *
+ * 스케치, 상위 K개 카운터, 자동완성 가중치처럼 값별로 수를 더하고 빼는 구조는
+ * 같은 변경을 두 번 반영하면 그만큼 수가 틀어집니다.
+ * 데이터베이스를 다시 읽는 동안 커밋된 변경은 읽은 결과에 이미 들어 있을 수도 있으므로,
+ * 사용자마다 지금 세고 있는 값을 기억해 두고 변경 이벤트가 그 값과 맞을 때만 반영합니다.
+ *
+ * 값 자체 대신 해시만 저장하므로 사용자당 약 16 / 적재율 바이트를 씁니다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public class CountedValues {
+
+    private static final long MISSING = 0;
+
+    private final LongLongHashMap hashes = new LongLongHashMap();
+
+    /**
+     * 데이터베이스에서 읽은 사용자의 값 기록 (다시 만들 때 사용)
+     *
+     * @param userId 사용자 ID
+     * @param value 집계에 반영한 값 (null 가능)
+     */
+    public void set(long userId, String value) {
+        hashes.put(userId, hash(value));
+    }
+
+    /**
+     * 생성 이벤트 반영 여부 결정
+     *
+     * @param userId 사용자 ID
+     * @param value 생성된 값
+     * @return 처음 보는 사용자라서 값을 더해야 하면 true (이미 읽은 결과에 있으면 false)
+     */
+    public boolean created(long userId, String value) {
+        if (hashes.get(userId, MISSING) != MISSING) {
+            return false;
+        }
+        hashes.put(userId, hash(value));
+        return true;
+    }
+
+    /**
+     * 수정 이벤트 반영 여부 결정
+     *
+     * @param userId 사용자 ID
+     * @param previous 수정 전 값
+     * @param value 수정 후 값
+     * @return 지금 세고 있는 값이 수정 전 값이라서 previous를 빼고 value를 더해야 하면 true
+     *         (값이 그대로이거나, 이미 수정 후 값을 세고 있거나, 모르는 사용자면 false)
+     */
+    public boolean updated(long userId, String previous, String value) {
+        long current = hashes.get(userId, MISSING);
+        long next = hash(value);
+        if (current != hash(previous) || current == next) {
+            return false;
+        }
+        hashes.put(userId, next);
+        return true;
+    }
+
+    /**
+     * 삭제 이벤트 반영 여부 결정 (기록은 항상 지움)
+     *
+     * @param userId 사용자 ID
+     * @param value 삭제된 사용자의 값
+     * @return 지금 세고 있는 값이 value라서 빼야 하면 true
+     */
+    public boolean deleted(long userId, String value) {
+        long current = hashes.get(userId, MISSING);
+        if (current == MISSING) {
+            return false;
+        }
+        hashes.remove(userId);
+        return current == hash(value);
+    }
+
+    /**
+     * 기록한 사용자 수
+     */
+    public int size() {
+        return hashes.size();
+    }
+
+    public void clear() {
+        hashes.clear();
+    }
+
+    /**
+     * 값의 해시 (MISSING과 겹치지 않도록 0은 1로 바꿈, null도 하나의 값으로 취급)
+     */
+    private static long hash(String value) {
+        long hash = value == null ? 0x9E3779B97F4A7C15L : Hashing.hash64(value);
+        return hash == MISSING ? 1 : hash;
+    }
+}
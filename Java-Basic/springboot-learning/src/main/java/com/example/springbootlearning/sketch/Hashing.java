@@ -0,0 +1,31 @@
+package com.example.springbootlearning.sketch;
+
+/**
+ * 스케치용 64비트 문자열 해시
+ *
+ * String.hashCode()는 32비트이고 비슷한 문자열끼리 값이 몰리므로,
+ * 문자마다 FNV-1a로 섞은 뒤 MurmurHash3의 마무리 함수(fmix64)로 비트를 고르게 퍼뜨립니다.
+ */
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return fmix64(hash ^ value.length());
+    }
+
+    static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
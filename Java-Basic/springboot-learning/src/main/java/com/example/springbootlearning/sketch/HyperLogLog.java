@@ -0,0 +1,94 @@
+package com.example.springbootlearning.sketch;
+
+import java.util.Arrays;
+
+/**
+ * HyperLogLog (서로 다른 값의 개수를 고정된 메모리로 추정)
+ *
+ * 값의 해시에서 앞 p비트로 레지스터 하나를 고르고, 나머지 비트에서 처음 1이 나오는 위치(앞의 0 개수 + 1)의
+ * 최댓값을 레지스터에 기록합니다. 레지스터 m = 2^p개의 조화 평균으로 개수를 추정하며,
+ * 상대 표준 오차는 약 1.04 / √m 입니다. (p = 14이면 16KB로 약 0.81%)
+ *
+ * 값을 뺄 수는 없으므로, 삭제된 값도 다시 만들기 전까지는 개수에 포함됩니다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public class HyperLogLog {
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * @param precision 레지스터 수를 정하는 비트 수 (4~18, 레지스터 2^precision개)
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("HyperLogLog precision은 4~18 사이여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * 값 추가
+     *
+     * @param value 값 (null은 무시)
+     */
+    public void add(String value) {
+        if (value == null) {
+            return;
+        }
+        long hash = Hashing.hash64(value);
+        int index = (int) (hash >>> (64 - precision));
+        // 남은 비트 뒤에 1을 붙여 모두 0인 경우에도 위치가 정해지도록 함
+        long rest = hash << precision | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * 서로 다른 값의 개수 추정
+     *
+     * @return 추정 개수
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // 값이 적을 때는 비어 있는 레지스터 비율로 추정 (linear counting)
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * 상대 표준 오차 (1.04 / √m)
+     *
+     * @return 상대 표준 오차 (예: 0.0081)
+     */
+    public double relativeStandardError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    /**
+     * 모든 값 지우기
+     */
+    public void clear() {
+        Arrays.fill(registers, (byte) 0);
+    }
+}
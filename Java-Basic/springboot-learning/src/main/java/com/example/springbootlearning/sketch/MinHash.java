@@ -0,0 +1,131 @@
+package com.example.springbootlearning.sketch;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash 서명 (두 집합의 Jaccard 유사도 추정)
+ *
+ * 문자열을 글자 n-gram(shingle) 집합으로 보고, 해시 함수 k개 각각에 대해 집합 원소 해시의 최솟값을 서명으로 남깁니다.
+ * 두 집합의 서명에서 같은 자리 값이 같을 확률이 곧 Jaccard 유사도 |A ∩ B| / |A ∪ B| 이므로,
+ * 원래 집합 크기와 관계없이 k개 값만 비교해 유사도를 추정할 수 있습니다. (표준 오차 약 1/√k)
+ *
+ * 해시 함수 k개는 shingle의 64비트 해시에 서로 다른 홀수를 곱해 상위 32비트를 취하는 곱셈-시프트 해시입니다.
+ * 같은 seed로 만든 MinHash끼리만 서명을 비교할 수 있습니다.
+ */
+public class MinHash {
+
+    private final long[] multipliers;
+    private final long[] increments;
+
+    /**
+     * @param numHashes 서명 길이 (해시 함수 수)
+     * @param seed 해시 함수를 고르는 시드
+     */
+    public MinHash(int numHashes, long seed) {
+        if (numHashes < 1) {
+            throw new IllegalArgumentException("해시 함수 수는 1 이상이어야 합니다: " + numHashes);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        multipliers = new long[numHashes];
+        increments = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            multipliers[i] = random.nextLong() | 1;
+            increments[i] = random.nextLong();
+        }
+    }
+
+    public int numHashes() {
+        return multipliers.length;
+    }
+
+    /**
+     * 빈 집합의 서명 (add로 원소를 더해 감)
+     */
+    public int[] newSignature() {
+        int[] signature = new int[multipliers.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        return signature;
+    }
+
+    /**
+     * 원소 하나를 서명에 반영
+     *
+     * @param signature 서명
+     * @param hash 원소의 64비트 해시
+     */
+    public void add(int[] signature, long hash) {
+        for (int i = 0; i < signature.length; i++) {
+            int value = (int) ((hash * multipliers[i] + increments[i]) >>> 32);
+            if (value < signature[i]) {
+                signature[i] = value;
+            }
+        }
+    }
+
+    /**
+     * 문자열의 글자 n-gram을 서명에 반영
+     *
+     * 앞뒤에 경계 문자를 붙여 나누므로 "김철수"의 2-gram은 "^김", "김철", "철수", "수$" 네 개가 되어,
+     * 첫 글자나 끝 글자만 다른 짧은 문자열도 공통 원소를 가집니다.
+     * field가 다르면 같은 n-gram도 다른 원소가 되므로, 이름의 "kim"과 이메일의 "kim"은 구별됩니다.
+     *
+     * @param signature 서명
+     * @param text 문자열 (null이나 빈 문자열이면 아무것도 하지 않음)
+     * @param n n-gram 길이
+     * @param field 필드 구분 값
+     */
+    public void addShingles(int[] signature, String text, int n, long field) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        int padded = text.length() + 2;
+        for (int start = 0; start + n <= padded || start == 0; start++) {
+            long hash = 0xcbf29ce484222325L ^ field;
+            for (int i = start; i < start + n && i < padded; i++) {
+                hash ^= i == 0 ? '\u0002' : i == padded - 1 ? '\u0003' : text.charAt(i - 1);
+                hash *= 0x100000001b3L;
+            }
+            add(signature, Hashing.fmix64(hash));
+        }
+    }
+
+    /**
+     * 두 서명으로 추정한 Jaccard 유사도
+     *
+     * @param a 서명
+     * @param b 같은 MinHash로 만든 서명
+     * @return 같은 자리 값이 같은 비율 (0 ~ 1)
+     */
+    public static double similarity(int[] a, int[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("서명 길이가 다릅니다: " + a.length + ", " + b.length);
+        }
+        int matches = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / a.length;
+    }
+
+    /**
+     * LSH 밴드 키 (서명의 rows개 구간을 하나의 해시로 묶음)
+     *
+     * 유사도 s인 두 서명의 한 밴드가 같을 확률은 s^rows 이므로, 밴드 b개 중 하나라도 같을 확률은 1 - (1 - s^rows)^b 입니다.
+     * 이 값이 급격히 커지는 유사도가 대략 (1/b)^(1/rows) 이며, 같은 밴드 키를 가진 서명끼리만 후보 쌍으로 비교합니다.
+     *
+     * @param signature 서명
+     * @param band 밴드 번호
+     * @param rows 밴드 하나의 길이
+     * @return 밴드 키
+     */
+    public static int bandKey(int[] signature, int band, int rows) {
+        long hash = band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            hash = (hash ^ signature[i]) * 0x9E3779B97F4A7C15L;
+        }
+        return (int) (Hashing.fmix64(hash) >>> 32);
+    }
+}
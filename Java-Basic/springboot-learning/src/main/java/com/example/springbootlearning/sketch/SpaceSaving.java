@@ -0,0 +1,142 @@
+package com.example.springbootlearning.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving 알고리즘 (자주 나오는 값 상위 K개를 고정된 수의 카운터로 추적)
+ *
+ * 카운터를 capacity개만 두고, 추적하지 않는 새 값이 오면 가장 작은 카운터를 빼앗아
+ * "빼앗은 카운터 값 + 1"로 시작합니다. 이때 빼앗은 값만큼은 과대 추정일 수 있으므로 error로 기록합니다.
+ * 실제 빈도는 항상 count - error 이상 count 이하이며,
+ * 전체 개수 / capacity보다 자주 나온 값은 반드시 추적됩니다.
+ *
+ * 삭제는 추적 중인 값의 카운터를 빼는 것으로만 반영하므로, 삭제가 많으면 정기적으로 정확한 값으로
+ * 다시 채워야(reset) 합니다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public class SpaceSaving {
+
+    /**
+     * 추적 중인 값 하나
+     *
+     * @param item 값
+     * @param count 추정 빈도 (실제 빈도 이상)
+     * @param error 최대 과대 추정 (count - error는 실제 빈도 이하)
+     */
+    public record Counter(String item, long count, long error) {
+    }
+
+    private static final Comparator<Counter> BY_COUNT =
+            Comparator.comparingLong(Counter::count).thenComparing(Counter::item);
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> ordered = new TreeSet<>(BY_COUNT);
+
+    /**
+     * @param capacity 추적할 카운터 수 (조회할 K보다 넉넉하게)
+     */
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Space-Saving capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 값이 한 번 나옴
+     *
+     * @param item 값 (null은 무시)
+     * @return 다른 값의 카운터를 빼앗았으면 true (그만큼 추정 오차가 생김)
+     */
+    public boolean add(String item) {
+        if (item == null) {
+            return false;
+        }
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            replace(counter, new Counter(item, counter.count() + 1, counter.error()));
+        } else if (counters.size() < capacity) {
+            put(new Counter(item, 1, 0));
+        } else {
+            Counter min = ordered.pollFirst();
+            counters.remove(min.item());
+            put(new Counter(item, min.count() + 1, min.count()));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 값 하나가 사라짐 (추적 중인 값만 반영)
+     *
+     * @param item 값 (null은 무시)
+     */
+    public void remove(String item) {
+        Counter counter = item == null ? null : counters.get(item);
+        if (counter == null) {
+            return;
+        }
+        if (counter.count() <= 1) {
+            ordered.remove(counter);
+            counters.remove(item);
+        } else {
+            replace(counter, new Counter(item, counter.count() - 1, Math.min(counter.error(), counter.count() - 1)));
+        }
+    }
+
+    /**
+     * 빈도가 높은 순서로 상위 k개
+     *
+     * @param k 개수
+     * @return 카운터 목록
+     */
+    public List<Counter> top(int k) {
+        List<Counter> result = new ArrayList<>(Math.min(k, counters.size()));
+        for (Counter counter : ordered.descendingSet()) {
+            if (result.size() >= k) {
+                break;
+            }
+            result.add(counter);
+        }
+        return result;
+    }
+
+    /**
+     * 정확한 빈도로 다시 채움 (빈도가 높은 capacity개만 남김)
+     *
+     * @param exactCounts 값별 정확한 빈도
+     */
+    public void reset(Map<String, Long> exactCounts) {
+        counters.clear();
+        ordered.clear();
+        for (Map.Entry<String, Long> entry : exactCounts.entrySet()) {
+            Counter counter = new Counter(entry.getKey(), entry.getValue(), 0);
+            if (counters.size() < capacity) {
+                put(counter);
+            } else if (BY_COUNT.compare(counter, ordered.first()) > 0) {
+                counters.remove(ordered.pollFirst().item());
+                put(counter);
+            }
+        }
+    }
+
+    private void put(Counter counter) {
+        counters.put(counter.item(), counter);
+        ordered.add(counter);
+    }
+
+    private void replace(Counter previous, Counter next) {
+        ordered.remove(previous);
+        put(next);
+    }
+}
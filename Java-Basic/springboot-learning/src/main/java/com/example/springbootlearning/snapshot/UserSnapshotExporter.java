@@ -0,0 +1,173 @@
+package com.example.springbootlearning.snapshot;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import static com.example.springbootlearning.snapshot.UserSnapshotFormat.*;
+
+/**
+ * 사용자 스냅샷 내보내기
+ *
+ * users 테이블을 ID순으로 읽으면서 ROW_GROUP_SIZE 행마다 열 단위로 인코딩/압축해서 씁니다.
+ * 메모리에는 행 묶음 하나만 올라가므로 테이블 크기와 관계없이 일정한 메모리로 동작하며,
+ * 하나의 읽기 전용 트랜잭션 안에서 읽으므로 내보내는 도중의 쓰기는 스냅샷에 섞이지 않습니다.
+ */
+@Component
+public class UserSnapshotExporter {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 스냅샷 내보내기
+     *
+     * @param output 출력 스트림 (닫지 않음)
+     * @return 내보낸 행 수
+     */
+    public long export(OutputStream output) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> {
+            try {
+                return writeSnapshot(new DataOutputStream(output));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long writeSnapshot(DataOutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(COLUMNS.length);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            byte[] name = COLUMNS[i].getBytes(StandardCharsets.UTF_8);
+            out.writeShort(name.length);
+            out.write(name);
+            out.writeByte(COLUMN_TYPES[i]);
+        }
+
+        ColumnWriter writer = new ColumnWriter(out);
+        RowGroup group = new RowGroup(ROW_GROUP_SIZE);
+        long[] totals = new long[2];  // [전체 행 수, 행 묶음 수]
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT " + String.join(", ", COLUMNS) + " FROM users ORDER BY id");
+            statement.setFetchSize(ROW_GROUP_SIZE);
+            return statement;
+        }, rs -> {
+            int row = group.size;
+            group.ids[row] = rs.getLong(1);
+            group.names[row] = rs.getString(2);
+            group.emails[row] = rs.getString(3);
+            group.ages[row] = rs.getInt(4);
+            group.phoneNumbers[row] = rs.getString(5);
+            group.addresses[row] = rs.getString(6);
+            setTime(rs.getTimestamp(7), group.createdAt, group.createdAtNull, row);
+            setTime(rs.getTimestamp(8), group.updatedAt, group.updatedAtNull, row);
+            group.size++;
+            if (group.size == ROW_GROUP_SIZE) {
+                writer.writeRowGroup(group);
+                totals[0] += group.size;
+                totals[1]++;
+                group.size = 0;
+            }
+        });
+        if (group.size > 0) {
+            writer.writeRowGroup(group);
+            totals[0] += group.size;
+            totals[1]++;
+        }
+
+        out.writeInt(0);
+        out.writeLong(totals[0]);
+        out.writeInt((int) totals[1]);
+        out.flush();
+        return totals[0];
+    }
+
+    private static void setTime(Timestamp timestamp, long[] values, boolean[] nulls, int row) {
+        nulls[row] = timestamp == null;
+        values[row] = timestamp == null ? 0 : toMicros(timestamp.toLocalDateTime());
+    }
+
+    /**
+     * 행 묶음을 열마다 인코딩 → CRC32 계산 → 압축해서 쓰기 (버퍼는 행 묶음마다 재사용)
+     */
+    private static final class ColumnWriter {
+        private final DataOutputStream out;
+        private final ByteSink raw = new ByteSink();
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final CRC32 crc = new CRC32();
+        private byte[] compressed = new byte[1024];
+
+        ColumnWriter(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeRowGroup(RowGroup group) {
+            try {
+                out.writeInt(group.size);
+                encodeLongs(reset(), group.ids, null, group.size);
+                writeColumn(ENCODING_PLAIN);
+                writeColumn(encodeStrings(reset(), group.names, group.size));
+                writeColumn(encodeStrings(reset(), group.emails, group.size));
+                encodeInts(reset(), group.ages, group.size);
+                writeColumn(ENCODING_PLAIN);
+                writeColumn(encodeStrings(reset(), group.phoneNumbers, group.size));
+                writeColumn(encodeStrings(reset(), group.addresses, group.size));
+                encodeLongs(reset(), group.createdAt, group.createdAtNull, group.size);
+                writeColumn(ENCODING_PLAIN);
+                encodeLongs(reset(), group.updatedAt, group.updatedAtNull, group.size);
+                writeColumn(ENCODING_PLAIN);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private ByteSink reset() {
+            raw.reset();
+            return raw;
+        }
+
+        private void writeColumn(byte encoding) throws IOException {
+            crc.reset();
+            crc.update(raw.bytes, 0, raw.length);
+
+            deflater.reset();
+            deflater.setInput(raw.bytes, 0, raw.length);
+            deflater.finish();
+            int compressedLength = 0;
+            while (!deflater.finished()) {
+                if (compressedLength == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+            }
+
+            out.writeByte(encoding);
+            out.writeInt(raw.length);
+            out.writeInt(compressedLength);
+            out.writeInt((int) crc.getValue());
+            out.write(compressed, 0, compressedLength);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.springbootlearning.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 스냅샷 파일 형식 (열 단위 저장)
+ *
+ * 행마다 모든 값을 저장하는 대신, 행 묶음(row group) 안에서 같은 열의 값을 모아 저장합니다.
+ * 같은 종류의 값이 붙어 있으면 압축이 잘 되고, 주소처럼 반복되는 값은 사전(dictionary)으로 한 번만 저장할 수 있습니다.
+ *
+ * 파일 구조 (정수는 빅 엔디언):
+ *
+ *   헤더      "USNP" | 버전(int) | 열 개수(int) | 열마다 [이름 길이(short) | 이름(UTF-8) | 타입(byte)]
+ *   행 묶음*  행 수(int, 0보다 큼) | 열마다 [인코딩(byte) | 원본 길이(int) | 압축 길이(int) | CRC32(int) | 압축된 바이트]
+ *   끝        0(int) | 전체 행 수(long) | 행 묶음 수(int)
+ *
+ * 열 인코딩 (압축 전):
+ * - LONG/INT: null 비트맵 + 이전 값과의 차이를 zigzag varint로 저장 (ID, 시각처럼 증가하는 값이 1~2바이트가 됨)
+ * - STRING 일반: 값마다 [varint(길이 + 1) | UTF-8], null은 varint 0
+ * - STRING 사전: 사전 크기 + 사전 값들, 값마다 varint(사전 번호 + 1), null은 varint 0
+ *   (행 묶음 안에서 서로 다른 값이 행 수의 절반 이하일 때 사용)
+ * 압축은 Deflate(BEST_SPEED), CRC32는 압축을 푼 원본 바이트로 계산합니다.
+ */
+final class UserSnapshotFormat {
+
+    static final byte[] MAGIC = {'U', 'S', 'N', 'P'};
+    static final int VERSION = 1;
+
+    /**
+     * 행 묶음 하나의 최대 행 수
+     */
+    static final int ROW_GROUP_SIZE = 65_536;
+
+    static final byte TYPE_LONG = 1;
+    static final byte TYPE_INT = 2;
+    static final byte TYPE_STRING = 3;
+
+    static final byte ENCODING_PLAIN = 0;
+    static final byte ENCODING_DICTIONARY = 1;
+
+    /**
+     * 스냅샷에 저장하는 열 (users 테이블 열 이름, 순서대로)
+     * name_normalized, phone_key는 name, phone_number에서 다시 계산할 수 있으므로 저장하지 않음
+     */
+    static final String[] COLUMNS = {
+            "id", "name", "email", "age", "phone_number", "address", "created_at", "updated_at"
+    };
+
+    static final byte[] COLUMN_TYPES = {
+            TYPE_LONG, TYPE_STRING, TYPE_STRING, TYPE_INT, TYPE_STRING, TYPE_STRING, TYPE_LONG, TYPE_LONG
+    };
+
+    private UserSnapshotFormat() {
+    }
+
+    /**
+     * 행 묶음 하나 (열마다 배열 하나)
+     */
+    static final class RowGroup {
+        int size;
+        final long[] ids;
+        final String[] names;
+        final String[] emails;
+        final int[] ages;
+        final String[] phoneNumbers;
+        final String[] addresses;
+        final long[] createdAt;
+        final long[] updatedAt;
+        final boolean[] createdAtNull;
+        final boolean[] updatedAtNull;
+
+        RowGroup(int capacity) {
+            ids = new long[capacity];
+            names = new String[capacity];
+            emails = new String[capacity];
+            ages = new int[capacity];
+            phoneNumbers = new String[capacity];
+            addresses = new String[capacity];
+            createdAt = new long[capacity];
+            updatedAt = new long[capacity];
+            createdAtNull = new boolean[capacity];
+            updatedAtNull = new boolean[capacity];
+        }
+    }
+
+    // ===========================================
+    // 시각 변환 (LocalDateTime ↔ 마이크로초)
+    // ===========================================
+
+    static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    // ===========================================
+    // 열 인코딩
+    // ===========================================
+
+    /**
+     * 크기가 늘어나는 바이트 배열
+     */
+    static final class ByteSink {
+        byte[] bytes = new byte[1024];
+        int length;
+
+        void ensure(int additional) {
+            if (length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+            }
+        }
+
+        void write(int b) {
+            ensure(1);
+            bytes[length++] = (byte) b;
+        }
+
+        void write(byte[] source) {
+            ensure(source.length);
+            System.arraycopy(source, 0, bytes, length, source.length);
+            length += source.length;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        void reset() {
+            length = 0;
+        }
+    }
+
+    static void encodeLongs(ByteSink sink, long[] values, boolean[] nulls, int size) {
+        writeNullBitmap(sink, nulls, size);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            if (nulls == null || !nulls[i]) {
+                sink.writeVarLong(zigzag(values[i] - previous));
+                previous = values[i];
+            }
+        }
+    }
+
+    static void encodeInts(ByteSink sink, int[] values, int size) {
+        writeNullBitmap(sink, null, size);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            sink.writeVarLong(zigzag(values[i] - previous));
+            previous = values[i];
+        }
+    }
+
+    /**
+     * 문자열 열 인코딩
+     *
+     * @return 사용한 인코딩 (ENCODING_PLAIN 또는 ENCODING_DICTIONARY)
+     */
+    static byte encodeStrings(ByteSink sink, String[] values, int size) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        for (int i = 0; i < size && dictionary.size() <= size / 2; i++) {
+            if (values[i] != null) {
+                dictionary.putIfAbsent(values[i], dictionary.size());
+            }
+        }
+        if (dictionary.size() > size / 2) {
+            for (int i = 0; i < size; i++) {
+                writeString(sink, values[i]);
+            }
+            return ENCODING_PLAIN;
+        }
+
+        String[] entries = new String[dictionary.size()];
+        dictionary.forEach((value, index) -> entries[index] = value);
+        sink.writeVarLong(entries.length);
+        for (String entry : entries) {
+            writeString(sink, entry);
+        }
+        for (int i = 0; i < size; i++) {
+            sink.writeVarLong(values[i] == null ? 0 : dictionary.get(values[i]) + 1);
+        }
+        return ENCODING_DICTIONARY;
+    }
+
+    private static void writeString(ByteSink sink, String value) {
+        if (value == null) {
+            sink.writeVarLong(0);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        sink.writeVarLong(utf8.length + 1L);
+        sink.write(utf8);
+    }
+
+    private static void writeNullBitmap(ByteSink sink, boolean[] nulls, int size) {
+        int bitmapLength = (size + 7) / 8;
+        sink.ensure(bitmapLength);
+        for (int i = 0; i < bitmapLength; i++) {
+            int bits = 0;
+            if (nulls != null) {
+                for (int bit = 0; bit < 8 && i * 8 + bit < size; bit++) {
+                    if (nulls[i * 8 + bit]) {
+                        bits |= 1 << bit;
+                    }
+                }
+            }
+            sink.bytes[sink.length++] = (byte) bits;
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    // ===========================================
+    // 열 디코딩
+    // ===========================================
+
+    /**
+     * 바이트 배열 읽기 위치
+     */
+    static final class ByteSource {
+        private final byte[] bytes;
+        private final byte encoding;
+        private int position;
+
+        ByteSource(byte[] bytes, byte encoding) {
+            this.bytes = bytes;
+            this.encoding = encoding;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+
+        String readString() {
+            int length = (int) readVarLong() - 1;
+            if (length < 0) {
+                return null;
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        boolean isNull(int bitmapStart, int row) {
+            return (bytes[bitmapStart + row / 8] & (1 << (row % 8))) != 0;
+        }
+    }
+
+    static void decodeLongs(ByteSource source, long[] values, boolean[] nulls, int size) {
+        int bitmapStart = source.position;
+        source.position += (size + 7) / 8;
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            boolean isNull = source.isNull(bitmapStart, i);
+            if (nulls != null) {
+                nulls[i] = isNull;
+            }
+            if (!isNull) {
+                previous += unzigzag(source.readVarLong());
+                values[i] = previous;
+            }
+        }
+    }
+
+    static void decodeInts(ByteSource source, int[] values, int size) {
+        source.position += (size + 7) / 8;
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += unzigzag(source.readVarLong());
+            values[i] = (int) previous;
+        }
+    }
+
+    static void decodeStrings(ByteSource source, String[] values, int size) {
+        if (source.encoding == ENCODING_PLAIN) {
+            for (int i = 0; i < size; i++) {
+                values[i] = source.readString();
+            }
+            return;
+        }
+        String[] entries = new String[(int) source.readVarLong()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = source.readString();
+        }
+        for (int i = 0; i < size; i++) {
+            int index = (int) source.readVarLong();
+            values[i] = index == 0 ? null : entries[index - 1];
+        }
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,365 @@
+package com.example.springbootlearning.snapshot;
+
+import com.example.springbootlearning.entity.User;
+import com.example.springbootlearning.event.UserBulkLoadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.example.springbootlearning.snapshot.UserSnapshotFormat.*;
+
+/**
+ * 사용자 스냅샷 가져오기
+ *
+ * 스냅샷 파일을 메모리 매핑(mmap)해서 읽고, 배치 INSERT(JDBC batch)로 저장합니다.
+ * createUser를 행마다 호출하면 검증, 이메일 중복 조회, 이벤트 발행이 행마다 일어나지만,
+ * 스냅샷은 이미 저장되어 있던 데이터이므로 이 과정을 모두 건너뜁니다.
+ *
+ * 파일 읽기/압축 해제/디코딩은 별도 스레드에서 하고, 호출한 스레드는 INSERT만 합니다.
+ * (디코딩한 행 묶음은 최대 2개까지 미리 준비됨)
+ *
+ * 가져오기가 끝나면 ID 자동 증가 값을 가장 큰 ID 다음으로 맞추고 UserBulkLoadedEvent를 발행합니다.
+ */
+@Component
+public class UserSnapshotImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSnapshotImporter.class);
+
+    private static final String INSERT_SQL = "INSERT INTO users (id, name, name_normalized, email, age, "
+            + "phone_number, phone_key, address, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 트랜잭션 하나로 저장하는 행 수
+     * H2는 트랜잭션이 클수록 커밋 비용이 커지므로 행 묶음(65536행)을 나누어 커밋합니다.
+     * (중간에 실패하면 discardPartialImport에서 이미 저장한 행을 모두 지움)
+     */
+    private static final int INSERT_BATCH_SIZE = 5_000;
+
+    /**
+     * 한 번에 매핑하는 파일 구간 크기 (MappedByteBuffer는 2GB를 넘을 수 없음)
+     */
+    private static final long MAX_WINDOW_BYTES = 1L << 30;
+
+    /**
+     * 디코딩 스레드가 끝을 알리는 표시
+     */
+    private static final RowGroup END = new RowGroup(0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 스냅샷 파일 가져오기
+     *
+     * @param file 스냅샷 파일
+     * @return 가져온 행 수
+     * @throws IllegalStateException 사용자 테이블이 비어 있지 않은 경우
+     * @throws IllegalArgumentException 스냅샷 형식이 잘못되었거나 체크섬이 맞지 않는 경우
+     */
+    public long importFile(Path file) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("스냅샷은 빈 사용자 테이블에만 가져올 수 있습니다. (현재 " + existing + "명)");
+        }
+
+        long startNanos = System.nanoTime();
+        BlockingQueue<RowGroup> decoded = new ArrayBlockingQueue<>(2);
+        RuntimeException[] decodeFailure = new RuntimeException[1];
+        long[] expectedRows = new long[1];
+
+        Thread decoder = new Thread(() -> {
+            try (SnapshotReader reader = new SnapshotReader(file)) {
+                RowGroup group;
+                while ((group = reader.nextRowGroup()) != null) {
+                    decoded.put(group);
+                }
+                expectedRows[0] = reader.totalRows;
+            } catch (RuntimeException e) {
+                decodeFailure[0] = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                try {
+                    decoded.put(END);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, "snapshot-decoder");
+        decoder.setDaemon(true);
+        decoder.start();
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long imported = 0;
+        long maxId = 0;
+        try {
+            RowGroup group;
+            while ((group = decoded.take()) != END) {
+                for (int from = 0; from < group.size; from += INSERT_BATCH_SIZE) {
+                    RowGroup rows = group;
+                    int start = from;
+                    int end = Math.min(from + INSERT_BATCH_SIZE, group.size);
+                    transaction.executeWithoutResult(status -> insert(rows, start, end));
+                }
+                imported += group.size;
+                maxId = Math.max(maxId, group.ids[group.size - 1]);
+            }
+            decoder.join();
+            if (decodeFailure[0] != null) {
+                throw decodeFailure[0];
+            }
+            if (imported != expectedRows[0]) {
+                throw new IllegalArgumentException("스냅샷 행 수가 맞지 않습니다: 기록 " + expectedRows[0] + ", 실제 " + imported);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discardPartialImport(decoder);
+            throw new IllegalStateException("스냅샷 가져오기가 중단되었습니다.", e);
+        } catch (RuntimeException e) {
+            discardPartialImport(decoder);
+            throw e;
+        }
+
+        // 이후 JPA로 생성하는 사용자가 가져온 ID와 겹치지 않도록
+        jdbcTemplate.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + (maxId + 1));
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("스냅샷 가져오기 완료: {} ({}행, {}ms, 초당 {}행)", file, imported, elapsedMillis,
+                elapsedMillis == 0 ? imported : imported * 1000 / elapsedMillis);
+        eventPublisher.publishEvent(new UserBulkLoadedEvent(file.toString(), imported));
+        return imported;
+    }
+
+    /**
+     * 실패한 가져오기에서 이미 저장한 행 삭제 (가져오기 전에 비어 있던 테이블이므로 전부 지움)
+     */
+    private void discardPartialImport(Thread decoder) {
+        decoder.interrupt();
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    private void insert(RowGroup rows, int start, int end) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int index) throws SQLException {
+                int i = start + index;
+                ps.setLong(1, rows.ids[i]);
+                ps.setString(2, rows.names[i]);
+                ps.setString(3, User.normalizeName(rows.names[i]));
+                ps.setString(4, rows.emails[i]);
+                ps.setInt(5, rows.ages[i]);
+                ps.setString(6, rows.phoneNumbers[i]);
+                ps.setObject(7, User.normalizePhoneNumber(rows.phoneNumbers[i]), Types.BIGINT);
+                ps.setString(8, rows.addresses[i]);
+                setTime(ps, 9, rows.createdAt, rows.createdAtNull, i);
+                setTime(ps, 10, rows.updatedAt, rows.updatedAtNull, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return end - start;
+            }
+        });
+    }
+
+    private static void setTime(PreparedStatement ps, int index, long[] values, boolean[] nulls, int row)
+            throws SQLException {
+        if (nulls[row]) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(fromMicros(values[row])));
+        }
+    }
+
+    /**
+     * 메모리 매핑한 스냅샷 파일을 앞에서부터 읽는 리더
+     *
+     * 파일이 MAX_WINDOW_BYTES보다 크면 읽는 위치를 따라 매핑 구간을 옮깁니다.
+     */
+    private static final class SnapshotReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final long fileSize;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long position;
+        private final Inflater inflater = new Inflater();
+        private final CRC32 crc = new CRC32();
+        private long totalRows = -1;
+        private long readRows;
+        private int readGroups;
+
+        SnapshotReader(Path file) {
+            try {
+                channel = FileChannel.open(file, StandardOpenOption.READ);
+                fileSize = channel.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException("스냅샷 파일을 열 수 없습니다: " + file, e);
+            }
+            readHeader();
+        }
+
+        private void readHeader() {
+            byte[] magic = new byte[MAGIC.length];
+            read(magic.length).get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalArgumentException("사용자 스냅샷 파일이 아닙니다.");
+            }
+            int version = read(4).getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 스냅샷 버전입니다: " + version);
+            }
+            int columnCount = read(4).getInt();
+            if (columnCount != COLUMNS.length) {
+                throw new IllegalArgumentException("스냅샷의 열 개수가 다릅니다: " + columnCount);
+            }
+            for (int i = 0; i < columnCount; i++) {
+                byte[] name = new byte[read(2).getShort()];
+                read(name.length).get(name);
+                byte type = read(1).get();
+                String columnName = new String(name, StandardCharsets.UTF_8);
+                if (!COLUMNS[i].equals(columnName) || type != COLUMN_TYPES[i]) {
+                    throw new IllegalArgumentException("스냅샷의 열 구성이 다릅니다: " + columnName);
+                }
+            }
+        }
+
+        /**
+         * 다음 행 묶음 읽기
+         *
+         * @return 행 묶음, 파일 끝이면 null
+         */
+        RowGroup nextRowGroup() {
+            int size = read(4).getInt();
+            if (size == 0) {
+                ByteBuffer trailer = read(12);
+                totalRows = trailer.getLong();
+                int groups = trailer.getInt();
+                if (totalRows != readRows || groups != readGroups) {
+                    throw new IllegalArgumentException("스냅샷 끝 정보가 맞지 않습니다. (파일이 손상되었을 수 있음)");
+                }
+                return null;
+            }
+            if (size < 0 || size > ROW_GROUP_SIZE) {
+                throw new IllegalArgumentException("잘못된 행 묶음 크기입니다: " + size);
+            }
+
+            RowGroup group = new RowGroup(size);
+            group.size = size;
+            decodeLongs(readColumn(0), group.ids, null, size);
+            decodeStrings(readColumn(1), group.names, size);
+            decodeStrings(readColumn(2), group.emails, size);
+            decodeInts(readColumn(3), group.ages, size);
+            decodeStrings(readColumn(4), group.phoneNumbers, size);
+            decodeStrings(readColumn(5), group.addresses, size);
+            decodeLongs(readColumn(6), group.createdAt, group.createdAtNull, size);
+            decodeLongs(readColumn(7), group.updatedAt, group.updatedAtNull, size);
+            readRows += size;
+            readGroups++;
+            return group;
+        }
+
+        /**
+         * 열 하나 읽기: 헤더 확인 → 압축 해제 → CRC32 확인
+         */
+        private ByteSource readColumn(int column) {
+            ByteBuffer header = read(13);
+            byte encoding = header.get();
+            int rawLength = header.getInt();
+            int compressedLength = header.getInt();
+            int expectedCrc = header.getInt();
+            if (rawLength < 0 || compressedLength < 0) {
+                throw new IllegalArgumentException("잘못된 열 길이입니다: " + COLUMNS[column]);
+            }
+
+            // 매핑된 파일 영역을 복사하지 않고 그대로 압축 해제 입력으로 사용
+            byte[] raw = new byte[rawLength];
+            inflater.reset();
+            inflater.setInput(read(compressedLength));
+            try {
+                int inflated = 0;
+                while (inflated < rawLength) {
+                    int count = inflater.inflate(raw, inflated, rawLength - inflated);
+                    if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    inflated += count;
+                }
+                if (inflated != rawLength) {
+                    throw new IllegalArgumentException("열 압축 해제 결과의 길이가 다릅니다: " + COLUMNS[column]);
+                }
+            } catch (DataFormatException e) {
+                throw new IllegalArgumentException("열 압축을 풀 수 없습니다: " + COLUMNS[column], e);
+            }
+
+            crc.reset();
+            crc.update(raw, 0, rawLength);
+            if ((int) crc.getValue() != expectedCrc) {
+                throw new IllegalArgumentException("체크섬이 맞지 않습니다: " + COLUMNS[column] + " (행 묶음 " + readGroups + ")");
+            }
+            return new ByteSource(raw, encoding);
+        }
+
+        /**
+         * 현재 위치부터 length 바이트를 가리키는 버퍼를 반환하고 위치를 그만큼 옮김
+         * (읽을 범위가 현재 매핑 구간을 벗어나면 현재 위치부터 다시 매핑)
+         */
+        private ByteBuffer read(int length) {
+            if (position + length > fileSize) {
+                throw new IllegalArgumentException("스냅샷 파일이 중간에 끊겼습니다.");
+            }
+            if (window == null || position + length > windowStart + window.capacity()) {
+                long mapLength = Math.min(Math.max(MAX_WINDOW_BYTES, length), fileSize - position);
+                try {
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, position, mapLength);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                windowStart = position;
+            }
+            ByteBuffer view = window.slice((int) (position - windowStart), length);
+            position += length;
+            return view;
+        }
+
+        @Override
+        public void close() {
+            inflater.end();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
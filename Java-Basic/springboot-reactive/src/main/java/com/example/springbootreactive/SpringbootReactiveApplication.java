@@ -0,0 +1,29 @@
+package com.example.springbootreactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 리액티브 스프링부트 메인 애플리케이션 클래스
+ * 
+ * springboot-learning의 사용자 API를 WebFlux + R2DBC로 옮긴 애플리케이션입니다.
+ * 톰캣(스레드당 요청 하나) 대신 Netty 이벤트 루프에서 적은 수의 스레드로
+ * 많은 동시 연결을 처리합니다.
+ * 
+ * 주요 기능:
+ * 1. WebFlux: 논블로킹 웹 서버 (Mono, Flux 반환)
+ * 2. R2DBC: 논블로킹 데이터베이스 접근
+ * 3. 서블릿 버전과 같은 URL 구조 (포트만 8081)
+ */
+@SpringBootApplication
+public class SpringbootReactiveApplication {
+
+    /**
+     * 애플리케이션의 메인 메서드
+     * 
+     * @param args 명령행 인수
+     */
+    public static void main(String[] args) {
+        SpringApplication.run(SpringbootReactiveApplication.class, args);
+    }
+}
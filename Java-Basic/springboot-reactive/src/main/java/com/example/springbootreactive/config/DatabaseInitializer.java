@@ -0,0 +1,64 @@
+package com.example.springbootreactive.config;
+
+import com.example.springbootreactive.entity.User;
+import com.example.springbootreactive.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * 데이터베이스 초기화 컴포넌트 (리액티브)
+ * 
+ * springboot-learning과 같은 샘플 사용자를 생성합니다.
+ * 시작 단계에서 한 번만 실행되므로 block()으로 완료될 때까지 기다립니다.
+ * (요청 처리 코드에서는 block()을 사용하면 안 됩니다)
+ */
+@Component
+public class DatabaseInitializer implements CommandLineRunner {
+    
+    @Autowired
+    private UserService userService;
+    
+    @Override
+    public void run(String... args) {
+        Long existingUserCount = userService.getTotalUserCount().block();
+        if (existingUserCount != null && existingUserCount > 0) {
+            System.out.println("📊 기존 사용자 데이터가 " + existingUserCount + "개 있습니다. 샘플 데이터 생성을 건너뜁니다.");
+            return;
+        }
+        
+        User[] sampleUsers = {
+            new User("김철수", "kim@example.com", 25, "010-1234-5678", "서울시 강남구"),
+            new User("이영희", "lee@example.com", 28, "010-2345-6789", "서울시 서초구"),
+            new User("박민수", "park@gmail.com", 22, "010-3456-7890", "부산시 해운대구"),
+            new User("최지영", "choi@naver.com", 32, "010-4567-8901", "대구시 수성구"),
+            new User("정민호", "jung@example.com", 35, "010-5678-9012", "인천시 연수구"),
+            new User("한소영", "han@yahoo.com", 30, "010-6789-0123", "광주시 서구"),
+            new User("윤성호", "yoon@example.com", 42, "010-7890-1234", "대전시 유성구"),
+            new User("강미영", "kang@hotmail.com", 45, "010-8901-2345", "울산시 남구"),
+            new User("임동수", "lim@example.com", 52, "010-9012-3456", "세종시 조치원읍"),
+            new User("송현정", "song@example.com", 55, "010-0123-4567", "경기도 수원시"),
+            new User("조영수", "jo@example.com", 62, "010-1234-5679", "경기도 성남시"),
+            new User("오미경", "oh@example.com", 68, "010-2345-6780", "경기도 안양시"),
+            new User("신동욱", "shin@example.com", 27, null, "서울시 마포구"),
+            new User("배수진", "bae@example.com", 33, null, "부산시 부산진구"),
+            new User("홍길동", "hong@example.com", 29, "010-3456-7891", null),
+            new User("김영수", "kim2@example.com", 31, "010-4567-8902", null),
+            new User("테스트1", "test1@company.co.kr", 26, "010-5678-9013", "서울시 종로구"),
+            new User("테스트2", "test2@university.ac.kr", 24, "010-6789-0124", "서울시 중구"),
+            new User("테스트3", "test3@startup.io", 28, "010-7890-1235", "서울시 용산구"),
+            new User("신규1", "new1@example.com", 23, "010-8901-2346", "서울시 송파구"),
+            new User("신규2", "new2@example.com", 26, "010-9012-3457", "서울시 강동구"),
+            new User("신규3", "new3@example.com", 29, "010-0123-4568", "서울시 노원구")
+        };
+        
+        // 순서대로 저장 (concatMap: 앞의 저장이 끝난 뒤 다음 저장을 시작)
+        Long created = Flux.fromArray(sampleUsers)
+                .concatMap(userService::createUser)
+                .count()
+                .block();
+        
+        System.out.println("✅ 리액티브 샘플 데이터 " + created + "명 생성 완료 - http://localhost:8081/api/users");
+    }
+}
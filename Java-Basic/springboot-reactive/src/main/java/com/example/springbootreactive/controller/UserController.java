@@ -0,0 +1,322 @@
+package com.example.springbootreactive.controller;
+
+import com.example.springbootreactive.entity.User;
+import com.example.springbootreactive.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 REST API 컨트롤러 (리액티브)
+ * 
+ * springboot-learning의 UserController와 같은 URL을 제공합니다.
+ * 목록 API는 Flux<User>를 그대로 반환하므로, 데이터베이스에서 읽은 행이
+ * 클라이언트가 받는 속도에 맞춰(backpressure) 순서대로 전송됩니다.
+ * Accept: application/x-ndjson 으로 요청하면 한 줄에 한 명씩 스트리밍됩니다.
+ * 
+ * 주요 학습 내용:
+ * 1. Mono/Flux를 반환하는 컨트롤러
+ * 2. onErrorResume을 사용한 에러 응답
+ * 3. ServerSentEvent 스트리밍
+ */
+@RestController
+@RequestMapping("/api/users")
+public class UserController {
+    
+    /**
+     * 사용자 서비스 의존성 주입
+     */
+    @Autowired
+    private UserService userService;
+    
+    /**
+     * 모든 사용자 조회 API
+     * 
+     * URL: GET /api/users
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<User> getAllUsers() {
+        return userService.getAllUsers();
+    }
+    
+    /**
+     * ID로 사용자 조회 API
+     * 
+     * URL: GET /api/users/{id}
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<User>> getUserById(@PathVariable Long id) {
+        return userService.getUserById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * 이메일로 사용자 조회 API
+     * 
+     * URL: GET /api/users/email/{email}
+     */
+    @GetMapping("/email/{email}")
+    public Mono<ResponseEntity<User>> getUserByEmail(@PathVariable String email) {
+        return userService.getUserByEmail(email)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * 사용자 생성 API
+     * 
+     * URL: POST /api/users
+     */
+    @PostMapping
+    public Mono<ResponseEntity<?>> createUser(@RequestBody User user) {
+        String validationMessage = userService.validateUser(user);
+        if (!validationMessage.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body(error("입력 데이터 검증 실패", validationMessage)));
+        }
+        
+        return userService.createUser(user)
+                .<ResponseEntity<?>>map(createdUser -> ResponseEntity.status(HttpStatus.CREATED).body(createdUser))
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().body(error("사용자 생성 실패", e.getMessage()))));
+    }
+    
+    /**
+     * 사용자 정보 수정 API
+     * 
+     * URL: PUT /api/users/{id}
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<?>> updateUser(@PathVariable Long id, @RequestBody User userDetails) {
+        String validationMessage = userService.validateUser(userDetails);
+        if (!validationMessage.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body(error("입력 데이터 검증 실패", validationMessage)));
+        }
+        
+        return userService.updateUser(id, userDetails)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().body(error("사용자 수정 실패", e.getMessage()))));
+    }
+    
+    /**
+     * 사용자 삭제 API
+     * 
+     * URL: DELETE /api/users/{id}
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<?>> deleteUser(@PathVariable Long id) {
+        return userService.deleteUser(id)
+                .then(Mono.<ResponseEntity<?>>fromSupplier(() -> {
+                    Map<String, String> response = new HashMap<>();
+                    response.put("message", "사용자가 성공적으로 삭제되었습니다.");
+                    response.put("deletedUserId", id.toString());
+                    return ResponseEntity.ok(response);
+                }))
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().body(error("사용자 삭제 실패", e.getMessage()))));
+    }
+    
+    /**
+     * 사용자 변경 피드 구독 API (Server-Sent Events)
+     * 
+     * URL: GET /api/users/changes/stream
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Map<String, Object>>> streamUserChanges() {
+        return userService.streamChanges();
+    }
+    
+    /**
+     * 이름으로 사용자 검색 API
+     * 
+     * URL: GET /api/users/search?name=검색어
+     */
+    @GetMapping("/search")
+    public Flux<User> searchUsersByName(@RequestParam String name) {
+        return userService.searchUsersByName(name);
+    }
+    
+    /**
+     * 이름으로 사용자 검색 API (대소문자 무시)
+     * 
+     * URL: GET /api/users/search/ignore-case?name=검색어
+     */
+    @GetMapping("/search/ignore-case")
+    public Flux<User> searchUsersByNameIgnoreCase(@RequestParam String name) {
+        return userService.searchUsersByNameIgnoreCase(name);
+    }
+    
+    /**
+     * 이름 접두사로 사용자 검색 API (대소문자 무시)
+     * 
+     * URL: GET /api/users/search/prefix?name=검색어
+     */
+    @GetMapping("/search/prefix")
+    public Flux<User> searchUsersByNamePrefix(@RequestParam String name) {
+        return userService.searchUsersByNamePrefix(name);
+    }
+    
+    /**
+     * 나이 범위로 사용자 검색 API
+     * 
+     * URL: GET /api/users/search/age?minAge=20&maxAge=30
+     */
+    @GetMapping("/search/age")
+    public Flux<User> searchUsersByAgeRange(@RequestParam Integer minAge, @RequestParam Integer maxAge) {
+        return userService.searchUsersByAgeRange(minAge, maxAge);
+    }
+    
+    /**
+     * 성인 사용자 조회 API
+     * 
+     * URL: GET /api/users/adults
+     */
+    @GetMapping("/adults")
+    public Flux<User> getAdultUsers() {
+        return userService.getAdultUsers();
+    }
+    
+    /**
+     * 특정 나이 이상의 사용자 조회 API
+     * 
+     * URL: GET /api/users/age/{age}
+     */
+    @GetMapping("/age/{age}")
+    public Flux<User> getUsersByMinAge(@PathVariable Integer age) {
+        return userService.getUsersByMinAge(age);
+    }
+    
+    /**
+     * 특정 이메일 도메인의 사용자 조회 API
+     * 
+     * URL: GET /api/users/domain/{domain}
+     */
+    @GetMapping("/domain/{domain}")
+    public Flux<User> getUsersByEmailDomain(@PathVariable String domain) {
+        return userService.getUsersByEmailDomain(domain);
+    }
+    
+    /**
+     * 전화번호가 있는 사용자 조회 API
+     * 
+     * URL: GET /api/users/with-phone
+     */
+    @GetMapping("/with-phone")
+    public Flux<User> getUsersWithPhoneNumber() {
+        return userService.getUsersWithPhoneNumber();
+    }
+    
+    /**
+     * 나이순으로 정렬된 사용자 목록 조회 API
+     * 
+     * URL: GET /api/users/sorted/age
+     */
+    @GetMapping(value = "/sorted/age", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<User> getUsersSortedByAge() {
+        return userService.getUsersSortedByAge();
+    }
+    
+    /**
+     * 이름순으로 정렬된 사용자 목록 조회 API (내림차순)
+     * 
+     * URL: GET /api/users/sorted/name
+     */
+    @GetMapping(value = "/sorted/name", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<User> getUsersSortedByNameDesc() {
+        return userService.getUsersSortedByNameDesc();
+    }
+    
+    /**
+     * 사용자 통계 정보 조회 API
+     * 
+     * URL: GET /api/users/statistics
+     */
+    @GetMapping("/statistics")
+    public Flux<Object[]> getUserStatistics() {
+        return userService.getUserStatistics();
+    }
+    
+    /**
+     * 이메일 도메인별 사용자 수 조회 API
+     * 
+     * URL: GET /api/users/statistics/domains
+     */
+    @GetMapping("/statistics/domains")
+    public Flux<Object[]> getUserCountByEmailDomain() {
+        return userService.getUserCountByEmailDomain();
+    }
+    
+    /**
+     * 최근 가입한 사용자 조회 API
+     * 
+     * URL: GET /api/users/recent?days=7
+     */
+    @GetMapping("/recent")
+    public Flux<User> getRecentUsers(@RequestParam(defaultValue = "7") int days) {
+        return userService.getRecentUsers(days);
+    }
+    
+    /**
+     * 전체 사용자 수 조회 API
+     * 
+     * URL: GET /api/users/count
+     */
+    @GetMapping("/count")
+    public Mono<Map<String, Object>> getTotalUserCount() {
+        return userService.getTotalUserCount().map(totalCount -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("totalUsers", totalCount);
+            response.put("message", "전체 사용자 수 조회 완료");
+            return response;
+        });
+    }
+    
+    /**
+     * 이메일 존재 여부 확인 API
+     * 
+     * URL: GET /api/users/exists/email/{email}
+     */
+    @GetMapping("/exists/email/{email}")
+    public Mono<Map<String, Object>> checkEmailExists(@PathVariable String email) {
+        return userService.isEmailExists(email).map(exists -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("email", email);
+            response.put("exists", exists);
+            response.put("message", exists ? "이메일이 존재합니다." : "이메일이 존재하지 않습니다.");
+            return response;
+        });
+    }
+    
+    /**
+     * 사용자 정보 요약 조회 API
+     * 
+     * URL: GET /api/users/{id}/summary
+     */
+    @GetMapping("/{id}/summary")
+    public Mono<ResponseEntity<Map<String, Object>>> getUserSummary(@PathVariable Long id) {
+        return userService.getUserById(id)
+                .map(user -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("summary", userService.getUserSummary(user));
+                    response.put("user", user);
+                    return ResponseEntity.ok(response);
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    private Map<String, String> error(String error, String message) {
+        Map<String, String> body = new HashMap<>();
+        body.put("error", error);
+        body.put("message", message);
+        return body;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.springbootreactive.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 사용자 엔티티 클래스 (R2DBC)
+ * 
+ * springboot-learning의 User 엔티티와 같은 users 테이블에 매핑됩니다.
+ * R2DBC는 JPA가 아니므로 @Entity 대신 Spring Data의 @Table, @Id, @Column을 사용하고,
+ * @PrePersist 같은 생명주기 콜백이 없어 시간/정규화 값은 서비스 계층에서 설정합니다.
+ * 
+ * 주요 학습 내용:
+ * 1. Spring Data R2DBC 엔티티 매핑
+ * 2. JPA 엔티티와의 차이점 (지연 로딩, 생명주기 콜백 없음)
+ */
+@Table("users")  // 데이터베이스 테이블 이름 지정
+public class User {
+    
+    /**
+     * 사용자 ID (Primary Key, AUTO_INCREMENT)
+     */
+    @Id
+    private Long id;
+    
+    /**
+     * 사용자 이름
+     */
+    private String name;
+    
+    /**
+     * 검색용으로 정규화된 이름 (소문자 + 유니코드 NFC)
+     */
+    @JsonIgnore
+    @Column("name_normalized")
+    private String nameNormalized;
+    
+    /**
+     * 이메일 주소
+     */
+    private String email;
+    
+    /**
+     * 나이
+     */
+    private Integer age;
+    
+    /**
+     * 전화번호
+     */
+    @Column("phone_number")
+    private String phoneNumber;
+    
+    /**
+     * 주소
+     */
+    private String address;
+    
+    /**
+     * 계정 생성 시간
+     */
+    @Column("created_at")
+    private LocalDateTime createdAt;
+    
+    /**
+     * 계정 수정 시간
+     */
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+    
+    /**
+     * 기본 생성자
+     */
+    public User() {
+    }
+    
+    /**
+     * 모든 필드를 포함한 생성자
+     * 
+     * @param name 사용자 이름
+     * @param email 이메일 주소
+     * @param age 나이
+     * @param phoneNumber 전화번호
+     * @param address 주소
+     */
+    public User(String name, String email, Integer age, String phoneNumber, String address) {
+        this.name = name;
+        this.email = email;
+        this.age = age;
+        this.phoneNumber = phoneNumber;
+        this.address = address;
+    }
+    
+    // Getter 메서드들
+    public Long getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public String getNameNormalized() {
+        return nameNormalized;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public Integer getAge() {
+        return age;
+    }
+    
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    // Setter 메서드들
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public void setNameNormalized(String nameNormalized) {
+        this.nameNormalized = nameNormalized;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+    
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    /**
+     * 검색용 이름 정규화 (springboot-learning의 User.normalizeName과 동일)
+     * 
+     * @param name 원본 이름
+     * @return 정규화된 이름 (null이면 null)
+     */
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        return Normalizer.normalize(name, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+    
+    @Override
+    public String toString() {
+        return "User{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", email='" + email + '\'' +
+                ", age=" + age +
+                '}';
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.springbootreactive.repository;
+
+import com.example.springbootreactive.entity.User;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 데이터 접근 리포지토리 인터페이스 (R2DBC)
+ * 
+ * springboot-learning의 UserRepository와 같은 조회 메서드를 제공하지만,
+ * 결과를 List/Optional 대신 Flux(0~N개)/Mono(0~1개)로 반환합니다.
+ * 데이터는 구독자가 요청한 만큼 흘러가므로(backpressure) 큰 목록도 한 번에 메모리에 올리지 않습니다.
+ * 
+ * 주요 학습 내용:
+ * 1. R2dbcRepository 기본 기능
+ * 2. Flux/Mono를 반환하는 쿼리 메서드
+ * 3. @Query를 사용한 네이티브 SQL (R2DBC는 JPQL이 없음)
+ */
+@Repository
+public interface UserRepository extends R2dbcRepository<User, Long> {
+    
+    /**
+     * 이메일로 사용자 찾기
+     */
+    Mono<User> findByEmail(String email);
+    
+    /**
+     * 이름으로 사용자 찾기 (부분 일치)
+     */
+    Flux<User> findByNameContaining(String name);
+    
+    /**
+     * 이름으로 사용자 찾기 (대소문자 무시, 정규화된 검색어 사용)
+     */
+    Flux<User> findByNameNormalizedContaining(String name);
+    
+    /**
+     * 이름 접두사로 사용자 찾기 (대소문자 무시, 인덱스 범위 검색)
+     */
+    Flux<User> findByNameNormalizedStartingWith(String prefix);
+    
+    /**
+     * 나이 범위로 사용자 찾기
+     */
+    Flux<User> findByAgeBetween(Integer minAge, Integer maxAge);
+    
+    /**
+     * 특정 나이 이상의 사용자 찾기
+     */
+    Flux<User> findByAgeGreaterThanEqual(Integer age);
+    
+    /**
+     * 이메일이 특정 도메인인 사용자 찾기
+     */
+    Flux<User> findByEmailEndingWith(String domain);
+    
+    /**
+     * 전화번호가 있는 사용자 찾기
+     */
+    Flux<User> findByPhoneNumberIsNotNull();
+    
+    /**
+     * 사용자 수 세기 (이름으로)
+     */
+    Mono<Long> countByName(String name);
+    
+    /**
+     * 이메일 존재 여부 확인
+     */
+    Mono<Boolean> existsByEmail(String email);
+    
+    /**
+     * 나이순으로 정렬된 사용자 목록
+     */
+    @Query("SELECT * FROM users ORDER BY age ASC")
+    Flux<User> findByOrderByAgeAsc();
+    
+    /**
+     * 이름순으로 정렬된 사용자 목록 (내림차순)
+     */
+    @Query("SELECT * FROM users ORDER BY name DESC")
+    Flux<User> findByOrderByNameDesc();
+    
+    /**
+     * 성인 사용자 찾기 (18세 이상)
+     */
+    @Query("SELECT * FROM users WHERE age >= 18")
+    Flux<User> findAdultUsers();
+    
+    /**
+     * 최근 가입한 사용자 찾기
+     * 
+     * @param since 이 시각 이후에 가입한 사용자를 조회
+     */
+    @Query("SELECT * FROM users WHERE created_at >= :since")
+    Flux<User> findRecentUsers(@Param("since") LocalDateTime since);
+    
+    /**
+     * 나이대별 사용자 수 통계
+     */
+    @Query("""
+        SELECT 
+            CASE 
+                WHEN age < 20 THEN '10대'
+                WHEN age < 30 THEN '20대'
+                WHEN age < 40 THEN '30대'
+                WHEN age < 50 THEN '40대'
+                WHEN age < 60 THEN '50대'
+                ELSE '60대 이상'
+            END as group_name,
+            COUNT(*) as user_count
+        FROM users 
+        GROUP BY group_name
+        ORDER BY MIN(age)
+        """)
+    Flux<GroupCount> getUserStatisticsByAgeGroup();
+    
+    /**
+     * 이메일 도메인별 사용자 수
+     */
+    @Query("""
+        SELECT SUBSTRING(email, LOCATE('@', email) + 1) as group_name, COUNT(*) as user_count
+        FROM users 
+        WHERE email IS NOT NULL
+        GROUP BY group_name
+        ORDER BY user_count DESC
+        """)
+    Flux<GroupCount> getUserCountByEmailDomain();
+    
+    /**
+     * 통계 쿼리 결과 (그룹 이름, 사용자 수)
+     * 
+     * R2DBC는 group_name, user_count 컬럼을 이름 규칙에 따라 groupName, userCount에 매핑합니다.
+     */
+    record GroupCount(String groupName, Long userCount) {
+        
+        /**
+         * 서블릿 버전과 같은 [그룹, 사용자 수] 배열 형태로 변환
+         */
+        public Object[] toArray() {
+            return new Object[]{groupName, userCount};
+        }
+    }
+}
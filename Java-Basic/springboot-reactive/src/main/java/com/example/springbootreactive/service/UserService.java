@@ -0,0 +1,336 @@
+package com.example.springbootreactive.service;
+
+import com.example.springbootreactive.entity.User;
+import com.example.springbootreactive.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 비즈니스 로직 서비스 클래스 (리액티브)
+ * 
+ * springboot-learning의 UserService와 같은 기능을 Mono/Flux로 제공합니다.
+ * 메서드는 호출 즉시 결과를 만드는 것이 아니라 "실행 계획"을 반환하고,
+ * 실제 데이터베이스 작업은 WebFlux가 응답을 구독할 때 논블로킹으로 실행됩니다.
+ * 
+ * 주요 학습 내용:
+ * 1. Mono/Flux 연산자(map, flatMap, filter, switchIfEmpty)로 비즈니스 로직 작성
+ * 2. TransactionalOperator를 사용한 리액티브 트랜잭션
+ * 3. Mono.error를 사용한 예외 전달
+ * 4. Sinks를 사용한 변경 이벤트 발행
+ */
+@Service
+public class UserService {
+    
+    /**
+     * 사용자 리포지토리 의존성 주입
+     */
+    @Autowired
+    private UserRepository userRepository;
+    
+    /**
+     * 리액티브 트랜잭션 처리기
+     */
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+    
+    /**
+     * 구독자별 변경 이벤트 버퍼 크기
+     */
+    @Value("${app.users.change-feed.buffer-size:256}")
+    private int changeFeedBufferSize;
+    
+    /**
+     * 사용자 변경 이벤트 발행기 (여러 구독자에게 동시에 전달)
+     */
+    private final Sinks.Many<Map<String, Object>> changes = Sinks.many().multicast().directBestEffort();
+    
+    private final AtomicLong changeSequence = new AtomicLong();
+    
+    /**
+     * 모든 사용자 조회
+     */
+    public Flux<User> getAllUsers() {
+        return userRepository.findAll();
+    }
+    
+    /**
+     * ID로 사용자 조회
+     */
+    public Mono<User> getUserById(Long id) {
+        return userRepository.findById(id);
+    }
+    
+    /**
+     * 이메일로 사용자 조회
+     */
+    public Mono<User> getUserByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+    
+    /**
+     * 사용자 생성
+     * 
+     * @param user 생성할 사용자 정보
+     * @return 저장된 사용자 정보 (이메일이 이미 존재하면 IllegalArgumentException 에러)
+     */
+    public Mono<User> createUser(User user) {
+        Mono<User> work = userRepository.existsByEmail(user.getEmail())
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(new IllegalArgumentException("이미 존재하는 이메일입니다: " + user.getEmail()));
+                    }
+                    LocalDateTime now = LocalDateTime.now();
+                    user.setId(null);
+                    user.setCreatedAt(now);
+                    user.setUpdatedAt(now);
+                    user.setNameNormalized(User.normalizeName(user.getName()));
+                    return userRepository.save(user);
+                });
+        
+        return afterCommit(work).doOnNext(saved -> publishChange("created", saved.getId(), saved));
+    }
+    
+    /**
+     * 사용자 정보 수정
+     * 
+     * @param id 수정할 사용자 ID
+     * @param userDetails 수정할 사용자 정보
+     * @return 수정된 사용자 정보 (사용자가 없거나 이메일이 중복되면 IllegalArgumentException 에러)
+     */
+    public Mono<User> updateUser(Long id, User userDetails) {
+        Mono<User> work = userRepository.findById(id)
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + id)))
+                .flatMap(existingUser -> {
+                    Mono<Boolean> duplicated = existingUser.getEmail().equals(userDetails.getEmail())
+                            ? Mono.just(false)
+                            : userRepository.existsByEmail(userDetails.getEmail());
+                    
+                    return duplicated.flatMap(exists -> {
+                        if (exists) {
+                            return Mono.error(new IllegalArgumentException("이미 존재하는 이메일입니다: " + userDetails.getEmail()));
+                        }
+                        existingUser.setName(userDetails.getName());
+                        existingUser.setNameNormalized(User.normalizeName(userDetails.getName()));
+                        existingUser.setEmail(userDetails.getEmail());
+                        existingUser.setAge(userDetails.getAge());
+                        existingUser.setPhoneNumber(userDetails.getPhoneNumber());
+                        existingUser.setAddress(userDetails.getAddress());
+                        existingUser.setUpdatedAt(LocalDateTime.now());
+                        return userRepository.save(existingUser);
+                    });
+                });
+        
+        return afterCommit(work).doOnNext(saved -> publishChange("updated", saved.getId(), saved));
+    }
+    
+    /**
+     * 사용자 삭제
+     * 
+     * @param id 삭제할 사용자 ID
+     * @return 완료 신호 (사용자가 없으면 IllegalArgumentException 에러)
+     */
+    public Mono<Void> deleteUser(Long id) {
+        Mono<User> work = userRepository.findById(id)
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + id)))
+                .flatMap(user -> userRepository.delete(user).thenReturn(user));
+        
+        return afterCommit(work)
+                .doOnNext(deleted -> publishChange("deleted", deleted.getId(), null))
+                .then();
+    }
+    
+    /**
+     * 이름으로 사용자 검색
+     */
+    public Flux<User> searchUsersByName(String name) {
+        return userRepository.findByNameContaining(name);
+    }
+    
+    /**
+     * 이름으로 사용자 검색 (대소문자 무시)
+     */
+    public Flux<User> searchUsersByNameIgnoreCase(String name) {
+        return userRepository.findByNameNormalizedContaining(User.normalizeName(name));
+    }
+    
+    /**
+     * 이름 접두사로 사용자 검색 (대소문자 무시)
+     */
+    public Flux<User> searchUsersByNamePrefix(String prefix) {
+        return userRepository.findByNameNormalizedStartingWith(User.normalizeName(prefix));
+    }
+    
+    /**
+     * 나이 범위로 사용자 검색
+     */
+    public Flux<User> searchUsersByAgeRange(Integer minAge, Integer maxAge) {
+        return userRepository.findByAgeBetween(minAge, maxAge);
+    }
+    
+    /**
+     * 성인 사용자 조회
+     */
+    public Flux<User> getAdultUsers() {
+        return userRepository.findAdultUsers();
+    }
+    
+    /**
+     * 특정 나이 이상의 사용자 조회
+     */
+    public Flux<User> getUsersByMinAge(Integer age) {
+        return userRepository.findByAgeGreaterThanEqual(age);
+    }
+    
+    /**
+     * 특정 이메일 도메인의 사용자 조회
+     */
+    public Flux<User> getUsersByEmailDomain(String domain) {
+        return userRepository.findByEmailEndingWith("@" + domain);
+    }
+    
+    /**
+     * 전화번호가 있는 사용자 조회
+     */
+    public Flux<User> getUsersWithPhoneNumber() {
+        return userRepository.findByPhoneNumberIsNotNull();
+    }
+    
+    /**
+     * 나이순으로 정렬된 사용자 목록 조회
+     */
+    public Flux<User> getUsersSortedByAge() {
+        return userRepository.findByOrderByAgeAsc();
+    }
+    
+    /**
+     * 이름순으로 정렬된 사용자 목록 조회 (내림차순)
+     */
+    public Flux<User> getUsersSortedByNameDesc() {
+        return userRepository.findByOrderByNameDesc();
+    }
+    
+    /**
+     * 나이대별 사용자 수 통계 ([나이대, 사용자 수] 배열 목록)
+     */
+    public Flux<Object[]> getUserStatistics() {
+        return userRepository.getUserStatisticsByAgeGroup().map(UserRepository.GroupCount::toArray);
+    }
+    
+    /**
+     * 이메일 도메인별 사용자 수 통계 ([도메인, 사용자 수] 배열 목록)
+     */
+    public Flux<Object[]> getUserCountByEmailDomain() {
+        return userRepository.getUserCountByEmailDomain().map(UserRepository.GroupCount::toArray);
+    }
+    
+    /**
+     * 최근 가입한 사용자 조회
+     * 
+     * @param days 최근 며칠간
+     */
+    public Flux<User> getRecentUsers(int days) {
+        return userRepository.findRecentUsers(LocalDate.now().minusDays(days).atStartOfDay());
+    }
+    
+    /**
+     * 전체 사용자 수 조회
+     */
+    public Mono<Long> getTotalUserCount() {
+        return userRepository.count();
+    }
+    
+    /**
+     * 이메일 존재 여부 확인
+     */
+    public Mono<Boolean> isEmailExists(String email) {
+        return userRepository.existsByEmail(email);
+    }
+    
+    /**
+     * 사용자 정보 검증
+     * 
+     * @param user 검증할 사용자 정보
+     * @return 검증 결과 메시지 (문제가 없으면 빈 문자열)
+     */
+    public String validateUser(User user) {
+        StringBuilder validationMessage = new StringBuilder();
+        
+        if (user.getName() == null || user.getName().trim().isEmpty()) {
+            validationMessage.append("이름은 필수입니다. ");
+        } else if (user.getName().length() < 2 || user.getName().length() > 50) {
+            validationMessage.append("이름은 2자 이상 50자 이하여야 합니다. ");
+        }
+        
+        if (user.getEmail() == null || user.getEmail().trim().isEmpty()) {
+            validationMessage.append("이메일은 필수입니다. ");
+        } else if (!user.getEmail().contains("@")) {
+            validationMessage.append("올바른 이메일 형식이 아닙니다. ");
+        }
+        
+        if (user.getAge() == null) {
+            validationMessage.append("나이는 필수입니다. ");
+        } else if (user.getAge() < 1 || user.getAge() > 150) {
+            validationMessage.append("나이는 1세 이상 150세 이하여야 합니다. ");
+        }
+        
+        return validationMessage.toString().trim();
+    }
+    
+    /**
+     * 사용자 정보 요약 생성
+     */
+    public String getUserSummary(User user) {
+        return String.format("ID: %d, 이름: %s, 나이: %d세, 이메일: %s", 
+                           user.getId(), user.getName(), user.getAge(), user.getEmail());
+    }
+    
+    /**
+     * 사용자 변경 피드 구독
+     * 
+     * 구독자마다 제한된 버퍼를 두고, 버퍼가 넘칠 만큼 뒤처진 구독자는 에러로 연결이 종료됩니다.
+     * (재접속 후 이어받기는 서블릿 버전만 지원합니다)
+     * 
+     * @return 변경 이벤트 스트림
+     */
+    public Flux<ServerSentEvent<Map<String, Object>>> streamChanges() {
+        return changes.asFlux()
+                .onBackpressureBuffer(changeFeedBufferSize, BufferOverflowStrategy.ERROR)
+                .map(change -> ServerSentEvent.<Map<String, Object>>builder()
+                        .id(String.valueOf(change.get("sequence")))
+                        .event((String) change.get("type"))
+                        .data(change)
+                        .build());
+    }
+    
+    /**
+     * 트랜잭션 안에서 작업을 실행하고, 커밋이 끝난 뒤에 결과를 내보냄
+     * (onComplete 이후에 값을 꺼내므로 롤백된 결과는 이벤트로 발행되지 않음)
+     */
+    private Mono<User> afterCommit(Mono<User> work) {
+        return transactionalOperator.transactional(work).flux().last();
+    }
+    
+    private synchronized void publishChange(String type, Long userId, User user) {
+        Map<String, Object> change = new HashMap<>();
+        change.put("sequence", changeSequence.incrementAndGet());
+        change.put("type", type);
+        change.put("userId", userId);
+        if (user != null) {
+            change.put("user", user);
+        }
+        changes.tryEmitNext(change);
+    }
+}
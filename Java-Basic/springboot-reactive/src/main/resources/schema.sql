@@ -0,0 +1,19 @@
+-- 사용자 테이블 생성 스크립트
+--
+-- R2DBC는 JPA처럼 엔티티를 보고 테이블을 자동 생성하지 않으므로
+-- 애플리케이션 시작 시 이 스크립트로 테이블을 만듭니다.
+-- (springboot-learning의 users 테이블과 같은 구조)
+
+CREATE TABLE IF NOT EXISTS users (
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name            VARCHAR(50)  NOT NULL,
+    name_normalized VARCHAR(100),
+    email           VARCHAR(100) NOT NULL UNIQUE,
+    age             INT          NOT NULL,
+    phone_number    VARCHAR(20),
+    address         VARCHAR(200),
+    created_at      TIMESTAMP,
+    updated_at      TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_users_name_normalized ON users (name_normalized);